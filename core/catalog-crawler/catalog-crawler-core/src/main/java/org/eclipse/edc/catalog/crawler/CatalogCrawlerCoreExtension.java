@@ -16,6 +16,7 @@ package org.eclipse.edc.catalog.crawler;
 
 import org.eclipse.edc.catalog.crawler.logic.CatalogCrawlerManager;
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
 import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
@@ -41,6 +42,8 @@ public class CatalogCrawlerCoreExtension implements ServiceExtension {
     @Inject
     private FederatedCatalogCache store;
     @Inject
+    private CatalogSearchIndex searchIndex;
+    @Inject
     private CrawlerActionRegistry crawlerActionRegistry;
     @Inject
     private TargetNodeDirectory directory;
@@ -63,6 +66,7 @@ public class CatalogCrawlerCoreExtension implements ServiceExtension {
                 .monitor(context.getMonitor().withPrefix(CatalogCrawlerManager.class.getSimpleName()))
                 .configuration(catalogCrawlerConfiguration)
                 .store(store)
+                .searchIndex(searchIndex)
                 .nodeQueryAdapterRegistry(crawlerActionRegistry)
                 .nodeDirectory(directory)
                 .nodeFilterFunction(nodeFilter)
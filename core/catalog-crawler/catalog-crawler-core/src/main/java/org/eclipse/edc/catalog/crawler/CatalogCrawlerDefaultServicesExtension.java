@@ -16,8 +16,10 @@ package org.eclipse.edc.catalog.crawler;
 
 import org.eclipse.edc.catalog.crawler.cache.query.QueryServiceImpl;
 import org.eclipse.edc.catalog.crawler.logic.CrawlerActionRegistryImpl;
+import org.eclipse.edc.catalog.crawler.search.InMemoryCatalogSearchIndex;
 import org.eclipse.edc.catalog.crawler.store.InMemoryFederatedCatalogCache;
 import org.eclipse.edc.catalog.crawler.store.InMemoryNodeDirectory;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.QueryService;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
@@ -40,6 +42,8 @@ public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension
 
     @Inject
     private FederatedCatalogCache store;
+    @Inject
+    private CatalogSearchIndex searchIndex;
 
     @Override
     public String name() {
@@ -51,6 +55,11 @@ public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension
         return new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults());
     }
 
+    @Provider(isDefault = true)
+    public CatalogSearchIndex defaultSearchIndex() {
+        return new InMemoryCatalogSearchIndex(new LockManager(new ReentrantReadWriteLock()));
+    }
+
     @Provider(isDefault = true)
     public TargetNodeDirectory defaultNodeDirectory() {
         return new InMemoryNodeDirectory();
@@ -58,7 +67,7 @@ public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension
 
     @Provider
     public QueryService defaultQueryEngine() {
-        return new QueryServiceImpl(store);
+        return new QueryServiceImpl(store, searchIndex);
     }
 
     @Provider
@@ -14,21 +14,37 @@
 
 package org.eclipse.edc.catalog.crawler.cache.query;
 
+import org.eclipse.edc.catalog.spi.CatalogConstants;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.QueryService;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.flatten;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public class QueryServiceImpl implements QueryService {
 
     private final FederatedCatalogCache cache;
+    private final CatalogSearchIndex searchIndex;
 
-    public QueryServiceImpl(FederatedCatalogCache cache) {
+    public QueryServiceImpl(FederatedCatalogCache cache, CatalogSearchIndex searchIndex) {
         this.cache = cache;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -36,4 +52,46 @@ public class QueryServiceImpl implements QueryService {
 
         return ServiceResult.from(Result.ofThrowable(() -> cache.query(query)));
     }
+
+    @Override
+    public ServiceResult<Collection<Catalog>> getDatasets(QuerySpec query) {
+        return ServiceResult.from(Result.ofThrowable(() -> cache.queryDatasets(query)));
+    }
+
+    @Override
+    public ServiceResult<CatalogSearchResult> search(CatalogSearchQuery query) {
+        if (query.offset() < 0) {
+            return ServiceResult.badRequest("The offset must not be negative, was %d".formatted(query.offset()));
+        }
+        if (query.limit() <= 0) {
+            return ServiceResult.badRequest("The limit must be positive, was %d".formatted(query.limit()));
+        }
+        return ServiceResult.from(Result.ofThrowable(() -> resolveDatasets(searchIndex.search(query))));
+    }
+
+    /**
+     * Fills the hits with the datasets from the cache, as the index only holds what the search needs. Datasets that
+     * have been removed from the cache in the meantime are left empty.
+     */
+    private CatalogSearchResult resolveDatasets(CatalogSearchResult result) {
+        var ids = result.hits().stream().map(CatalogSearchHit::datasetId).filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        var query = QuerySpec.max().toBuilder().filter(criterion("id", "in", ids)).build();
+        var datasets = new HashMap<String, Map<String, Dataset>>();
+        cache.queryDatasets(query).forEach(catalog -> {
+            var catalogId = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
+                    .map(Object::toString)
+                    .orElse(catalog.getId());
+            ofNullable(flatten(catalog)).map(Catalog::getDatasets).orElseGet(List::of)
+                    .forEach(dataset -> datasets.computeIfAbsent(catalogId, k -> new HashMap<>()).put(dataset.getId(), dataset));
+        });
+
+        var hits = result.hits().stream()
+                .map(hit -> hit.dataset() != null ? hit : hit.withDataset(datasets.getOrDefault(hit.catalogId(), Map.of()).get(hit.datasetId())))
+                .toList();
+        return new CatalogSearchResult(result.total(), hits, result.facets());
+    }
 }
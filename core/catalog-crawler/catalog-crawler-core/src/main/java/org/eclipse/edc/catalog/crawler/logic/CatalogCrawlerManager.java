@@ -16,8 +16,10 @@ package org.eclipse.edc.catalog.crawler.logic;
 
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.model.CatalogUpdateResponse;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
 import org.eclipse.edc.crawler.spi.TargetNode;
 import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
@@ -25,9 +27,11 @@ import org.eclipse.edc.crawler.spi.TargetNodeFilter;
 import org.eclipse.edc.crawler.spi.model.UpdateRequest;
 import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
 
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -41,6 +45,8 @@ import static org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration.CATALOG_CR
  */
 public class CatalogCrawlerManager {
 
+    private static final int REBUILD_PAGE_SIZE = 100;
+
     private Monitor monitor;
     private TargetNodeDirectory directory;
     private TargetNodeFilter nodeFilter;
@@ -48,6 +54,7 @@ public class CatalogCrawlerManager {
     private ScheduledExecutorService crawlers;
     private CatalogCrawlerConfiguration configuration;
     private FederatedCatalogCache store;
+    private CatalogSearchIndex searchIndex;
     private ScheduledExecutorService scheduler;
 
     private CatalogCrawlerManager() {
@@ -55,24 +62,27 @@ public class CatalogCrawlerManager {
     }
 
     public void start() {
-        if (!configuration.enabled()) {
-            monitor.warning("Catalog Crawler is globally disabled.");
-            return;
-        }
-
         scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             var thread = Executors.defaultThreadFactory().newThread(r);
             thread.setName("catalog-crawler-manager");
             return thread;
         });
 
+        // the cache can outlive the runtime, while the search index has to be rebuilt: it happens on the scheduler
+        // thread, so it does not block the boot and it is done before the first crawl modifies the index
+        scheduler.execute(this::rebuildSearchIndex);
+
+        if (!configuration.enabled()) {
+            monitor.warning("Catalog Crawler is globally disabled.");
+            return;
+        }
+
         scheduler.schedule(this::crawlCatalogs, configuration.delaySeconds(), TimeUnit.SECONDS);
     }
 
     public void stop() {
         if (!configuration.enabled()) {
             monitor.warning("Catalog Crawler is globally disabled.");
-            return;
         }
 
         if (scheduler != null) {
@@ -89,9 +99,26 @@ public class CatalogCrawlerManager {
         }
     }
 
+    private void rebuildSearchIndex() {
+        try {
+            var offset = 0;
+            Collection<Catalog> page;
+            do {
+                page = store.query(QuerySpec.Builder.newInstance().sortField("id").offset(offset).limit(REBUILD_PAGE_SIZE).build());
+                page.forEach(searchIndex::index);
+                offset += page.size();
+            } while (page.size() == REBUILD_PAGE_SIZE);
+            monitor.debug("Search index rebuilt from %d cached catalogs".formatted(offset));
+        } catch (Exception e) {
+            monitor.warning("Cannot rebuild the search index from the cache, it will be filled by the next crawl", e);
+        }
+    }
+
     private void crawlCatalogs() {
         store.deleteExpired();
         store.expireAll();
+        searchIndex.deleteExpired();
+        searchIndex.expireAll();
 
         var workItems = directory.getAll().stream()
                 .filter(nodeFilter) // use all nodes EXCEPT self
@@ -155,6 +182,11 @@ public class CatalogCrawlerManager {
             var catalog = catalogUpdateResponse.getCatalog();
             catalog.getProperties().put(CatalogConstants.PROPERTY_ORIGINATOR, updateResponse.getSource());
             store.save(catalog);
+            try {
+                searchIndex.index(catalog);
+            } catch (Exception e) {
+                monitor.warning("Cannot index the catalog from %s, it will be retried at the next crawl".formatted(updateResponse.getSource()), e);
+            }
         } else {
             monitor.warning("Expected a response of type %s but got %s. Will discard".formatted(CatalogUpdateResponse.class, updateResponse.getClass()));
         }
@@ -201,6 +233,11 @@ public class CatalogCrawlerManager {
             return this;
         }
 
+        public Builder searchIndex(CatalogSearchIndex searchIndex) {
+            instance.searchIndex = searchIndex;
+            return this;
+        }
+
         public Builder store(FederatedCatalogCache store) {
             instance.store = store;
             return this;
@@ -211,6 +248,7 @@ public class CatalogCrawlerManager {
             Objects.requireNonNull(instance.monitor, "ExecutionManager.Builder: Monitor cannot be null");
             Objects.requireNonNull(instance.crawlerActionRegistry, "ExecutionManager.Builder: nodeQueryAdapterRegistry cannot be null");
             Objects.requireNonNull(instance.directory, "ExecutionManager.Builder: nodeDirectory cannot be null");
+            Objects.requireNonNull(instance.searchIndex, "ExecutionManager.Builder: searchIndex cannot be null");
 
             instance.crawlers = Executors.newScheduledThreadPool(instance.configuration.numCrawlers());
 
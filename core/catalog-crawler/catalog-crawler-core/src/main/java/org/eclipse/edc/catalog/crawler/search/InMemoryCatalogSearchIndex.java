@@ -0,0 +1,316 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.crawler.search;
+
+import org.eclipse.edc.catalog.spi.CatalogConstants;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Rule;
+import org.eclipse.edc.util.concurrency.LockManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toSet;
+import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.flatten;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * In-process full-text index over the datasets of the crawled catalogs.
+ * <p>
+ * Every dataset is a document, whose terms are taken from title, keywords and description, both in the DCAT/DCT and in
+ * the EDC vocabulary. Terms are kept in an inverted index, and matching documents are ranked with BM25, where a term
+ * found in the title weighs more than one found in the keywords, which weighs more than one found in the description.
+ * <p>
+ * The facets are:
+ * <ul>
+ *     <li>{@value CatalogSearchIndex#FACET_PUBLISHER}: the {@code dct:publisher} of the dataset, the participant id of the catalog otherwise</li>
+ *     <li>{@value CatalogSearchIndex#FACET_FORMAT}: the formats of the distributions</li>
+ *     <li>{@value CatalogSearchIndex#FACET_POLICY_TYPE}: the left operands of the offer constraints, {@value #UNRESTRICTED} for offers without constraints</li>
+ * </ul>
+ * Facet counts are calculated on all the datasets matching the query, not only on the requested page.
+ * <p>
+ * The index holds only terms and facets of the datasets: the returned hits carry the dataset id, the dataset itself
+ * has to be resolved from the {@link org.eclipse.edc.catalog.spi.FederatedCatalogCache}.
+ */
+public class InMemoryCatalogSearchIndex implements CatalogSearchIndex {
+
+    static final String UNRESTRICTED = "unrestricted";
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Map<String, Double> FIELD_WEIGHTS = Map.of(
+            DCT_SCHEMA + "title", 3.0,
+            EDC_NAMESPACE + "name", 3.0,
+            DCAT_SCHEMA + "keyword", 2.0,
+            DCT_SCHEMA + "description", 1.0,
+            EDC_NAMESPACE + "description", 1.0
+    );
+    private static final String DCT_PUBLISHER = DCT_SCHEMA + "publisher";
+    private static final Comparator<Map.Entry<Document, Double>> RANKING = Map.Entry.<Document, Double>comparingByValue().reversed()
+            .thenComparing(entry -> entry.getKey().catalogId())
+            .thenComparing(entry -> entry.getKey().datasetId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final LockManager lockManager;
+    private final Map<String, List<Document>> documentsByCatalog = new HashMap<>();
+    private final Map<String, Map<Document, Double>> postings = new HashMap<>();
+    private final Set<String> expired = new HashSet<>();
+    private int documentCount;
+    private double totalLength;
+
+    public InMemoryCatalogSearchIndex(LockManager lockManager) {
+        this.lockManager = lockManager;
+    }
+
+    @Override
+    public void index(Catalog catalog) {
+        var catalogId = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
+                .map(Object::toString)
+                .orElse(catalog.getId());
+        var documents = ofNullable(flatten(catalog)).map(Catalog::getDatasets).orElseGet(List::of).stream()
+                .map(dataset -> toDocument(catalogId, catalog.getParticipantId(), dataset))
+                .toList();
+
+        lockManager.writeLock(() -> {
+            remove(catalogId);
+            expired.remove(catalogId);
+            documentsByCatalog.put(catalogId, documents);
+            documents.forEach(this::add);
+            return null;
+        });
+    }
+
+    @Override
+    public CatalogSearchResult search(CatalogSearchQuery query) {
+        var terms = tokenize(query.text()).collect(toSet());
+        var pageEnd = (int) Math.min((long) query.offset() + query.limit(), Integer.MAX_VALUE);
+
+        return lockManager.readLock(() -> {
+            var candidates = terms.isEmpty() ? allDocuments() : score(terms).entrySet().stream();
+
+            // only the best offset + limit matches are kept, the head of the queue is the worst of them
+            var best = new PriorityQueue<Map.Entry<Document, Double>>(RANKING.reversed());
+            var facets = new TreeMap<String, Map<String, Long>>();
+            var total = new AtomicLong();
+            candidates.filter(entry -> matchesFilters(entry.getKey(), query.filters())).forEach(entry -> {
+                total.incrementAndGet();
+                entry.getKey().facets().forEach((facet, values) ->
+                        values.forEach(value -> facets.computeIfAbsent(facet, k -> new TreeMap<>()).merge(value, 1L, Long::sum)));
+                best.add(entry);
+                if (best.size() > pageEnd) {
+                    best.poll();
+                }
+            });
+
+            var hits = best.stream()
+                    .sorted(RANKING)
+                    .skip(query.offset())
+                    .map(entry -> new CatalogSearchHit(entry.getKey().catalogId(), entry.getKey().participantId(), entry.getKey().datasetId(), null, entry.getValue()))
+                    .toList();
+
+            return new CatalogSearchResult(total.get(), hits, facets);
+        });
+    }
+
+    @Override
+    public void deleteExpired() {
+        lockManager.writeLock(() -> {
+            expired.forEach(this::remove);
+            expired.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public void expireAll() {
+        lockManager.writeLock(() -> expired.addAll(documentsByCatalog.keySet()));
+    }
+
+    private Stream<Map.Entry<Document, Double>> allDocuments() {
+        return documentsByCatalog.values().stream().flatMap(List::stream).map(document -> Map.entry(document, 0.0));
+    }
+
+    private Map<Document, Double> score(Set<String> terms) {
+        var averageLength = documentCount == 0 ? 1.0 : totalLength / documentCount;
+        var scores = new HashMap<Document, Double>();
+        for (var term : terms) {
+            var termPostings = postings.getOrDefault(term, Map.of());
+            var idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            termPostings.forEach((document, frequency) -> {
+                var normalization = K1 * (1 - B + B * document.length() / averageLength);
+                scores.merge(document, idf * frequency * (K1 + 1) / (frequency + normalization), Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    private boolean matchesFilters(Document document, Map<String, Set<String>> filters) {
+        return filters.entrySet().stream().allMatch(filter -> document.facets().getOrDefault(filter.getKey(), Set.of()).stream()
+                .anyMatch(filter.getValue()::contains));
+    }
+
+    private void add(Document document) {
+        documentCount++;
+        totalLength += document.length();
+        document.terms().forEach((term, frequency) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(document, frequency));
+    }
+
+    private void remove(String catalogId) {
+        ofNullable(documentsByCatalog.remove(catalogId)).orElseGet(List::of).forEach(document -> {
+            documentCount--;
+            totalLength -= document.length();
+            document.terms().keySet().forEach(term -> postings.computeIfPresent(term, (k, documents) -> {
+                documents.remove(document);
+                return documents.isEmpty() ? null : documents;
+            }));
+        });
+    }
+
+    private Document toDocument(String catalogId, String participantId, Dataset dataset) {
+        var terms = new HashMap<String, Double>();
+        FIELD_WEIGHTS.forEach((property, weight) -> texts(dataset.getProperties().get(property))
+                .flatMap(this::tokenize)
+                .forEach(term -> terms.merge(term, weight, Double::sum)));
+        var length = terms.values().stream().mapToDouble(Double::doubleValue).sum();
+
+        var publishers = texts(dataset.getProperties().get(DCT_PUBLISHER)).collect(toSet());
+        var formats = dataset.getDistributions().stream().map(Distribution::getFormat).filter(Objects::nonNull).collect(toSet());
+        var policyTypes = dataset.getOffers().values().stream().flatMap(this::policyTypes).collect(toSet());
+
+        var facets = new HashMap<String, Set<String>>();
+        facets.put(FACET_PUBLISHER, publishers.isEmpty() ? ofNullable(participantId).map(Set::of).orElseGet(Set::of) : publishers);
+        facets.put(FACET_FORMAT, formats);
+        facets.put(FACET_POLICY_TYPE, policyTypes);
+
+        return new Document(catalogId, participantId, dataset.getId(), terms, length, facets);
+    }
+
+    private Stream<String> policyTypes(Policy policy) {
+        var leftOperands = Stream.of(policy.getPermissions(), policy.getProhibitions(), policy.getObligations())
+                .flatMap(rules -> rules.stream().map(Rule.class::cast))
+                .flatMap(rule -> rule.getConstraints().stream())
+                .flatMap(this::atomicConstraints)
+                .map(AtomicConstraint::getLeftExpression)
+                .filter(LiteralExpression.class::isInstance)
+                .map(expression -> ((LiteralExpression) expression).asString())
+                .toList();
+        return leftOperands.isEmpty() ? Stream.of(UNRESTRICTED) : leftOperands.stream();
+    }
+
+    private Stream<AtomicConstraint> atomicConstraints(Constraint constraint) {
+        if (constraint instanceof AtomicConstraint atomicConstraint) {
+            return Stream.of(atomicConstraint);
+        }
+        if (constraint instanceof MultiplicityConstraint multiplicityConstraint) {
+            return multiplicityConstraint.getConstraints().stream().flatMap(this::atomicConstraints);
+        }
+        return Stream.empty();
+    }
+
+    private Stream<String> tokenize(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT)).filter(token -> !token.isEmpty());
+    }
+
+    /**
+     * Extracts the text from a property value, that can be either a plain value, a list or a JSON-LD value object.
+     */
+    private Stream<String> texts(Object value) {
+        if (value == null) {
+            return Stream.empty();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().flatMap(this::texts);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.containsKey("@value") ? texts(map.get("@value")) : map.values().stream().flatMap(this::texts);
+        }
+        return Stream.of(value.toString());
+    }
+
+    /**
+     * An indexed dataset. It only holds what the search needs, the dataset itself stays in the cache. Identity based,
+     * as the same dataset can be published in different catalogs.
+     */
+    private static final class Document {
+        private final String catalogId;
+        private final String participantId;
+        private final String datasetId;
+        private final Map<String, Double> terms;
+        private final double length;
+        private final Map<String, Set<String>> facets;
+
+        Document(String catalogId, String participantId, String datasetId, Map<String, Double> terms, double length, Map<String, Set<String>> facets) {
+            this.catalogId = catalogId;
+            this.participantId = participantId;
+            this.datasetId = datasetId;
+            this.terms = terms;
+            this.length = length;
+            this.facets = facets;
+        }
+
+        String catalogId() {
+            return catalogId;
+        }
+
+        String participantId() {
+            return participantId;
+        }
+
+        String datasetId() {
+            return datasetId;
+        }
+
+        Map<String, Double> terms() {
+            return terms;
+        }
+
+        double length() {
+            return length;
+        }
+
+        Map<String, Set<String>> facets() {
+            return facets;
+        }
+    }
+}
@@ -17,31 +17,53 @@ package org.eclipse.edc.catalog.crawler.store;
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.store.ReflectionBasedQueryResolver;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.partitioningBy;
+import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.copy;
+import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.flatten;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.EQUAL;
 
 /**
  * An ephemeral in-memory cache store.
+ * <p>
+ * Next to the catalogs, it keeps the flattened datasets of every catalog and an index of the catalogs by dataset id,
+ * which serve the dataset queries without walking every catalog.
  */
 public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
 
+    private static final String PARTICIPANT_ID = "participantId";
+    private static final String ID = "id";
+
     private final Map<String, MarkableEntry<Catalog>> cache = new ConcurrentHashMap<>();
+    private final Map<String, List<Dataset>> datasets = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> catalogsByDatasetId = new ConcurrentHashMap<>();
     private final LockManager lockManager;
     private final QueryResolver<Catalog> queryResolver;
+    private final QueryResolver<Dataset> datasetQueryResolver;
 
 
     public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry) {
         this.lockManager = lockManager;
         queryResolver = new ReflectionBasedQueryResolver<>(Catalog.class, criterionOperatorRegistry);
+        datasetQueryResolver = new ReflectionBasedQueryResolver<>(Dataset.class, criterionOperatorRegistry);
     }
 
     @Override
@@ -50,6 +72,10 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
             var id = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
                     .map(Object::toString)
                     .orElse(catalog.getId());
+            unindex(id);
+            var catalogDatasets = ofNullable(flatten(catalog)).map(Catalog::getDatasets).orElseGet(List::of);
+            datasets.put(id, catalogDatasets);
+            catalogDatasets.forEach(dataset -> catalogsByDatasetId.computeIfAbsent(dataset.getId(), k -> ConcurrentHashMap.newKeySet()).add(id));
             return cache.put(id, new MarkableEntry<>(false, catalog));
         });
     }
@@ -60,10 +86,46 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
         return lockManager.readLock(() -> queryResolver.query(catalogs, query)).toList();
     }
 
+    @Override
+    public Collection<Catalog> queryDatasets(QuerySpec query) {
+        var criteria = query.getFilterExpression().stream()
+                .collect(partitioningBy(criterion -> PARTICIPANT_ID.equals(criterion.getOperandLeft())));
+        var datasetQuery = QuerySpec.Builder.newInstance()
+                .offset(query.getOffset())
+                .limit(query.getLimit())
+                .sortField(query.getSortField())
+                .sortOrder(query.getSortOrder())
+                .continuationToken(query.getContinuationToken())
+                .filter(criteria.get(false))
+                .build();
+        var catalogQuery = QuerySpec.max().toBuilder().filter(criteria.get(true)).build();
+
+        return lockManager.readLock(() -> {
+            var catalogIds = candidates(datasetQuery.getFilterExpression());
+
+            var owners = new IdentityHashMap<Dataset, String>();
+            var candidates = catalogIds.stream()
+                    .filter(id -> cache.containsKey(id) && !queryResolver.query(Stream.of(cache.get(id).getEntry()), catalogQuery).toList().isEmpty())
+                    .flatMap(id -> datasets.getOrDefault(id, List.of()).stream().peek(dataset -> owners.put(dataset, id)));
+
+            var matches = new LinkedHashMap<String, List<Dataset>>();
+            datasetQueryResolver.query(candidates, datasetQuery).toList()
+                    .forEach(dataset -> matches.computeIfAbsent(owners.get(dataset), k -> new ArrayList<>()).add(dataset));
+
+            return matches.entrySet().stream()
+                    .map(entry -> copy(cache.get(entry.getKey()).getEntry(), entry.getValue()).build())
+                    .toList();
+        });
+    }
+
     @Override
     public void deleteExpired() {
         lockManager.writeLock(() -> {
-            cache.values().removeIf(MarkableEntry::isMarked);
+            cache.entrySet().stream().filter(entry -> entry.getValue().isMarked()).map(Map.Entry::getKey).toList()
+                    .forEach(id -> {
+                        unindex(id);
+                        cache.remove(id);
+                    });
             return null;
         });
     }
@@ -73,6 +135,26 @@ public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
         cache.replaceAll((k, v) -> new MarkableEntry<>(true, v.getEntry()));
     }
 
+    /**
+     * Returns the ids of the catalogs that can hold the matching datasets, narrowed through the dataset id index when
+     * the criteria contain an equality on the dataset id.
+     */
+    private Collection<String> candidates(List<Criterion> criteria) {
+        return criteria.stream()
+                .filter(criterion -> ID.equals(criterion.getOperandLeft()) && EQUAL.equals(criterion.getOperator()))
+                .findFirst()
+                .<Collection<String>>map(criterion -> catalogsByDatasetId.getOrDefault(String.valueOf(criterion.getOperandRight()), Set.of()))
+                .orElseGet(cache::keySet);
+    }
+
+    private void unindex(String catalogId) {
+        ofNullable(datasets.remove(catalogId)).orElseGet(List::of)
+                .forEach(dataset -> catalogsByDatasetId.computeIfPresent(dataset.getId(), (k, ids) -> {
+                    ids.remove(catalogId);
+                    return ids.isEmpty() ? null : ids;
+                }));
+    }
+
     private static class MarkableEntry<B> {
         private final B entry;
         private final boolean mark;
@@ -15,19 +15,30 @@
 package org.eclipse.edc.catalog.crawler.cache.query;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.edc.catalog.spi.CatalogConstants;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceFailure;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.eclipse.edc.catalog.crawler.TestUtil.createCatalog;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class QueryServiceImplTest {
@@ -37,7 +48,8 @@ class QueryServiceImplTest {
     private static final Catalog CATALOG_XYZ = createCatalog("XYZ");
 
     private final FederatedCatalogCache storeMock = mock();
-    private final QueryServiceImpl queryService = new QueryServiceImpl(storeMock);
+    private final CatalogSearchIndex searchIndex = mock();
+    private final QueryServiceImpl queryService = new QueryServiceImpl(storeMock, searchIndex);
 
     @Test
     void getCatalog() {
@@ -69,4 +81,63 @@ class QueryServiceImplTest {
         Assertions.assertThat(catalog.getContent()).isEmpty();
         verify(storeMock).query(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDatasets() {
+        var query = QuerySpec.Builder.newInstance().limit(10).build();
+        when(storeMock.queryDatasets(any())).thenReturn(List.of(CATALOG_ABC));
+
+        var catalogs = queryService.getDatasets(query);
+        assertThat(catalogs).isSucceeded();
+        Assertions.assertThat(catalogs.getContent()).containsExactly(CATALOG_ABC);
+        verify(storeMock).queryDatasets(query);
+    }
+
+    @Test
+    void getDatasets_storeThrowsException() {
+        when(storeMock.queryDatasets(any())).thenThrow(new RuntimeException("test exception"));
+
+        var catalogs = queryService.getDatasets(QuerySpec.none());
+        assertThat(catalogs).isFailed()
+                .detail().isEqualTo("test exception");
+    }
+
+    @Test
+    void search() {
+        var query = new CatalogSearchQuery("weather", Map.of(), 0, 10);
+        var result = new CatalogSearchResult(0, List.of(), Map.of());
+        when(searchIndex.search(any())).thenReturn(result);
+
+        var searchResult = queryService.search(query);
+
+        assertThat(searchResult).isSucceeded().isSameAs(result);
+        verify(searchIndex).search(query);
+    }
+
+    @Test
+    void search_shouldResolveDatasetsFromTheCache() {
+        var query = new CatalogSearchQuery("weather", Map.of(), 0, 10);
+        var dataset = Dataset.Builder.newInstance().id("dataset").build();
+        var catalog = Catalog.Builder.newInstance().id("catalog").datasets(List.of(dataset))
+                .property(CatalogConstants.PROPERTY_ORIGINATOR, "https://test.source").build();
+        var hits = List.of(new CatalogSearchHit("https://test.source", "participant", "dataset", null, 1.0),
+                new CatalogSearchHit("https://removed.source", "participant", "dataset", null, 0.5));
+        when(searchIndex.search(any())).thenReturn(new CatalogSearchResult(2, hits, Map.of()));
+        when(storeMock.queryDatasets(any())).thenReturn(List.of(catalog));
+
+        var searchResult = queryService.search(query);
+
+        assertThat(searchResult).isSucceeded().satisfies(result ->
+                Assertions.assertThat(result.hits()).extracting(CatalogSearchHit::dataset).containsExactly(dataset, null));
+        verify(storeMock).queryDatasets(argThat(spec -> spec.getFilterExpression().equals(List.of(criterion("id", "in", List.of("dataset"))))));
+    }
+
+    @Test
+    void search_shouldReturnBadRequest_whenLimitIsNotPositive() {
+        var searchResult = queryService.search(new CatalogSearchQuery("weather", Map.of(), 0, 0));
+
+        assertThat(searchResult).isFailed();
+        Assertions.assertThat(searchResult.reason()).isEqualTo(ServiceFailure.Reason.BAD_REQUEST);
+        verifyNoInteractions(searchIndex);
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.catalog.crawler.logic;
 
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
+import org.eclipse.edc.catalog.spi.CatalogSearchIndex;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.model.CatalogUpdateResponse;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
@@ -38,6 +39,7 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.atLeastOnce;
@@ -58,6 +60,7 @@ class CatalogCrawlerManagerTest {
     private final CrawlerAction queryAdapterMock = mock();
     private final Runnable postExecutionTask = mock();
     private final FederatedCatalogCache store = mock();
+    private final CatalogSearchIndex searchIndex = mock();
 
     private CatalogCrawlerManager manager = createManagerBuilder().build();
 
@@ -78,6 +81,35 @@ class CatalogCrawlerManagerTest {
         });
     }
 
+    @Test
+    void shouldIndexTheCatalog() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(crawlerActionRegistry.findForProtocol(any())).thenReturn(List.of(queryAdapterMock));
+        var catalog = new Catalog();
+        when(queryAdapterMock.apply(any())).thenReturn(completedFuture(new CatalogUpdateResponse("source", catalog)));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(searchIndex).deleteExpired();
+            verify(searchIndex).expireAll();
+
+            verify(searchIndex).index(catalog);
+        });
+    }
+
+    @Test
+    void shouldRebuildSearchIndexFromCache() {
+        var catalog = new Catalog();
+        when(store.query(any())).thenReturn(List.of(catalog));
+        manager = createManagerBuilder().configuration(disabledCrawler()).build();
+
+        manager.start();
+
+        await().untilAsserted(() -> verify(searchIndex).index(catalog));
+        verify(store).query(argThat(query -> "id".equals(query.getSortField())));
+    }
+
     @Test
     void shouldNotQueryCatalog_whenProtocolVersionNotSupported() {
         when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
@@ -170,6 +202,7 @@ class CatalogCrawlerManagerTest {
                 .nodeDirectory(nodeDirectoryMock)
                 .nodeQueryAdapterRegistry(crawlerActionRegistry)
                 .store(store)
+                .searchIndex(searchIndex)
                 .monitor(monitorMock);
     }
 
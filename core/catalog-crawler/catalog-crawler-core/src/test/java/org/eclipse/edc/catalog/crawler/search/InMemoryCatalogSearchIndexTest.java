@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.crawler.search;
+
+import org.eclipse.edc.catalog.spi.CatalogConstants;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.catalog.spi.CatalogSearchIndex.FACET_FORMAT;
+import static org.eclipse.edc.catalog.spi.CatalogSearchIndex.FACET_POLICY_TYPE;
+import static org.eclipse.edc.catalog.spi.CatalogSearchIndex.FACET_PUBLISHER;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+
+class InMemoryCatalogSearchIndexTest {
+
+    private final InMemoryCatalogSearchIndex index = new InMemoryCatalogSearchIndex(new LockManager(new ReentrantReadWriteLock()));
+
+    @Test
+    void search_shouldRankTitleMatchesFirst() {
+        index.index(catalog("catalog", "participant",
+                dataset("described", "Traffic counts", "Hourly weather observations", "csv"),
+                dataset("titled", "Weather stations", "Measurements of the stations", "csv"),
+                dataset("unrelated", "Traffic counts", "Vehicles per hour", "csv")));
+
+        var result = index.search(query("weather"));
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).extracting(CatalogSearchHit::datasetId).containsExactly("titled", "described");
+        assertThat(result.hits()).allSatisfy(hit -> assertThat(hit.score()).isPositive());
+    }
+
+    @Test
+    void search_shouldMatchKeywordsCaseInsensitive() {
+        var dataset = Dataset.Builder.newInstance().id("dataset").property(DCAT_SCHEMA + "keyword", List.of("Mobility", "Open-Data")).build();
+        index.index(catalog("catalog", "participant", dataset));
+
+        assertThat(index.search(query("mobility")).hits()).extracting(CatalogSearchHit::datasetId).containsExactly("dataset");
+        assertThat(index.search(query("DATA")).hits()).extracting(CatalogSearchHit::datasetId).containsExactly("dataset");
+    }
+
+    @Test
+    void search_shouldReturnEveryDataset_whenTextIsBlank() {
+        index.index(catalog("catalog", "participant", dataset("one", "One", null, "csv"), dataset("two", "Two", null, "csv")));
+
+        var result = index.search(query(" "));
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).extracting(CatalogSearchHit::datasetId).containsExactly("one", "two");
+    }
+
+    @Test
+    void search_shouldPage() {
+        index.index(catalog("catalog", "participant", dataset("one", "Data", null, "csv"),
+                dataset("two", "Data", null, "csv"), dataset("three", "Data", null, "csv")));
+
+        var result = index.search(new CatalogSearchQuery("data", Map.of(), 1, 1));
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.hits()).extracting(CatalogSearchHit::datasetId).containsExactly("three");
+    }
+
+    @Test
+    void search_shouldPage_whenTextIsBlank() {
+        index.index(catalog("catalog", "participant", dataset("one", "One", null, "csv"),
+                dataset("two", "Two", null, "csv"), dataset("three", "Three", null, "json")));
+
+        var result = index.search(new CatalogSearchQuery("", Map.of(), 0, 2));
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.hits()).extracting(CatalogSearchHit::datasetId).containsExactly("one", "three");
+        assertThat(result.facets().get(FACET_FORMAT)).containsExactlyInAnyOrderEntriesOf(Map.of("csv", 2L, "json", 1L));
+    }
+
+    @Test
+    void search_shouldNotHoldTheDatasets() {
+        index.index(catalog("catalog", "participant", dataset("dataset", "Weather", null, "csv")));
+
+        assertThat(index.search(query("weather")).hits()).singleElement().satisfies(hit -> {
+            assertThat(hit.datasetId()).isEqualTo("dataset");
+            assertThat(hit.dataset()).isNull();
+        });
+    }
+
+    @Test
+    void search_shouldCountAndFilterFacets() {
+        index.index(catalog("catalog-1", "participant-1", dataset("csv", "Weather", null, "csv")));
+        index.index(catalog("catalog-2", "participant-2", dataset("json", "Weather", null, "json"),
+                Dataset.Builder.newInstance().id("restricted").property(DCT_SCHEMA + "title", "Weather")
+                        .offer("offer", Policy.Builder.newInstance().permission(Permission.Builder.newInstance()
+                                .constraint(AtomicConstraint.Builder.newInstance()
+                                        .leftExpression(new LiteralExpression("purpose"))
+                                        .operator(Operator.EQ)
+                                        .rightExpression(new LiteralExpression("research"))
+                                        .build())
+                                .build()).build())
+                        .build()));
+
+        var all = index.search(query("weather"));
+        assertThat(all.facets().get(FACET_PUBLISHER)).containsExactlyInAnyOrderEntriesOf(Map.of("participant-1", 1L, "participant-2", 2L));
+        assertThat(all.facets().get(FACET_FORMAT)).containsExactlyInAnyOrderEntriesOf(Map.of("csv", 1L, "json", 1L));
+        assertThat(all.facets().get(FACET_POLICY_TYPE)).containsExactlyInAnyOrderEntriesOf(Map.of("purpose", 1L, InMemoryCatalogSearchIndex.UNRESTRICTED, 2L));
+
+        var filtered = index.search(new CatalogSearchQuery("weather", Map.of(FACET_PUBLISHER, Set.of("participant-2"), FACET_POLICY_TYPE, Set.of("purpose")), 0, 10));
+        assertThat(filtered.total()).isEqualTo(1);
+        assertThat(filtered.hits()).extracting(CatalogSearchHit::datasetId).containsExactly("restricted");
+    }
+
+    @Test
+    void index_shouldReplacePreviousDatasetsOfTheCatalog() {
+        index.index(catalog("catalog", "participant", dataset("old", "Weather", null, "csv")));
+        index.index(catalog("catalog", "participant", dataset("new", "Traffic", null, "csv")));
+
+        assertThat(index.search(query("weather")).total()).isZero();
+        assertThat(index.search(query("traffic")).hits()).extracting(CatalogSearchHit::catalogId).containsExactly("https://test.source/catalog");
+    }
+
+    @Test
+    void deleteExpired_shouldRemoveCatalogsNotIndexedAgain() {
+        index.index(catalog("stale", "participant", dataset("stale", "Weather", null, "csv")));
+        index.index(catalog("fresh", "participant", dataset("fresh", "Weather", null, "csv")));
+
+        index.expireAll();
+        index.index(catalog("fresh", "participant", dataset("fresh", "Weather", null, "csv")));
+        index.deleteExpired();
+
+        assertThat(index.search(query("weather")).hits()).extracting(CatalogSearchHit::datasetId).containsExactly("fresh");
+    }
+
+    private CatalogSearchQuery query(String text) {
+        return new CatalogSearchQuery(text, Map.of(), 0, 10);
+    }
+
+    private Catalog catalog(String id, String participantId, Dataset... datasets) {
+        return Catalog.Builder.newInstance()
+                .id(id)
+                .participantId(participantId)
+                .datasets(List.of(datasets))
+                .property(CatalogConstants.PROPERTY_ORIGINATOR, "https://test.source/" + id)
+                .build();
+    }
+
+    private Dataset dataset(String id, String title, String description, String format) {
+        var builder = Dataset.Builder.newInstance().id(id)
+                .property(DCT_SCHEMA + "title", title)
+                .distribution(Distribution.Builder.newInstance().format(format).dataService(DataService.Builder.newInstance().build()).build())
+                .offer("offer", Policy.Builder.newInstance().build());
+        if (description != null) {
+            builder.property(DCT_SCHEMA + "description", description);
+        }
+        return builder.build();
+    }
+}
@@ -43,6 +43,11 @@ public class BootServicesExtension implements ServiceExtension {
     @Setting(description = "Configures this component's ID. This should be a unique, stable and deterministic identifier.", defaultValue = "<random UUID>")
     public static final String COMPONENT_ID = "edc.component.id";
 
+    public static final boolean DEFAULT_BOOT_PROFILING_ENABLED = false;
+    @Setting(description = "If true, the duration of every boot phase of every extension and the critical path through the extension dependency graph get logged once the runtime is booted.",
+            defaultValue = DEFAULT_BOOT_PROFILING_ENABLED + "")
+    public static final String BOOT_PROFILING_ENABLED = "edc.boot.profiling.enabled";
+
     @Inject(required = false)
     private SingleParticipantContextSupplier singleParticipantContextSupplier;
 
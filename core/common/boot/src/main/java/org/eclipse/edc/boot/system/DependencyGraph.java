@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -47,6 +48,10 @@ import static java.util.stream.Collectors.toList;
 public class DependencyGraph {
 
     private final List<InjectionContainer<ServiceExtension>> injectionContainers;
+    /**
+     * contains the direct dependencies of every container
+     */
+    private final Map<InjectionContainer<ServiceExtension>, Set<InjectionContainer<ServiceExtension>>> dependencies;
     /**
      * contains all missing dependencies that were expressed as injection points
      */
@@ -56,9 +61,12 @@ public class DependencyGraph {
      */
     private final ArrayList<Class<?>> unsatisfiedRequirements;
 
-    private DependencyGraph(List<InjectionContainer<ServiceExtension>> injectionContainers, Map<Class<? extends ServiceExtension>, List<InjectionFailure>> unsatisfiedInjectionPoints, ArrayList<Class<?>> unsatisfiedRequirements) {
+    private DependencyGraph(List<InjectionContainer<ServiceExtension>> injectionContainers,
+                            Map<InjectionContainer<ServiceExtension>, Set<InjectionContainer<ServiceExtension>>> dependencies,
+                            Map<Class<? extends ServiceExtension>, List<InjectionFailure>> unsatisfiedInjectionPoints, ArrayList<Class<?>> unsatisfiedRequirements) {
 
         this.injectionContainers = injectionContainers;
+        this.dependencies = dependencies;
         this.unsatisfiedInjectionPoints = unsatisfiedInjectionPoints;
         this.unsatisfiedRequirements = unsatisfiedRequirements;
     }
@@ -105,6 +113,11 @@ public class DependencyGraph {
                 .collect(toList());
 
         var sort = new TopologicalSort<InjectionContainer<ServiceExtension>>();
+        var dependencies = new HashMap<InjectionContainer<ServiceExtension>, Set<InjectionContainer<ServiceExtension>>>();
+        BiConsumer<InjectionContainer<ServiceExtension>, InjectionContainer<ServiceExtension>> addDependency = (dependent, dependency) -> {
+            sort.addDependency(dependent, dependency);
+            dependencies.computeIfAbsent(dependent, k -> new HashSet<>()).add(dependency);
+        };
 
         // check if all injected fields are satisfied, collect missing ones and throw exception otherwise
         var unsatisfiedInjectionPoints = new HashMap<Class<? extends ServiceExtension>, List<InjectionFailure>>();
@@ -113,11 +126,11 @@ public class DependencyGraph {
         injectionContainers.forEach(container -> {
             //check that all the @Required features are there
             getRequiredFeatures(container.getInjectionTarget().getClass()).forEach(serviceClass -> {
-                var dependencies = dependencyMap.get(serviceClass);
-                if (dependencies == null) {
+                var providers = dependencyMap.get(serviceClass);
+                if (providers == null) {
                     unsatisfiedRequirements.add(serviceClass);
                 } else {
-                    dependencies.forEach(dependency -> sort.addDependency(container, dependency));
+                    providers.forEach(dependency -> addDependency.accept(container, dependency));
                 }
             });
 
@@ -126,7 +139,7 @@ public class DependencyGraph {
                         injectionPoint.getProviders(dependencyMap, context)
                                 .onSuccess(providers -> providers.stream()
                                         .filter(d -> !Objects.equals(d, container))
-                                        .forEach(provider -> sort.addDependency(container, provider)))
+                                        .forEach(provider -> addDependency.accept(container, provider)))
                                 .onFailure(f -> {
                                     if (injectionPoint.isRequired()) {
                                         unsatisfiedInjectionPoints.computeIfAbsent(injectionPoint.getTargetInstance().getClass(), s -> new ArrayList<>())
@@ -144,7 +157,7 @@ public class DependencyGraph {
 
         sort.sort(injectionContainers);
 
-        return new DependencyGraph(injectionContainers, unsatisfiedInjectionPoints, unsatisfiedRequirements);
+        return new DependencyGraph(injectionContainers, dependencies, unsatisfiedInjectionPoints, unsatisfiedRequirements);
     }
 
     public List<InjectionContainer<ServiceExtension>> getInjectionContainers() {
@@ -158,6 +171,16 @@ public class DependencyGraph {
         return injectionContainers.stream().map(InjectionContainer::getInjectionTarget).toList();
     }
 
+    /**
+     * Returns the containers the given one directly depends on, i.e. the ones that need to be initialized before it.
+     *
+     * @param container the injection container.
+     * @return the direct dependencies, never null.
+     */
+    public Set<InjectionContainer<ServiceExtension>> getDependencies(InjectionContainer<ServiceExtension> container) {
+        return dependencies.getOrDefault(container, Set.of());
+    }
+
     /**
      * Checks if the current dependency graph is valid, i.e. there are no cycles in it and all required injection
      * dependencies are satisfied.
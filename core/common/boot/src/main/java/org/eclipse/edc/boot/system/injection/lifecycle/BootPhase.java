@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system.injection.lifecycle;
+
+/**
+ * The phases a {@link org.eclipse.edc.spi.system.ServiceExtension} goes through during the runtime boot.
+ */
+public enum BootPhase {
+    INJECT,
+    INITIALIZE,
+    PROVIDE,
+    PREPARE,
+    START
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system.injection.lifecycle;
+
+import org.eclipse.edc.boot.system.DependencyGraph;
+import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the duration of every {@link BootPhase} of every extension. Every phase is also emitted as
+ * {@link ExtensionBootPhaseEvent} JFR event, so it shows up in a flight recording of the boot.
+ * <p>
+ * The critical path is the chain of dependent extensions with the highest initialization time (inject, initialize and
+ * provide phases): it represents the lower bound of the initialization time, even if independent extensions were initialized in parallel.
+ */
+public class BootProfiler {
+
+    private static final Set<BootPhase> INITIALIZATION_PHASES = Set.of(BootPhase.INJECT, BootPhase.INITIALIZE, BootPhase.PROVIDE);
+
+    private final Map<ServiceExtension, Map<BootPhase, Duration>> durations = new ConcurrentHashMap<>();
+
+    /**
+     * Run the action, recording its duration as the phase of the extension.
+     *
+     * @param extension the extension.
+     * @param phase     the phase.
+     * @param action    the phase action.
+     */
+    public void profile(ServiceExtension extension, BootPhase phase, Runnable action) {
+        var event = new ExtensionBootPhaseEvent();
+        event.begin();
+        var start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            var duration = Duration.ofNanos(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.extension = extension.name();
+                event.phase = phase.name();
+                event.commit();
+            }
+            durations.computeIfAbsent(extension, e -> new ConcurrentHashMap<>()).merge(phase, duration, Duration::plus);
+        }
+    }
+
+    /**
+     * Returns the duration of the extension phase, {@link Duration#ZERO} if it was not recorded.
+     *
+     * @param extension the extension.
+     * @param phase     the phase.
+     * @return the duration.
+     */
+    public Duration duration(ServiceExtension extension, BootPhase phase) {
+        return durations.getOrDefault(extension, Map.of()).getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * Returns the timings of the profiled extensions, the slowest first.
+     *
+     * @return the extension timings.
+     */
+    public List<ExtensionTiming> timings() {
+        return durations.entrySet().stream()
+                .map(entry -> new ExtensionTiming(entry.getKey().name(), new EnumMap<>(entry.getValue())))
+                .sorted(Comparator.comparing(ExtensionTiming::total).reversed())
+                .toList();
+    }
+
+    /**
+     * Calculate the critical path through the dependency graph.
+     *
+     * @param graph the dependency graph.
+     * @return the critical path.
+     */
+    public CriticalPath criticalPath(DependencyGraph graph) {
+        var finish = new HashMap<InjectionContainer<ServiceExtension>, Duration>();
+        var predecessors = new HashMap<InjectionContainer<ServiceExtension>, InjectionContainer<ServiceExtension>>();
+        InjectionContainer<ServiceExtension> last = null;
+
+        // containers are sorted topologically, so the dependencies are always already calculated
+        for (var container : graph.getInjectionContainers()) {
+            var predecessor = graph.getDependencies(container).stream()
+                    .filter(finish::containsKey)
+                    .max(Comparator.comparing(finish::get))
+                    .orElse(null);
+            var start = predecessor == null ? Duration.ZERO : finish.get(predecessor);
+            finish.put(container, start.plus(initialization(container.getInjectionTarget())));
+            predecessors.put(container, predecessor);
+            if (last == null || finish.get(container).compareTo(finish.get(last)) > 0) {
+                last = container;
+            }
+        }
+
+        if (last == null) {
+            return new CriticalPath(Collections.emptyList(), Duration.ZERO);
+        }
+
+        var path = new LinkedList<String>();
+        for (var current = last; current != null; current = predecessors.get(current)) {
+            path.addFirst(current.getInjectionTarget().name());
+        }
+        return new CriticalPath(path, finish.get(last));
+    }
+
+    /**
+     * Log the timings of every extension, the slowest first, and the critical path through the dependency graph.
+     *
+     * @param monitor the monitor.
+     * @param graph   the dependency graph.
+     */
+    public void report(Monitor monitor, DependencyGraph graph) {
+        for (var timing : timings()) {
+            var phases = new ArrayList<String>();
+            for (var phase : BootPhase.values()) {
+                phases.add("%s=%d".formatted(phase.name().toLowerCase(), timing.duration(phase).toMillis()));
+            }
+            monitor.info("Boot profile: extension=%s total=%d %s (ms)".formatted(timing.extension(), timing.total().toMillis(), String.join(" ", phases)));
+        }
+
+        var criticalPath = criticalPath(graph);
+        monitor.info("Boot profile: critical path duration=%d (ms) path=%s".formatted(criticalPath.duration().toMillis(),
+                String.join(" -> ", criticalPath.extensions())));
+    }
+
+    private Duration initialization(ServiceExtension extension) {
+        return INITIALIZATION_PHASES.stream().map(phase -> duration(extension, phase)).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * The phase durations of an extension.
+     *
+     * @param extension the extension name.
+     * @param phases    the phase durations.
+     */
+    public record ExtensionTiming(String extension, Map<BootPhase, Duration> phases) {
+
+        public Duration duration(BootPhase phase) {
+            return phases.getOrDefault(phase, Duration.ZERO);
+        }
+
+        public Duration total() {
+            return phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+        }
+    }
+
+    /**
+     * The chain of dependent extensions with the highest initialization time.
+     *
+     * @param extensions the extension names, the first one has no dependencies.
+     * @param duration   the sum of the initialization times.
+     */
+    public record CriticalPath(List<String> extensions, Duration duration) {
+    }
+}
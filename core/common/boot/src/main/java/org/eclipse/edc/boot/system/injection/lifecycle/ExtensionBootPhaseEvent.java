@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system.injection.lifecycle;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event that gets committed for every {@link BootPhase} of every extension, the event duration is the phase
+ * duration.
+ */
+@Name("org.eclipse.edc.ExtensionBootPhase")
+@Label("Extension Boot Phase")
+@Category({ "EDC", "Boot" })
+@Description("A boot phase of a service extension")
+class ExtensionBootPhaseEvent extends Event {
+
+    @Label("Extension")
+    String extension;
+
+    @Label("Phase")
+    String phase;
+
+}
@@ -16,9 +16,11 @@ package org.eclipse.edc.boot.system.injection.lifecycle;
 
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
 import org.eclipse.edc.boot.system.injection.InjectionPointDefaultServiceSupplier;
+import org.eclipse.edc.boot.system.injection.Injector;
 import org.eclipse.edc.boot.system.injection.InjectorImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -44,33 +46,56 @@ public class ExtensionLifecycleManager {
      * Convenience method for loading service extensions.
      */
     public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
+        bootServiceExtensions(containers, context, new BootProfiler());
+    }
+
+    /**
+     * Loads the service extensions, recording the duration of every phase in the {@link BootProfiler}.
+     *
+     * @param containers the injection containers, sorted topologically.
+     * @param context    the service extension context.
+     * @param profiler   the boot profiler.
+     */
+    public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context, BootProfiler profiler) {
         var injector = new InjectorImpl(new InjectionPointDefaultServiceSupplier());
         var monitor = context.getMonitor();
 
         for (var container : containers) {
-            var target = container.getInjectionTarget();
-            injector.inject(container, context);
-
-            target.initialize(context);
-            monitor.debug("Initialized " + target.name());
-
-            var serviceProviders = container.getServiceProviders();
-            if (serviceProviders != null) {
-                serviceProviders.forEach(serviceProvider -> serviceProvider.get(context));
-            }
+            initialize(container, context, injector, profiler);
         }
 
         context.freeze();
 
         for (var container : containers) {
-            var target = container.getInjectionTarget();
-            target.prepare();
-            monitor.debug("Prepared " + target.name());
+            prepare(container, monitor, profiler);
         }
 
+        start(containers, monitor, profiler);
+    }
+
+    private static void initialize(InjectionContainer<ServiceExtension> container, ServiceExtensionContext context, Injector injector, BootProfiler profiler) {
+        var target = container.getInjectionTarget();
+        profiler.profile(target, BootPhase.INJECT, () -> injector.inject(container, context));
+
+        profiler.profile(target, BootPhase.INITIALIZE, () -> target.initialize(context));
+        context.getMonitor().debug("Initialized " + target.name());
+
+        var serviceProviders = container.getServiceProviders();
+        if (serviceProviders != null) {
+            profiler.profile(target, BootPhase.PROVIDE, () -> serviceProviders.forEach(serviceProvider -> serviceProvider.get(context)));
+        }
+    }
+
+    private static void prepare(InjectionContainer<ServiceExtension> container, Monitor monitor, BootProfiler profiler) {
+        var target = container.getInjectionTarget();
+        profiler.profile(target, BootPhase.PREPARE, target::prepare);
+        monitor.debug("Prepared " + target.name());
+    }
+
+    private static void start(List<InjectionContainer<ServiceExtension>> containers, Monitor monitor, BootProfiler profiler) {
         for (var container : containers) {
             var target = container.getInjectionTarget();
-            target.start();
+            profiler.profile(target, BootPhase.START, target::start);
             monitor.debug("Started " + target.name());
         }
 
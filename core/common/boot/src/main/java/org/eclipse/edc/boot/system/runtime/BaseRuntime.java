@@ -24,6 +24,7 @@ import org.eclipse.edc.boot.system.DependencyGraph;
 import org.eclipse.edc.boot.system.ExtensionLoader;
 import org.eclipse.edc.boot.system.ServiceLocator;
 import org.eclipse.edc.boot.system.ServiceLocatorImpl;
+import org.eclipse.edc.boot.system.injection.lifecycle.BootProfiler;
 import org.eclipse.edc.boot.system.injection.lifecycle.ExtensionLifecycleManager;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -42,6 +43,8 @@ import java.util.function.Consumer;
 
 import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
+import static org.eclipse.edc.boot.BootServicesExtension.BOOT_PROFILING_ENABLED;
+import static org.eclipse.edc.boot.BootServicesExtension.DEFAULT_BOOT_PROFILING_ENABLED;
 
 /**
  * Base runtime class. During its {@code main()} method it instantiates a new {@code BaseRuntime} object that bootstraps
@@ -51,7 +54,7 @@ import static java.lang.String.format;
  *     <li>{@link BaseRuntime#createContext(Monitor, Config)}: creates a new {@link DefaultServiceExtensionContext} and invokes its {@link DefaultServiceExtensionContext#initialize()} method</li>
  *     <li>{@link BaseRuntime#buildDependencyGraph(ServiceExtensionContext)}: creates a list of {@code ServiceExtension} objects. By default, these are created through {@link ExtensionLoader#buildDependencyGraph(ServiceExtensionContext)}</li>
  *     <li>{@link BaseRuntime#bootExtensions(ServiceExtensionContext, DependencyGraph)}: initializes the service extensions by putting them through their lifecycle.
- *     By default, this calls {@link ExtensionLifecycleManager#bootServiceExtensions(List, ServiceExtensionContext)} </li>
+ *     By default, this calls {@link ExtensionLifecycleManager#bootServiceExtensions(List, ServiceExtensionContext, BootProfiler)}</li>
  *     <li>{@link BaseRuntime#onError(Exception)}: receives any Exception that was raised during initialization</li>
  * </ul>
  */
@@ -60,6 +63,7 @@ public class BaseRuntime {
     private static String[] programArgs = new String[0];
     private final ExtensionLoader extensionLoader;
     private final ConfigurationLoader configurationLoader;
+    private final BootProfiler bootProfiler = new BootProfiler();
     private List<ServiceExtension> serviceExtensions = new ArrayList<>();
     protected Monitor monitor;
     protected ServiceExtensionContext context;
@@ -135,6 +139,15 @@ public class BaseRuntime {
         return monitor;
     }
 
+    /**
+     * The profiler that recorded the boot phases of the extensions.
+     *
+     * @return the boot profiler.
+     */
+    public BootProfiler getBootProfiler() {
+        return bootProfiler;
+    }
+
     @NotNull
     protected ServiceExtensionContext createServiceExtensionContext(Config config) {
         var context = createContext(monitor, config);
@@ -157,7 +170,11 @@ public class BaseRuntime {
      * @param graph   a list of extensions
      */
     protected void bootExtensions(ServiceExtensionContext context, DependencyGraph graph) {
-        ExtensionLifecycleManager.bootServiceExtensions(graph.getInjectionContainers(), context);
+        ExtensionLifecycleManager.bootServiceExtensions(graph.getInjectionContainers(), context, bootProfiler);
+
+        if (context.getSetting(BOOT_PROFILING_ENABLED, DEFAULT_BOOT_PROFILING_ENABLED)) {
+            bootProfiler.report(monitor, graph);
+        }
     }
 
     /**
@@ -67,4 +67,16 @@ class DependencyGraphTest {
                 .extracting(InjectionContainer::getInjectionTarget)
                 .containsExactly(dependentExtension);
     }
+
+    @Test
+    void getDependencies() {
+        var provider = createProviderExtension(true);
+        var dependentExtension = createDependentExtension(true);
+
+        var graph = DependencyGraph.of(mock(), mutableListOf(dependentExtension, provider));
+
+        var containers = graph.getInjectionContainers();
+        assertThat(graph.getDependencies(containers.get(1))).extracting(InjectionContainer::getInjectionTarget).containsExactly(provider);
+        assertThat(graph.getDependencies(containers.get(0))).isEmpty();
+    }
 }
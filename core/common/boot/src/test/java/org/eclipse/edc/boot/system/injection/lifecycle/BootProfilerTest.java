@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system.injection.lifecycle;
+
+import org.eclipse.edc.boot.system.DependencyGraph;
+import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BootProfilerTest {
+
+    private final BootProfiler profiler = new BootProfiler();
+
+    @Test
+    void profile_shouldRecordPhaseDuration() {
+        var extension = extension("extension");
+
+        profiler.profile(extension, BootPhase.INITIALIZE, () -> sleep(10));
+
+        assertThat(profiler.duration(extension, BootPhase.INITIALIZE)).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+        assertThat(profiler.duration(extension, BootPhase.START)).isZero();
+    }
+
+    @Test
+    void profile_shouldRecordPhaseDuration_whenActionFails() {
+        var extension = extension("extension");
+
+        assertThatThrownBy(() -> profiler.profile(extension, BootPhase.PREPARE, () -> {
+            throw new EdcException("error");
+        })).isInstanceOf(EdcException.class);
+
+        assertThat(profiler.timings()).hasSize(1).first().satisfies(timing -> {
+            assertThat(timing.extension()).isEqualTo("extension");
+            assertThat(timing.phases()).containsKey(BootPhase.PREPARE);
+        });
+    }
+
+    @Test
+    void timings_shouldSortBySlowestFirst() {
+        var fast = extension("fast");
+        var slow = extension("slow");
+        profiler.profile(fast, BootPhase.INITIALIZE, () -> { });
+        profiler.profile(slow, BootPhase.INITIALIZE, () -> sleep(10));
+        profiler.profile(slow, BootPhase.START, () -> { });
+
+        var timings = profiler.timings();
+
+        assertThat(timings).extracting(BootProfiler.ExtensionTiming::extension).containsExactly("slow", "fast");
+        assertThat(timings.get(0).total()).isEqualTo(profiler.duration(slow, BootPhase.INITIALIZE).plus(profiler.duration(slow, BootPhase.START)));
+    }
+
+    @Nested
+    class CriticalPath {
+
+        private final DependencyGraph graph = mock();
+
+        @Test
+        void shouldFollowSlowestDependencyChain() {
+            var slow = container(extension("slow"));
+            var fast = container(extension("fast"));
+            var dependent = container(extension("dependent"));
+            when(graph.getInjectionContainers()).thenReturn(List.of(slow, fast, dependent));
+            when(graph.getDependencies(dependent)).thenReturn(Set.of(slow, fast));
+            profiler.profile(slow.getInjectionTarget(), BootPhase.INITIALIZE, () -> sleep(20));
+            profiler.profile(fast.getInjectionTarget(), BootPhase.INITIALIZE, () -> { });
+            profiler.profile(dependent.getInjectionTarget(), BootPhase.PROVIDE, () -> sleep(5));
+
+            var criticalPath = profiler.criticalPath(graph);
+
+            assertThat(criticalPath.extensions()).containsExactly("slow", "dependent");
+            assertThat(criticalPath.duration()).isGreaterThanOrEqualTo(Duration.ofMillis(25));
+        }
+
+        @Test
+        void shouldIgnoreStartPhase() {
+            var started = container(extension("started"));
+            var initialized = container(extension("initialized"));
+            when(graph.getInjectionContainers()).thenReturn(List.of(started, initialized));
+            profiler.profile(started.getInjectionTarget(), BootPhase.START, () -> sleep(20));
+            profiler.profile(initialized.getInjectionTarget(), BootPhase.INITIALIZE, () -> sleep(5));
+
+            var criticalPath = profiler.criticalPath(graph);
+
+            assertThat(criticalPath.extensions()).containsExactly("initialized");
+        }
+
+        @Test
+        void shouldReturnEmptyPath_whenNoExtensions() {
+            when(graph.getInjectionContainers()).thenReturn(List.of());
+
+            var criticalPath = profiler.criticalPath(graph);
+
+            assertThat(criticalPath.extensions()).isEmpty();
+            assertThat(criticalPath.duration()).isZero();
+        }
+    }
+
+    @Test
+    void report_shouldLogTimingsAndCriticalPath() {
+        var monitor = mock(Monitor.class);
+        var graph = mock(DependencyGraph.class);
+        var extension = extension("extension");
+        when(graph.getInjectionContainers()).thenReturn(List.of(container(extension)));
+        profiler.profile(extension, BootPhase.INITIALIZE, () -> { });
+
+        profiler.report(monitor, graph);
+
+        verify(monitor).info(contains("extension=extension"));
+        verify(monitor).info(contains("critical path"));
+    }
+
+    private ServiceExtension extension(String name) {
+        var extension = mock(ServiceExtension.class);
+        when(extension.name()).thenReturn(name);
+        return extension;
+    }
+
+    private InjectionContainer<ServiceExtension> container(ServiceExtension extension) {
+        return new InjectionContainer<>(extension, Set.of(), List.of());
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -56,6 +56,17 @@ class ExtensionLifecycleManagerTest {
         orderVerifier.verify(serviceExtension).start();
     }
 
+    @Test
+    void shouldProfileEveryPhase() {
+        var provider = new ProviderExtension();
+        var profiler = new BootProfiler();
+
+        ExtensionLifecycleManager.bootServiceExtensions(createInjectionContainers(mutableListOf(provider)), context, profiler);
+
+        assertThat(profiler.timings()).hasSize(1).first().satisfies(timing ->
+                assertThat(timing.phases()).containsOnlyKeys(BootPhase.values()));
+    }
+
     @Test
     void shouldInvokeProvider() {
         var dependentExtension = new RequiredDependentExtension();
@@ -118,6 +129,17 @@ class ExtensionLifecycleManagerTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    void shouldProfileEveryPhase() {
+        var provider = new ProviderExtension();
+        var profiler = new BootProfiler();
+
+        ExtensionLifecycleManager.bootServiceExtensions(createInjectionContainers(mutableListOf(provider)), context, profiler);
+
+        assertThat(profiler.timings()).hasSize(1).first().satisfies(timing ->
+                assertThat(timing.phases()).containsOnlyKeys(BootPhase.values()));
+    }
+
     public void boot(ServiceExtension... serviceExtensions) {
         var injectionContainers = createInjectionContainers(mutableListOf(serviceExtensions));
         ExtensionLifecycleManager.bootServiceExtensions(injectionContainers, context);
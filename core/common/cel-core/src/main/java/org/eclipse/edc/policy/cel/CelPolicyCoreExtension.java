@@ -43,11 +43,13 @@ import org.eclipse.edc.policy.model.Rule;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.List;
 
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
@@ -62,6 +64,16 @@ public class CelPolicyCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Common Expression Language Policy Core Extension";
 
+    private static final long DEFAULT_CACHE_VALIDITY = 60_000;
+
+    @Setting(
+            description = "Time (in ms) that compiled CEL expressions are kept in memory. Writes through the CEL expression " +
+                    "service invalidate the cache immediately, the validity bounds the staleness of writes made by other runtimes. 0 disables the cache",
+            defaultValue = DEFAULT_CACHE_VALIDITY + "",
+            key = "edc.policy.cel.cache.validity"
+    )
+    private long cacheValidity;
+
     @Inject
     private PolicyEngine policyEngine;
 
@@ -84,6 +96,9 @@ public class CelPolicyCoreExtension implements ServiceExtension {
     @Inject
     private Monitor monitor;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -111,7 +126,7 @@ public class CelPolicyCoreExtension implements ServiceExtension {
     @Provider
     public CelExpressionEngine policyExpressionEngine() {
         if (celExpressionEngine == null) {
-            celExpressionEngine = new CelExpressionEngineImpl(transactionContext, celExpressionStore, monitor, celFunctionRegistry());
+            celExpressionEngine = new CelExpressionEngineImpl(transactionContext, celExpressionStore, monitor, celFunctionRegistry(), clock, cacheValidity);
         }
         return celExpressionEngine;
     }
@@ -35,7 +35,9 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
 
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,10 +47,15 @@ import java.util.stream.Stream;
 
 public class CelExpressionEngineImpl implements CelExpressionEngine {
 
+    private static final int CACHE_MAX_ENTRIES = 10_000;
+
     private final TransactionContext ctx;
     private final CelExpressionStore store;
     private final Monitor monitor;
     private final CelFunctionRegistry functionRegistry;
+    private final ExpiringLruCache<String, List<CelExpression>> expressionsCache;
+    private final ExpiringLruCache<String, Result<List<CelRuntime.Program>>> programsCache;
+    private final ExpiringLruCache<String, Set<String>> scopesCache;
 
     // built lazily on first use: extensions register their custom functions during initialization, which happens
     // after this engine is constructed. Declarations and bindings are derived from a single snapshot of the registry,
@@ -56,10 +63,23 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
     private volatile CelEnvironment environment;
 
     public CelExpressionEngineImpl(TransactionContext ctx, CelExpressionStore store, Monitor monitor, CelFunctionRegistry functionRegistry) {
+        this(ctx, store, monitor, functionRegistry, Clock.systemUTC(), 0);
+    }
+
+    /**
+     * Constructor with caching: the expressions fetched from the store, their compiled programs and their evaluation
+     * scopes are kept for {@code cacheValidityMillis} or until {@link #invalidateCache()} gets called.
+     * A validity of 0 disables the cache.
+     */
+    public CelExpressionEngineImpl(TransactionContext ctx, CelExpressionStore store, Monitor monitor, CelFunctionRegistry functionRegistry,
+                                   Clock clock, long cacheValidityMillis) {
         this.ctx = ctx;
         this.store = store;
         this.monitor = monitor;
         this.functionRegistry = functionRegistry;
+        this.expressionsCache = new ExpiringLruCache<>(clock, cacheValidityMillis, CACHE_MAX_ENTRIES);
+        this.programsCache = new ExpiringLruCache<>(clock, cacheValidityMillis, CACHE_MAX_ENTRIES);
+        this.scopesCache = new ExpiringLruCache<>(clock, cacheValidityMillis, CACHE_MAX_ENTRIES);
     }
 
     private CelEnvironment environment() {
@@ -99,27 +119,35 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
 
     @Override
     public boolean canEvaluate(String leftOperand) {
-        return !fetch(leftOperand).isEmpty();
+        return !expressions(leftOperand).isEmpty();
     }
 
     @Override
     public Set<String> evaluationScopes(String leftOperand) {
-        return Stream.concat(fetch(leftOperand).stream(), fetchByAction(leftOperand).stream())
+        return scopesCache.get(leftOperand, key -> Stream.concat(fetch(leftOperand).stream(), fetchByAction(leftOperand).stream())
                 .flatMap(expr -> expr.getScopes().stream())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    @Override
+    public void invalidateCache() {
+        expressionsCache.invalidateAll();
+        programsCache.invalidateAll();
+        scopesCache.invalidateAll();
     }
 
     @Override
     public ServiceResult<Boolean> test(String expression, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
         return compile(expression)
-                .compose(ast -> evaluateAst(ast, leftOperand, operator, rightOperand, params))
+                .compose(this::createProgram)
+                .compose(program -> evaluateProgram(program, leftOperand, operator, rightOperand, params))
                 .flatMap(ServiceResult::from);
 
     }
 
     @Override
     public ServiceResult<Boolean> evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
-        var compileResult = fetchAndCompile(leftOperand.toString());
+        var compileResult = programs(leftOperand.toString());
         if (compileResult.failed()) {
             monitor.severe("Failed to compile expressions for left operand: " + leftOperand + ". Reason: " + compileResult.getFailureDetail());
             return ServiceResult.badRequest("Failed to compile expressions for left operand: " + leftOperand + ". Reason: " + compileResult.getFailureDetail());
@@ -130,8 +158,8 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
             return ServiceResult.badRequest("No expressions registered for left operand: " + leftOperand);
         }
         var result = true;
-        for (var ast : expressions) {
-            var evaluationResult = evaluateAst(ast, leftOperand, operator, rightOperand, params);
+        for (var program : expressions) {
+            var evaluationResult = evaluateProgram(program, leftOperand, operator, rightOperand, params);
 
             if (evaluationResult.failed()) {
                 monitor.severe("Failed to evaluate expression for left operand: " + leftOperand + ". Reason: " + evaluationResult.getFailureDetail());
@@ -145,9 +173,8 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         return ServiceResult.success(result);
     }
 
-    private Result<Boolean> evaluateAst(CelAbstractSyntaxTree ast, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
+    private Result<Boolean> evaluateProgram(CelRuntime.Program program, Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
         try {
-            var program = environment().runtime().createProgram(ast);
             Map<String, Object> newParams = new HashMap<>();
             newParams.put("now", ProtoTimeUtils.now());
             newParams.put("this", Map.of("leftOperand", leftOperand, "operator", operator.name(), "rightOperand", rightOperand));
@@ -160,10 +187,22 @@ public class CelExpressionEngineImpl implements CelExpressionEngine {
         }
     }
 
-    private Result<List<CelAbstractSyntaxTree>> fetchAndCompile(String leftOperand) {
-        return fetch(leftOperand).stream()
-                .map(expr -> compile(expr.getExpression()))
-                .collect(Result.collector());
+    private List<CelExpression> expressions(String leftOperand) {
+        return expressionsCache.get(leftOperand, this::fetch);
+    }
+
+    private Result<List<CelRuntime.Program>> programs(String leftOperand) {
+        return programsCache.get(leftOperand, key -> expressions(leftOperand).stream()
+                .map(expr -> compile(expr.getExpression()).compose(this::createProgram))
+                .collect(Result.collector()));
+    }
+
+    private Result<CelRuntime.Program> createProgram(CelAbstractSyntaxTree ast) {
+        try {
+            return Result.success(environment().runtime().createProgram(ast));
+        } catch (CelEvaluationException e) {
+            return Result.failure("Failed to create program. Reason: " + e.getMessage());
+        }
     }
 
     private List<CelExpression> fetch(String leftOperand) {
@@ -41,18 +41,13 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
 
     @Override
     public ServiceResult<Void> create(CelExpression expression) {
-        return tx.execute(() -> {
+        return invalidateCacheOnSuccess(tx.execute(() -> {
             var validationResult = engine.validate(expression.getExpression());
             if (validationResult.failed()) {
                 return validationResult;
             }
-            var result = store.create(expression);
-            if (result.succeeded()) {
-                return ServiceResult.success();
-            } else {
-                return ServiceResult.from(result);
-            }
-        });
+            return ServiceResult.from(store.create(expression));
+        }));
     }
 
     @Override
@@ -70,24 +65,18 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
 
     @Override
     public ServiceResult<Void> update(CelExpression expression) {
-        return tx.execute(() -> {
+        return invalidateCacheOnSuccess(tx.execute(() -> {
             var validationResult = engine.validate(expression.getExpression());
             if (validationResult.failed()) {
                 return validationResult;
             }
-            var result = store.update(expression);
-            if (result.succeeded()) {
-                return ServiceResult.success();
-            } else {
-                return ServiceResult.from(result);
-            }
-        });
+            return ServiceResult.from(store.update(expression));
+        }));
     }
 
     @Override
     public ServiceResult<Void> delete(String id) {
-        return tx.execute(() -> store.delete(id)
-                .flatMap(ServiceResult::from));
+        return invalidateCacheOnSuccess(tx.execute(() -> store.delete(id).flatMap(ServiceResult::from)));
     }
 
     @Override
@@ -106,4 +95,15 @@ public class CelPolicyExpressionServiceImpl implements CelPolicyExpressionServic
         }
         return ServiceResult.success(response.build());
     }
+
+    /**
+     * The cache is invalidated only once the transaction has completed, otherwise a concurrent evaluation could load the
+     * previous expressions after the invalidation and keep them cached.
+     */
+    private <T> ServiceResult<T> invalidateCacheOnSuccess(ServiceResult<T> result) {
+        if (result.succeeded()) {
+            engine.invalidateCache();
+        }
+        return result;
+    }
 }
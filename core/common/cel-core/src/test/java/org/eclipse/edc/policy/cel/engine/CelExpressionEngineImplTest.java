@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -32,6 +33,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +45,8 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class CelExpressionEngineImplTest {
@@ -298,6 +302,68 @@ public class CelExpressionEngineImplTest {
         assertThat(result).containsAll(expr.getScopes());
     }
 
+    @Nested
+    class Cache {
+
+        private final Clock clock = mock();
+        private final CelExpressionEngineImpl cachingEngine = new CelExpressionEngineImpl(transactionContext, store, mock(), functionRegistry, clock, 1000);
+
+        @Test
+        void evaluateExpression_shouldNotQueryStore_whenCached() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+
+            var first = cachingEngine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+            var second = cachingEngine.evaluateExpression("test", Operator.EQ, "null", createParams("other"));
+            var canEvaluate = cachingEngine.canEvaluate("test");
+
+            assertThat(first).isSucceeded().isEqualTo(true);
+            assertThat(second).isSucceeded().isEqualTo(false);
+            assertThat(canEvaluate).isTrue();
+            verify(store, times(1)).query(any());
+        }
+
+        @Test
+        void evaluateExpression_shouldQueryStore_whenCacheExpired() {
+            when(store.query(any())).thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")));
+
+            when(clock.millis()).thenReturn(0L);
+            cachingEngine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+            when(clock.millis()).thenReturn(2000L);
+            cachingEngine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+
+            verify(store, times(2)).query(any());
+        }
+
+        @Test
+        void evaluateExpression_shouldUseNewExpression_whenCacheInvalidated() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.query(any()))
+                    .thenReturn(List.of(expression("ctx.agent.id == 'agent-123'")))
+                    .thenReturn(List.of(expression("ctx.agent.id == 'other'")));
+
+            var first = cachingEngine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+            cachingEngine.invalidateCache();
+            var second = cachingEngine.evaluateExpression("test", Operator.EQ, "null", createParams("agent-123"));
+
+            assertThat(first).isSucceeded().isEqualTo(true);
+            assertThat(second).isSucceeded().isEqualTo(false);
+        }
+
+        @Test
+        void evaluationScopes_shouldNotQueryStore_whenCached() {
+            when(clock.millis()).thenReturn(0L);
+            var expr = expressionBuilder("empty").scopes(Set.of("scope1")).build();
+            when(store.query(any())).thenReturn(List.of(expr));
+
+            cachingEngine.evaluationScopes("leftOperand");
+            var result = cachingEngine.evaluationScopes("leftOperand");
+
+            assertThat(result).containsExactly("scope1");
+            verify(store, times(2)).query(any());
+        }
+    }
+
     private CelExpression expression(String expr) {
         return expressionBuilder(expr).build();
     }
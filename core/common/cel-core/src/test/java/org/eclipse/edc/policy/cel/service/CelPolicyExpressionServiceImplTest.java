@@ -30,6 +30,8 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +51,28 @@ public class CelPolicyExpressionServiceImplTest {
         var result = service.create(expr);
 
         assertThat(result).isSucceeded();
+        verify(engine).invalidateCache();
+    }
+
+    @Test
+    void create_shouldInvalidateCacheAfterTransaction() {
+        var tx = new NoopTransactionContext() {
+            @Override
+            public <T> T execute(ResultTransactionBlock<T> block) {
+                var result = super.execute(block);
+                verify(engine, never()).invalidateCache();
+                return result;
+            }
+        };
+        var service = new CelPolicyExpressionServiceImpl(store, tx, engine);
+        var expr = celExpression("expr1");
+        when(engine.validate(anyString())).thenReturn(ServiceResult.success());
+        when(store.create(expr)).thenReturn(StoreResult.success());
+
+        var result = service.create(expr);
+
+        assertThat(result).isSucceeded();
+        verify(engine).invalidateCache();
     }
 
     @Test
@@ -74,6 +98,7 @@ public class CelPolicyExpressionServiceImplTest {
         var result = service.create(expr);
 
         assertThat(result).isFailed();
+        verify(engine, never()).invalidateCache();
 
     }
 
@@ -86,6 +111,7 @@ public class CelPolicyExpressionServiceImplTest {
         var result = service.update(expr);
 
         assertThat(result).isSucceeded();
+        verify(engine).invalidateCache();
     }
 
     @Test
@@ -131,6 +157,7 @@ public class CelPolicyExpressionServiceImplTest {
         var result = service.delete("id");
 
         assertThat(result).isSucceeded();
+        verify(engine).invalidateCache();
     }
 
     private CelExpression celExpression(String id) {
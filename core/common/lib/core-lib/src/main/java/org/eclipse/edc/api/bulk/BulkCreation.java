@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.bulk;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Creates the entities of a {@link BulkRequest}.
+ * <p>
+ * Items get transformed one after the other, then the valid ones are passed to the service in chunks, so every chunk
+ * gets stored in its own transaction. The outcome is reported for every item, in the same order of the request.
+ *
+ * @param <T> the entity type.
+ */
+public class BulkCreation<T> {
+
+    public static final String BULK_ITEM_RESULT_TYPE = EDC_NAMESPACE + "BulkItemResult";
+    public static final String BULK_ITEM_RESULT_STATUS = EDC_NAMESPACE + "status";
+    public static final String BULK_ITEM_RESULT_ERROR = EDC_NAMESPACE + "error";
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final Function<JsonObject, Result<T>> transformer;
+    private final Function<List<T>, List<ServiceResult<T>>> creator;
+    private final Function<T, String> idExtractor;
+    private final int chunkSize;
+
+    /**
+     * Constructor.
+     *
+     * @param transformer validates and transforms an expanded item into the entity.
+     * @param creator     stores a chunk of entities, returning a result for each of them.
+     * @param idExtractor extracts the id from the entity.
+     * @param chunkSize   maximum number of entities passed to the creator at once.
+     */
+    public BulkCreation(Function<JsonObject, Result<T>> transformer, Function<List<T>, List<ServiceResult<T>>> creator,
+                        Function<T, String> idExtractor, int chunkSize) {
+        this.transformer = transformer;
+        this.creator = creator;
+        this.idExtractor = idExtractor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Create the entities of the request.
+     *
+     * @param request the bulk request.
+     * @return the per-item results.
+     */
+    public JsonArray create(BulkRequest request) {
+        var items = request.items();
+        var transformed = items.stream()
+                .map(item -> item.succeeded() ? transformer.apply(item.getContent()) : Result.<T>failure(item.getFailureMessages()))
+                .toList();
+
+        var results = new ArrayList<JsonObject>(Collections.nCopies(items.size(), null));
+        var pending = new ArrayList<Integer>(chunkSize);
+        for (var i = 0; i < transformed.size(); i++) {
+            var result = transformed.get(i);
+            if (result.succeeded()) {
+                pending.add(i);
+                if (pending.size() == chunkSize) {
+                    createChunk(transformed, pending, results);
+                    pending.clear();
+                }
+            } else {
+                results.set(i, failed(idOf(items.get(i)), result.getFailureDetail()));
+            }
+        }
+        createChunk(transformed, pending, results);
+
+        var builder = Json.createArrayBuilder();
+        results.forEach(builder::add);
+        return builder.build();
+    }
+
+    private void createChunk(List<Result<T>> transformed, List<Integer> positions, List<JsonObject> results) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        var entities = positions.stream().map(position -> transformed.get(position).getContent()).toList();
+        var created = creator.apply(entities);
+        for (var i = 0; i < positions.size(); i++) {
+            var id = idExtractor.apply(entities.get(i));
+            var result = created.get(i);
+            results.set(positions.get(i), result.succeeded() ? created(id) : failed(id, result.getFailureDetail()));
+        }
+    }
+
+    private String idOf(Result<JsonObject> item) {
+        return item.succeeded() ? item.getContent().getString(ID, null) : null;
+    }
+
+    private JsonObject created(String id) {
+        return itemResult(id, STATUS_CREATED).build();
+    }
+
+    private JsonObject failed(String id, String error) {
+        return itemResult(id, STATUS_FAILED).add(BULK_ITEM_RESULT_ERROR, error).build();
+    }
+
+    private JsonObjectBuilder itemResult(String id, String status) {
+        var builder = Json.createObjectBuilder()
+                .add(TYPE, BULK_ITEM_RESULT_TYPE)
+                .add(BULK_ITEM_RESULT_STATUS, status);
+        if (id != null) {
+            builder.add(ID, id);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.bulk;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.List;
+
+/**
+ * The body of a bulk request: every item is either the expanded JSON-LD entity or the reason why it could not be
+ * parsed, validated or expanded. Items are kept in the same order as in the request.
+ *
+ * @param items the request items.
+ */
+public record BulkRequest(List<Result<JsonObject>> items) {
+}
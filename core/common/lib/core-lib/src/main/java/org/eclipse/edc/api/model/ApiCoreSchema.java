@@ -21,6 +21,9 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import java.util.List;
 
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+import static org.eclipse.edc.api.bulk.BulkCreation.BULK_ITEM_RESULT_TYPE;
+import static org.eclipse.edc.api.bulk.BulkCreation.STATUS_CREATED;
+import static org.eclipse.edc.api.bulk.BulkCreation.STATUS_FAILED;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
@@ -95,6 +98,29 @@ public interface ApiCoreSchema {
                 """;
     }
 
+    @Schema(name = "BulkItemResult", example = BulkItemResultSchema.BULK_ITEM_RESULT_EXAMPLE)
+    record BulkItemResultSchema(
+            @Schema(name = CONTEXT)
+            Object context,
+            @Schema(name = TYPE, example = BULK_ITEM_RESULT_TYPE)
+            String type,
+            @Schema(name = ID)
+            String id,
+            @Schema(requiredMode = REQUIRED, allowableValues = { STATUS_CREATED, STATUS_FAILED })
+            String status,
+            String error
+    ) {
+        public static final String BULK_ITEM_RESULT_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "BulkItemResult",
+                    "@id": "id-value",
+                    "status": "FAILED",
+                    "error": "Asset with ID id-value already exists"
+                }
+                """;
+    }
+
     @Schema(name = "ApiErrorDetail", example = ApiErrorDetailSchema.API_ERROR_EXAMPLE)
     record ApiErrorDetailSchema(
             String message,
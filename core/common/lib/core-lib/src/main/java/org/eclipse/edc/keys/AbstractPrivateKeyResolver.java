@@ -20,27 +20,59 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.time.Clock;
 
 /**
  * Base class for private key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a {@link Vault}) up to the inheritor.
+ * <p>
+ * Parsed keys can be cached per participant context and key ID for a limited time, so that signing operations don't
+ * need to resolve and parse the key material every time. The cache is bounded, and a rotated key is only picked up
+ * once the cached one expired.
  */
 public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
     private final KeyParserRegistry registry;
     private final Config config;
     private final Monitor monitor;
+    private final ExpiringLruCache<CacheKey, PrivateKey> cache;
 
     public AbstractPrivateKeyResolver(KeyParserRegistry registry, Config config, Monitor monitor) {
+        this(registry, config, monitor, Clock.systemUTC(), 0, 0);
+    }
+
+    /**
+     * Constructor that enables caching of parsed keys. A validity of 0 disables the cache.
+     *
+     * @param cacheValidityMillis how long a parsed key is kept in memory.
+     * @param cacheMaxEntries     maximum number of parsed keys kept in memory.
+     */
+    public AbstractPrivateKeyResolver(KeyParserRegistry registry, Config config, Monitor monitor,
+                                      Clock clock, long cacheValidityMillis, int cacheMaxEntries) {
         this.registry = registry;
         this.config = config;
         this.monitor = monitor;
+        this.cache = new ExpiringLruCache<>(clock, cacheValidityMillis, cacheMaxEntries);
     }
 
     @Override
     public Result<PrivateKey> resolvePrivateKey(String participantContextId, String id) {
+        return cache.getResult(new CacheKey(participantContextId, id), key -> resolveAndParse(participantContextId, id));
+    }
+
+    /**
+     * Returns the resolved key material
+     *
+     * @param keyId the Key-ID
+     * @return {@link Result#success()} if the key was found, {@link Result#failure(String)} if not found or other error.
+     */
+    @NotNull
+    protected abstract Result<String> resolveInternal(String participantContextId, String keyId);
+
+    private Result<PrivateKey> resolveAndParse(String participantContextId, String id) {
         var encodedKeyResult = resolveInternal(participantContextId, id);
 
         return encodedKeyResult
@@ -59,19 +91,13 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
                 }));
     }
 
-    /**
-     * Returns the resolved key material
-     *
-     * @param keyId the Key-ID
-     * @return {@link Result#success()} if the key was found, {@link Result#failure(String)} if not found or other error.
-     */
-    @NotNull
-    protected abstract Result<String> resolveInternal(String participantContextId, String keyId);
-
     private Result<String> resolveFromConfig(String keyId) {
         var value = config.getString(keyId, null);
         return value == null ?
                 Result.failure("Private key with ID '%s' not found in Config".formatted(keyId)) :
                 Result.success(value);
     }
+
+    private record CacheKey(String participantContextId, String keyId) {
+    }
 }
@@ -21,6 +21,8 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+
 import static java.util.Optional.ofNullable;
 
 /**
@@ -38,6 +40,12 @@ public class VaultPrivateKeyResolver extends AbstractPrivateKeyResolver {
         this.vault = vault;
     }
 
+    public VaultPrivateKeyResolver(KeyParserRegistry registry, Vault vault, Monitor monitor, Config config,
+                                   Clock clock, long cacheValidityMillis, int cacheMaxEntries) {
+        super(registry, config, monitor, clock, cacheValidityMillis, cacheMaxEntries);
+        this.vault = vault;
+    }
+
     @NotNull
     @Override
     protected Result<String> resolveInternal(String participantContextId, String keyId) {
@@ -18,22 +18,47 @@ import com.nimbusds.jose.JWSSigner;
 import org.eclipse.edc.jwt.spi.signer.JwsSignerProvider;
 import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
+
+import java.time.Clock;
 
 /**
  * Provides a {@link JWSSigner} that is created based on a private key's algorithm.
  * Note that the private key will be held in memory for the duration of the instantiation of the {@link JWSSigner}.
+ * <p>
+ * Signers can be cached per participant context and key ID for a limited time, in that case the private key is held
+ * in memory for the cache validity as well. Signers are thread-safe, so they can be shared between signing operations.
  */
 public class DefaultJwsSignerProvider implements JwsSignerProvider {
 
     private final PrivateKeyResolver privateKeyResolver;
+    private final ExpiringLruCache<CacheKey, JWSSigner> cache;
 
     public DefaultJwsSignerProvider(PrivateKeyResolver privateKeyResolver) {
+        this(privateKeyResolver, Clock.systemUTC(), 0, 0);
+    }
+
+    /**
+     * Constructor that enables caching of signers. A validity of 0 disables the cache.
+     *
+     * @param cacheValidityMillis how long a signer is kept in memory.
+     * @param cacheMaxEntries     maximum number of signers kept in memory.
+     */
+    public DefaultJwsSignerProvider(PrivateKeyResolver privateKeyResolver, Clock clock, long cacheValidityMillis, int cacheMaxEntries) {
         this.privateKeyResolver = privateKeyResolver;
+        this.cache = new ExpiringLruCache<>(clock, cacheValidityMillis, cacheMaxEntries);
     }
 
     @Override
     public Result<JWSSigner> createJwsSigner(String participantContextId, String privateKeyId) {
+        return cache.getResult(new CacheKey(participantContextId, privateKeyId), key -> createSigner(participantContextId, privateKeyId));
+    }
+
+    private Result<JWSSigner> createSigner(String participantContextId, String privateKeyId) {
         return privateKeyResolver.resolvePrivateKey(participantContextId, privateKeyId)
                 .compose(pk -> Result.ofThrowable(() -> CryptoConverter.createSignerFor(pk)));
     }
+
+    private record CacheKey(String participantContextId, String keyId) {
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.query.Criterion;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
@@ -120,6 +121,26 @@ public class SqlExecuteStatement {
         return insertStatement(tableName) + " ON CONFLICT (" + idColumn + ") DO NOTHING;";
     }
 
+    /**
+     * Gives a SQL insert statement of multiple rows that skips the rows whose id already exists, based on the
+     * "ON CONFLICT" semantic, and returns the ids of the inserted rows.
+     *
+     * @param tableName the table name.
+     * @param idColumn  the id column.
+     * @param rows      the number of rows.
+     * @return sql insert statement.
+     */
+    public String insertIntoIgnoreConflictReturningId(String tableName, String idColumn, int rows) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create INSERT statement on %s because no columns are registered", tableName));
+        }
+
+        var columnValues = columnEntries.stream().reduce(ColumnEntry::append).orElseThrow();
+        var values = String.join(", ", Collections.nCopies(rows, "(" + columnValues.value() + ")"));
+        return "INSERT INTO " + tableName + " (" + columnValues.columnName() + ") VALUES " + values +
+                " ON CONFLICT (" + idColumn + ") DO NOTHING RETURNING " + idColumn + ";";
+    }
+
     /**
      * Gives a SQL update statement.
      *
@@ -14,19 +14,18 @@
 
 package org.eclipse.edc.sql.store;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Objects;
@@ -39,14 +38,14 @@ public abstract class AbstractSqlStore {
     private final DataSourceRegistry dataSourceRegistry;
     private final String dataSourceName;
     protected final QueryExecutor queryExecutor;
-    private final ObjectMapper objectMapper;
+    private final JsonColumnCodec jsonCodec;
 
     public AbstractSqlStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper, QueryExecutor queryExecutor) {
         this.dataSourceRegistry = Objects.requireNonNull(dataSourceRegistry);
         this.dataSourceName = Objects.requireNonNull(dataSourceName);
         this.transactionContext = Objects.requireNonNull(transactionContext);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
         this.queryExecutor = queryExecutor;
+        this.jsonCodec = new JsonColumnCodec(Objects.requireNonNull(objectMapper));
     }
 
     protected Connection getConnection() throws SQLException {
@@ -54,44 +53,37 @@ public abstract class AbstractSqlStore {
     }
 
     protected String toJson(Object object) {
-        if (object == null) {
-            return null;
-        }
-        try {
-            return object instanceof String ? object.toString() : objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new EdcPersistenceException(e);
-        }
+        return jsonCodec.write(object);
     }
 
     protected <T> String toJson(Object object, TypeReference<T> typeReference) {
-        if (object == null) {
-            return null;
-        }
-        try {
-            return object instanceof String ? object.toString() : objectMapper.writerFor(typeReference).writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new EdcPersistenceException(e);
-        }
+        return jsonCodec.write(object, typeReference.getType());
     }
 
     protected <T> T fromJson(String json, TypeReference<T> typeReference) {
-        return fromJson(json, objectMapper.constructType(typeReference));
+        return jsonCodec.read(json, typeReference.getType());
     }
 
     protected <T> T fromJson(String json, Class<T> type) {
-        return fromJson(json, objectMapper.constructType(type));
+        return jsonCodec.read(json, type);
     }
 
     protected <T> T fromJson(String json, JavaType type) {
-        if (json == null) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, type);
-        } catch (JsonProcessingException e) {
-            throw new EdcPersistenceException(e);
-        }
+        return jsonCodec.read(json, type);
+    }
+
+    /**
+     * Deserialize the JSON column of the current row, reading it directly from the column bytes.
+     */
+    protected <T> T fromJson(ResultSet resultSet, String column, TypeReference<T> typeReference) throws SQLException {
+        return jsonCodec.read(resultSet, column, typeReference.getType());
+    }
+
+    /**
+     * Deserialize the JSON column of the current row, reading it directly from the column bytes.
+     */
+    protected <T> T fromJson(ResultSet resultSet, String column, Class<T> type) throws SQLException {
+        return jsonCodec.read(resultSet, column, type);
     }
 
     protected <T> CollectionType listOf(Class<T> clazz) {
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes and deserializes the values of the JSON columns.
+ * <p>
+ * The {@link ObjectReader} and {@link ObjectWriter} of every type are created once and reused, so the type does not
+ * need to be resolved again on every call. Values can be read directly from the bytes of the column through
+ * {@link ResultSet#getBinaryStream(String)}, this avoids the copy of the value into an intermediate {@link String}.
+ */
+public class JsonColumnCodec {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonColumnCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * Serialize the value, a {@link String} is considered already serialized.
+     *
+     * @param value the value.
+     * @return the JSON, null if the value is null.
+     */
+    public @Nullable String write(@Nullable Object value) {
+        return write(value, writer);
+    }
+
+    /**
+     * Serialize the value as the given type, a {@link String} is considered already serialized.
+     *
+     * @param value the value.
+     * @param type  the type.
+     * @return the JSON, null if the value is null.
+     */
+    public @Nullable String write(@Nullable Object value, Type type) {
+        return write(value, writers.computeIfAbsent(type, t -> objectMapper.writerFor(objectMapper.constructType(t))));
+    }
+
+    /**
+     * Deserialize the JSON.
+     *
+     * @param json the JSON.
+     * @param type the type.
+     * @return the value, null if the JSON is null.
+     */
+    public <T> @Nullable T read(@Nullable String json, Type type) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return reader(type).readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    /**
+     * Deserialize the JSON stored in the column, straight from its bytes.
+     *
+     * @param resultSet the result set.
+     * @param column    the column name.
+     * @param type      the type.
+     * @return the value, null if the column is null.
+     */
+    public <T> @Nullable T read(ResultSet resultSet, String column, Type type) throws SQLException {
+        try (var stream = resultSet.getBinaryStream(column)) {
+            if (stream == null) {
+                return null;
+            }
+            return reader(type).readValue(stream);
+        } catch (IOException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type, t -> objectMapper.readerFor(objectMapper.constructType(t)));
+    }
+
+    private @Nullable String write(@Nullable Object value, ObjectWriter writer) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value instanceof String string ? string : writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+}
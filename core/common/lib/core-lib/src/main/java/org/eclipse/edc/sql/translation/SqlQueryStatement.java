@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -28,6 +29,11 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the {@link QuerySpec} carries a {@link ContinuationToken}, the statement uses keyset pagination: instead of
+ * skipping the preceding rows with {@code OFFSET}, it only selects the rows that come after the token position, e.g.
+ * {@code WHERE (sort_column, id_column) > (?, ?)}, so the cost of a page does not depend on its depth. Null sort values
+ * come last in ascending order and first in descending order, as in the {@code ORDER BY} clause.
  */
 public class SqlQueryStatement {
 
@@ -35,14 +41,18 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ORDER_BY_WITH_TIEBREAKER_TOKEN = "ORDER BY %s %s, %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
     private final List<Object> parameters = new ArrayList<>();
     private final int limit;
-    private final int offset;
+    private int offset;
     private CriterionToWhereClauseConverter criterionToWhereConditionConverter;
     private SortFieldConverter sortFieldConverter;
+    private TranslationMapping rootModel;
+    private String groupByClause = "";
     private String orderByClause = "";
     private String forUpdate = "";
 
@@ -72,6 +82,7 @@ public class SqlQueryStatement {
         this(selectStatement, query.getLimit(), query.getOffset());
         this.criterionToWhereConditionConverter = criterionToWhereClauseConverter;
         this.sortFieldConverter = new SortFieldConverterImpl(rootModel);
+        this.rootModel = rootModel;
         initialize(query);
     }
 
@@ -98,6 +109,7 @@ public class SqlQueryStatement {
 
         return selectStatement + " " +
                 whereClause +
+                groupByClause +
                 orderByClause +
                 LIMIT +
                 OFFSET +
@@ -130,6 +142,18 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Groups the selected rows by the given column, to be used with an aggregate {@code SELECT} clause, e.g.
+     * {@code SELECT column, COUNT(*) FROM your_table}.
+     *
+     * @param column the SQL column.
+     * @return self.
+     */
+    public SqlQueryStatement groupBy(String column) {
+        this.groupByClause = "GROUP BY %s ".formatted(column);
+        return this;
+    }
+
     public SqlQueryStatement forUpdate(boolean skipLocked) {
         this.forUpdate = skipLocked ? " FOR UPDATE SKIP LOCKED" : " FOR UPDATE";
         return this;
@@ -148,6 +172,10 @@ public class SqlQueryStatement {
                 });
 
         orderByClause = parseSortField(query);
+
+        if (query.getContinuationToken() != null) {
+            applyContinuationToken(query, ContinuationToken.decode(query.getContinuationToken()));
+        }
     }
 
     private String parseSortField(QuerySpec query) {
@@ -159,8 +187,62 @@ public class SqlQueryStatement {
             if (sortField == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
             }
+            var idField = sortFieldConverter.convert(ID_FIELD);
+            if (query.isContinuationTokenRequested() && idField != null && !idField.equals(sortField)) {
+                // the id makes the order total, which is required to page through the results with continuation tokens
+                return String.format(ORDER_BY_WITH_TIEBREAKER_TOKEN + " ", sortField, order, idField, order);
+            }
             return String.format(ORDER_BY_TOKEN + " ", sortField, order);
         }
     }
 
+    private void applyContinuationToken(QuerySpec query, ContinuationToken token) {
+        var idField = sortFieldConverter.convert(ID_FIELD);
+        if (idField == null) {
+            throw new IllegalArgumentException("Cannot use a continuation token because the id field does not exist");
+        }
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+        var comparison = ascending ? ">" : "<";
+        var sortField = query.getSortField() == null ? null : sortFieldConverter.convert(query.getSortField());
+
+        if (sortField == null || sortField.equals(idField)) {
+            whereClauses.add(format("%s %s ?", idField, comparison));
+            parameters.add(token.id());
+            if (sortField == null) {
+                orderByClause = String.format(ORDER_BY_TOKEN + " ", idField, ascending ? "ASC" : "DESC");
+            }
+        } else if (token.sortValue() == null) {
+            // a tuple comparison with null is never true, the rows that follow are the remaining nulls and, in descending
+            // order, all the non-null ones
+            if (ascending) {
+                whereClauses.add(format("(%s IS NULL AND %s > ?)", sortField, idField));
+            } else {
+                whereClauses.add(format("(%s IS NOT NULL OR %s < ?)", sortField, idField));
+            }
+            parameters.add(token.id());
+        } else {
+            if (ascending) {
+                whereClauses.add(format("((%s, %s) > (?, ?) OR %s IS NULL)", sortField, idField, sortField));
+            } else {
+                whereClauses.add(format("(%s, %s) < (?, ?)", sortField, idField));
+            }
+            parameters.add(sortParameter(query.getSortField(), token.sortValue()));
+            parameters.add(token.id());
+        }
+        offset = 0;
+    }
+
+    /**
+     * The decoded token value is a JSON number, string or boolean, that has to be compared with the sort expression.
+     * Fields whose translation depends on the operand type, e.g. JSON properties, are sorted by their text value, so the
+     * token value is compared as text as well.
+     */
+    private Object sortParameter(String sortField, Object sortValue) {
+        var translator = rootModel.getFieldTranslator(sortField);
+        if (translator != null && !translator.apply(sortValue.getClass()).equals(translator.apply(String.class))) {
+            return sortValue.toString();
+        }
+        return sortValue;
+    }
+
 }
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded cache whose entries expire after a time-to-live. When the capacity is reached, the least recently used
+ * entry is evicted.
+ * <p>
+ * Values are loaded outside the lock, so a slow loader does not block the other keys. An invalidation that happens
+ * while a value is being loaded prevents that value from being cached, as it could be stale already: loaders are
+ * expected to be idempotent, as concurrent misses on the same key can load it more than once.
+ * <p>
+ * A time-to-live or a capacity lower than 1 disables the cache: every access invokes the loader.
+ * <p>
+ * This cache is thread-safe.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int capacity;
+    private final Map<K, Entry<V>> entries;
+    private long generation;
+
+    public ExpiringLruCache(Clock clock, long ttlMillis, int capacity) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Whether the cache holds values at all.
+     *
+     * @return true if the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return ttlMillis > 0 && capacity > 0;
+    }
+
+    /**
+     * Returns the cached value.
+     *
+     * @param key the key.
+     * @return the value, null if it is not cached or if it is expired.
+     */
+    public @Nullable V getIfPresent(K key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        var now = clock.millis();
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it. A null value is returned but not cached.
+     *
+     * @param key    the key.
+     * @param loader loads the value.
+     * @return the value.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        var cached = getIfPresent(key);
+        return cached != null ? cached : load(key, loader, value -> ttlMillis);
+    }
+
+    /**
+     * Returns the cached value, or loads it. Only the content of a succeeded result gets cached.
+     *
+     * @param key    the key.
+     * @param loader loads the value.
+     * @return the result.
+     */
+    public Result<V> getResult(K key, Function<? super K, Result<V>> loader) {
+        var cached = getIfPresent(key);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+        if (!isEnabled()) {
+            return loader.apply(key);
+        }
+        var loadedAtGeneration = generation();
+        var result = loader.apply(key);
+        if (result.succeeded() && result.getContent() != null) {
+            put(key, result.getContent(), ttlMillis, loadedAtGeneration);
+        }
+        return result;
+    }
+
+    /**
+     * Loads the value and caches it with its own time-to-live, regardless of the cached one. A null value is
+     * returned but not cached.
+     *
+     * @param key       the key.
+     * @param loader    loads the value.
+     * @param ttlMillis the time-to-live of the loaded value.
+     * @return the value.
+     */
+    public V load(K key, Function<? super K, ? extends V> loader, ToLongFunction<? super V> ttlMillis) {
+        if (!isEnabled()) {
+            return loader.apply(key);
+        }
+        var loadedAtGeneration = generation();
+        V value = loader.apply(key);
+        if (value != null) {
+            put(key, value, ttlMillis.applyAsLong(value), loadedAtGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value from the cache.
+     *
+     * @param key the key.
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the values from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached values, including the expired ones that have not been removed yet.
+     *
+     * @return the number of cached values.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private long generation() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    private void put(K key, V value, long ttlMillis, long loadedAtGeneration) {
+        var expiresAt = clock.millis() + ttlMillis;
+        synchronized (entries) {
+            // an invalidation happened while the value was being loaded, it could be stale
+            if (generation == loadedAtGeneration && ttlMillis > 0) {
+                entries.put(key, new Entry<>(value, expiresAt));
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
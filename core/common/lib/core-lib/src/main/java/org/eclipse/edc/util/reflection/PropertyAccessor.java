@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Compiled accessor of an object property path, it supports the same notation as {@link ReflectionUtil#getFieldValue(String, Object)}.
+ * <p>
+ * The path gets parsed once, and the getter of every field gets resolved once per class as a {@link MethodHandle}, so
+ * the access does not need to walk the class hierarchy and to make the field accessible every time. This matters when
+ * the same property is read on a lot of objects, e.g. when filtering or sorting entities in memory.
+ */
+public final class PropertyAccessor {
+
+    private static final int MAX_CACHED_PATHS = 10_000;
+    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
+    private static final Map<String, PropertyAccessor> ACCESSORS = new ConcurrentHashMap<>();
+    // only the getters of existing fields are cached, so names coming from queries can't grow the maps without bound
+    private static final ClassValue<Map<String, MethodHandle>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final List<Segment> segments;
+
+    private PropertyAccessor(String path) {
+        segments = PathItem.parse(path).stream().map(PathItem::toString).map(Segment::parse).toList();
+    }
+
+    /**
+     * Returns the accessor for the property path.
+     *
+     * @param path the property path.
+     * @return the accessor.
+     */
+    public static PropertyAccessor of(String path) {
+        Objects.requireNonNull(path, "propertyName");
+
+        var accessor = ACCESSORS.get(path);
+        if (accessor != null) {
+            return accessor;
+        }
+        // paths come from queries, so the cache needs to be bounded
+        if (ACCESSORS.size() >= MAX_CACHED_PATHS) {
+            return new PropertyAccessor(path);
+        }
+        return ACCESSORS.computeIfAbsent(path, PropertyAccessor::new);
+    }
+
+    /**
+     * Get the property value from the object.
+     *
+     * @param object the object.
+     * @return the property value, null if an object on the path is null.
+     * @throws ReflectionException if a field on the path does not exist or is not accessible
+     */
+    public <T> T get(Object object) {
+        return (T) value(object, false);
+    }
+
+    /**
+     * Get the property value from the object, without failing when a field on the path does not exist.
+     *
+     * @param object the object.
+     * @return the property value, null if a field on the path does not exist or an object on the path is null.
+     * @throws ReflectionException if a field on the path is not accessible
+     */
+    @Nullable
+    public Object getIfPresent(Object object) {
+        return value(object, true);
+    }
+
+    private Object value(Object object, boolean lenient) {
+        Objects.requireNonNull(object, "object");
+
+        var current = object;
+        for (var segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            current = segment.get(current, lenient);
+        }
+        return current;
+    }
+
+    private static Object fieldValue(Object object, String name, boolean lenient) {
+        var getter = getter(object.getClass(), name);
+        if (getter == null) {
+            if (lenient) {
+                return null;
+            }
+            throw new ReflectionException(name);
+        }
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static @Nullable MethodHandle getter(Class<?> type, String name) {
+        var getters = GETTERS.get(type);
+        var getter = getters.get(name);
+        if (getter == null) {
+            getter = resolveGetter(type, name);
+            if (getter != null) {
+                getters.putIfAbsent(name, getter);
+            }
+        }
+        return getter;
+    }
+
+    private static @Nullable MethodHandle resolveGetter(Class<?> type, String name) {
+        var field = ReflectionUtil.getFieldRecursive(type, name);
+        if (field == null) {
+            return null;
+        }
+        field.setAccessible(true);
+        try {
+            var handle = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    /**
+     * A path segment, with the optional array index.
+     *
+     * @param name  the property name.
+     * @param index the array index, -1 if the segment has no indexer.
+     */
+    private record Segment(String name, int index) {
+
+        static Segment parse(String segment) {
+            if (segment.matches(ARRAY_INDEXER_REGEX)) {
+                var openingBracketIx = segment.indexOf('[');
+                var closingBracketIx = segment.indexOf(']');
+                return new Segment(segment.substring(0, openingBracketIx), Integer.parseInt(segment.substring(openingBracketIx + 1, closingBracketIx)));
+            }
+            return new Segment(segment, -1);
+        }
+
+        Object get(Object object, boolean lenient) {
+            var value = property(object, lenient);
+            if (index < 0) {
+                return value;
+            }
+            if (value == null && lenient) {
+                return null;
+            }
+            return ((List<?>) value).get(index);
+        }
+
+        private Object property(Object object, boolean lenient) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> fieldValue(it, name, lenient)).toList();
+            } else {
+                return fieldValue(object, name, lenient);
+            }
+        }
+    }
+}
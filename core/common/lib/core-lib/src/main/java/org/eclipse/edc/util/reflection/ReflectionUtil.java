@@ -21,15 +21,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 public class ReflectionUtil {
 
-    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
-    private static final String OPENING_BRACKET = "[";
-    private static final String CLOSING_BRACKET = "]";
-
     /**
      * Utility function to get value of a field from an object. For field names currently the dot notation and array
      * indexers are supported:
@@ -42,41 +37,13 @@ public class ReflectionUtil {
      * @param propertyName The name of the field
      * @return The field's value.
      * @throws ReflectionException if the field does not exist or is not accessible
+     * @see PropertyAccessor
      */
     public static <T> T getFieldValue(String propertyName, Object object) {
         Objects.requireNonNull(propertyName, "propertyName");
         Objects.requireNonNull(object, "object");
 
-        var path = PathItem.parse(propertyName);
-        return getFieldValue(path, object);
-    }
-
-    private static <T> T getFieldValue(List<PathItem> path, Object object) {
-        var first = path.get(0);
-
-        if (path.size() > 1) {
-            var nested = getFieldValue(List.of(first), object);
-            if (nested == null) {
-                return null;
-            }
-            var rest = path.stream().skip(1).toList();
-            return getFieldValue(rest, nested);
-        } else if (first.toString().matches(ARRAY_INDEXER_REGEX)) { //array indexer
-            var openingBracketIx = first.toString().indexOf(OPENING_BRACKET);
-            var closingBracketIx = first.toString().indexOf(CLOSING_BRACKET);
-            var propName = first.toString().substring(0, openingBracketIx);
-            var arrayIndex = Integer.parseInt(first.toString().substring(openingBracketIx + 1, closingBracketIx));
-            var iterableObject = (List) getFieldValue("'%s'".formatted(propName), object);
-            return (T) iterableObject.get(arrayIndex);
-        } else {
-            if (object instanceof Map<?, ?> map) {
-                return (T) map.get(first.toString());
-            } else if (object instanceof List<?> list) {
-                return (T) list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(first.toString(), it)).toList();
-            } else {
-                return getRecursiveValue(first.toString(), object);
-            }
-        }
+        return PropertyAccessor.of(propertyName).get(object);
     }
 
     /**
@@ -108,19 +75,6 @@ public class ReflectionUtil {
         return result;
     }
 
-    private static <T> T getRecursiveValue(String propertyName, Object object) {
-        var field = getFieldRecursive(object.getClass(), propertyName);
-        if (field == null) {
-            throw new ReflectionException(propertyName);
-        }
-        field.setAccessible(true);
-        try {
-            return (T) field.get(object);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionException(e);
-        }
-    }
-
     /**
      * Get the first type argument for the given target from the given clazz.
      * It goes through the hierarchy starting from class and looking for target
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.edc.api.bulk.BulkRequest;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.validation.SchemaType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+
+/**
+ * Reads a {@link BulkRequest} from either a JSON array or a stream of newline-delimited JSON objects.
+ * <p>
+ * Every item is validated against the {@link SchemaType} and expanded on its own as soon as it is read, so the raw
+ * items are not kept in memory: a failure does not reject the whole request but it is reported on the item. Requests
+ * with more items than the configured maximum are rejected.
+ */
+@Provider
+@Consumes({ MediaType.APPLICATION_JSON, BulkRequestMessageBodyReader.APPLICATION_NDJSON })
+public class BulkRequestMessageBodyReader implements MessageBodyReader<BulkRequest> {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final int DEFAULT_MAX_ITEMS = 1000;
+
+    private final JsonLd jsonLd;
+    private final TypeManager typeManager;
+    private final String typeContext;
+    private final JsonObjectValidatorRegistry validatorRegistry;
+    private final int maxItems;
+
+    public BulkRequestMessageBodyReader(JsonLd jsonLd, TypeManager typeManager, String typeContext, JsonObjectValidatorRegistry validatorRegistry) {
+        this(jsonLd, typeManager, typeContext, validatorRegistry, DEFAULT_MAX_ITEMS);
+    }
+
+    public BulkRequestMessageBodyReader(JsonLd jsonLd, TypeManager typeManager, String typeContext, JsonObjectValidatorRegistry validatorRegistry,
+                                        int maxItems) {
+        this.jsonLd = jsonLd;
+        this.typeManager = typeManager;
+        this.typeContext = typeContext;
+        this.validatorRegistry = validatorRegistry;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return BulkRequest.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public BulkRequest readFrom(Class<BulkRequest> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                                MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        var schemaType = Arrays.stream(annotations)
+                .filter(a -> a.annotationType().equals(SchemaType.class))
+                .map(a -> (SchemaType) a)
+                .findFirst()
+                .orElse(null);
+
+        var items = new ArrayList<Result<JsonObject>>();
+        try (var iterator = typeManager.getMapper(typeContext).readerFor(JsonObject.class).<JsonObject>readValues(entityStream)) {
+            while (iterator.hasNextValue()) {
+                if (items.size() == maxItems) {
+                    throw new InvalidRequestException("Bulk request exceeds the maximum of %d items".formatted(maxItems));
+                }
+                items.add(expand(iterator.nextValue(), schemaType));
+            }
+        } catch (IOException e) {
+            throw new InvalidRequestException("Failed to read bulk request: " + e.getMessage());
+        }
+
+        return new BulkRequest(items);
+    }
+
+    private Result<JsonObject> expand(JsonObject jsonObject, @Nullable SchemaType schemaType) {
+        var validation = validate(jsonObject, schemaType);
+        if (validation.failed()) {
+            return validation;
+        }
+        return jsonLd.expand(jsonObject);
+    }
+
+    private Result<JsonObject> validate(JsonObject jsonObject, @Nullable SchemaType schemaType) {
+        if (schemaType == null) {
+            return Result.success(jsonObject);
+        }
+        var objectType = jsonObject.getString(TYPE, null);
+        if (objectType == null) {
+            return Result.failure("JsonObject is missing required property: " + TYPE);
+        }
+        if (!Arrays.asList(schemaType.value()).contains(objectType)) {
+            return Result.failure("JsonObject type '" + objectType + "' does not match expected types: " + Arrays.toString(schemaType.value()));
+        }
+        var validation = validatorRegistry.validate(schemaType.version() + ":" + objectType, jsonObject);
+        return validation.succeeded() ? Result.success(jsonObject) : Result.failure(validation.getFailureMessages());
+    }
+}
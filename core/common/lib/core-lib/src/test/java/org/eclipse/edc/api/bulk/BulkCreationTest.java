@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.bulk;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.api.bulk.BulkCreation.BULK_ITEM_RESULT_ERROR;
+import static org.eclipse.edc.api.bulk.BulkCreation.BULK_ITEM_RESULT_STATUS;
+import static org.eclipse.edc.api.bulk.BulkCreation.STATUS_CREATED;
+import static org.eclipse.edc.api.bulk.BulkCreation.STATUS_FAILED;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+
+class BulkCreationTest {
+
+    private final List<List<String>> chunks = new ArrayList<>();
+
+    @Test
+    void shouldCreateItems_andReportResultsInRequestOrder() {
+        var request = new BulkRequest(List.of(item("one"), Result.failure("cannot expand"), item("two")));
+
+        var result = bulkCreation(10).create(request);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.getJsonObject(0).getString(ID)).isEqualTo("one");
+        assertThat(result.getJsonObject(0).getString(BULK_ITEM_RESULT_STATUS)).isEqualTo(STATUS_CREATED);
+        assertThat(result.getJsonObject(1).getString(BULK_ITEM_RESULT_STATUS)).isEqualTo(STATUS_FAILED);
+        assertThat(result.getJsonObject(1).getString(BULK_ITEM_RESULT_ERROR)).contains("cannot expand");
+        assertThat(result.getJsonObject(2).getString(ID)).isEqualTo("two");
+        assertThat(chunks).containsExactly(List.of("one", "two"));
+    }
+
+    @Test
+    void shouldReportFailure_whenTransformationFails() {
+        var request = new BulkRequest(List.of(item("invalid")));
+
+        var result = bulkCreation(10).create(request);
+
+        assertThat(result.getJsonObject(0).getString(ID)).isEqualTo("invalid");
+        assertThat(result.getJsonObject(0).getString(BULK_ITEM_RESULT_STATUS)).isEqualTo(STATUS_FAILED);
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void shouldReportFailure_whenCreationFails() {
+        var request = new BulkRequest(List.of(item("existing")));
+
+        var result = bulkCreation(10).create(request);
+
+        assertThat(result.getJsonObject(0).getString(BULK_ITEM_RESULT_STATUS)).isEqualTo(STATUS_FAILED);
+        assertThat(result.getJsonObject(0).getString(BULK_ITEM_RESULT_ERROR)).contains("already exists");
+    }
+
+    @Test
+    void shouldSplitItemsInChunks() {
+        var items = IntStream.range(0, 5).mapToObj(i -> item("id" + i)).toList();
+
+        var result = bulkCreation(2).create(new BulkRequest(items));
+
+        assertThat(result).hasSize(5);
+        assertThat(chunks).containsExactly(List.of("id0", "id1"), List.of("id2", "id3"), List.of("id4"));
+    }
+
+    private BulkCreation<String> bulkCreation(int chunkSize) {
+        return new BulkCreation<>(this::transform, this::createAll, id -> id, chunkSize);
+    }
+
+    private Result<String> transform(JsonObject jsonObject) {
+        var id = jsonObject.getString(ID);
+        return "invalid".equals(id) ? Result.failure("invalid item") : Result.success(id);
+    }
+
+    private List<ServiceResult<String>> createAll(List<String> ids) {
+        chunks.add(ids);
+        return ids.stream()
+                .map(id -> "existing".equals(id) ? ServiceResult.<String>conflict("already exists") : ServiceResult.success(id))
+                .toList();
+    }
+
+    private Result<JsonObject> item(String id) {
+        return Result.success(Json.createObjectBuilder().add(ID, id).build());
+    }
+}
@@ -19,18 +19,21 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPrivateKey;
+import java.time.Clock;
 
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -109,6 +112,71 @@ class VaultPrivateKeyResolverTest {
         verify(vault, atLeastOnce()).resolveSecret(eq(participantContextId), eq(TEST_SECRET_ALIAS));
     }
 
+    @Nested
+    class Cache {
+
+        private final Clock clock = mock();
+        private VaultPrivateKeyResolver cachingResolver;
+
+        @BeforeEach
+        void setUp() {
+            cachingResolver = new VaultPrivateKeyResolver(registry, vault, mock(), config, clock, 1000, 2);
+            when(clock.millis()).thenReturn(0L);
+            when(vault.resolveSecret(any(), any())).thenReturn(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER);
+            when(registry.parse(any())).thenReturn(Result.success(createKey()));
+        }
+
+        @Test
+        void shouldNotResolveAgain_whenKeyIsCached() {
+            var first = cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS);
+            var second = cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS);
+
+            assertThat(second).isSucceeded().isSameAs(first.getContent());
+            verify(vault, times(1)).resolveSecret(participantContextId, TEST_SECRET_ALIAS);
+            verify(registry, times(1)).parse(any());
+        }
+
+        @Test
+        void shouldResolveAgain_whenKeyIsExpired() {
+            cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS);
+            when(clock.millis()).thenReturn(1000L);
+            cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS);
+
+            verify(vault, times(2)).resolveSecret(participantContextId, TEST_SECRET_ALIAS);
+        }
+
+        @Test
+        void shouldKeyByParticipantContext() {
+            cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS);
+            cachingResolver.resolvePrivateKey("another-participant", TEST_SECRET_ALIAS);
+
+            verify(vault).resolveSecret(participantContextId, TEST_SECRET_ALIAS);
+            verify(vault).resolveSecret("another-participant", TEST_SECRET_ALIAS);
+        }
+
+        @Test
+        void shouldNotCacheFailures() {
+            when(registry.parse(any())).thenReturn(Result.failure("foo"), Result.success(createKey()));
+
+            assertThat(cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS)).isFailed();
+            assertThat(cachingResolver.resolvePrivateKey(participantContextId, TEST_SECRET_ALIAS)).isSucceeded();
+        }
+
+        @Test
+        void shouldEvictLeastRecentlyUsed_whenMaxEntriesReached() {
+            cachingResolver.resolvePrivateKey(participantContextId, "key-1");
+            cachingResolver.resolvePrivateKey(participantContextId, "key-2");
+            cachingResolver.resolvePrivateKey(participantContextId, "key-1");
+            cachingResolver.resolvePrivateKey(participantContextId, "key-3");
+
+            cachingResolver.resolvePrivateKey(participantContextId, "key-1");
+            cachingResolver.resolvePrivateKey(participantContextId, "key-2");
+
+            verify(vault, times(1)).resolveSecret(participantContextId, "key-1");
+            verify(vault, times(2)).resolveSecret(participantContextId, "key-2");
+        }
+    }
+
     private PrivateKey createKey() {
         try {
             var pk = KeyPairGenerator.getInstance("RSA");
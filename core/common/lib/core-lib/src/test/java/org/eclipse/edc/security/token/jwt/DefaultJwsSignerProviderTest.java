@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.crypto.RSASSASigner;
+import org.eclipse.edc.keys.spi.PrivateKeyResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.time.Clock;
+
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultJwsSignerProviderTest {
+
+    private final PrivateKeyResolver privateKeyResolver = mock();
+    private final Clock clock = mock();
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        when(clock.millis()).thenReturn(0L);
+        when(privateKeyResolver.resolvePrivateKey("participant", "key")).thenReturn(Result.success(createKey()));
+    }
+
+    @Test
+    void shouldCreateSigner_whenCacheDisabled() {
+        var provider = new DefaultJwsSignerProvider(privateKeyResolver);
+
+        assertThat(provider.createJwsSigner("participant", "key")).isSucceeded().isInstanceOf(RSASSASigner.class);
+        assertThat(provider.createJwsSigner("participant", "key")).isSucceeded();
+
+        verify(privateKeyResolver, times(2)).resolvePrivateKey("participant", "key");
+    }
+
+    @Test
+    void shouldReuseSigner_whenCached() {
+        var provider = new DefaultJwsSignerProvider(privateKeyResolver, clock, 1000, 10);
+
+        var first = provider.createJwsSigner("participant", "key");
+        var second = provider.createJwsSigner("participant", "key");
+
+        assertThat(second).isSucceeded().isSameAs(first.getContent());
+        verify(privateKeyResolver, times(1)).resolvePrivateKey("participant", "key");
+    }
+
+    @Test
+    void shouldCreateSignerAgain_whenExpired() {
+        var provider = new DefaultJwsSignerProvider(privateKeyResolver, clock, 1000, 10);
+
+        provider.createJwsSigner("participant", "key");
+        when(clock.millis()).thenReturn(1000L);
+        provider.createJwsSigner("participant", "key");
+
+        verify(privateKeyResolver, times(2)).resolvePrivateKey("participant", "key");
+    }
+
+    private PrivateKey createKey() throws NoSuchAlgorithmException {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair().getPrivate();
+    }
+}
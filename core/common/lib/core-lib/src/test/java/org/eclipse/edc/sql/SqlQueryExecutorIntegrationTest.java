@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -100,6 +101,18 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var sql = format("INSERT INTO %s (k, v) VALUES (?, ?)", table);
+        var arguments = List.of(new Object[]{ "key1", "value1" }, new Object[]{ "key2", "value2" });
+
+        var result = executor.executeBatch(connection, sql, arguments);
+
+        assertThat(result).containsExactly(1, 1);
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(2);
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
@@ -53,6 +53,17 @@ class SqlExecuteStatementTest {
 
             assertThat(statement).isEqualToIgnoringCase("insert into table_name (column_name) values (?::json);");
         }
+
+        @Test
+        void shouldReturnMultiRowStatement_whenIgnoreConflictReturningId() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .jsonColumn("column_name")
+                    .insertIntoIgnoreConflictReturningId("table_name", "id", 2);
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name) values (?, ?::json), (?, ?::json) " +
+                    "on conflict (id) do nothing returning id;");
+        }
     }
 
     @Nested
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonColumnCodecTest {
+
+    private final JsonColumnCodec codec = new JsonColumnCodec(new ObjectMapper());
+
+    @Test
+    void write_shouldReturnNull_whenValueIsNull() {
+        assertThat(codec.write(null)).isNull();
+    }
+
+    @Test
+    void write_shouldNotSerializeStrings() {
+        assertThat(codec.write("{\"key\":\"value\"}")).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void writeAndRead_shouldRoundTrip() {
+        var type = new TypeReference<List<Map<String, String>>>() {
+        }.getType();
+        var value = List.of(Map.of("key", "value"));
+
+        var json = codec.write(value, type);
+
+        assertThat(codec.<List<Map<String, String>>>read(json, type)).isEqualTo(value);
+    }
+
+    @Test
+    void read_shouldReadFromColumnBytes() throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getBinaryStream("column")).thenReturn(new ByteArrayInputStream("{\"key\":\"välue\"}".getBytes(UTF_8)));
+
+        Map<String, String> value = codec.read(resultSet, "column", Map.class);
+
+        assertThat(value).containsEntry("key", "välue");
+    }
+
+    @Test
+    void read_shouldReturnNull_whenColumnIsNull() throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getBinaryStream("column")).thenReturn(null);
+
+        assertThat(codec.<Map<String, String>>read(resultSet, "column", Map.class)).isNull();
+    }
+
+    @Test
+    void read_shouldThrowPersistenceException_whenJsonIsInvalid() throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getBinaryStream("column")).thenReturn(new ByteArrayInputStream("{invalid".getBytes(UTF_8)));
+
+        assertThatThrownBy(() -> codec.read(resultSet, "column", Map.class)).isInstanceOf(EdcPersistenceException.class);
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -114,6 +115,17 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void groupBy() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        when(criterionToWhereClauseConverter.convert(any())).thenReturn(new WhereClause("edc_field_1 = ?", "testid1"));
+        var t = new SqlQueryStatement("SELECT edc_field_2, COUNT(*) FROM test-table", query(criterion), new TestMapping(), criterionToWhereClauseConverter)
+                .groupBy("edc_field_2");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase("SELECT edc_field_2, COUNT(*) FROM test-table WHERE edc_field_1 = ? GROUP BY edc_field_2 LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", 50, 0);
+    }
+
     @Test
     void forUpdate() {
         var criterion = new Criterion("field1", "=", "testid1");
@@ -136,6 +148,112 @@ class SqlQueryStatementTest {
         assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description ASC LIMIT ? OFFSET ? FOR UPDATE SKIP LOCKED;");
     }
 
+    @Test
+    void orderBy_shouldAddIdAsTiebreaker_whenContinuationTokenIsRequested() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).continuationTokenRequested(true).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void orderBy_shouldNotAddIdAsTiebreaker_whenContinuationTokenIsNotRequested() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_shouldCompareSortFieldAndId() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        when(criterionToWhereClauseConverter.convert(any())).thenReturn(new WhereClause("edc_field_1 = ?", "testid1"));
+        var query = queryBuilder(criterion).sortField("description").sortOrder(SortOrder.ASC)
+                .continuationToken(new ContinuationToken("last-description", "last-id").encode())
+                .build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND ((edc_description, edc_id) > (?, ?) OR edc_description IS NULL) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "last-description", "last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldCompareId_whenNotSorted() {
+        var query = queryBuilder().sortOrder(SortOrder.DESC)
+                .continuationToken(new ContinuationToken(null, "last-id").encode())
+                .build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id < ? ORDER BY edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldCompareDescending() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC)
+                .continuationToken(new ContinuationToken("last-description", "last-id").encode())
+                .build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) < (?, ?) ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-description", "last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldSelectRemainingNulls_whenSortValueIsNullAndAscending() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.ASC)
+                .continuationToken(new ContinuationToken(null, "last-id").encode())
+                .build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description IS NULL AND edc_id > ?) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldSelectNonNulls_whenSortValueIsNullAndDescending() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC)
+                .continuationToken(new ContinuationToken(null, "last-id").encode())
+                .build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithId(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description IS NOT NULL OR edc_id < ?) ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldCompareJsonPropertyAsText() {
+        var query = queryBuilder().sortField("json.score").sortOrder(SortOrder.ASC)
+                .continuationToken(new ContinuationToken(3, "last-id").encode())
+                .build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMappingWithJson(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).contains("((edc_json ->> 'score', edc_id) > (?, ?) OR edc_json ->> 'score' IS NULL)");
+        assertThat(t.getParameters()).containsExactly("3", "last-id", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldThrow_whenIdIsNotMapped() {
+        var query = queryBuilder().sortField("description")
+                .continuationToken(new ContinuationToken("last-description", "last-id").encode())
+                .build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -143,4 +261,16 @@ class SqlQueryStatementTest {
     private QuerySpec query(Criterion... criterion) {
         return queryBuilder(criterion).build();
     }
+
+    private static class TestMappingWithId extends TestMapping {
+        TestMappingWithId() {
+            add("id", "edc_id");
+        }
+    }
+
+    private static class TestMappingWithJson extends TestMappingWithId {
+        TestMappingWithJson() {
+            add("json", new JsonFieldTranslator("edc_json"));
+        }
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpiringLruCacheTest {
+
+    private final Clock clock = mock();
+    private final Function<String, String> loader = mock();
+    private final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(clock, 1000, 2);
+
+    @Test
+    void get_shouldLoadOnce_whenNotExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, 999L);
+        when(loader.apply(any())).thenReturn("value");
+
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+
+        verify(loader, times(1)).apply("key");
+    }
+
+    @Test
+    void get_shouldLoadAgain_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, 1000L);
+        when(loader.apply(any())).thenReturn("value");
+
+        cache.get("key", loader);
+        cache.get("key", loader);
+
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldNotCacheNull() {
+        cache.get("key", loader);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsed_whenCapacityIsReached() {
+        cache.get("first", k -> "1");
+        cache.get("second", k -> "2");
+        cache.getIfPresent("first");
+
+        cache.get("third", k -> "3");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent("first")).isEqualTo("1");
+        assertThat(cache.getIfPresent("second")).isNull();
+        assertThat(cache.getIfPresent("third")).isEqualTo("3");
+    }
+
+    @Test
+    void get_shouldNotCache_whenInvalidatedDuringLoad() {
+        cache.get("key", k -> {
+            cache.invalidate("other");
+            return "stale";
+        });
+
+        assertThat(cache.getIfPresent("key")).isNull();
+    }
+
+    @Test
+    void get_shouldAlwaysLoad_whenDisabled() {
+        var disabled = new ExpiringLruCache<String, String>(clock, 0, 10);
+        when(loader.apply(any())).thenReturn("value");
+
+        disabled.get("key", loader);
+        disabled.get("key", loader);
+
+        verify(loader, times(2)).apply("key");
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    void getResult_shouldCacheOnlySucceededResults() {
+        assertThat(cache.getResult("key", k -> Result.failure("error")).failed()).isTrue();
+        assertThat(cache.getIfPresent("key")).isNull();
+
+        assertThat(cache.getResult("key", k -> Result.success("value")).getContent()).isEqualTo("value");
+        assertThat(cache.getResult("key", k -> Result.failure("error")).getContent()).isEqualTo("value");
+    }
+
+    @Test
+    void load_shouldUseTheTimeToLiveOfTheValue() {
+        when(clock.millis()).thenReturn(0L, 1500L);
+
+        cache.load("key", k -> "value", value -> 2000);
+
+        assertThat(cache.getIfPresent("key")).isEqualTo("value");
+    }
+
+    @Test
+    void invalidateAll() {
+        cache.get("first", k -> "1");
+        cache.get("second", k -> "2");
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyAccessorTest {
+
+    @Test
+    void of_shouldReturnCachedAccessor() {
+        assertThat(PropertyAccessor.of("nestedObjects[0].description")).isSameAs(PropertyAccessor.of("nestedObjects[0].description"));
+    }
+
+    @Nested
+    class Get {
+
+        @Test
+        void shouldGetFieldValue() {
+            var accessor = PropertyAccessor.of("priority");
+
+            assertThat((Integer) accessor.get(new TestObject("test-desc", 1))).isEqualTo(1);
+            assertThat((Integer) accessor.get(new TestObject("test-desc", 2))).isEqualTo(2);
+        }
+
+        @Test
+        void shouldGetFieldValue_whenObjectsHaveDifferentClasses() {
+            var accessor = PropertyAccessor.of("description");
+
+            assertThat((String) accessor.get(new TestObject("test-desc", 1))).isEqualTo("test-desc");
+            assertThat((String) accessor.get(new TestObjectSubSubclass("test-desc", 1, "foobar"))).isEqualTo("test-desc");
+        }
+
+        @Test
+        void shouldGetNestedValue() {
+            var object = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+            assertThat((Integer) PropertyAccessor.of("nestedObjects[1].priority").get(object)).isEqualTo(69);
+            assertThat((List<?>) PropertyAccessor.of("nestedObjects.description").get(object)).containsExactly("to1", "to2");
+        }
+
+        @Test
+        void shouldGetMapValue() {
+            var object = Map.of("http://namespace.domain/property", List.of(Map.of("@value", "value")));
+
+            assertThat((String) PropertyAccessor.of("'http://namespace.domain/property'[0].@value").get(object)).isEqualTo("value");
+        }
+
+        @Test
+        void shouldReturnNull_whenParentIsNull() {
+            var object = new TestObjectSubSubclass("test-desc", 1, "foobar");
+
+            assertThat((Object) PropertyAccessor.of("anotherObject.anotherDescription").get(object)).isNull();
+        }
+
+        @Test
+        void shouldThrow_whenFieldDoesNotExist() {
+            assertThatThrownBy(() -> PropertyAccessor.of("notExist").get(new TestObject("test-desc", 1)))
+                    .isInstanceOf(ReflectionException.class);
+        }
+    }
+
+    @Nested
+    class GetIfPresent {
+
+        @Test
+        void shouldGetFieldValue() {
+            assertThat(PropertyAccessor.of("description").getIfPresent(new TestObject("test-desc", 1))).isEqualTo("test-desc");
+        }
+
+        @Test
+        void shouldReturnNull_whenFieldDoesNotExist() {
+            assertThat(PropertyAccessor.of("notExist").getIfPresent(new TestObject("test-desc", 1))).isNull();
+            assertThat(PropertyAccessor.of("notExist[0]").getIfPresent(new TestObject("test-desc", 1))).isNull();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.api.bulk.BulkRequest;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.validation.SchemaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkRequestMessageBodyReaderTest {
+
+    private static final String EXPECTED_TYPE = "TestType";
+    private static final String SCHEMA_VERSION = "v1";
+    private static final String TYPE_CONTEXT = "test";
+    private static final MediaType NDJSON = MediaType.valueOf(BulkRequestMessageBodyReader.APPLICATION_NDJSON);
+
+    private final JsonLd jsonLd = mock();
+    private final TypeManager typeManager = mock();
+    private final JsonObjectValidatorRegistry validatorRegistry = mock();
+    private final ObjectMapper objectMapper = JacksonJsonLd.createObjectMapper();
+
+    private BulkRequestMessageBodyReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new BulkRequestMessageBodyReader(jsonLd, typeManager, TYPE_CONTEXT, validatorRegistry);
+        when(typeManager.getMapper(TYPE_CONTEXT)).thenReturn(objectMapper);
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(jsonLd.expand(any())).thenAnswer(i -> Result.success(i.getArgument(0)));
+    }
+
+    @Test
+    void isReadable_shouldReturnTrue_forBulkRequestType() {
+        assertThat(reader.isReadable(BulkRequest.class, BulkRequest.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE)).isTrue();
+        assertThat(reader.isReadable(JsonObject.class, JsonObject.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE)).isFalse();
+    }
+
+    @Test
+    void readFrom_shouldFail_whenItemsExceedMaximum() {
+        var reader = new BulkRequestMessageBodyReader(jsonLd, typeManager, TYPE_CONTEXT, validatorRegistry, 1);
+        var body = "[{\"@type\":\"TestType\",\"@id\":\"one\"},{\"@type\":\"TestType\",\"@id\":\"two\"}]";
+
+        assertThatThrownBy(() -> reader.readFrom(BulkRequest.class, BulkRequest.class, schemaTypeAnnotation(), MediaType.APPLICATION_JSON_TYPE, null, toStream(body)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void readFrom_shouldReadJsonArray() throws IOException {
+        var body = "[{\"@type\":\"TestType\",\"@id\":\"one\"},{\"@type\":\"TestType\",\"@id\":\"two\"}]";
+
+        var result = reader.readFrom(BulkRequest.class, BulkRequest.class, schemaTypeAnnotation(), MediaType.APPLICATION_JSON_TYPE, null, toStream(body));
+
+        assertThat(result.items()).hasSize(2).allMatch(Result::succeeded);
+        assertThat(result.items()).extracting(it -> it.getContent().getString("@id")).containsExactly("one", "two");
+    }
+
+    @Test
+    void readFrom_shouldReadNdjson() throws IOException {
+        var body = "{\"@type\":\"TestType\",\"@id\":\"one\"}\n{\"@type\":\"TestType\",\"@id\":\"two\"}\n";
+
+        var result = reader.readFrom(BulkRequest.class, BulkRequest.class, schemaTypeAnnotation(), NDJSON, null, toStream(body));
+
+        assertThat(result.items()).extracting(it -> it.getContent().getString("@id")).containsExactly("one", "two");
+    }
+
+    @Test
+    void readFrom_shouldReportFailureOnItem_whenValidationFails() throws IOException {
+        when(validatorRegistry.validate(eq(SCHEMA_VERSION + ":" + EXPECTED_TYPE), argThat(it -> it.getString("@id").equals("invalid"))))
+                .thenReturn(ValidationResult.failure(violation("invalid", "field")));
+        var body = "[{\"@type\":\"TestType\",\"@id\":\"invalid\"},{\"@type\":\"TestType\",\"@id\":\"valid\"},{\"@id\":\"untyped\"}]";
+
+        var result = reader.readFrom(BulkRequest.class, BulkRequest.class, schemaTypeAnnotation(), MediaType.APPLICATION_JSON_TYPE, null, toStream(body));
+
+        assertThat(result.items()).hasSize(3);
+        assertThat(result.items().get(0).failed()).isTrue();
+        assertThat(result.items().get(1).succeeded()).isTrue();
+        assertThat(result.items().get(2).getFailureDetail()).contains("@type");
+    }
+
+    @Test
+    void readFrom_shouldReportFailureOnItem_whenExpansionFails() throws IOException {
+        when(jsonLd.expand(any())).thenReturn(Result.failure("expansion error"));
+
+        var result = reader.readFrom(BulkRequest.class, BulkRequest.class, schemaTypeAnnotation(), MediaType.APPLICATION_JSON_TYPE, null,
+                toStream("[{\"@type\":\"TestType\"}]"));
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().get(0).getFailureDetail()).contains("expansion error");
+    }
+
+    @Test
+    void readFrom_shouldThrowInvalidRequest_whenBodyIsMalformed() {
+        assertThatThrownBy(() -> reader.readFrom(BulkRequest.class, BulkRequest.class, schemaTypeAnnotation(), MediaType.APPLICATION_JSON_TYPE, null,
+                toStream("[{\"@type\":")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private Annotation[] schemaTypeAnnotation() {
+        return new Annotation[]{ new SchemaType() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return SchemaType.class;
+            }
+
+            @Override
+            public String[] value() {
+                return new String[]{ EXPECTED_TYPE };
+            }
+
+            @Override
+            public String version() {
+                return SCHEMA_VERSION;
+            }
+        } };
+    }
+
+    private InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes());
+    }
+}
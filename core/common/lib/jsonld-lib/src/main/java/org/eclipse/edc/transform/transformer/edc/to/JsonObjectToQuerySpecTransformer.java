@@ -16,6 +16,7 @@ package org.eclipse.edc.transform.transformer.edc.to;
 
 import jakarta.json.JsonObject;
 import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -23,6 +24,9 @@ import org.eclipse.edc.transform.spi.TransformerContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Optional;
+
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -51,6 +55,8 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
                     return v -> builder.sortOrder(SortOrder.valueOf(transformString(v, context)));
                 case EDC_QUERY_SPEC_SORT_FIELD:
                     return v -> builder.sortField(transformString(v, context));
+                case EDC_QUERY_SPEC_CONTINUATION_TOKEN:
+                    return v -> continuationToken(transformString(v, context), context).ifPresent(builder::continuationToken);
                 default:
                     return doNothing();
             }
@@ -59,4 +65,23 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
         return builder.build();
     }
 
+    private Optional<String> continuationToken(@Nullable String token, TransformerContext context) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        try {
+            ContinuationToken.decode(token);
+            return Optional.of(token);
+        } catch (IllegalArgumentException e) {
+            context.problem()
+                    .invalidProperty()
+                    .type(QuerySpec.class)
+                    .property(EDC_QUERY_SPEC_CONTINUATION_TOKEN)
+                    .value(token)
+                    .error(e.getMessage())
+                    .report();
+            return Optional.empty();
+        }
+    }
+
 }
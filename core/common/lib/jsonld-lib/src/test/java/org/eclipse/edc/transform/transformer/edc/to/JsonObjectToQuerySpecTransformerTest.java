@@ -16,14 +16,17 @@ package org.eclipse.edc.transform.transformer.edc.to;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transform.spi.ProblemBuilder;
 import org.eclipse.edc.transform.spi.TransformerContext;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.jsonld.test.TestJsonLd.expand;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -32,6 +35,7 @@ import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_SORT_ORDER;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.spi.query.SortOrder.DESC;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -76,4 +80,34 @@ class JsonObjectToQuerySpecTransformerTest {
         verify(context).transform(any(), eq(Criterion.class));
     }
 
+    @Test
+    void transform_withContinuationToken() {
+        var token = new ContinuationToken("value", "id").encode();
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_SORT_FIELD, "fieldName")
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, token)
+                .build();
+
+        var result = transformer.transform(expand(json), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContinuationToken()).isEqualTo(token);
+    }
+
+    @Test
+    void transform_shouldReportProblem_whenContinuationTokenIsInvalid() {
+        when(context.problem()).thenReturn(new ProblemBuilder(context));
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, "not-a-token")
+                .build();
+
+        var result = transformer.transform(expand(json), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContinuationToken()).isNull();
+        verify(context).reportProblem(anyString());
+    }
+
 }
@@ -20,11 +20,11 @@ plugins {
 dependencies {
     api(project(":spi:control-plane-spi"))
     implementation(project(":spi:core-spi"))
+    implementation(project(":core:common:lib:core-lib"))
     implementation(project(":core:control-plane:lib:control-plane-lib"))
 
     testImplementation(project(":core:common:junit-base"))
     testImplementation(testFixtures(project(":spi:control-plane-spi")))
-    testImplementation(project(":core:common:lib:core-lib"))
     testImplementation(project(":core:common:junit"))
 
 }
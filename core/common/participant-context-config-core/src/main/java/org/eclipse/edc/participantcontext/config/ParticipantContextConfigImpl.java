@@ -16,32 +16,54 @@ package org.eclipse.edc.participantcontext.config;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
-import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
 
+import java.time.Clock;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
-public class ParticipantContextConfigImpl implements ParticipantContextConfig {
+/**
+ * Reads participant context settings from the {@link ParticipantContextConfigStore}.
+ * <p>
+ * When the cache is enabled, the configuration of every participant context is loaded once and kept as a pre-parsed
+ * snapshot for the configured validity, up to a bounded number of participant contexts. Decrypted sensitive values
+ * are kept in the snapshot only if explicitly enabled. Snapshots are evicted when a {@link ParticipantContextConfigUpdated} event is received, that is published
+ * by the service on every write and can be relayed by other runtimes of the cluster.
+ */
+public class ParticipantContextConfigImpl implements ParticipantContextConfig, EventSubscriber {
 
+    private static final int CACHE_MAX_ENTRIES = 10_000;
 
     private final EncryptionAlgorithmRegistry registry;
     private final String encryptionAlgorithm;
     private final ParticipantContextConfigStore configStore;
     private final TransactionContext transactionContext;
-
+    private final boolean cacheSensitiveValues;
+    private final ExpiringLruCache<String, Snapshot> snapshots;
 
     public ParticipantContextConfigImpl(EncryptionAlgorithmRegistry registry, String encryptionAlgorithm, ParticipantContextConfigStore configStore, TransactionContext transactionContext) {
+        this(registry, encryptionAlgorithm, configStore, transactionContext, Clock.systemUTC(), 0, false);
+    }
+
+    public ParticipantContextConfigImpl(EncryptionAlgorithmRegistry registry, String encryptionAlgorithm, ParticipantContextConfigStore configStore,
+                                        TransactionContext transactionContext, Clock clock, long cacheValidityMillis, boolean cacheSensitiveValues) {
         this.registry = registry;
         this.encryptionAlgorithm = encryptionAlgorithm;
         this.configStore = configStore;
         this.transactionContext = transactionContext;
+        this.cacheSensitiveValues = cacheSensitiveValues;
+        this.snapshots = new ExpiringLruCache<>(clock, cacheValidityMillis, CACHE_MAX_ENTRIES);
     }
 
     @Override
@@ -87,31 +109,58 @@ public class ParticipantContextConfigImpl implements ParticipantContextConfig {
 
     @Override
     public String getSensitiveString(String participantContextId, String key) {
-        var encryptedValue = privateConfig(participantContextId).getString(key, null);
+        var snapshot = snapshot(participantContextId);
+        var encryptedValue = snapshot.privateConfig().getString(key, null);
         if (encryptedValue == null) {
             return null;
         }
+        if (!cacheSensitiveValues || !snapshots.isEnabled()) {
+            return decrypt(participantContextId, key, encryptedValue);
+        }
+        return snapshot.decrypted().computeIfAbsent(key, k -> decrypt(participantContextId, k, encryptedValue));
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof ParticipantContextConfigUpdated updated) {
+            invalidate(updated.getParticipantContextId());
+        }
+    }
+
+    /**
+     * Evicts the cached configuration snapshot of the participant context.
+     *
+     * @param participantContextId the participant context id.
+     */
+    public void invalidate(String participantContextId) {
+        snapshots.invalidate(participantContextId);
+    }
+
+    private String decrypt(String participantContextId, String key, String encryptedValue) {
         return registry.decrypt(encryptionAlgorithm, encryptedValue)
                 .orElseThrow(f -> new EdcException(format("Failed to decrypt sensitive config value for key %s and participant context %s", key, participantContextId)));
     }
 
     private Config config(String participantContextId) {
-        return fetchConfig(participantContextId, ParticipantContextConfiguration::getEntries);
-
+        return snapshot(participantContextId).config();
     }
 
-    private Config privateConfig(String participantContextId) {
-        return fetchConfig(participantContextId, ParticipantContextConfiguration::getPrivateEntries);
+    private Snapshot snapshot(String participantContextId) {
+        return snapshots.get(participantContextId, this::fetchSnapshot);
     }
 
-    private Config fetchConfig(String participantContextId, Function<ParticipantContextConfiguration, Map<String, String>> supplier) {
+    private Snapshot fetchSnapshot(String participantContextId) {
         return transactionContext.execute(() -> {
             var cfg = configStore.get(participantContextId);
             if (cfg == null) {
                 throw new EdcException("No configuration found for participant context " + participantContextId);
             }
-            return ConfigFactory.fromMap(supplier.apply(cfg));
+            return new Snapshot(ConfigFactory.fromMap(cfg.getEntries()), ConfigFactory.fromMap(cfg.getPrivateEntries()),
+                    new ConcurrentHashMap<>());
         });
     }
 
+    private record Snapshot(Config config, Config privateConfig, Map<String, String> decrypted) {
+    }
+
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.participantcontext.config;
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.participantcontext.config.service.ParticipantContextConfigServiceImpl;
 import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -24,6 +25,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -37,6 +39,8 @@ public class ParticipantContextConfigServicesExtension implements ServiceExtensi
 
     public static final String NAME = "Participant Context Config Services Extension";
 
+    private static final long DEFAULT_CACHE_VALIDITY = 30_000;
+
     @Setting(
             description = "The encryption algorithm used for encrypting and decrypting sensitive config.",
             key = "edc.participants.config.encryption.algorithm",
@@ -44,6 +48,21 @@ public class ParticipantContextConfigServicesExtension implements ServiceExtensi
     )
     private String encryptionAlgorithm;
 
+    @Setting(
+            description = "Time (in ms) that the configuration of a participant context is kept in memory. Updates made through the " +
+                    "participant context config service evict it immediately. 0 disables the cache",
+            key = "edc.participants.config.cache.validity",
+            defaultValue = DEFAULT_CACHE_VALIDITY + ""
+    )
+    private long cacheValidity;
+
+    @Setting(
+            description = "Whether decrypted sensitive config values are kept in memory together with the cached configuration.",
+            key = "edc.participants.config.cache.sensitive",
+            defaultValue = "false"
+    )
+    private boolean cacheSensitiveValues;
+
     @Inject
     private ParticipantContextConfigStore configStore;
 
@@ -59,14 +78,20 @@ public class ParticipantContextConfigServicesExtension implements ServiceExtensi
     @Inject
     private Clock clock;
 
+    @Inject
+    private EventRouter eventRouter;
+
     @Provider
     public ParticipantContextConfigService participantContextConfigService() {
-        return new ParticipantContextConfigServiceImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext, clock);
+        return new ParticipantContextConfigServiceImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext, clock, eventRouter);
     }
 
     @Provider
     public ParticipantContextConfig participantContextConfig() {
-        return new ParticipantContextConfigImpl(encryptionRegistry, encryptionAlgorithm, configStore, transactionContext);
+        var participantContextConfig = new ParticipantContextConfigImpl(encryptionRegistry, encryptionAlgorithm, configStore,
+                transactionContext, clock, cacheValidity, cacheSensitiveValues);
+        eventRouter.registerSync(ParticipantContextConfigUpdated.class, participantContextConfig);
+        return participantContextConfig;
     }
 
     @Override
@@ -15,9 +15,11 @@
 package org.eclipse.edc.participantcontext.config.service;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -33,18 +35,21 @@ public class ParticipantContextConfigServiceImpl implements ParticipantContextCo
     private final ParticipantContextConfigStore configStore;
     private final TransactionContext transactionContext;
     private final Clock clock;
+    private final EventRouter eventRouter;
 
-    public ParticipantContextConfigServiceImpl(EncryptionAlgorithmRegistry encryptionRegistry, String encryptionAlgorithm, ParticipantContextConfigStore configStore, TransactionContext transactionContext, Clock clock) {
+    public ParticipantContextConfigServiceImpl(EncryptionAlgorithmRegistry encryptionRegistry, String encryptionAlgorithm, ParticipantContextConfigStore configStore,
+                                               TransactionContext transactionContext, Clock clock, EventRouter eventRouter) {
         this.encryptionRegistry = encryptionRegistry;
         this.encryptionAlgorithm = encryptionAlgorithm;
         this.configStore = configStore;
         this.transactionContext = transactionContext;
         this.clock = clock;
+        this.eventRouter = eventRouter;
     }
 
     @Override
     public ServiceResult<Void> save(ParticipantContextConfiguration config) {
-        return transactionContext.execute(() -> {
+        ServiceResult<Void> result = transactionContext.execute(() -> {
             if (hasNullValue(config.getEntries()) || hasNullValue(config.getPrivateEntries())) {
                 return ServiceResult.badRequest("Null values are not allowed when setting a configuration");
             }
@@ -53,11 +58,12 @@ public class ParticipantContextConfigServiceImpl implements ParticipantContextCo
                     .flatMap(ServiceResult::from)
                     .mapEmpty();
         });
+        return result.onSuccess(v -> publishUpdated(config.getParticipantContextId()));
     }
 
     @Override
     public ServiceResult<Void> merge(ParticipantContextConfiguration config) {
-        return transactionContext.execute(() -> {
+        ServiceResult<Void> result = transactionContext.execute(() -> {
             var now = clock.millis();
             // the patch is handed to the store as-is: applying it has to happen atomically inside the store, otherwise
             // concurrent merges would read the same base and clobber each other's entries
@@ -69,6 +75,14 @@ public class ParticipantContextConfigServiceImpl implements ParticipantContextCo
                     .onSuccess(configStore::merge)
                     .mapEmpty();
         });
+        return result.onSuccess(v -> publishUpdated(config.getParticipantContextId()));
+    }
+
+    private void publishUpdated(String participantContextId) {
+        // published after the transaction has been committed, so subscribers that reload the configuration get the new one
+        eventRouter.publish(ParticipantContextConfigUpdated.Builder.newInstance()
+                .participantContextId(participantContextId)
+                .build());
     }
 
     private static boolean hasNullValue(Map<String, String> map) {
@@ -16,9 +16,11 @@ package org.eclipse.edc.participantcontext.config;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
 import org.eclipse.edc.participantcontext.spi.config.ParticipantContextConfig;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +31,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.time.Clock;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -36,6 +39,8 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -88,6 +93,80 @@ public class ParticipantContextConfigImplTest {
 
     }
 
+    @Nested
+    class Cache {
+
+        private final Clock clock = mock();
+        private final ParticipantContextConfigImpl cachingConfig = new ParticipantContextConfigImpl(registry, "any", store,
+                new NoopTransactionContext(), clock, 1000, true);
+
+        @Test
+        void shouldNotReadStore_whenSnapshotIsCached() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.get(PARTICIPANT_CONTEXT_ID)).thenReturn(configuration(Map.of("key", "value"), Map.of("secret", "encrypted")));
+            when(registry.decrypt("any", "encrypted")).thenReturn(Result.success("decrypted"));
+
+            assertThat(cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key")).isEqualTo("value");
+            assertThat(cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key")).isEqualTo("value");
+            assertThat(cachingConfig.getSensitiveString(PARTICIPANT_CONTEXT_ID, "secret")).isEqualTo("decrypted");
+            assertThat(cachingConfig.getSensitiveString(PARTICIPANT_CONTEXT_ID, "secret")).isEqualTo("decrypted");
+
+            verify(store, times(1)).get(PARTICIPANT_CONTEXT_ID);
+            verify(registry, times(1)).decrypt("any", "encrypted");
+        }
+
+        @Test
+        void shouldReadStore_whenSnapshotIsExpired() {
+            when(store.get(PARTICIPANT_CONTEXT_ID)).thenReturn(configuration(Map.of("key", "value"), emptyMap()));
+
+            when(clock.millis()).thenReturn(0L);
+            cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+            when(clock.millis()).thenReturn(2000L);
+            cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            verify(store, times(2)).get(PARTICIPANT_CONTEXT_ID);
+        }
+
+        @Test
+        void shouldReadStore_whenConfigurationUpdatedEventIsReceived() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.get(PARTICIPANT_CONTEXT_ID))
+                    .thenReturn(configuration(Map.of("key", "value"), emptyMap()))
+                    .thenReturn(configuration(Map.of("key", "updated"), emptyMap()));
+
+            var first = cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+            cachingConfig.on(EventEnvelope.Builder.newInstance()
+                    .at(0)
+                    .payload(ParticipantContextConfigUpdated.Builder.newInstance().participantContextId(PARTICIPANT_CONTEXT_ID).build())
+                    .build());
+            var second = cachingConfig.getString(PARTICIPANT_CONTEXT_ID, "key");
+
+            assertThat(first).isEqualTo("value");
+            assertThat(second).isEqualTo("updated");
+        }
+
+        @Test
+        void shouldDecryptEveryTime_whenSensitiveValuesAreNotCached() {
+            var config = new ParticipantContextConfigImpl(registry, "any", store, new NoopTransactionContext(), clock, 1000, false);
+            when(clock.millis()).thenReturn(0L);
+            when(store.get(PARTICIPANT_CONTEXT_ID)).thenReturn(configuration(emptyMap(), Map.of("secret", "encrypted")));
+            when(registry.decrypt("any", "encrypted")).thenReturn(Result.success("decrypted"));
+
+            config.getSensitiveString(PARTICIPANT_CONTEXT_ID, "secret");
+            config.getSensitiveString(PARTICIPANT_CONTEXT_ID, "secret");
+
+            verify(store, times(1)).get(PARTICIPANT_CONTEXT_ID);
+            verify(registry, times(2)).decrypt("any", "encrypted");
+        }
+
+        private ParticipantContextConfiguration configuration(Map<String, String> entries, Map<String, String> privateEntries) {
+            return ParticipantContextConfiguration.Builder.newInstance().participantContextId(PARTICIPANT_CONTEXT_ID)
+                    .entries(entries)
+                    .privateEntries(privateEntries)
+                    .build();
+        }
+    }
+
     @FunctionalInterface
     private interface SettingCall {
         Object call(ParticipantContextConfig service, String participantContextId, String key);
@@ -15,9 +15,11 @@
 package org.eclipse.edc.participantcontext.config.service;
 
 import org.eclipse.edc.encryption.EncryptionAlgorithmRegistry;
+import org.eclipse.edc.participantcontext.spi.config.event.ParticipantContextConfigUpdated;
 import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
 import org.eclipse.edc.participantcontext.spi.config.service.ParticipantContextConfigService;
 import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class ParticipantContextConfigServiceImplTest {
@@ -45,7 +48,9 @@ public class ParticipantContextConfigServiceImplTest {
 
     private final Clock clock = Clock.fixed(Instant.ofEpochMilli(5000), ZoneId.systemDefault());
 
-    private final ParticipantContextConfigService service = new ParticipantContextConfigServiceImpl(registry, "any", store, new NoopTransactionContext(), clock);
+    private final EventRouter eventRouter = mock();
+
+    private final ParticipantContextConfigService service = new ParticipantContextConfigServiceImpl(registry, "any", store, new NoopTransactionContext(), clock, eventRouter);
 
 
     @Test
@@ -67,6 +72,8 @@ public class ParticipantContextConfigServiceImplTest {
                         saved.getEntries().equals(cfg.getEntries()) &&
                         saved.getPrivateEntries().equals(cfg.getPrivateEntries())));
         verify(registry).encrypt(anyString(), anyString());
+        verify(eventRouter).publish(argThat((ParticipantContextConfigUpdated event) ->
+                event.getParticipantContextId().equals("participantContext")));
     }
 
     @Test
@@ -143,6 +150,7 @@ public class ParticipantContextConfigServiceImplTest {
 
         assertThat(service.merge(patch)).isFailed().detail().contains("Failed to encrypt entries");
         verify(store, never()).merge(any());
+        verifyNoInteractions(eventRouter);
     }
 
     @Test
@@ -23,11 +23,14 @@ import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.security.SecurityDefaultServicesExtension.NAME;
 
 /**
@@ -39,6 +42,24 @@ import static org.eclipse.edc.security.SecurityDefaultServicesExtension.NAME;
 public class SecurityDefaultServicesExtension implements ServiceExtension {
     public static final String NAME = "Security Default Services Extension";
 
+    private static final long DEFAULT_PRIVATE_KEY_CACHE_VALIDITY = 0;
+    private static final int DEFAULT_PRIVATE_KEY_CACHE_MAX_ENTRIES = 1_000;
+
+    @Setting(
+            description = "Time (in ms) that parsed private keys are kept in memory. 0 disables the cache. A rotated key " +
+                    "is only picked up after this time",
+            defaultValue = DEFAULT_PRIVATE_KEY_CACHE_VALIDITY + "",
+            key = "edc.keys.private.cache.validity"
+    )
+    private long privateKeyCacheValidity;
+
+    @Setting(
+            description = "Maximum number of parsed private keys kept in memory",
+            defaultValue = DEFAULT_PRIVATE_KEY_CACHE_MAX_ENTRIES + "",
+            key = "edc.keys.private.cache.max-entries"
+    )
+    private int privateKeyCacheMaxEntries;
+
     private KeyParserRegistry keyParserRegistry;
 
     @Inject
@@ -47,12 +68,16 @@ public class SecurityDefaultServicesExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     private PrivateKeyResolver privateKeyResolver;
 
     @Provider(isDefault = true)
     public PrivateKeyResolver privateKeyResolver(ServiceExtensionContext context) {
         if (privateKeyResolver == null) {
-            privateKeyResolver = new VaultPrivateKeyResolver(keyParserRegistry(context), vault, context.getMonitor().withPrefix("PrivateKeyResolution"), context.getConfig());
+            privateKeyResolver = new VaultPrivateKeyResolver(keyParserRegistry(context), vault, context.getMonitor().withPrefix("PrivateKeyResolution"),
+                    context.getConfig(), clock, privateKeyCacheValidity, privateKeyCacheMaxEntries);
         }
         return privateKeyResolver;
     }
@@ -20,12 +20,15 @@ import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.token.jwt.DefaultJwsSignerProvider;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.token.spi.TokenDecoratorRegistry;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 
 /**
@@ -36,9 +39,30 @@ import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 public class TokenServicesExtension implements ServiceExtension {
     public static final String NAME = "Token Services Extension";
 
+    private static final long DEFAULT_SIGNER_CACHE_VALIDITY = 0;
+    private static final int DEFAULT_SIGNER_CACHE_MAX_ENTRIES = 1_000;
+
+    @Setting(
+            description = "Time (in ms) that JWS signers are kept in memory. 0 disables the cache. A rotated key " +
+                    "is only picked up after this time",
+            defaultValue = DEFAULT_SIGNER_CACHE_VALIDITY + "",
+            key = "edc.token.signer.cache.validity"
+    )
+    private long signerCacheValidity;
+
+    @Setting(
+            description = "Maximum number of JWS signers kept in memory",
+            defaultValue = DEFAULT_SIGNER_CACHE_MAX_ENTRIES + "",
+            key = "edc.token.signer.cache.max-entries"
+    )
+    private int signerCacheMaxEntries;
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
+    @Inject
+    private Clock clock;
+
     @Provider
     public TokenValidationRulesRegistry tokenValidationRulesRegistry() {
         return new TokenValidationRulesRegistryImpl();
@@ -56,7 +80,7 @@ public class TokenServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public JwsSignerProvider defaultSignerProvider() {
-        return new DefaultJwsSignerProvider(privateKeyResolver);
+        return new DefaultJwsSignerProvider(privateKeyResolver, clock, signerCacheValidity, signerCacheMaxEntries);
     }
 
     @Provider(isDefault = true)
@@ -18,17 +18,24 @@ import org.eclipse.edc.connector.controlplane.dataplane.spi.DataPlaneSelectorSer
 import org.eclipse.edc.connector.controlplane.dataplane.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.connector.controlplane.services.dataplane.DataPlaneSelectorServiceImpl;
+import org.eclipse.edc.connector.controlplane.services.dataplane.LeastOutstandingFlowsSelectionStrategy;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+
 @Extension(ControlPlaneDataPlaneServicesExtension.NAME)
 public class ControlPlaneDataPlaneServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Control Plane Data Plane Services";
+    private static final long DEFAULT_SELECTOR_CACHE_VALIDITY = 10_000;
+    private static final long DEFAULT_OUTSTANDING_FLOWS_REFRESH_INTERVAL = 5_000;
 
     @Setting(
             description = "Defines strategy for Data Plane instance selection in case Data Plane is not embedded in current runtime",
@@ -37,20 +44,46 @@ public class ControlPlaneDataPlaneServicesExtension implements ServiceExtension
     )
     private String selectionStrategy;
 
+    @Setting(
+            description = "Time (in ms) that registered Data Plane instances are kept in memory for selection. 0 disables the cache",
+            defaultValue = DEFAULT_SELECTOR_CACHE_VALIDITY + "",
+            key = "edc.dataplane.client.selector.cache.validity"
+    )
+    private long selectorCacheValidity;
+
+    @Setting(
+            description = "Time (in ms) after which the outstanding flow counts used by the " + LeastOutstandingFlowsSelectionStrategy.NAME +
+                    " strategy are counted again from the transfer processes. 0 counts them at every selection",
+            defaultValue = DEFAULT_OUTSTANDING_FLOWS_REFRESH_INTERVAL + "",
+            key = "edc.dataplane.client.selector.outstanding-flows.refresh-interval"
+    )
+    private long outstandingFlowsRefreshInterval;
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
     @Inject
     private SelectionStrategyRegistry selectionStrategyRegistry;
     @Inject
     private TransactionContext transactionContext;
+    @Inject
+    private TransferProcessStore transferProcessStore;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        selectionStrategyRegistry.add(new LeastOutstandingFlowsSelectionStrategy(transferProcessStore, transactionContext,
+                clock, outstandingFlowsRefreshInterval));
+    }
+
     @Provider
     public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new DataPlaneSelectorServiceImpl(instanceStore, selectionStrategyRegistry, transactionContext, selectionStrategy);
+        return new DataPlaneSelectorServiceImpl(instanceStore, selectionStrategyRegistry, transactionContext, selectionStrategy,
+                clock, selectorCacheValidity);
     }
 }
@@ -28,6 +28,8 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -87,6 +89,38 @@ public class AssetServiceImpl implements AssetService {
         );
     }
 
+    @Override
+    public List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        var results = new ArrayList<ServiceResult<Asset>>(Collections.nCopies(assets.size(), null));
+        var valid = new ArrayList<Integer>(assets.size());
+        for (var i = 0; i < assets.size(); i++) {
+            var asset = assets.get(i);
+            if (asset.hasDuplicatePropertyKeys()) {
+                results.set(i, ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE));
+            } else {
+                logWarningWhenCatalogAssetPropertiesAreNotSet(asset);
+                valid.add(i);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            var toCreate = valid.stream().map(assets::get).toList();
+            var created = transactionContext.execute(() -> index.createAll(toCreate));
+            for (var i = 0; i < toCreate.size(); i++) {
+                var asset = toCreate.get(i);
+                var result = created.get(i);
+                if (result.succeeded()) {
+                    observable.invokeForEach(l -> l.created(asset));
+                    results.set(valid.get(i), ServiceResult.success(asset));
+                } else {
+                    results.set(valid.get(i), ServiceResult.fromFailure(result));
+                }
+            }
+        }
+
+        return results;
+    }
+
     @Override
     public ServiceResult<Asset> delete(String assetId) {
         return transactionContext.execute(() -> {
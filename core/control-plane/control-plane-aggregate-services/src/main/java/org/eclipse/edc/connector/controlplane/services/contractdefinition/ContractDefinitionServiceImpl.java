@@ -68,6 +68,11 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         });
     }
 
+    @Override
+    public List<ServiceResult<ContractDefinition>> createAll(List<ContractDefinition> contractDefinitions) {
+        return transactionContext.execute(() -> contractDefinitions.stream().map(this::create).toList());
+    }
+
     @Override
     public ServiceResult<Void> update(ContractDefinition contractDefinition) {
         return transactionContext.execute(() -> {
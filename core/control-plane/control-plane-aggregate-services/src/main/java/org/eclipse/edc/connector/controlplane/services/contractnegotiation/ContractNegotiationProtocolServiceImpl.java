@@ -47,9 +47,11 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -89,93 +91,52 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyRequested(ParticipantContext participantContext, ContractRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchValidatableOffer(participantContext, message)
+        return transactionContext.execute(() -> fetchValidatableOffer(participantContext, message))
                 .compose(validatableOffer -> verifyRequest(participantContext, tokenRepresentation, validatableOffer.getContractPolicy(), message)
-                        .compose(agent -> {
-                            var result = validationService.validateInitialOffer(agent, validatableOffer);
-                            if (result.failed()) {
-                                monitor.debug("[Provider] Contract offer rejected as invalid: " + result.getFailureDetail());
-                                return ServiceResult.badRequest("Contract offer is not valid: " + result.getFailureDetail());
-                            }
-
-                            var offerId = validatableOffer.getOfferId();
-                            var contractOffer = ContractOffer.Builder.newInstance()
-                                    .id(offerId.toString())
-                                    .policy(validatableOffer.getTargetedContractPolicy().toBuilder().type(PolicyType.OFFER).build())
-                                    .assetId(offerId.assetIdPart())
-                                    .build();
-
-                            if (message.getProviderPid() == null) {
-                                var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), PROVIDER, message.getCallbackAddress());
-                                return requestedAction(message, negotiation, contractOffer);
-                            }
-
-                            return onMessageDo(participantContext, message, agent,
-                                    negotiation -> requestedAction(message, negotiation, contractOffer));
-                        })
-                ));
+                        .compose(agent -> transactionContext.execute(() -> requested(participantContext, message, agent, validatableOffer))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyOffered(ParticipantContext participantContext, ContractOfferMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> verifyRequest(participantContext, tokenRepresentation, message.getContractOffer().getPolicy(), message)
-                .compose(agent -> {
-                    if (message.getConsumerPid() == null) {
-                        var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), CONSUMER, message.getCallbackAddress());
-                        return offeredAction(message, negotiation);
-                    }
-
-                    return onMessageDo(participantContext, message, agent,
-                            negotiation -> offeredAction(message, negotiation));
-                }));
+        return verifyRequest(participantContext, tokenRepresentation, message.getContractOffer().getPolicy(), message)
+                .compose(agent -> transactionContext.execute(() -> offered(participantContext, message, agent)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAccepted(ParticipantContext participantContext, ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> acceptedAction(message, contractNegotiation))));
-
+        return verifyThenApply(participantContext, message, tokenRepresentation, (agent, negotiation) -> acceptedAction(message, negotiation));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAgreed(ParticipantContext participantContext, ContractAgreementMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, negotiation -> agreedAction(message, negotiation, agent))));
+        return verifyThenApply(participantContext, message, tokenRepresentation, (agent, negotiation) -> agreedAction(message, negotiation, agent));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyVerified(ParticipantContext participantContext, ContractAgreementVerificationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> verifiedAction(message, contractNegotiation, agent))));
+        return verifyThenApply(participantContext, message, tokenRepresentation, (agent, negotiation) -> verifiedAction(message, negotiation, agent));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyFinalized(ParticipantContext participantContext, ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> finalizedAction(message, contractNegotiation))));
+        return verifyThenApply(participantContext, message, tokenRepresentation, (agent, negotiation) -> finalizedAction(message, negotiation));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyTerminated(ParticipantContext participantContext, ContractNegotiationTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message))
-                .compose(agent -> onMessageDo(participantContext, message, agent, contractNegotiation -> terminatedAction(message, contractNegotiation))));
+        return verifyThenApply(participantContext, message, tokenRepresentation, (agent, negotiation) -> terminatedAction(message, negotiation));
     }
 
     @Override
@@ -183,7 +144,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @NotNull
     public ServiceResult<ContractNegotiation> findById(ParticipantContext participantContext, ContractNegotiationRequestMessage message, TokenRepresentation tokenRepresentation) {
 
-        return transactionContext.execute(() -> getNegotiation(participantContext, message.getNegotiationId())
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getNegotiationId()))
                 .compose(contractNegotiation -> verifyRequest(participantContext, tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> {
                             var result = validationService.validateRequest(agent, contractNegotiation);
@@ -192,12 +153,29 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                             }
 
                             return ServiceResult.success(contractNegotiation);
-                        })));
+                        }));
     }
 
+    /**
+     * Process a message on an existing negotiation in two phases: the request is verified against the negotiation
+     * policy outside any transaction, because the verification could involve remote calls (e.g. presentation requests,
+     * DID resolution), then the action is applied in a short transaction on the leased negotiation.
+     */
     @NotNull
-    private ServiceResult<ContractNegotiation> onMessageDo(ParticipantContext participantContext, ContractRemoteMessage message,
-                                                           ParticipantAgent agent, Function<ContractNegotiation, ServiceResult<ContractNegotiation>> action) {
+    private ServiceResult<ContractNegotiation> verifyThenApply(ParticipantContext participantContext, ContractRemoteMessage message, TokenRepresentation tokenRepresentation,
+                                                               BiFunction<ParticipantAgent, ContractNegotiation, ServiceResult<ContractNegotiation>> action) {
+        return transactionContext.execute(() -> getNegotiation(participantContext, message.getProcessId()))
+                .compose(contractNegotiation -> {
+                    var verifiedOffer = contractNegotiation.getLastContractOffer();
+                    return verifyRequest(participantContext, tokenRepresentation, verifiedOffer.getPolicy(), message)
+                            .compose(agent -> transactionContext.execute(() -> onMessageDo(participantContext, message, agent, verifiedOffer.getId(),
+                                    negotiation -> action.apply(agent, negotiation))));
+                });
+    }
+
+    @NotNull
+    private ServiceResult<ContractNegotiation> onMessageDo(ParticipantContext participantContext, ContractRemoteMessage message, ParticipantAgent agent,
+                                                           @Nullable String verifiedOfferId, Function<ContractNegotiation, ServiceResult<ContractNegotiation>> action) {
         var leaseNegotiation = store.findByIdAndLease(message.getProcessId());
         if (leaseNegotiation.failed()) {
             return ServiceResult.from(leaseNegotiation.mapFailure());
@@ -209,6 +187,12 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
             return ServiceResult.notFound("No negotiation with id %s found".formatted(negotiation.getId()));
         }
 
+        // the request has been verified against the policy of the last offer, that could have changed in the meantime
+        if (verifiedOfferId != null && !verifiedOfferId.equals(negotiation.getLastContractOffer().getId())) {
+            store.breakLease(negotiation);
+            return ServiceResult.conflict(format("Cannot process %s because %s", message.getClass().getSimpleName(), "negotiation changed during the request verification"));
+        }
+
         var result = validationService.validateRequest(agent, negotiation);
         if (result.failed()) {
             store.breakLease(negotiation);
@@ -224,6 +208,41 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                 .onFailure(f -> store.breakLease(negotiation));
     }
 
+    @NotNull
+    private ServiceResult<ContractNegotiation> requested(ParticipantContext participantContext, ContractRequestMessage message, ParticipantAgent agent, ValidatableConsumerOffer validatableOffer) {
+        var result = validationService.validateInitialOffer(agent, validatableOffer);
+        if (result.failed()) {
+            monitor.debug("[Provider] Contract offer rejected as invalid: " + result.getFailureDetail());
+            return ServiceResult.badRequest("Contract offer is not valid: " + result.getFailureDetail());
+        }
+
+        var offerId = validatableOffer.getOfferId();
+        var contractOffer = ContractOffer.Builder.newInstance()
+                .id(offerId.toString())
+                .policy(validatableOffer.getTargetedContractPolicy().toBuilder().type(PolicyType.OFFER).build())
+                .assetId(offerId.assetIdPart())
+                .build();
+
+        if (message.getProviderPid() == null) {
+            var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), PROVIDER, message.getCallbackAddress());
+            return requestedAction(message, negotiation, contractOffer);
+        }
+
+        return onMessageDo(participantContext, message, agent, null,
+                negotiation -> requestedAction(message, negotiation, contractOffer));
+    }
+
+    @NotNull
+    private ServiceResult<ContractNegotiation> offered(ParticipantContext participantContext, ContractOfferMessage message, ParticipantAgent agent) {
+        if (message.getConsumerPid() == null) {
+            var negotiation = createNegotiation(participantContext, message, agent.getIdentity(), CONSUMER, message.getCallbackAddress());
+            return offeredAction(message, negotiation);
+        }
+
+        return onMessageDo(participantContext, message, agent, null,
+                negotiation -> offeredAction(message, negotiation));
+    }
+
     @NotNull
     private ContractNegotiation createNegotiation(ParticipantContext participantContext, ContractRemoteMessage message, String counterPartyIdentity, ContractNegotiation.Type type, String callbackAddress) {
         return ContractNegotiation.Builder.newInstance()
@@ -24,24 +24,52 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstanceStates.UNREGISTERED;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.queryByParticipantContextId;
 
+/**
+ * Default {@link DataPlaneSelectorService} implementation.
+ * <p>
+ * When a cache validity greater than 0 is configured, the registered data planes are kept in memory, indexed by
+ * participant context and transfer type, so that the selection does not need to hit the store for every transfer.
+ * The index gets invalidated on every write operation executed through this service and expires after the validity period,
+ * that bounds the staleness of registrations executed by other runtime replicas.
+ */
 public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
 
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
     private final String selectionStrategy;
+    private final Clock clock;
+    private final long cacheValidityMillis;
+    private final Map<String, IndexedDataPlanes> index = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
 
     public DataPlaneSelectorServiceImpl(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry,
                                         TransactionContext transactionContext, String selectionStrategy) {
+        this(store, selectionStrategyRegistry, transactionContext, selectionStrategy, Clock.systemUTC(), 0);
+    }
+
+    public DataPlaneSelectorServiceImpl(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry,
+                                        TransactionContext transactionContext, String selectionStrategy,
+                                        Clock clock, long cacheValidityMillis) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
         this.selectionStrategy = selectionStrategy;
+        this.clock = clock;
+        this.cacheValidityMillis = cacheValidityMillis;
     }
 
     @Override
@@ -68,47 +96,44 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
         if (strategy == null) {
             return ServiceResult.badRequest("Strategy " + selectionStrategy + " was not found");
         }
-        return transactionContext.execute(() -> {
-            try (var stream = store.query(queryByParticipantContextId(transferProcess.getParticipantContextId()).build())) {
-                var dataPlanes = stream
-                        .filter(it -> it.getState() != UNREGISTERED.code())
-                        .filter(it -> it.getAllowedTransferTypes().contains(transferProcess.getTransferType()))
-                        .filter(it -> {
-                            var transferLabels = transferProcess.getDataplaneMetadata().getLabels();
-                            return transferLabels.isEmpty() || it.getLabels().containsAll(transferLabels);
-                        })
-                        .toList();
-
-                if (dataPlanes.isEmpty()) {
-                    return ServiceResult.notFound("No dataplane found");
-                }
-
-                var dataPlane = strategy.apply(dataPlanes);
-                if (dataPlane == null) {
-                    return ServiceResult.notFound(selectionStrategy + " strategy failed to select a dataplane");
-                }
-
-                return ServiceResult.success(dataPlane);
-            }
-        });
+        var transferLabels = transferProcess.getDataplaneMetadata().getLabels();
+        var dataPlanes = registeredDataPlanes(transferProcess.getParticipantContextId(), transferProcess.getTransferType())
+                .stream()
+                .filter(it -> transferLabels.isEmpty() || it.getLabels().containsAll(transferLabels))
+                .toList();
+
+        if (dataPlanes.isEmpty()) {
+            return ServiceResult.notFound("No dataplane found");
+        }
+
+        var dataPlane = strategy.apply(dataPlanes);
+        if (dataPlane == null) {
+            return ServiceResult.notFound(selectionStrategy + " strategy failed to select a dataplane");
+        }
+
+        return ServiceResult.success(dataPlane);
     }
 
     @Override
     public ServiceResult<Void> register(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
+        ServiceResult<Void> result = transactionContext.execute(() -> {
             instance.transitionToRegistered();
             return store.save(instance).flatMap(ServiceResult::from);
         });
+        invalidate();
+        return result;
     }
 
     @Override
     public ServiceResult<Void> delete(String instanceId) {
-        return transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId))).mapEmpty();
+        ServiceResult<Void> result = transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId))).mapEmpty();
+        invalidate();
+        return result;
     }
 
     @Override
     public ServiceResult<Void> unregister(String instanceId) {
-        return transactionContext.execute(() -> {
+        ServiceResult<Void> result = transactionContext.execute(() -> {
             StoreResult<Void> operation = store.findByIdAndLease(instanceId)
                     .map(it -> {
                         it.transitionToUnregistered();
@@ -118,6 +143,8 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
 
             return ServiceResult.from(operation);
         });
+        invalidate();
+        return result;
     }
 
     @Override
@@ -130,4 +157,52 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
             return ServiceResult.success(instance);
         });
     }
+
+    private List<DataPlaneInstance> registeredDataPlanes(String participantContextId, String transferType) {
+        if (cacheValidityMillis <= 0) {
+            return loadRegisteredDataPlanes(participantContextId, 0).get(transferType);
+        }
+
+        var now = clock.millis();
+        var cached = index.get(participantContextId);
+        if (cached == null || cached.isExpired(now)) {
+            // the store is queried outside the map, so the lock of the map bin is not held during the I/O
+            var invalidation = invalidations.get();
+            cached = loadRegisteredDataPlanes(participantContextId, now + cacheValidityMillis);
+            index.put(participantContextId, cached);
+            // an invalidation happened during the load: the loaded entry could be stale already
+            if (invalidations.get() != invalidation) {
+                index.remove(participantContextId, cached);
+            }
+        }
+        return cached.get(transferType);
+    }
+
+    private void invalidate() {
+        invalidations.incrementAndGet();
+        index.clear();
+    }
+
+    private IndexedDataPlanes loadRegisteredDataPlanes(String participantContextId, long expiresAt) {
+        return transactionContext.execute(() -> {
+            try (var stream = store.query(queryByParticipantContextId(participantContextId).build())) {
+                var byTransferType = stream
+                        .filter(it -> it.getState() != UNREGISTERED.code())
+                        .flatMap(it -> it.getAllowedTransferTypes().stream().map(type -> Map.entry(type, it)))
+                        .collect(groupingBy(Map.Entry::getKey, mapping(Map.Entry::getValue, toList())));
+                return new IndexedDataPlanes(byTransferType, expiresAt);
+            }
+        });
+    }
+
+    private record IndexedDataPlanes(Map<String, List<DataPlaneInstance>> byTransferType, long expiresAt) {
+
+        List<DataPlaneInstance> get(String transferType) {
+            return byTransferType.getOrDefault(transferType, emptyList());
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
 }
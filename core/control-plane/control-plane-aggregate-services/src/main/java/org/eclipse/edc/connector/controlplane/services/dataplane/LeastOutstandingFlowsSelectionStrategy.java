@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.dataplane;
+
+import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.controlplane.dataplane.spi.strategy.SelectionStrategy;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETING_REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.RESUMED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.RESUMING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.RESUMING_REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTUP_REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.SUSPENDING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.SUSPENDING_REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING_REQUESTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Selects the {@link DataPlaneInstance} that has the lowest number of outstanding flows, ties are broken at random.
+ * <p>
+ * Outstanding flows are the transfer processes that have been requested to a data plane and have not been suspended,
+ * completed or terminated yet. They are counted by the {@link TransferProcessStore}, so the counts survive restarts
+ * and include the flows started by other runtime replicas. The counts are refreshed at most once per refresh
+ * interval, in between every selection is added to the count of the selected data plane.
+ */
+public class LeastOutstandingFlowsSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "least-outstanding-flows";
+
+    private static final List<Integer> OUTSTANDING_STATES = Stream.of(REQUESTED, STARTING, STARTUP_REQUESTED, STARTED,
+            SUSPENDING, SUSPENDING_REQUESTED, RESUMING, RESUMING_REQUESTED, RESUMED, COMPLETING, COMPLETING_REQUESTED,
+            TERMINATING, TERMINATING_REQUESTED).map(TransferProcessStates::code).toList();
+
+    private final TransferProcessStore store;
+    private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final long refreshIntervalMillis;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile OutstandingFlows outstandingFlows = new OutstandingFlows(new ConcurrentHashMap<>(), Long.MIN_VALUE);
+
+    public LeastOutstandingFlowsSelectionStrategy(TransferProcessStore store, TransactionContext transactionContext,
+                                                  Clock clock, long refreshIntervalMillis) {
+        this.store = store;
+        this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        var flows = currentOutstandingFlows();
+        var minimum = Integer.MAX_VALUE;
+        var candidates = new ArrayList<DataPlaneInstance>();
+        for (var instance : instances) {
+            var count = flows.count(instance.getId());
+            if (count < minimum) {
+                minimum = count;
+                candidates.clear();
+            }
+            if (count == minimum) {
+                candidates.add(instance);
+            }
+        }
+
+        var selected = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        flows.increment(selected.getId());
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Returns the number of outstanding flows for the specified data plane.
+     *
+     * @param dataPlaneId the data plane id.
+     * @return the number of outstanding flows.
+     */
+    public int outstandingFlows(String dataPlaneId) {
+        return currentOutstandingFlows().count(dataPlaneId);
+    }
+
+    private OutstandingFlows currentOutstandingFlows() {
+        var current = outstandingFlows;
+        // only one thread refreshes the counts, the others keep using the previous ones in the meantime
+        if (current.isExpired(clock.millis()) && refreshing.compareAndSet(false, true)) {
+            try {
+                current = loadOutstandingFlows();
+                outstandingFlows = current;
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current;
+    }
+
+    private OutstandingFlows loadOutstandingFlows() {
+        return transactionContext.execute(() -> {
+            var counts = new ConcurrentHashMap<String, AtomicInteger>();
+            store.countByDataPlaneId(criterion("state", "in", OUTSTANDING_STATES))
+                    .forEach((dataPlaneId, count) -> counts.put(dataPlaneId, new AtomicInteger(count.intValue())));
+            return new OutstandingFlows(counts, clock.millis() + refreshIntervalMillis);
+        });
+    }
+
+    private record OutstandingFlows(Map<String, AtomicInteger> counts, long expiresAt) {
+
+        int count(String dataPlaneId) {
+            var count = counts.get(dataPlaneId);
+            return count == null ? 0 : count.get();
+        }
+
+        void increment(String dataPlaneId) {
+            counts.computeIfAbsent(dataPlaneId, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -118,6 +118,11 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
                 }));
     }
 
+    @Override
+    public List<ServiceResult<PolicyDefinition>> createAll(List<PolicyDefinition> policyDefinitions) {
+        return transactionContext.execute(() -> policyDefinitions.stream().map(this::create).toList());
+    }
+
 
     @Override
     public ServiceResult<PolicyDefinition> update(PolicyDefinition policyDefinition) {
@@ -96,49 +96,37 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyRequested(ParticipantContext participantContext, TransferRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchContractAgreement(participantContext, message)
+        return transactionContext.execute(() -> fetchContractAgreement(participantContext, message))
                 .compose(contractAgreement -> verifyRequest(participantContext, tokenRepresentation, message, contractAgreement))
-                .compose(context -> requestedAction(participantContext, message, context)));
+                .compose(context -> transactionContext.execute(() -> requestedAction(participantContext, message, context)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyStarted(ParticipantContext participantContext, TransferStartMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
-                .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(context -> onMessageDo(message, transferProcess -> startedAction(message, transferProcess)))
-        );
+        return verifyThenApply(participantContext, message, tokenRepresentation, transferProcess -> startedAction(message, transferProcess));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyCompleted(ParticipantContext participantContext, TransferCompletionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
-                .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(i -> onMessageDo(message, transferProcess -> completedAction(message, transferProcess)))
-        );
+        return verifyThenApply(participantContext, message, tokenRepresentation, transferProcess -> completedAction(message, transferProcess));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifySuspended(ParticipantContext participantContext, TransferSuspensionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
-                .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(i -> onMessageDo(message, transferProcess -> suspendedAction(message, transferProcess)))
-        );
+        return verifyThenApply(participantContext, message, tokenRepresentation, transferProcess -> suspendedAction(message, transferProcess));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyTerminated(ParticipantContext participantContext, TransferTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId())
-                .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
-                .compose(i -> onMessageDo(message, transferProcess -> terminatedAction(message, transferProcess)))
-        );
+        return verifyThenApply(participantContext, message, tokenRepresentation, transferProcess -> terminatedAction(message, transferProcess));
     }
 
     @Override
@@ -146,10 +134,22 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @NotNull
     public ServiceResult<TransferProcess> findById(ParticipantContext participantContext, TransferProcessRequestMessage message, TokenRepresentation tokenRepresentation) {
 
-        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getTransferProcessId())
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getTransferProcessId()))
                 .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement())
-                        .map(it -> context.transferProcess()))
-        );
+                        .map(it -> context.transferProcess()));
+    }
+
+    /**
+     * Process a message on an existing transfer process in two phases: the request is verified against the agreement
+     * policy outside any transaction, because the verification could involve remote calls (e.g. presentation requests,
+     * DID resolution), then the action is applied in a short transaction on the leased transfer process, whose state
+     * gets checked again by the action.
+     */
+    private ServiceResult<TransferProcess> verifyThenApply(ParticipantContext participantContext, TransferRemoteMessage message, TokenRepresentation tokenRepresentation,
+                                                           Function<TransferProcess, ServiceResult<TransferProcess>> action) {
+        return transactionContext.execute(() -> fetchRequestContext(participantContext, message.getProcessId()))
+                .compose(context -> verifyRequest(participantContext, tokenRepresentation, message, context.agreement()))
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, action)));
     }
 
     @NotNull
@@ -30,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -145,6 +146,22 @@ class ContractDefinitionServiceImplTest {
         verifyNoInteractions(listener);
     }
 
+    @Test
+    void createAll_shouldReturnResultForEveryDefinition() {
+        var created = createContractDefinition();
+        var existing = createContractDefinition();
+        when(store.save(created)).thenReturn(StoreResult.success());
+        when(store.save(existing)).thenReturn(StoreResult.alreadyExists("Exists"));
+
+        var results = service.createAll(List.of(created, existing));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSucceeded();
+        assertThat(results.get(1).reason()).isEqualTo(CONFLICT);
+        verify(listener).created(created);
+        verify(listener, never()).created(existing);
+    }
+
     @Test
     void delete_shouldDeleteDefinitionIfItsNotReferencedByAnyAgreement() {
         var definition = createContractDefinition();
@@ -64,6 +64,7 @@ import org.mockito.ArgumentCaptor;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -93,6 +94,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -686,6 +688,61 @@ class ContractNegotiationProtocolServiceImplTest {
     }
 
 
+    @ParameterizedTest
+    @ArgumentsSource(NotifyArguments.class)
+    <M extends RemoteMessage> void notify_shouldVerifyRequestOutsideTransaction(MethodCall<M> methodCall, M message) {
+        var tokenRepresentation = tokenRepresentation();
+        var transactionActive = new AtomicBoolean();
+        doAnswer(invocation -> {
+            transactionActive.set(true);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                transactionActive.set(false);
+            }
+        }).when(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        when(consumerOfferResolver.resolveOffer(any())).thenReturn(ServiceResult.success(createValidatableConsumerOffer()));
+        when(validationService.validateInitialOffer(any(ParticipantAgent.class), isA(ValidatableConsumerOffer.class))).thenReturn(Result.success());
+        when(store.findById(any())).thenReturn(createContractNegotiationOffered());
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.notFound("not found"));
+        when(protocolTokenValidator.verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message))).thenAnswer(invocation -> {
+            assertThat(transactionActive.get()).isFalse();
+            return ServiceResult.success(participantAgent());
+        });
+
+        methodCall.call(service, participantContext, message, tokenRepresentation);
+
+        verify(protocolTokenValidator).verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message));
+        verify(store).findByIdAndLease(any());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(NotifyArguments.class)
+    <M extends RemoteMessage> void notify_shouldReturnConflict_whenLastOfferChangedDuringVerification(MethodCall<M> methodCall, M message) {
+        if (message instanceof ContractRequestMessage || message instanceof ContractOfferMessage) {
+            // verified against the policy carried by the message
+            return;
+        }
+        var tokenRepresentation = tokenRepresentation();
+        var leasedNegotiation = createContractNegotiationOffered();
+        leasedNegotiation.addContractOffer(ContractOffer.Builder.newInstance()
+                .id(ContractOfferId.create("2", "test-asset-id").toString())
+                .policy(createPolicy())
+                .assetId("assetId")
+                .build());
+        when(store.findById(any())).thenReturn(createContractNegotiationOffered());
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(leasedNegotiation));
+        when(protocolTokenValidator.verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message)))
+                .thenReturn(ServiceResult.success(participantAgent()));
+
+        var result = methodCall.call(service, participantContext, message, tokenRepresentation);
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verify(store).breakLease(leasedNegotiation);
+        verify(store, never()).save(any());
+        verifyNoInteractions(listener);
+    }
+
     private ParticipantAgent participantAgent() {
         return new ParticipantAgent("counterPartyId", emptyMap(), emptyMap());
     }
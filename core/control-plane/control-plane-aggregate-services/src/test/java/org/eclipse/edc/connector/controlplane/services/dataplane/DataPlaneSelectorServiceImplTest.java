@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.controlplane.asset.spi.domain.DataplaneMetadata
 import org.eclipse.edc.connector.controlplane.dataplane.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.controlplane.dataplane.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
@@ -29,6 +30,7 @@ import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -43,6 +45,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -173,6 +176,95 @@ public class DataPlaneSelectorServiceImplTest {
         }
     }
 
+    @Nested
+    class SelectForWithCache {
+
+        private final Clock clock = mock();
+        private final DataPlaneSelectorService cachingService = new DataPlaneSelectorServiceImpl(store, selectionStrategyRegistry,
+                new NoopTransactionContext(), configuredSelectionStrategy, clock, 1000);
+
+        @Test
+        void shouldQueryStoreOnce_whenCacheIsValid() {
+            when(clock.millis()).thenReturn(0L, 500L);
+            when(store.query(any())).thenAnswer(i -> Stream.of(registeredInstance("instance")));
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            var first = cachingService.selectFor(transferProcess());
+            var second = cachingService.selectFor(transferProcess());
+
+            assertThat(first).isSucceeded().extracting(DataPlaneInstance::getId).isEqualTo("instance");
+            assertThat(second).isSucceeded().extracting(DataPlaneInstance::getId).isEqualTo("instance");
+            verify(store, times(1)).query(any());
+        }
+
+        @Test
+        void shouldQueryStoreAgain_whenCacheIsExpired() {
+            when(clock.millis()).thenReturn(0L, 1000L);
+            when(store.query(any())).thenAnswer(i -> Stream.of(registeredInstance("instance")));
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            cachingService.selectFor(transferProcess());
+            cachingService.selectFor(transferProcess());
+
+            verify(store, times(2)).query(any());
+        }
+
+        @Test
+        void shouldQueryStoreAgain_whenInstanceIsRegistered() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.query(any())).thenAnswer(i -> Stream.of(registeredInstance("instance")));
+            when(store.save(any())).thenReturn(StoreResult.success());
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            cachingService.selectFor(transferProcess());
+            cachingService.register(registeredInstance("another"));
+            cachingService.selectFor(transferProcess());
+
+            verify(store, times(2)).query(any());
+        }
+
+        @Test
+        void shouldQueryStoreAgain_whenInstanceIsUnregistered() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.query(any())).thenAnswer(i -> Stream.of(registeredInstance("instance")));
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(registeredInstance("instance")));
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            cachingService.selectFor(transferProcess());
+            cachingService.unregister("instance");
+            cachingService.selectFor(transferProcess());
+
+            verify(store, times(2)).query(any());
+        }
+
+        @Test
+        void shouldNotKeepLoadedInstances_whenInvalidatedDuringLoad() {
+            when(clock.millis()).thenReturn(0L);
+            when(store.save(any())).thenReturn(StoreResult.success());
+            when(store.query(any()))
+                    .thenAnswer(i -> {
+                        cachingService.register(registeredInstance("another"));
+                        return Stream.of(registeredInstance("instance"));
+                    })
+                    .thenAnswer(i -> Stream.of(registeredInstance("instance")));
+            when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+            cachingService.selectFor(transferProcess());
+            cachingService.selectFor(transferProcess());
+            cachingService.selectFor(transferProcess());
+
+            verify(store, times(2)).query(any());
+        }
+
+        private DataPlaneInstance registeredInstance(String id) {
+            return createInstanceBuilder(id).allowedTransferType("chosenTransferType").state(REGISTERED.code()).build();
+        }
+
+        private TransferProcess transferProcess() {
+            return TransferProcess.Builder.newInstance().id(UUID.randomUUID().toString()).transferType("chosenTransferType").build();
+        }
+    }
+
     @Nested
     class Delete {
 
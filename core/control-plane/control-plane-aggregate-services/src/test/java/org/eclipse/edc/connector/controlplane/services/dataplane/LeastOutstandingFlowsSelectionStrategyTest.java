@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.services.dataplane;
+
+import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeastOutstandingFlowsSelectionStrategyTest {
+
+    private final TransferProcessStore store = mock();
+    private final Clock clock = mock();
+    private final LeastOutstandingFlowsSelectionStrategy strategy = new LeastOutstandingFlowsSelectionStrategy(store,
+            new NoopTransactionContext(), clock, 1000);
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void shouldSelectInstanceWithLeastOutstandingFlows() {
+        when(store.countByDataPlaneId(any(Criterion.class))).thenReturn(Map.of("busy", 2L));
+
+        var selected = strategy.apply(List.of(dataPlane("busy"), dataPlane("idle")));
+
+        assertThat(selected.getId()).isEqualTo("idle");
+    }
+
+    @Test
+    void shouldQueryOutstandingStatesOnly() {
+        when(store.countByDataPlaneId(any(Criterion.class))).thenReturn(Map.of());
+
+        strategy.apply(List.of(dataPlane("any")));
+
+        verify(store).countByDataPlaneId(argThat((Criterion criterion) -> criterion.getOperandLeft().equals("state") &&
+                criterion.getOperator().equals("in")));
+    }
+
+    @Test
+    void shouldCountSelections_untilCountsAreRefreshed() {
+        when(clock.millis()).thenReturn(0L, 0L, 500L, 500L);
+        when(store.countByDataPlaneId(any(Criterion.class))).thenReturn(Map.of("second", 1L));
+
+        var first = strategy.apply(List.of(dataPlane("first"), dataPlane("second")));
+
+        assertThat(first.getId()).isEqualTo("first");
+        assertThat(strategy.outstandingFlows("first")).isEqualTo(1);
+        assertThat(strategy.outstandingFlows("second")).isEqualTo(1);
+        verify(store, times(1)).countByDataPlaneId(any(Criterion.class));
+    }
+
+    @Test
+    void shouldRefreshCounts_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, 1000L, 1000L);
+        when(store.countByDataPlaneId(any(Criterion.class))).thenReturn(Map.of("data-plane", 2L), Map.of());
+
+        assertThat(strategy.outstandingFlows("data-plane")).isEqualTo(2);
+        assertThat(strategy.outstandingFlows("data-plane")).isZero();
+        verify(store, times(2)).countByDataPlaneId(any(Criterion.class));
+    }
+
+    private DataPlaneInstance dataPlane(String id) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any").build();
+    }
+}
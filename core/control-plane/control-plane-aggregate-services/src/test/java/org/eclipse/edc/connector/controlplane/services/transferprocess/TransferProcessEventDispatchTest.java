@@ -117,8 +117,8 @@ public class TransferProcessEventDispatchTest {
         when(dataspaceProfileContextRegistry.getProfile(any())).thenReturn(new DataspaceProfileContext(
                 "any", new ProtocolVersion("any", "any", "any"), mock(), ct -> "id", mock(), emptyList(), emptyList()
         ));
-        when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
-        when(dataFlowController.started(any())).thenReturn(StatusResult.success());
+        when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+        when(dataFlowController.startedAsync(any())).thenReturn(completedFuture(StatusResult.success()));
         when(dataAddressStore.resolve(any())).thenReturn(StoreResult.notFound("any"));
         when(dataAddressStore.store(any(), any())).thenReturn(StoreResult.success());
         when(dataAddressStore.remove(any())).thenReturn(StoreResult.success());
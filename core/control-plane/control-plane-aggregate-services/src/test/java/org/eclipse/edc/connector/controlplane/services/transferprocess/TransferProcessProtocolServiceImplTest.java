@@ -61,6 +61,7 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -91,6 +92,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -221,6 +223,34 @@ class TransferProcessProtocolServiceImplTest {
         verifyNoInteractions(listener);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(NotifyArguments.class)
+    <M extends RemoteMessage> void notify_shouldVerifyRequestOutsideTransaction(MethodCall<M> methodCall, M message) {
+        var tokenRepresentation = tokenRepresentation();
+        var transactionActive = new AtomicBoolean();
+        doAnswer(invocation -> {
+            transactionActive.set(true);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                transactionActive.set(false);
+            }
+        }).when(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        when(store.findById(any())).thenReturn(transferProcessBuilder().build());
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.notFound("not found"));
+        when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+        when(validationService.validateRequest(any(), isA(ContractAgreement.class))).thenReturn(Result.success());
+        when(protocolTokenValidator.verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message))).thenAnswer(invocation -> {
+            assertThat(transactionActive.get()).isFalse();
+            return ServiceResult.success(participantAgent());
+        });
+
+        methodCall.call(service, participantContext, message, tokenRepresentation);
+
+        verify(protocolTokenValidator).verify(eq(participantContext), eq(tokenRepresentation), any(), any(), eq(message));
+        verify(store).findByIdAndLease(any());
+    }
+
     private TransferProcess transferProcess(TransferProcessStates state, String id) {
         return transferProcessBuilder()
                 .id(id)
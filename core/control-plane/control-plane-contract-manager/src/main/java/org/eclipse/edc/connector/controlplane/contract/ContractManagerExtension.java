@@ -32,6 +32,7 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ParticipantScheduler;
 import org.eclipse.edc.statemachine.StateMachineConfiguration;
 
 import java.time.Clock;
@@ -59,6 +60,8 @@ public class ContractManagerExtension implements ServiceExtension {
     private ExecutorInstrumentation executorInstrumentation;
     @Inject
     private NegotiationProcessors negotiationProcessors;
+    @Inject
+    private ParticipantScheduler participantScheduler;
 
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -88,6 +91,7 @@ public class ContractManagerExtension implements ServiceExtension {
                 .batchSize(stateMachineConfiguration.batchSize())
                 .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                 .pendingGuard(pendingGuard)
+                .participantScheduler(participantScheduler)
                 .build();
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
@@ -101,6 +105,7 @@ public class ContractManagerExtension implements ServiceExtension {
                 .batchSize(stateMachineConfiguration.batchSize())
                 .entityRetryProcessConfiguration(stateMachineConfiguration.entityRetryProcessConfiguration())
                 .pendingGuard(pendingGuard)
+                .participantScheduler(participantScheduler)
                 .build();
 
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
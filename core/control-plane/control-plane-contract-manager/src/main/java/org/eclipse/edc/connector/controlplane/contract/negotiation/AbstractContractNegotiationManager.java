@@ -25,6 +25,7 @@ import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -41,13 +42,19 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, CompletableFuture<StatusResult<Void>>> function) {
         var filter = new Criterion[]{hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name())};
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter), entityRetryProcessConfiguration, clock, monitor)
+        return ProcessorImpl.Builder.newInstance(exclusions -> nextNotLeased(filter, exclusions), entityRetryProcessConfiguration, clock, monitor)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .scheduler(participantScheduler.queue(batchSize, () -> backlog(filter)))
                 .build();
     }
 
+    @Override
+    protected Map<String, Long> backlog(Criterion[] filter) {
+        return store.countByParticipantContextId(filter);
+    }
+
     private CompletableFuture<StatusResult<Void>> setPending(ContractNegotiation contractNegotiation) {
         contractNegotiation.setPending(true);
         update(contractNegotiation);
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.archival;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the archival of the transfer processes and negotiations in a final state.
+ */
+@Settings
+public record ArchivalConfiguration(
+
+        @Setting(
+                description = "Whether the transfer processes and negotiations in a final state are moved out of the working set " +
+                        "after the retention period. Archived entities can still be found and queried.",
+                key = "enabled",
+                defaultValue = "false"
+        )
+        boolean enabled,
+
+        @Setting(
+                description = "How long an entity stays in the working set after its last update, in ISO-8061 duration format.",
+                key = "retention",
+                defaultValue = "P7D"
+        )
+        Duration retention,
+
+        @Setting(
+                description = "Time period between the archival runs, in ISO-8061 duration format.",
+                key = "period",
+                defaultValue = "PT1H"
+        )
+        Duration period,
+
+        @Setting(
+                description = "The maximum number of entities archived in a single transaction.",
+                key = "batch-size",
+                defaultValue = "500"
+        )
+        int batchSize
+) {
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.archival;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+
+/**
+ * Archives the transfer processes and negotiations in a final state, when enabled.
+ */
+@Extension(value = ArchivalExtension.NAME)
+public class ArchivalExtension implements ServiceExtension {
+
+    public static final String NAME = "Stateful Entity Archival";
+
+    @Configuration(context = "edc.archival")
+    ArchivalConfiguration configuration;
+
+    @Inject
+    TransferProcessStore transferProcessStore;
+    @Inject
+    ContractNegotiationStore contractNegotiationStore;
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    Monitor monitor;
+    @Inject
+    Clock clock;
+
+    private StatefulEntityArchiver archiver;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (configuration.enabled()) {
+            var stores = new LinkedHashMap<String, StateEntityStore<?>>();
+            stores.put("transfer processes", transferProcessStore);
+            stores.put("contract negotiations", contractNegotiationStore);
+            archiver = new StatefulEntityArchiver(stores, configuration, executorInstrumentation, monitor, clock);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (archiver != null) {
+            archiver.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (archiver != null) {
+            archiver.stop();
+        }
+    }
+}
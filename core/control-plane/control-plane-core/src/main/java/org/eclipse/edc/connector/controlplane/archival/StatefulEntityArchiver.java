@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.archival;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically moves the entities in a final state that have not been updated within the retention period out of the
+ * working set of their store, see {@link StateEntityStore#archive(long, int)}.
+ * <p>
+ * Every run archives in batches until a store has nothing left to archive, so that every transaction stays short.
+ */
+public class StatefulEntityArchiver {
+
+    private final Map<String, StateEntityStore<?>> stores;
+    private final ArchivalConfiguration configuration;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final Clock clock;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param stores the stores to be archived, by entity name.
+     */
+    public StatefulEntityArchiver(Map<String, StateEntityStore<?>> stores, ArchivalConfiguration configuration,
+                                  ExecutorInstrumentation executorInstrumentation, Monitor monitor, Clock clock) {
+        this.stores = stores;
+        this.configuration = configuration;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.clock = clock;
+    }
+
+    public void start() {
+        scheduler = executorInstrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("stateful-entity-archiver");
+                    return thread;
+                }), "stateful-entity-archiver");
+
+        var period = configuration.period().toMillis();
+        scheduler.scheduleWithFixedDelay(this::archive, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Archive the entities that have not been updated within the retention period.
+     */
+    void archive() {
+        var updatedBefore = clock.millis() - configuration.retention().toMillis();
+        var batchSize = Math.max(1, configuration.batchSize());
+        stores.forEach((name, store) -> {
+            try {
+                var total = 0;
+                int archived;
+                do {
+                    archived = store.archive(updatedBefore, batchSize);
+                    total += archived;
+                } while (archived >= batchSize && !Thread.currentThread().isInterrupted());
+
+                if (total > 0) {
+                    var count = total;
+                    monitor.debug(() -> format("Archived %d %s", count, name));
+                }
+            } catch (Throwable throwable) {
+                monitor.severe(format("Error archiving %s", name), throwable);
+            }
+        });
+    }
+}
@@ -19,8 +19,11 @@ import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.store.KeysetPagination;
+import org.eclipse.edc.util.reflection.PropertyAccessor;
 
 import java.util.Comparator;
 import java.util.List;
@@ -52,9 +55,15 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
+            if (querySpec.getContinuationToken() != null) {
+                var sortField = querySpec.getSortField();
+                return KeysetPagination.page(filterBy(querySpec.getFilterExpression()), querySpec,
+                        asset -> sortValue(asset, sortField), Asset::getId);
+            }
+
             Comparator<Asset> comparator = querySpec.getSortField() == null
                     ? (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder()).thenComparing(idComparator(querySpec.getSortOrder()));
 
             return filterBy(querySpec.getFilterExpression())
                     .sorted(comparator)
@@ -138,6 +147,16 @@ public class InMemoryAssetIndex implements AssetIndex {
         }
     }
 
+    private Comparator<Asset> idComparator(SortOrder sortOrder) {
+        Comparator<Asset> comparator = Comparator.comparing(Asset::getId);
+        return sortOrder == SortOrder.ASC ? comparator : comparator.reversed();
+    }
+
+    private Object sortValue(Asset asset, String sortField) {
+        var property = asset.getPropertyOrPrivate(sortField);
+        return property != null ? property : PropertyAccessor.of(sortField).getIfPresent(asset);
+    }
+
     private Stream<Asset> filterBy(List<Criterion> criteria) {
         var predicate = criteria.stream()
                 .map(criterionOperatorRegistry::toPredicate)
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.Con
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -29,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -49,7 +51,8 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
     }
 
     public InMemoryContractNegotiationStore(String leaseHolder, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
-        super(ContractNegotiation.class, leaseHolder, clock, criterionOperatorRegistry, state -> ContractNegotiationStates.valueOf(state).code());
+        super(ContractNegotiation.class, leaseHolder, clock, criterionOperatorRegistry, state -> ContractNegotiationStates.valueOf(state).code(),
+                negotiation -> ContractNegotiationStates.isFinal(negotiation.getState()));
         agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class, criterionOperatorRegistry);
         lock = new ReentrantReadWriteLock(true);
     }
@@ -88,6 +91,11 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
         return agreementQueryResolver.query(getAgreements(), querySpec);
     }
 
+    @Override
+    public Map<String, Long> countByParticipantContextId(Criterion... criteria) {
+        return countBy(ContractNegotiation::getParticipantContextId, criteria);
+    }
+
     @NotNull
     private Stream<ContractAgreement> getAgreements() {
         return super.findAll()
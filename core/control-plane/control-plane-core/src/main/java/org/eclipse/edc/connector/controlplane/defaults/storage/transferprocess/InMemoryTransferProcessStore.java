@@ -17,12 +17,14 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.transferprocess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.store.InMemoryStatefulEntityStore;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -37,7 +39,8 @@ public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<Tr
     }
 
     public InMemoryTransferProcessStore(String leaserId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
-        super(TransferProcess.class, leaserId, clock, criterionOperatorRegistry, state -> TransferProcessStates.valueOf(state).code());
+        super(TransferProcess.class, leaserId, clock, criterionOperatorRegistry, state -> TransferProcessStates.valueOf(state).code(),
+                transferProcess -> TransferProcessStates.isFinal(transferProcess.getState()));
     }
 
     @Override
@@ -47,4 +50,14 @@ public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<Tr
         return super.findAll(querySpec).findFirst().orElse(null);
     }
 
+    @Override
+    public Map<String, Long> countByDataPlaneId(Criterion... criteria) {
+        return countBy(TransferProcess::getDataPlaneId, criteria);
+    }
+
+    @Override
+    public Map<String, Long> countByParticipantContextId(Criterion... criteria) {
+        return countBy(TransferProcess::getParticipantContextId, criteria);
+    }
+
 }
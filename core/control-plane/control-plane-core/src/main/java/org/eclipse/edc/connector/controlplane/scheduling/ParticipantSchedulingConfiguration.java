@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.scheduling;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+/**
+ * Configuration for the fair scheduling of the state machine work between the participant contexts.
+ */
+@Settings
+public record ParticipantSchedulingConfiguration(
+
+        @Setting(
+                description = "Whether the transfer process and negotiation state machines share the processing fairly between " +
+                        "the participant contexts, instead of processing the entities strictly by state timestamp.",
+                key = "enabled",
+                defaultValue = "false"
+        )
+        boolean enabled,
+
+        @Setting(
+                description = "Comma separated list of participantContextId=weight pairs, a participant context gets a share " +
+                        "of the processing proportional to its weight. Participant contexts that are not listed have weight 1.",
+                key = "weights",
+                defaultValue = ""
+        )
+        String weights,
+
+        @Setting(
+                description = "Comma separated list of participantContextId=priority pairs, within a batch the entities of the " +
+                        "higher priority classes are processed first. Participant contexts that are not listed have priority 0.",
+                key = "priorities",
+                defaultValue = ""
+        )
+        String priorities,
+
+        @Setting(
+                description = "The maximum number of entities of a participant context being processed at the same time, 0 for no limit.",
+                key = "max-in-flight",
+                defaultValue = "0"
+        )
+        int maxInFlight
+) {
+}
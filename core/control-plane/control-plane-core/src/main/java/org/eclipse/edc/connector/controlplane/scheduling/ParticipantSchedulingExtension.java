@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.scheduling;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.statemachine.ParticipantScheduler;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Provides the {@link ParticipantScheduler} shared by the transfer process and negotiation state machines.
+ */
+@Extension(value = ParticipantSchedulingExtension.NAME)
+public class ParticipantSchedulingExtension implements ServiceExtension {
+
+    public static final String NAME = "Participant Scheduling";
+
+    @Configuration(context = "edc.state-machine.fairness")
+    ParticipantSchedulingConfiguration configuration;
+
+    @Inject
+    Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public ParticipantScheduler participantScheduler() {
+        if (!configuration.enabled()) {
+            return ParticipantScheduler.disabled();
+        }
+        return new ParticipantScheduler(parse(configuration.weights()), parse(configuration.priorities()),
+                configuration.maxInFlight(), clock);
+    }
+
+    private Map<String, Integer> parse(String pairs) {
+        return Arrays.stream(pairs.split(","))
+                .map(String::trim)
+                .filter(pair -> !pair.isEmpty())
+                .map(pair -> {
+                    var separator = pair.lastIndexOf('=');
+                    if (separator <= 0) {
+                        throw new EdcException("Invalid participantContextId=value pair: " + pair);
+                    }
+                    try {
+                        return Map.entry(pair.substring(0, separator).trim(), Integer.parseInt(pair.substring(separator + 1).trim()));
+                    } catch (NumberFormatException e) {
+                        throw new EdcException("Invalid participantContextId=value pair: " + pair, e);
+                    }
+                })
+                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> second));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.archival;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatefulEntityArchiverTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(100_000), ZoneOffset.UTC);
+    private final StateEntityStore<?> transferProcessStore = mock();
+    private final StateEntityStore<?> negotiationStore = mock();
+    private final Monitor monitor = mock();
+
+    @Test
+    void archive_shouldArchiveInBatchesUntilStoreIsDrained() {
+        when(transferProcessStore.archive(anyLong(), anyInt())).thenReturn(10, 10, 3);
+        when(negotiationStore.archive(anyLong(), anyInt())).thenReturn(0);
+
+        archiver().archive();
+
+        verify(transferProcessStore, times(3)).archive(40_000, 10);
+        verify(negotiationStore).archive(40_000, 10);
+    }
+
+    @Test
+    void archive_shouldContinueWithNextStore_whenStoreFails() {
+        when(transferProcessStore.archive(anyLong(), anyInt())).thenThrow(new IllegalStateException("error"));
+        when(negotiationStore.archive(anyLong(), anyInt())).thenReturn(1);
+
+        archiver().archive();
+
+        verify(negotiationStore).archive(40_000, 10);
+        verify(monitor).severe(eq("Error archiving transfer processes"), any(IllegalStateException.class));
+    }
+
+    private StatefulEntityArchiver archiver() {
+        when(monitor.withPrefix(any())).thenReturn(monitor);
+        var stores = new LinkedHashMap<String, StateEntityStore<?>>();
+        stores.put("transfer processes", transferProcessStore);
+        stores.put("contract negotiations", negotiationStore);
+        var configuration = new ArchivalConfiguration(true, Duration.ofMinutes(1), Duration.ofHours(1), 10);
+        return new StatefulEntityArchiver(stores, configuration, mock(ExecutorInstrumentation.class), monitor, clock);
+    }
+}
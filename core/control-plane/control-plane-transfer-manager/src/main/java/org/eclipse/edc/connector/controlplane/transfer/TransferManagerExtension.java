@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ParticipantScheduler;
 import org.eclipse.edc.statemachine.StateMachineConfiguration;
 
 import java.time.Clock;
@@ -56,6 +57,8 @@ public class TransferManagerExtension implements ServiceExtension {
     private ExecutorInstrumentation executorInstrumentation;
     @Inject
     private TransferProcessors transferProcessors;
+    @Inject
+    private ParticipantScheduler participantScheduler;
 
     private TransferProcessManagerImpl processManager;
 
@@ -83,6 +86,7 @@ public class TransferManagerExtension implements ServiceExtension {
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .pendingGuard(pendingGuard)
                 .transferProcessors(transferProcessors)
+                .participantScheduler(participantScheduler)
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
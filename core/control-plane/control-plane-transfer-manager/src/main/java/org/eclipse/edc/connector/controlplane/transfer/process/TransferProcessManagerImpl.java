@@ -31,6 +31,7 @@ import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -115,13 +116,19 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     }
 
     private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, CompletableFuture<StatusResult<Void>>> function, Criterion[] filter) {
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter), entityRetryProcessConfiguration, clock, monitor)
+        return ProcessorImpl.Builder.newInstance(exclusions -> nextNotLeased(filter, exclusions), entityRetryProcessConfiguration, clock, monitor)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .scheduler(participantScheduler.queue(batchSize, () -> backlog(filter)))
                 .build();
     }
 
+    @Override
+    protected Map<String, Long> backlog(Criterion[] filter) {
+        return store.countByParticipantContextId(filter);
+    }
+
     private CompletableFuture<StatusResult<Void>> setPending(TransferProcess transferProcess) {
         transferProcess.setPending(true);
         update(transferProcess);
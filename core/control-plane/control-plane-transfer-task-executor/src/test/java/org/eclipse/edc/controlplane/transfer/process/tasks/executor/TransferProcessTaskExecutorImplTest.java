@@ -143,12 +143,12 @@ class TransferProcessTaskExecutorImplTest {
         var dataAddress = DataAddress.Builder.newInstance().type("any").keyName("keyName").build();
 
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
-        when(dataFlowController.started(any())).thenReturn(StatusResult.success());
-        when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
-        when(dataFlowController.start(any(), any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
-        when(dataFlowController.resume(any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
-        when(dataFlowController.terminate(any())).thenReturn(StatusResult.success());
-        when(dataFlowController.suspend(any())).thenReturn(StatusResult.success());
+        when(dataFlowController.startedAsync(any())).thenReturn(completedFuture(StatusResult.success()));
+        when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+        when(dataFlowController.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+        when(dataFlowController.resumeAsync(any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+        when(dataFlowController.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
+        when(dataFlowController.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
         when(addressResolver.resolveForAsset(any())).thenReturn(DataAddress.Builder.newInstance().type("type").build());
         when(dataAddressStore.resolve(any())).thenReturn(StoreResult.success(dataAddress));
         when(dataAddressStore.remove(any())).thenReturn(StoreResult.success());
@@ -270,11 +270,11 @@ class TransferProcessTaskExecutorImplTest {
     void handle_shouldStoreTerminateDataFlowTask_whenProcessorFailsFatally(TransferProcessTaskPayload payload) {
         when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
         when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
-        when(dataFlowController.start(any(), any())).thenReturn(StatusResult.fatalError("boom"));
-        when(dataFlowController.started(any())).thenReturn(StatusResult.fatalError("boom"));
-        when(dataFlowController.resume(any())).thenReturn(StatusResult.fatalError("boom"));
-        when(dataFlowController.suspend(any())).thenReturn(StatusResult.fatalError("boom"));
-        when(dataFlowController.completed(any())).thenReturn(StatusResult.fatalError("boom"));
+        when(dataFlowController.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
+        when(dataFlowController.startedAsync(any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
+        when(dataFlowController.resumeAsync(any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
+        when(dataFlowController.suspendAsync(any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
+        when(dataFlowController.completedAsync(any())).thenReturn(completedFuture(StatusResult.fatalError("boom")));
 
         var process = TransferProcess.Builder.newInstance()
                 .id(payload.getProcessId())
@@ -311,7 +311,7 @@ class TransferProcessTaskExecutorImplTest {
                 .build();
         when(transferStore.findById("transfer-123")).thenReturn(process);
         // a retryable failure yields a non-fatal error
-        when(dataFlowController.started(any())).thenReturn(StatusResult.failure(ERROR_RETRY, "temporary"));
+        when(dataFlowController.startedAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY, "temporary")));
 
         var result = executor.handle(task);
 
@@ -337,7 +337,7 @@ class TransferProcessTaskExecutorImplTest {
 
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferStore.findById("transfer-123")).thenReturn(transferProcess);
-        when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+        when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
 
         var result = executor.handle(task);
 
@@ -38,6 +38,7 @@ import org.eclipse.edc.protocol.spi.ProtocolWebhookResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 
 import java.util.Optional;
@@ -98,7 +99,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
         }
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("prepare data flow", (t, ignored) -> dataFlowController.prepare(process, policy)))
+                .doProcess(futureResult("prepare data flow", (t, ignored) -> dataFlowController.prepareAsync(process, policy)))
                 .doProcess(result("store eventual data address", (t, response) -> {
                     if (response.getDataAddress() == null) {
                         return StatusResult.success(response);
@@ -137,7 +138,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
         eventuallySetContentDataAddress(process);
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("start data flow", (t, ignored) -> dataFlowController.start(process, policy)))
+                .doProcess(futureResult("start data flow", (t, ignored) -> dataFlowController.startAsync(process, policy)))
                 .doProcess(result("eventually store data address", (t, response) -> {
                     process.setDataPlaneId(response.getDataPlaneId());
                     if (response.isAsync()) {
@@ -203,8 +204,8 @@ public class TransferProcessorsImpl implements TransferProcessors {
     @Override
     public CompletableFuture<StatusResult<Void>> processStartupRequested(TransferProcess process) {
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Notify started to data plane " + process.getCounterPartyAddress(), (t, r) ->
-                        dataFlowController.started(process))
+                .doProcess(futureResult("Notify started to data plane " + process.getCounterPartyAddress(), (t, r) ->
+                        dataFlowController.startedAsync(process))
                 )
                 .onSuccess((t, c) -> transitionToStarted(t))
                 .onFailure((t, throwable) -> transitionToStartupRequested(t))
@@ -235,12 +236,13 @@ public class TransferProcessorsImpl implements TransferProcessors {
     @Override
     public CompletableFuture<StatusResult<Void>> processResuming(TransferProcess process) {
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Resume DataFlow", (t, c) -> {
+                .doProcess(futureResult("Resume DataFlow", (t, c) -> {
                     if (t.getState() == TransferProcessStates.RESUMING.code()) {
-                        return dataFlowController.resume(process).map(DataFlowResponse::getDataAddress);
+                        return dataFlowController.resumeAsync(process)
+                                .thenApply(result -> result.<DataAddress, StatusResult<DataAddress>>map(DataFlowResponse::getDataAddress));
                     }
 
-                    return StatusResult.success(null);
+                    return completedFuture(StatusResult.success(null));
                 }))
                 .doProcess(result("Eventually store data address", (t, dataAddress) -> {
                     if (dataAddress != null) {
@@ -291,8 +293,8 @@ public class TransferProcessorsImpl implements TransferProcessors {
                 .doProcess(futureResult("Dispatch TransferCompletionMessage to " + process.getCounterPartyAddress(),
                         (t, dataFlowResponse) -> {
                             if (t.completionWasRequestedByCounterParty()) {
-                                var result = dataFlowController.completed(t);
-                                return completedFuture(result.mapEmpty());
+                                return dataFlowController.completedAsync(t)
+                                        .thenApply(result -> result.<Object, StatusResult<Object>>mapEmpty());
                             } else {
                                 return dispatch(builder, t, Object.class);
                             }
@@ -311,7 +313,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
                 .reason(process.getErrorDetail());
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Suspend DataFlow", (t, c) -> dataFlowController.suspend(process)))
+                .doProcess(futureResult("Suspend DataFlow", (t, c) -> dataFlowController.suspendAsync(process)))
                 .doProcess(futureResult("Dispatch TransferSuspensionMessage to " + process.getCounterPartyAddress(),
                         (t, dataFlowResponse) -> {
                             if (t.suspensionWasRequestedByCounterParty()) {
@@ -342,7 +344,7 @@ public class TransferProcessorsImpl implements TransferProcessors {
         }
 
         return entityRetryProcessFactory.retryProcessor(process)
-                .doProcess(result("Terminate DataFlow", (p, i) -> dataFlowController.terminate(process)))
+                .doProcess(futureResult("Terminate DataFlow", (p, i) -> dataFlowController.terminateAsync(process)))
                 .doProcess(futureResult("Dispatch TransferTerminationMessage", (t, n) -> {
                     if (t.terminationWasRequestedByCounterParty()) {
                         return completedFuture(StatusResult.success(null));
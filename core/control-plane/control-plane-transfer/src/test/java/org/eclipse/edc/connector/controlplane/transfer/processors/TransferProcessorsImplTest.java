@@ -127,7 +127,7 @@ class TransferProcessorsImplTest {
             var dataPlaneId = UUID.randomUUID().toString();
             var process = processBuilder(INITIAL).type(CONSUMER).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().dataPlaneId(dataPlaneId).async(true).build();
-            when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
 
             processors.processConsumerInitial(process).join();
 
@@ -143,7 +143,7 @@ class TransferProcessorsImplTest {
             var dataAddress = DataAddress.Builder.newInstance().type("any").build();
             var process = processBuilder(INITIAL).type(CONSUMER).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().dataAddress(dataAddress).async(false).build();
-            when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
             when(dataAddressStore.store(any(), any())).thenReturn(StoreResult.success());
 
             processors.processConsumerInitial(process).join();
@@ -156,7 +156,7 @@ class TransferProcessorsImplTest {
         void shouldTransitionToRequesting_whenSyncProvisionWithoutDataAddress() {
             var process = processBuilder(INITIAL).type(CONSUMER).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().async(false).build();
-            when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
 
             processors.processConsumerInitial(process).join();
 
@@ -167,7 +167,7 @@ class TransferProcessorsImplTest {
         @Test
         void shouldTransitionToTerminated_whenProvisionFails() {
             var process = processBuilder(INITIAL).type(CONSUMER).build();
-            when(dataFlowController.prepare(any(), any())).thenReturn(StatusResult.fatalError("error"));
+            when(dataFlowController.prepareAsync(any(), any())).thenReturn(completedFuture(StatusResult.fatalError("error")));
 
             processors.processConsumerInitial(process).join();
 
@@ -193,7 +193,7 @@ class TransferProcessorsImplTest {
             var dataPlaneId = UUID.randomUUID().toString();
             var process = processBuilder(INITIAL).type(PROVIDER).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().dataPlaneId(dataPlaneId).async(true).build();
-            when(dataFlowController.start(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
 
             processors.processProviderInitial(process).join();
 
@@ -209,7 +209,7 @@ class TransferProcessorsImplTest {
             var dataPlaneId = UUID.randomUUID().toString();
             var process = processBuilder(INITIAL).type(PROVIDER).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().dataPlaneId(dataPlaneId).async(false).build();
-            when(dataFlowController.start(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
 
             processors.processProviderInitial(process).join();
 
@@ -226,7 +226,7 @@ class TransferProcessorsImplTest {
             var dataAddress = DataAddress.Builder.newInstance().type("type").build();
             var process = processBuilder(INITIAL).type(PROVIDER).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().dataPlaneId(dataPlaneId).dataAddress(dataAddress).async(false).build();
-            when(dataFlowController.start(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
             when(dataAddressStore.store(any(), any())).thenReturn(StoreResult.success());
 
             processors.processProviderInitial(process).join();
@@ -238,7 +238,7 @@ class TransferProcessorsImplTest {
         @Test
         void shouldTransitionToTerminating_whenDataFlowStartFails() {
             var process = processBuilder(INITIAL).type(PROVIDER).stateCount(RETRY_LIMIT + 1).build();
-            when(dataFlowController.start(any(), any())).thenReturn(StatusResult.fatalError("error"));
+            when(dataFlowController.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.fatalError("error")));
 
             processors.processProviderInitial(process).join();
 
@@ -327,12 +327,12 @@ class TransferProcessorsImplTest {
         @Test
         void shouldNotifyDataPlaneAndTransitionToStarted() {
             var process = processBuilder(STARTUP_REQUESTED).type(CONSUMER).build();
-            when(dataFlowController.started(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.startedAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processStartupRequested(process).join();
 
-            verify(dataFlowController).started(process);
+            verify(dataFlowController).startedAsync(process);
             verify(store).save(argThat(p -> p.getState() == STARTED.code()));
             verify(listener).started(eq(process), any());
         }
@@ -340,7 +340,7 @@ class TransferProcessorsImplTest {
         @Test
         void shouldTransitionToTerminating_whenNotifyFails() {
             var process = processBuilder(STARTUP_REQUESTED).type(CONSUMER).stateCount(RETRY_LIMIT + 1).build();
-            when(dataFlowController.started(any())).thenReturn(StatusResult.fatalError("error"));
+            when(dataFlowController.startedAsync(any())).thenReturn(completedFuture(StatusResult.fatalError("error")));
 
             processors.processStartupRequested(process).join();
 
@@ -406,14 +406,14 @@ class TransferProcessorsImplTest {
             var dataAddress = DataAddress.Builder.newInstance().type("type").build();
             var process = processBuilder(RESUMING).type(PROVIDER).dataAddressOwner(true).build();
             var dataFlowResponse = DataFlowResponse.Builder.newInstance().dataAddress(dataAddress).build();
-            when(dataFlowController.resume(any())).thenReturn(StatusResult.success(dataFlowResponse));
+            when(dataFlowController.resumeAsync(any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
             when(messageDispatcher.dispatch(any(), any(), isA(TransferStartMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
             when(dataAddressStore.store(any(), any())).thenReturn(StoreResult.success());
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processResuming(process).join();
 
-            verify(dataFlowController).resume(process);
+            verify(dataFlowController).resumeAsync(process);
             var captor = ArgumentCaptor.<TransferStartMessage>captor();
             verify(messageDispatcher).dispatch(eq(PARTICIPANT_CONTEXT_ID), any(), captor.capture());
             assertThat(captor.getValue().getDataAddress()).usingRecursiveComparison().isEqualTo(dataAddress);
@@ -424,7 +424,7 @@ class TransferProcessorsImplTest {
         @Test
         void consumer_shouldSkipDispatchAndTransitionToStarted() {
             var process = processBuilder(RESUMING).type(CONSUMER).dataAddressOwner(false).build();
-            when(dataFlowController.resume(any())).thenReturn(StatusResult.success(DataFlowResponse.Builder.newInstance().build()));
+            when(dataFlowController.resumeAsync(any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processResuming(process).join();
@@ -496,12 +496,12 @@ class TransferProcessorsImplTest {
             var process = processBuilder(COMPLETING).type(CONSUMER).build();
             process.transitionCompletingRequested();
             when(store.save(any())).thenReturn(StoreResult.success());
-            when(dataFlowController.completed(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.completedAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processCompleting(process).join();
 
-            verify(dataFlowController).completed(process);
+            verify(dataFlowController).completedAsync(process);
             verifyNoInteractions(messageDispatcher);
         }
 
@@ -523,13 +523,13 @@ class TransferProcessorsImplTest {
         @Test
         void provider_shouldSuspendDataFlowAndSendSuspensionMessage() {
             var process = processBuilder(SUSPENDING).type(PROVIDER).correlationId("correlationId").build();
-            when(dataFlowController.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.success("any")));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processSuspending(process).join();
 
-            verify(dataFlowController).suspend(process);
+            verify(dataFlowController).suspendAsync(process);
             var captor = ArgumentCaptor.<TransferSuspensionMessage>captor();
             verify(messageDispatcher).dispatch(eq(PARTICIPANT_CONTEXT_ID), eq(Object.class), captor.capture());
             var message = captor.getValue();
@@ -542,7 +542,7 @@ class TransferProcessorsImplTest {
         @Test
         void consumer_shouldSuspendDataFlowAndSendSuspensionMessage() {
             var process = processBuilder(SUSPENDING).type(CONSUMER).correlationId("correlationId").build();
-            when(dataFlowController.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(completedFuture(StatusResult.success("any")));
             when(store.findById(process.getId())).thenReturn(process);
 
@@ -559,12 +559,12 @@ class TransferProcessorsImplTest {
         @Test
         void shouldNotSendMessage_whenSuspensionWasRequestedByCounterParty() {
             var process = processBuilder(SUSPENDING_REQUESTED).type(PROVIDER).correlationId("correlationId").build();
-            when(dataFlowController.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processSuspending(process).join();
 
-            verify(dataFlowController).suspend(process);
+            verify(dataFlowController).suspendAsync(process);
             verifyNoInteractions(messageDispatcher);
             verify(store).save(argThat(p -> p.getState() == SUSPENDED.code()));
             verify(listener).suspended(process);
@@ -573,7 +573,7 @@ class TransferProcessorsImplTest {
         @Test
         void shouldTransitionToTerminating_whenRetriesExhausted() {
             var process = processBuilder(SUSPENDING).type(PROVIDER).stateCount(RETRY_LIMIT + 1).build();
-            when(dataFlowController.suspend(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.suspendAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(messageDispatcher.dispatch(any(), any(), any())).thenReturn(failedFuture(new RuntimeException("error")));
             when(store.findById(process.getId())).thenReturn(process);
 
@@ -599,13 +599,13 @@ class TransferProcessorsImplTest {
         @Test
         void provider_shouldTerminateDataFlowAndSendTerminationMessage() {
             var process = processBuilder(TERMINATING).type(PROVIDER).correlationId("correlationId").build();
-            when(dataFlowController.terminate(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(messageDispatcher.dispatch(any(), any(), isA(TransferTerminationMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processTerminating(process).join();
 
-            verify(dataFlowController).terminate(process);
+            verify(dataFlowController).terminateAsync(process);
             var captor = ArgumentCaptor.<TransferTerminationMessage>captor();
             verify(messageDispatcher).dispatch(eq(PARTICIPANT_CONTEXT_ID), eq(Object.class), captor.capture());
             var message = captor.getValue();
@@ -619,13 +619,13 @@ class TransferProcessorsImplTest {
         @Test
         void consumer_shouldTerminateDataFlowAndSendTerminationMessage() {
             var process = processBuilder(TERMINATING).type(CONSUMER).correlationId("correlationId").build();
-            when(dataFlowController.terminate(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(messageDispatcher.dispatch(any(), any(), isA(TransferTerminationMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processTerminating(process).join();
 
-            verify(dataFlowController).terminate(process);
+            verify(dataFlowController).terminateAsync(process);
             var captor = ArgumentCaptor.<TransferTerminationMessage>captor();
             verify(messageDispatcher).dispatch(eq(PARTICIPANT_CONTEXT_ID), eq(Object.class), captor.capture());
             var message = captor.getValue();
@@ -640,12 +640,12 @@ class TransferProcessorsImplTest {
             var process = processBuilder(TERMINATING).type(PROVIDER).correlationId("correlationId").build();
             process.transitionTerminatingRequested("reason");
             when(store.save(any())).thenReturn(StoreResult.success());
-            when(dataFlowController.terminate(any())).thenReturn(StatusResult.success());
+            when(dataFlowController.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
             when(store.findById(process.getId())).thenReturn(process);
 
             processors.processTerminating(process).join();
 
-            verify(dataFlowController).terminate(process);
+            verify(dataFlowController).terminateAsync(process);
             verifyNoInteractions(messageDispatcher);
             verify(store).save(argThat(p -> p.getState() == TERMINATED.code()));
         }
@@ -653,7 +653,7 @@ class TransferProcessorsImplTest {
         @Test
         void shouldTransitionToTerminated_whenRetriesExhausted() {
             var process = processBuilder(TERMINATING).type(PROVIDER).stateCount(RETRY_LIMIT + 1).build();
-            when(dataFlowController.terminate(any())).thenReturn(StatusResult.fatalError("error"));
+            when(dataFlowController.terminateAsync(any())).thenReturn(completedFuture(StatusResult.fatalError("error")));
 
             processors.processTerminating(process).join();
 
@@ -15,10 +15,12 @@
 package org.eclipse.edc.connector.controlplane.policy.contract;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.policy.AgreementPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.policy.engine.spi.AtomicConstraintRuleFunction;
 import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -81,12 +83,8 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
             return false;
         }
 
-        return Optional.ofNullable(asInstant(rightValueStr))
-                .or(() -> Optional.ofNullable(asDuration(rightValueStr))
-                        .map(duration -> Instant.ofEpochSecond(context.contractAgreement().getContractSigningDate())
-                                .plus(duration)
-                        )
-                ).map(bound -> checkFixedPeriod(context.now(), operator, bound))
+        return Optional.ofNullable(resolveBound(rightValueStr, context.contractAgreement()))
+                .map(bound -> checkFixedPeriod(context.now(), operator, bound))
                 .orElseGet(() -> {
                     var message = "Unsupported right-value, expected either an ISO-8061 String or a expression matching '%s', but got '%s'"
                             .formatted(ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY, rightValueStr);
@@ -95,6 +93,21 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
                 });
     }
 
+    /**
+     * Resolves the instant at which the outcome of the constraint changes, so either the fixed ISO-8061 time or the
+     * contract signing date shifted by the duration expression.
+     *
+     * @param rightValue the right-value of the constraint.
+     * @param contractAgreement the contract agreement, whose signing date is the offset of the duration expressions.
+     * @return the bound {@link Instant}, null if the right-value is not supported.
+     */
+    public static @Nullable Instant resolveBound(String rightValue, ContractAgreement contractAgreement) {
+        return Optional.ofNullable(asInstant(rightValue))
+                .or(() -> Optional.ofNullable(asDuration(rightValue))
+                        .map(duration -> Instant.ofEpochSecond(contractAgreement.getContractSigningDate()).plus(duration)))
+                .orElse(null);
+    }
+
     /**
      * Checks whether an input string fits the regex {@link #EXPRESSION_REGEX}, e.g. "contractAgreement+50m"
      * and parses that string into a {@link Duration} if successful.
@@ -102,7 +115,7 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
      * @param rightValueStr A string potentially containing a duration expression.
      * @return A {@link Duration} or null if input doesn't match
      */
-    private Duration asDuration(String rightValueStr) {
+    private static Duration asDuration(String rightValueStr) {
         var matcher = Pattern.compile(EXPRESSION_REGEX).matcher(rightValueStr);
         if (matcher.matches()) {
             var number = Integer.parseInt(matcher.group(REGEX_GROUP_NUMERIC));
@@ -119,7 +132,7 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
      * @return the {@link TemporalUnit}
      * @throws EdcException if the string was not recognized
      */
-    private TemporalUnit asChrono(String unit) {
+    private static TemporalUnit asChrono(String unit) {
         return switch (unit) {
             case "s" -> ChronoUnit.SECONDS;
             case "m" -> ChronoUnit.MINUTES;
@@ -143,7 +156,7 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
         };
     }
 
-    private Instant asInstant(String isoString) {
+    private static Instant asInstant(String isoString) {
         try {
             return Instant.parse(isoString);
         } catch (DateTimeParseException e) {
@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.entity.StateEntityManager;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
@@ -28,7 +29,11 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -47,6 +52,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
+    protected ParticipantScheduler participantScheduler = ParticipantScheduler.disabled();
     protected S store;
 
     @Override
@@ -92,6 +98,29 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
                 });
     }
 
+    /**
+     * Fetch the next not leased entities that satisfy the filter and the exclusions of the {@link ParticipantScheduler}.
+     *
+     * @param filter     the processor filter.
+     * @param exclusions the additional criteria.
+     * @return the leased entities.
+     */
+    protected List<E> nextNotLeased(Criterion[] filter, List<Criterion> exclusions) {
+        var criteria = Stream.concat(Arrays.stream(filter), exclusions.stream()).toArray(Criterion[]::new);
+        return store.nextNotLeased(batchSize, criteria);
+    }
+
+    /**
+     * The number of entities that satisfy the processor filter by participant context id, used to report the backlog
+     * of the {@link ParticipantScheduler}.
+     *
+     * @param filter the processor filter.
+     * @return the counts, empty by default.
+     */
+    protected Map<String, Long> backlog(Criterion[] filter) {
+        return Map.of();
+    }
+
     protected void breakLease(E entity) {
         store.breakLease(entity);
     }
@@ -141,6 +170,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B participantScheduler(ParticipantScheduler participantScheduler) {
+            manager.participantScheduler = participantScheduler;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
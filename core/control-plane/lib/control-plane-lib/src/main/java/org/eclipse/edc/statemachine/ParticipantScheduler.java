@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.participantcontext.spi.types.ParticipantResource;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.query.Criterion;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toMap;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.NOT_IN;
+
+/**
+ * Schedules the state machine work fairly between the participant contexts.
+ * <p>
+ * Processors fetch the entities ordered by state timestamp, so a participant context with a large backlog would fill
+ * every batch and starve the others. Every processor gets its own {@link Queue}, that applies a deficit round-robin over
+ * the fetches: within a round a participant context can process up to its weight times the batch size, then it gets
+ * excluded from the fetch. When nothing is left to fetch, every participant context got its share and a new round
+ * starts. Inside a batch the entities are ordered by priority class, and interleaved by weight within the same class.
+ * <p>
+ * The in-flight quota limits the entities of a participant context whose processing has started but not completed
+ * yet, across all the processors that share the scheduler.
+ * <p>
+ * The scheduling can be observed through {@link #metrics()}, and the time every entity waited before being admitted
+ * gets reported to the registered {@link Listener}s.
+ */
+public class ParticipantScheduler {
+
+    private static final String PARTICIPANT_CONTEXT_ID = "participantContextId";
+    private static final String UNKNOWN_PARTICIPANT = "";
+
+    private final boolean enabled;
+    private final Map<String, Integer> weights;
+    private final Map<String, Integer> priorities;
+    private final int maxInFlight;
+    private final Clock clock;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final List<Queue> queues = new CopyOnWriteArrayList<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param weights     the weights by participant context id, 1 for the ones that are not listed.
+     * @param priorities  the priority classes by participant context id, 0 for the ones that are not listed. Higher
+     *                    priority classes are processed first.
+     * @param maxInFlight the maximum number of entities of a participant context being processed at the same time, 0
+     *                    for no limit.
+     */
+    public ParticipantScheduler(Map<String, Integer> weights, Map<String, Integer> priorities, int maxInFlight, Clock clock) {
+        this(true, weights, priorities, maxInFlight, clock);
+    }
+
+    private ParticipantScheduler(boolean enabled, Map<String, Integer> weights, Map<String, Integer> priorities, int maxInFlight, Clock clock) {
+        this.enabled = enabled;
+        this.weights = Map.copyOf(weights);
+        this.priorities = Map.copyOf(priorities);
+        this.maxInFlight = maxInFlight;
+        this.clock = clock;
+    }
+
+    /**
+     * A scheduler that leaves the entities in the order they have been fetched.
+     *
+     * @return the scheduler.
+     */
+    public static ParticipantScheduler disabled() {
+        return new ParticipantScheduler(false, Map.of(), Map.of(), 0, Clock.systemUTC());
+    }
+
+    /**
+     * Create the queue of a processor.
+     *
+     * @param batchSize the number of entities fetched by the processor on every iteration.
+     * @return the queue.
+     */
+    public Queue queue(int batchSize) {
+        return queue(batchSize, Map::of);
+    }
+
+    /**
+     * Create the queue of a processor, that reports its backlog.
+     *
+     * @param batchSize the number of entities fetched by the processor on every iteration.
+     * @param backlog   supplies the number of entities waiting to be processed by the processor, by participant
+     *                  context id. It gets called only when the {@link #metrics()} are requested.
+     * @return the queue.
+     */
+    public Queue queue(int batchSize, Supplier<Map<String, Long>> backlog) {
+        var queue = new Queue(batchSize, backlog);
+        if (enabled) {
+            queues.add(queue);
+        }
+        return queue;
+    }
+
+    /**
+     * Register a listener that gets notified about the scheduling decisions.
+     *
+     * @param listener the listener.
+     */
+    public void registerListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * The current metrics, by participant context id. The backlog gets counted by the processors' stores, so calling
+     * this method has the cost of a count query per processor.
+     *
+     * @return the metrics.
+     */
+    public Map<String, Metrics> metrics() {
+        var backlogs = new HashMap<String, Long>();
+        queues.forEach(queue -> queue.backlog.get().forEach((participant, backlog) -> backlogs.merge(participant, backlog, Long::sum)));
+        counters.keySet().forEach(participant -> backlogs.putIfAbsent(participant, 0L));
+        return backlogs.entrySet().stream().collect(toMap(Map.Entry::getKey, entry -> {
+            var counter = counters(entry.getKey());
+            return new Metrics(entry.getValue(), counter.inFlight.get(), counter.processed.sum(), counter.deferred.sum());
+        }));
+    }
+
+    private int weight(String participantContextId) {
+        return Math.max(1, weights.getOrDefault(participantContextId, 1));
+    }
+
+    private int priority(String participantContextId) {
+        return priorities.getOrDefault(participantContextId, 0);
+    }
+
+    private boolean inFlightQuotaReached(String participantContextId) {
+        return maxInFlight > 0 && counters(participantContextId).inFlight.get() >= maxInFlight;
+    }
+
+    private Counters counters(String participantContextId) {
+        return counters.computeIfAbsent(participantContextId, p -> new Counters());
+    }
+
+    private static String participantContextId(StatefulEntity<?> entity) {
+        if (entity instanceof ParticipantResource resource && resource.getParticipantContextId() != null) {
+            return resource.getParticipantContextId();
+        }
+        return UNKNOWN_PARTICIPANT;
+    }
+
+    /**
+     * Scheduling metrics of a participant context.
+     *
+     * @param backlog   the entities waiting to be processed, across all the processors.
+     * @param inFlight  the entities currently being processed.
+     * @param processed the entities processed since startup.
+     * @param deferred  the fetched entities that have not been processed because the participant context already
+     *                  consumed its share, since startup.
+     */
+    public record Metrics(long backlog, int inFlight, long processed, long deferred) {
+    }
+
+    /**
+     * Gets notified about the scheduling decisions, e.g. to export them to a monitoring system.
+     */
+    public interface Listener {
+
+        /**
+         * An entity has been admitted to be processed.
+         *
+         * @param participantContextId the participant context id.
+         * @param waitMillis           how long the entity waited in its state before being admitted.
+         */
+        default void admitted(String participantContextId, long waitMillis) {
+        }
+    }
+
+    /**
+     * The scheduling state of a single processor.
+     */
+    public class Queue {
+
+        private final int batchSize;
+        private final Supplier<Map<String, Long>> backlog;
+        private final Map<String, Integer> spent = new ConcurrentHashMap<>();
+
+        private Queue(int batchSize, Supplier<Map<String, Long>> backlog) {
+            this.batchSize = batchSize;
+            this.backlog = backlog;
+        }
+
+        /**
+         * The criteria that exclude the participant contexts that cannot process more entities for now.
+         *
+         * @return the criteria to be added to the fetch.
+         */
+        List<Criterion> exclusions() {
+            if (!enabled) {
+                return List.of();
+            }
+            var excluded = counters.keySet().stream()
+                    .filter(participant -> !UNKNOWN_PARTICIPANT.equals(participant))
+                    .filter(participant -> allowanceConsumed(participant) || inFlightQuotaReached(participant))
+                    .toList();
+            return excluded.isEmpty() ? List.of() : List.of(criterion(PARTICIPANT_CONTEXT_ID, NOT_IN, excluded));
+        }
+
+        /**
+         * Start a new round, restoring the allowance of every participant context.
+         *
+         * @return true if any participant context had consumed part of its allowance.
+         */
+        boolean startRound() {
+            if (spent.isEmpty()) {
+                return false;
+            }
+            spent.clear();
+            return true;
+        }
+
+        /**
+         * Order the fetched entities by priority class, interleaving them by weight within the same class.
+         *
+         * @param entities the fetched entities, ordered by state timestamp.
+         * @return the ordered entities.
+         */
+        <E extends StatefulEntity<E>> List<E> order(Collection<E> entities) {
+            if (!enabled) {
+                return List.copyOf(entities);
+            }
+            var byParticipant = new LinkedHashMap<String, List<E>>();
+            entities.forEach(entity -> byParticipant.computeIfAbsent(participantContextId(entity), p -> new ArrayList<>()).add(entity));
+
+            var ordered = new ArrayList<E>(entities.size());
+            byParticipant.keySet().stream().map(ParticipantScheduler.this::priority).distinct()
+                    .sorted(Comparator.reverseOrder())
+                    .forEach(priority -> {
+                        var participants = byParticipant.keySet().stream().filter(p -> priority(p) == priority).toList();
+                        var positions = new HashMap<String, Integer>();
+                        var added = -1;
+                        while (added != 0) {
+                            added = 0;
+                            for (var participant : participants) {
+                                var participantEntities = byParticipant.get(participant);
+                                var from = positions.getOrDefault(participant, 0);
+                                var to = Math.min(participantEntities.size(), from + weight(participant));
+                                ordered.addAll(participantEntities.subList(from, to));
+                                positions.put(participant, to);
+                                added += to - from;
+                            }
+                        }
+                    });
+            return ordered;
+        }
+
+        /**
+         * Admit the entity to be processed, if its participant context has not consumed its allowance nor reached
+         * the in-flight quota. Every admitted entity must be {@link #completed(StatefulEntity) completed}.
+         *
+         * @param entity the entity.
+         * @return true if the entity can be processed.
+         */
+        boolean admit(StatefulEntity<?> entity) {
+            if (!enabled) {
+                return true;
+            }
+            var participant = participantContextId(entity);
+            var counter = counters(participant);
+            if (allowanceConsumed(participant) || inFlightQuotaReached(participant)) {
+                counter.deferred.increment();
+                return false;
+            }
+            spent.merge(participant, 1, Integer::sum);
+            counter.inFlight.incrementAndGet();
+            var waitMillis = Math.max(0, clock.millis() - entity.getStateTimestamp());
+            listeners.forEach(listener -> listener.admitted(participant, waitMillis));
+            return true;
+        }
+
+        /**
+         * Signal that the processing of an admitted entity has completed.
+         *
+         * @param entity the entity.
+         */
+        void completed(StatefulEntity<?> entity) {
+            if (!enabled) {
+                return;
+            }
+            var counter = counters(participantContextId(entity));
+            counter.inFlight.decrementAndGet();
+            counter.processed.increment();
+        }
+
+        private boolean allowanceConsumed(String participantContextId) {
+            return spent.getOrDefault(participantContextId, 0) >= (long) weight(participantContextId) * batchSize;
+        }
+    }
+
+    private static class Counters {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder deferred = new LongAdder();
+    }
+}
@@ -16,12 +16,14 @@ package org.eclipse.edc.statemachine;
 
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -41,21 +43,23 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - A {@link ParticipantScheduler.Queue} can be registered, to share the processing fairly between the participant contexts.
  *
  * @param <E> the entity that is processed
  */
 public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
 
-    private final Supplier<Collection<E>> entities;
+    private final Function<List<Criterion>, Collection<E>> entities;
     private final EntityRetryProcessConfiguration configuration;
     private final Clock clock;
     private final Monitor monitor;
     private Function<E, CompletableFuture<StatusResult<Void>>> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private ParticipantScheduler.Queue queue = ParticipantScheduler.disabled().queue(0);
 
-    private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier, EntityRetryProcessConfiguration entityRetryProcessConfiguration, Clock clock, Monitor monitor) {
-        entities = entitiesSupplier;
+    private ProcessorImpl(Function<List<Criterion>, Collection<E>> entitiesFetcher, EntityRetryProcessConfiguration entityRetryProcessConfiguration, Clock clock, Monitor monitor) {
+        entities = entitiesFetcher;
         configuration = entityRetryProcessConfiguration;
         this.clock = clock;
         this.monitor = monitor;
@@ -63,7 +67,11 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
+        var fetched = entities.apply(queue.exclusions());
+        if (fetched.isEmpty() && queue.startRound()) {
+            fetched = entities.apply(queue.exclusions());
+        }
+        return queue.order(fetched).stream()
                 .map(this::process)
                 .filter(isEqual(true))
                 .count();
@@ -81,8 +89,22 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
             }
         }
 
+        if (!queue.admit(entity)) {
+            onNotProcessed.accept(entity);
+            return false;
+        }
+
         var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-        actualProcess.apply(entity);
+        CompletableFuture<StatusResult<Void>> future = null;
+        try {
+            future = actualProcess.apply(entity);
+        } finally {
+            if (future == null) {
+                queue.completed(entity);
+            } else {
+                future.whenComplete((result, throwable) -> queue.completed(entity));
+            }
+        }
         return true;
     }
 
@@ -107,15 +129,28 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
 
         private final ProcessorImpl<E> processor;
 
-        private Builder(Supplier<Collection<E>> entitiesSupplier, EntityRetryProcessConfiguration entityRetryProcessConfiguration,
+        private Builder(Function<List<Criterion>, Collection<E>> entitiesFetcher, EntityRetryProcessConfiguration entityRetryProcessConfiguration,
                         Clock clock, Monitor monitor) {
-            processor = new ProcessorImpl<>(entitiesSupplier, entityRetryProcessConfiguration, clock, monitor);
+            processor = new ProcessorImpl<>(entitiesFetcher, entityRetryProcessConfiguration, clock, monitor);
         }
 
         public static <E extends StatefulEntity<E>> Builder<E> newInstance(Supplier<Collection<E>> entitiesSupplier,
                                                                            EntityRetryProcessConfiguration entityRetryProcessConfiguration,
                                                                            Clock clock, Monitor monitor) {
-            return new Builder<>(entitiesSupplier, entityRetryProcessConfiguration, clock, monitor);
+            return new Builder<>(criteria -> entitiesSupplier.get(), entityRetryProcessConfiguration, clock, monitor);
+        }
+
+        /**
+         * Create a builder whose entities are fetched with additional criteria, needed by the {@link ParticipantScheduler}
+         * to exclude the participant contexts that already got their share.
+         *
+         * @param entitiesFetcher fetches the entities, the additional criteria must be added to the processor ones.
+         * @return the builder.
+         */
+        public static <E extends StatefulEntity<E>> Builder<E> newInstance(Function<List<Criterion>, Collection<E>> entitiesFetcher,
+                                                                           EntityRetryProcessConfiguration entityRetryProcessConfiguration,
+                                                                           Clock clock, Monitor monitor) {
+            return new Builder<>(entitiesFetcher, entityRetryProcessConfiguration, clock, monitor);
         }
 
         public Builder<E> process(Function<E, CompletableFuture<StatusResult<Void>>> process) {
@@ -139,6 +174,17 @@ public class ProcessorImpl<E extends StatefulEntity<E>> implements Processor {
             return this;
         }
 
+        /**
+         * Defines the queue that shares the processing fairly between the participant contexts.
+         *
+         * @param queue the queue.
+         * @return the builder.
+         */
+        public Builder<E> scheduler(ParticipantScheduler.Queue queue) {
+            processor.queue = queue;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
@@ -15,27 +15,30 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.spi.query.SortOrder;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.eclipse.edc.util.reflection.PropertyAccessor;
 
 import java.util.Comparator;
 
 /**
- * A object comparator that acts on its fields
+ * A object comparator that acts on its fields. The field path gets compiled once in a {@link PropertyAccessor}, because
+ * it is read twice per comparison.
  */
 public class FieldComparator<T> implements Comparator<T> {
 
     protected final String fieldName;
     protected final SortOrder sortOrder;
+    private final PropertyAccessor accessor;
 
     public FieldComparator(String fieldName, SortOrder sortOrder) {
         this.fieldName = fieldName;
         this.sortOrder = sortOrder;
+        this.accessor = PropertyAccessor.of(fieldName);
     }
 
     @Override
     public int compare(T obj1, T obj2) {
-        var o1 = ReflectionUtil.getFieldValue(fieldName, obj1);
-        var o2 = ReflectionUtil.getFieldValue(fieldName, obj2);
+        Object o1 = accessor.get(obj1);
+        Object o2 = accessor.get(obj2);
 
         if (o1 == null || o2 == null) {
             return 0;
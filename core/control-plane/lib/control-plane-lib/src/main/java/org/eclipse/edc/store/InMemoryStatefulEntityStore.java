@@ -35,11 +35,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -50,22 +53,34 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<String, T> archivedById = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
     private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
     private final Map<String, Lease> leases = new HashMap<>();
+    private final Predicate<T> isFinal;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry, StateResolver stateResolver) {
+        this(clazz, lockId, clock, criterionOperatorRegistry, stateResolver, entity -> false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param isFinal tells if the entity is in a final state, only entities in a final state can be archived.
+     */
+    public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry, StateResolver stateResolver, Predicate<T> isFinal) {
         this.queryResolver = new ReflectionBasedQueryResolver<>(clazz, new StatefulEntityCriteriaToPredicate<>(criterionOperatorRegistry, stateResolver));
         this.lockId = lockId;
         this.clock = clock;
         this.criterionOperatorRegistry = criterionOperatorRegistry;
+        this.isFinal = isFinal;
     }
 
     @Override
     public @Nullable T findById(String id) {
-        var t = entitiesById.get(id);
+        var t = find(id);
         if (t == null) {
             return null;
         }
@@ -90,7 +105,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
         return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
+            var entity = find(id);
             if (entity == null) {
                 return StoreResult.notFound(format("Entity %s not found", id));
             }
@@ -104,13 +119,30 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     @Override
     public StoreResult<Void> save(T entity) {
         return acquireLease(entity.getId()).compose(it -> {
-            entitiesById.put(entity.getId(), entity.copy());
+            lockManager.writeLock(() -> {
+                entitiesById.put(entity.getId(), entity.copy());
+                return archivedById.remove(entity.getId());
+            });
             freeLease(entity.getId());
             return StoreResult.success();
         });
 
     }
 
+    @Override
+    public int archive(long updatedBefore, int max) {
+        return lockManager.writeLock(() -> {
+            var archivable = entitiesById.values().stream()
+                    .filter(isFinal)
+                    .filter(e -> e.getUpdatedAt() < updatedBefore)
+                    .sorted(comparingLong(StatefulEntity::getUpdatedAt))
+                    .limit(max)
+                    .toList();
+            archivable.forEach(e -> archivedById.put(e.getId(), entitiesById.remove(e.getId())));
+            return archivable.size();
+        });
+    }
+
     @Override
     public StoreResult<Void> breakLease(T entity) {
         freeLease(entity.getId());
@@ -122,6 +154,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
             return StoreResult.alreadyLeased("Entity is leased and cannot be deleted!");
         }
         entitiesById.remove(id);
+        archivedById.remove(id);
         return StoreResult.success();
     }
 
@@ -130,7 +163,25 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public Stream<T> findAll() {
-        return entitiesById.values().stream();
+        return Stream.concat(entitiesById.values().stream(), archivedById.values().stream());
+    }
+
+    /**
+     * Counts the entities in the working set that satisfy the criteria, grouped by the given key. Entities whose key is
+     * null are not counted.
+     *
+     * @param key      provides the grouping key of an entity.
+     * @param criteria the selection criteria.
+     * @return the number of entities by key.
+     */
+    protected Map<String, Long> countBy(Function<T, String> key, Criterion... criteria) {
+        return lockManager.readLock(() -> {
+            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
+            return entitiesById.values().stream()
+                    .filter(filterPredicate)
+                    .filter(entity -> key.apply(entity) != null)
+                    .collect(groupingBy(key, counting()));
+        });
     }
 
     public StoreResult<Void> acquireLease(String id, String lockId, Duration leaseTime) {
@@ -146,6 +197,11 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
     }
 
+    private @Nullable T find(String id) {
+        var entity = entitiesById.get(id);
+        return entity != null ? entity : archivedById.get(id);
+    }
+
     private void freeLease(String id) {
         leases.remove(id);
     }
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Applies the keyset pagination of a {@link QuerySpec} that carries a {@link ContinuationToken} on a stream, with the
+ * same semantics of the SQL stores: elements are ordered by sort value and id, and only the ones that come after the
+ * token position are returned. Elements without a sort value come last in ascending order and first in descending order.
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Returns the page that follows the continuation token of the query.
+     *
+     * @param stream    the filtered elements.
+     * @param querySpec the query, must contain a continuation token.
+     * @param sortValue extracts the value of the sort field from an element.
+     * @param id        extracts the id from an element.
+     * @return the page.
+     */
+    public static <T> Stream<T> page(Stream<T> stream, QuerySpec querySpec, Function<T, Object> sortValue, Function<T, String> id) {
+        var token = ContinuationToken.decode(querySpec.getContinuationToken());
+        var sorted = querySpec.getSortField() != null;
+        var descending = querySpec.getSortOrder() == SortOrder.DESC;
+
+        Comparator<T> comparator = (first, second) -> {
+            var result = sorted ? compareValues(sortValue.apply(first), sortValue.apply(second)) : 0;
+            return result != 0 ? result : id.apply(first).compareTo(id.apply(second));
+        };
+
+        Predicate<T> after = element -> {
+            var result = 0;
+            if (sorted) {
+                result = compareValues(sortValue.apply(element), token.sortValue());
+            }
+            if (result == 0) {
+                result = id.apply(element).compareTo(token.id());
+            }
+            return descending ? result < 0 : result > 0;
+        };
+
+        return stream.filter(after)
+                .sorted(descending ? comparator.reversed() : comparator)
+                .limit(querySpec.getLimit());
+    }
+
+    /**
+     * Compares two sort values. Numbers are compared by their numeric value regardless of their type, because the values
+     * carried by a decoded token don't keep the original type. Null values come last.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static int compareValues(Object first, Object second) {
+        if (first == null || second == null) {
+            return first == second ? 0 : first == null ? 1 : -1;
+        }
+        if (first instanceof Number && second instanceof Number) {
+            return new BigDecimal(first.toString()).compareTo(new BigDecimal(second.toString()));
+        }
+        if (first instanceof Comparable comparable && first.getClass().isInstance(second)) {
+            return comparable.compareTo(second);
+        }
+        return first.toString().compareTo(second.toString());
+    }
+}
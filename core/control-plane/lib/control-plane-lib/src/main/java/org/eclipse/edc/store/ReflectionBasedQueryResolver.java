@@ -20,6 +20,7 @@ import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.Comparator;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -31,6 +32,8 @@ import static java.lang.String.format;
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+
     private final Class<T> typeParameterClass;
     private final CriteriaToPredicate<T> criteriaToPredicate;
 
@@ -53,7 +56,7 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies offset and limit on the query result, or the keyset pagination when the query carries a continuation token.
      *
      * @param stream      stream to be queried.
      * @param spec        query specification.
@@ -67,12 +70,25 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
         var sortField = spec.getSortField();
 
-        if (sortField != null) {
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+        }
+
+        if (spec.getContinuationToken() != null) {
+            if (ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) == null) {
+                throw new IllegalArgumentException(format("Cannot use a continuation token, the id field does not exist in %s", typeParameterClass));
             }
+            return KeysetPagination.page(filteredStream, spec,
+                    element -> ReflectionUtil.getFieldValue(sortField, element),
+                    element -> String.valueOf(ReflectionUtil.<Object>getFieldValue(ID_FIELD, element)));
+        }
 
-            var comparator = new FieldComparator<>(sortField, spec.getSortOrder());
+        if (sortField != null) {
+            Comparator<T> comparator = new FieldComparator<>(sortField, spec.getSortOrder());
+            if (ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) != null) {
+                // the id makes the order total, which is required to page through the results consistently
+                comparator = comparator.thenComparing(new FieldComparator<>(ID_FIELD, spec.getSortOrder()));
+            }
             filteredStream = filteredStream.sorted(comparator);
         }
 
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.Criterion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.REQUESTING;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ParticipantSchedulerTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), UTC);
+
+    @Test
+    void order_shouldInterleaveParticipantsByWeight() {
+        var scheduler = new ParticipantScheduler(Map.of("heavy", 2), Map.of(), 0, clock);
+        var queue = scheduler.queue(10);
+        var entities = List.of(entity("a1", "light"), entity("a2", "light"), entity("b1", "heavy"),
+                entity("b2", "heavy"), entity("b3", "heavy"), entity("b4", "heavy"));
+
+        var ordered = queue.order(entities);
+
+        assertThat(ordered).extracting(TransferProcess::getId).containsExactly("a1", "b1", "b2", "a2", "b3", "b4");
+    }
+
+    @Test
+    void order_shouldProcessHigherPriorityFirst() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of("premium", 1), 0, clock);
+        var queue = scheduler.queue(10);
+
+        var ordered = queue.order(List.of(entity("a1", "basic"), entity("a2", "basic"), entity("b1", "premium")));
+
+        assertThat(ordered).extracting(TransferProcess::getId).containsExactly("b1", "a1", "a2");
+    }
+
+    @Test
+    void order_shouldKeepFetchOrder_whenDisabled() {
+        var queue = ParticipantScheduler.disabled().queue(10);
+
+        var ordered = queue.order(List.of(entity("a1", "one"), entity("a2", "one"), entity("b1", "two")));
+
+        assertThat(ordered).extracting(TransferProcess::getId).containsExactly("a1", "a2", "b1");
+    }
+
+    @Test
+    void admit_shouldDeferAndExclude_whenAllowanceIsConsumed() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of(), 0, clock);
+        var queue = scheduler.queue(2);
+
+        assertThat(queue.admit(entity("a1", "tenant"))).isTrue();
+        assertThat(queue.admit(entity("a2", "tenant"))).isTrue();
+        assertThat(queue.admit(entity("a3", "tenant"))).isFalse();
+
+        assertThat(queue.exclusions()).containsExactly(criterion("participantContextId", "not in", List.of("tenant")));
+        assertThat(scheduler.metrics().get("tenant").deferred()).isEqualTo(1);
+    }
+
+    @Test
+    void startRound_shouldRestoreTheAllowance() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of(), 0, clock);
+        var queue = scheduler.queue(1);
+        queue.admit(entity("a1", "tenant"));
+
+        assertThat(queue.startRound()).isTrue();
+
+        assertThat(queue.exclusions()).isEmpty();
+        assertThat(queue.admit(entity("a2", "tenant"))).isTrue();
+        assertThat(queue.startRound()).isTrue();
+        assertThat(queue.startRound()).isFalse();
+    }
+
+    @Test
+    void admit_shouldApplyInFlightQuotaAcrossQueues() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of(), 1, clock);
+        var first = scheduler.queue(10);
+        var second = scheduler.queue(10);
+        var entity = entity("a1", "tenant");
+
+        assertThat(first.admit(entity)).isTrue();
+        assertThat(second.admit(entity("a2", "tenant"))).isFalse();
+        assertThat(second.exclusions()).extracting(Criterion::getOperandRight).containsExactly(List.of("tenant"));
+
+        first.completed(entity);
+
+        assertThat(second.admit(entity("a2", "tenant"))).isTrue();
+    }
+
+    @Test
+    void metrics_shouldReportBacklogOfAllQueues() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of(), 0, clock);
+        var queue = scheduler.queue(10, () -> Map.of("tenant", 2L, "other", 1L));
+        scheduler.queue(10, () -> Map.of("tenant", 1L));
+        var entity = entity("a1", "tenant");
+
+        queue.admit(entity);
+        queue.completed(entity);
+
+        var metrics = scheduler.metrics();
+        assertThat(metrics.get("tenant")).isEqualTo(new ParticipantScheduler.Metrics(3, 0, 1, 0));
+        assertThat(metrics.get("other")).isEqualTo(new ParticipantScheduler.Metrics(1, 0, 0, 0));
+    }
+
+    @Test
+    void admit_shouldReportWaitTimeToListeners() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of(), 0, clock);
+        var listener = mock(ParticipantScheduler.Listener.class);
+        scheduler.registerListener(listener);
+
+        scheduler.queue(10).admit(entity("a1", "tenant"));
+
+        verify(listener).admitted("tenant", 600);
+    }
+
+    private TransferProcess entity(String id, String participantContextId) {
+        return TransferProcess.Builder.newInstance().id(id).participantContextId(participantContextId)
+                .state(REQUESTING.code()).stateTimestamp(400L).build();
+    }
+}
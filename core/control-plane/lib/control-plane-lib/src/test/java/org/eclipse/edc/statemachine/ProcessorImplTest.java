@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -23,7 +25,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -31,7 +35,9 @@ import java.util.function.Function;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -144,4 +150,28 @@ class ProcessorImplTest {
         verifyNoInteractions(onNotProcessed);
     }
 
+    @Test
+    void shouldExcludeParticipantsThatConsumedTheirShare_andStartNewRoundWhenNothingElseIsLeft() {
+        var scheduler = new ParticipantScheduler(Map.of(), Map.of(), 0, clock);
+        var fetches = new ArrayList<List<Criterion>>();
+        Consumer<TransferProcess> onNotProcessed = mock();
+        var processor = ProcessorImpl.Builder.newInstance(exclusions -> {
+                    fetches.add(exclusions);
+                    return exclusions.isEmpty() ? List.of(transferProcess("a1", "busy"), transferProcess("a2", "busy")) : List.<TransferProcess>of();
+                }, configuration, clock, monitor)
+                .process(e -> CompletableFuture.completedFuture(StatusResult.success()))
+                .onNotProcessed(onNotProcessed)
+                .scheduler(scheduler.queue(1))
+                .build();
+
+        assertThat(processor.process()).isEqualTo(1);
+        verify(onNotProcessed).accept(argThat(e -> e.getId().equals("a2")));
+
+        assertThat(processor.process()).isEqualTo(1);
+        assertThat(fetches).containsExactly(List.of(), List.of(criterion("participantContextId", "not in", List.of("busy"))), List.of());
+    }
+
+    private TransferProcess transferProcess(String id, String participantContextId) {
+        return TransferProcess.Builder.newInstance().id(id).participantContextId(participantContextId).build();
+    }
 }
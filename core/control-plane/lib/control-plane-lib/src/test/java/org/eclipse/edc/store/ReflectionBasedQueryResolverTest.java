@@ -15,6 +15,7 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -108,6 +109,26 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_continuationToken() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob"));
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.ASC).limit(3)
+                .continuationToken(new ContinuationToken("Alice", "4").encode())
+                .build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(6, 8, 1);
+    }
+
+    @Test
+    void verifyQuery_continuationToken_desc() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob"));
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).limit(3)
+                .continuationToken(new ContinuationToken("Bob", "3").encode())
+                .build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(1, 8, 6);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
@@ -33,10 +33,25 @@ public record PolicyMonitorConfiguration(
         int batchSize,
 
         @Setting(
-                description = "Time period between policy monitor evaluations in ISO-8061 duration format.",
+                description = "Maximum time period between policy monitor evaluations of an entry in ISO-8061 duration format. " +
+                        "Time-based constraints are evaluated when their bound is reached.",
                 key = "period",
                 defaultValue = "PT1H"
         )
-        Duration period
+        Duration period,
+
+        @Setting(
+                description = "Time period between the watchdog runs that pick up the entries whose evaluation is due, in ISO-8061 duration format.",
+                key = "poll-interval",
+                defaultValue = "PT1M"
+        )
+        Duration pollInterval,
+
+        @Setting(
+                description = "The number of workers that evaluate the leased batches of policy monitor entries concurrently.",
+                key = "workers",
+                defaultValue = "1"
+        )
+        int workers
 ) {
 }
@@ -17,13 +17,18 @@ package org.eclipse.edc.connector.policy.monitor;
 import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
 import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitor;
+import org.eclipse.edc.connector.policy.monitor.manager.NextEvaluationCalculator;
 import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl;
+import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorMetrics;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.connector.policy.monitor.subscriber.StartMonitoring;
+import org.eclipse.edc.connector.policy.monitor.subscriber.StopMonitoring;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
 import org.eclipse.edc.policy.model.Permission;
@@ -46,7 +51,7 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext.
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 
 @Extension(value = NAME)
-@Provides({ PolicyMonitorManager.class })
+@Provides({ PolicyMonitorManager.class, PolicyMonitorMetrics.class })
 public class PolicyMonitorExtension implements ServiceExtension {
 
     public static final String NAME = "Policy Monitor";
@@ -87,14 +92,20 @@ public class PolicyMonitorExtension implements ServiceExtension {
         ruleBindingRegistry.bind(CONTRACT_EXPIRY_EVALUATION_KEY, POLICY_MONITOR_SCOPE);
         policyEngine.registerFunction(PolicyMonitorContext.class, Permission.class, CONTRACT_EXPIRY_EVALUATION_KEY, new ContractExpiryCheckFunction<>());
 
+        var nextEvaluationCalculator = new NextEvaluationCalculator(clock, configuration.period(), ruleBindingRegistry);
         var policyMonitor = new PolicyMonitor(policyMonitorStore, telemetry, transferProcessService,
-                contractAgreementService, policyEngine, context.getMonitor(), clock, transactionContext);
+                contractAgreementService, policyEngine, context.getMonitor(), clock, transactionContext, nextEvaluationCalculator);
 
-        manager = new PolicyMonitorManagerImpl(policyMonitor, configuration, executorInstrumentation, context.getMonitor(), policyMonitorStore, clock);
+        var metrics = new PolicyMonitorMetrics();
+        manager = new PolicyMonitorManagerImpl(policyMonitor, configuration, executorInstrumentation, context.getMonitor(), policyMonitorStore, clock, metrics);
 
         context.registerService(PolicyMonitorManager.class, manager);
+        context.registerService(PolicyMonitorMetrics.class, metrics);
 
         eventRouter.registerSync(TransferProcessStarted.class, new StartMonitoring(policyMonitor));
+        var stopMonitoring = new StopMonitoring(policyMonitor);
+        eventRouter.register(TransferProcessCompleted.class, stopMonitoring);
+        eventRouter.register(TransferProcessTerminated.class, stopMonitoring);
     }
 
     @Override
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
+import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+import org.eclipse.edc.policy.model.Rule;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext.POLICY_MONITOR_SCOPE;
+
+/**
+ * Calculates when the policy of a {@link ContractAgreement} needs to be evaluated again.
+ * <p>
+ * The outcome of the time-based constraints (see {@link ContractExpiryCheckFunction}) can only change at their bound,
+ * so the next evaluation is the earliest bound that is still in the future. Every other constraint bound to the policy
+ * monitor scope cannot be predicted, so when the policy contains one the evaluation will happen at most after the configured
+ * period.
+ */
+public class NextEvaluationCalculator {
+
+    private final Clock clock;
+    private final Duration period;
+    private final RuleBindingRegistry ruleBindingRegistry;
+
+    public NextEvaluationCalculator(Clock clock, Duration period, RuleBindingRegistry ruleBindingRegistry) {
+        this.clock = clock;
+        this.period = period;
+        this.ruleBindingRegistry = ruleBindingRegistry;
+    }
+
+    /**
+     * Calculate the next evaluation timestamp for the given agreement.
+     *
+     * @param agreement the contract agreement.
+     * @return the next evaluation timestamp in Epoch millis.
+     */
+    public long nextEvaluation(ContractAgreement agreement) {
+        var now = clock.millis();
+        var policy = agreement.getPolicy();
+
+        var constraints = Stream.of(policy.getPermissions(), policy.getProhibitions(), policy.getObligations())
+                .flatMap(rules -> rules.stream().map(Rule.class::cast))
+                .flatMap(rule -> rule.getConstraints().stream())
+                .flatMap(this::atomicConstraints)
+                .toList();
+
+        var nextBound = constraints.stream()
+                .map(constraint -> bound(constraint, agreement))
+                .filter(Objects::nonNull)
+                .map(Instant::toEpochMilli)
+                // the outcome changes either at the bound (e.g. LT, GEQ) or right after it (e.g. LEQ, GT)
+                .flatMap(bound -> Stream.of(bound, bound + 1))
+                .filter(candidate -> candidate > now)
+                .min(Long::compare);
+
+        var periodic = now + period.toMillis();
+        if (nextBound.isEmpty()) {
+            return periodic;
+        }
+        if (hasUnpredictableConstraint(constraints)) {
+            return Math.min(nextBound.get(), periodic);
+        }
+        return nextBound.get();
+    }
+
+    private boolean hasUnpredictableConstraint(List<AtomicConstraint> constraints) {
+        return constraints.stream().anyMatch(constraint -> {
+            if (constraint.getLeftExpression() instanceof LiteralExpression left) {
+                var key = left.asString();
+                return !CONTRACT_EXPIRY_EVALUATION_KEY.equals(key) && ruleBindingRegistry.isInScope(key, POLICY_MONITOR_SCOPE);
+            }
+            return true;
+        });
+    }
+
+    private Stream<AtomicConstraint> atomicConstraints(Constraint constraint) {
+        if (constraint instanceof AtomicConstraint atomicConstraint) {
+            return Stream.of(atomicConstraint);
+        }
+        if (constraint instanceof MultiplicityConstraint multiplicityConstraint) {
+            return multiplicityConstraint.getConstraints().stream().flatMap(this::atomicConstraints);
+        }
+        return Stream.empty();
+    }
+
+    private Instant bound(AtomicConstraint constraint, ContractAgreement agreement) {
+        if (constraint.getLeftExpression() instanceof LiteralExpression left
+                && CONTRACT_EXPIRY_EVALUATION_KEY.equals(left.asString())
+                && constraint.getRightExpression() instanceof LiteralExpression right
+                && right.getValue() instanceof String rightValue) {
+            return ContractExpiryCheckFunction.resolveBound(rightValue, agreement);
+        }
+        return null;
+    }
+}
@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.connector.policy.monitor.manager;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.TerminateTransferCommand;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext;
@@ -23,12 +25,27 @@ import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntry;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyMap;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public class PolicyMonitor {
 
@@ -40,10 +57,11 @@ public class PolicyMonitor {
     private final Monitor monitor;
     private final Clock clock;
     private final TransactionContext transactionContext;
+    private final NextEvaluationCalculator nextEvaluationCalculator;
 
     public PolicyMonitor(PolicyMonitorStore store, Telemetry telemetry, TransferProcessService transferProcessService,
                          ContractAgreementService contractAgreementService, PolicyEngine policyEngine, Monitor monitor,
-                         Clock clock, TransactionContext transactionContext) {
+                         Clock clock, TransactionContext transactionContext, NextEvaluationCalculator nextEvaluationCalculator) {
         this.store = store;
         this.telemetry = telemetry;
         this.transferProcessService = transferProcessService;
@@ -52,12 +70,14 @@ public class PolicyMonitor {
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
         this.clock = clock;
         this.transactionContext = transactionContext;
+        this.nextEvaluationCalculator = nextEvaluationCalculator;
     }
 
     public StatusResult<Void> start(String transferProcessId, String contractId) {
         var entry = PolicyMonitorEntry.Builder.newInstance()
                 .id(transferProcessId)
                 .contractId(contractId)
+                .nextEvaluation(clock.millis())
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
 
@@ -66,50 +86,121 @@ public class PolicyMonitor {
         return store.save(entry).flatMap(StatusResult::from);
     }
 
-    public void monitor(PolicyMonitorEntry entry) {
+    /**
+     * Stops monitoring a transfer process that reached a final state, so that it won't get evaluated anymore.
+     *
+     * @param transferProcessId the transfer process id.
+     */
+    public void stop(String transferProcessId) {
         transactionContext.execute(() -> {
-            var transferProcess = transferProcessService.findById(entry.getId());
-            if (transferProcess == null) {
-                var message = "TransferProcess %s does not exist".formatted(entry.getId());
-                entry.transitionToFailed(message);
-                update(entry);
+            var result = store.findByIdAndLease(transferProcessId);
+            if (result.failed()) {
+                monitor.debug(() -> "Cannot stop monitoring TP %s: %s".formatted(transferProcessId, result.getFailureDetail()));
                 return;
             }
 
-            if (transferProcess.getState() >= TransferProcessStates.COMPLETING.code()) {
+            var entry = result.getContent();
+            if (entry.getState() == STARTED.code()) {
                 entry.transitionToCompleted();
                 update(entry);
-                return;
+            } else {
+                store.breakLease(entry);
             }
+        });
+    }
 
-            var contractAgreement = contractAgreementService.findById(entry.getContractId());
-            if (contractAgreement == null) {
-                var message = "ContractAgreement %s does not exist".formatted(entry.getContractId());
-                entry.transitionToFailed(message);
+    public void monitor(PolicyMonitorEntry entry) {
+        transactionContext.execute(() -> evaluate(entry, transferProcessService.findById(entry.getId()), contractAgreementService::findById));
+    }
+
+    /**
+     * Evaluates a batch of entries. The referenced transfer processes and contract agreements are loaded with a single
+     * query each, then every entry is evaluated in its own transaction. If the bulk load fails, entries are evaluated
+     * one by one.
+     *
+     * @param entries the entries.
+     */
+    public void monitorBatch(List<PolicyMonitorEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        var transferProcessIds = entries.stream().map(PolicyMonitorEntry::getId).collect(toSet());
+        var transferProcesses = searchByIds(transferProcessService::search, transferProcessIds, TransferProcess::getId);
+        var contractIds = entries.stream().map(PolicyMonitorEntry::getContractId).filter(Objects::nonNull).collect(toSet());
+        var contractAgreements = searchByIds(contractAgreementService::search, contractIds, ContractAgreement::getId);
+
+        if (transferProcesses == null || contractAgreements == null) {
+            entries.forEach(this::monitor);
+            return;
+        }
+
+        entries.forEach(entry -> transactionContext.execute(() ->
+                evaluate(entry, transferProcesses.get(entry.getId()), contractAgreements::get)));
+    }
+
+    private void evaluate(PolicyMonitorEntry entry, TransferProcess transferProcess, Function<String, ContractAgreement> contractAgreements) {
+        if (transferProcess == null) {
+            var message = "TransferProcess %s does not exist".formatted(entry.getId());
+            entry.transitionToFailed(message);
+            update(entry);
+            return;
+        }
+
+        if (transferProcess.getState() >= TransferProcessStates.COMPLETING.code()) {
+            entry.transitionToCompleted();
+            update(entry);
+            return;
+        }
+
+        var contractAgreement = entry.getContractId() == null ? null : contractAgreements.apply(entry.getContractId());
+        if (contractAgreement == null) {
+            var message = "ContractAgreement %s does not exist".formatted(entry.getContractId());
+            entry.transitionToFailed(message);
+            update(entry);
+            return;
+        }
+
+        var policy = contractAgreement.getPolicy();
+        var policyContext = new PolicyMonitorContext(Instant.now(clock), contractAgreement);
+
+        var result = policyEngine.evaluate(policy, policyContext);
+        if (result.failed()) {
+            monitor.debug(() -> "Policy evaluation for TP %s failed: %s".formatted(entry.getId(), result.getFailureDetail()));
+            var command = new TerminateTransferCommand(entry.getId(), result.getFailureDetail());
+            var terminationResult = transferProcessService.terminate(command);
+            if (terminationResult.succeeded()) {
+                entry.transitionToCompleted();
                 update(entry);
                 return;
+            } else {
+                monitor.severe("Cannot terminate Transfer %s because: %s".formatted(entry.getId(), terminationResult.getFailureDetail()));
             }
+        }
 
-            var policy = contractAgreement.getPolicy();
-            var policyContext = new PolicyMonitorContext(Instant.now(clock), contractAgreement);
+        entry.scheduleNextEvaluation(nextEvaluationCalculator.nextEvaluation(contractAgreement));
+        entry.updateStateTimestamp();
+        store.save(entry);
+    }
 
-            var result = policyEngine.evaluate(policy, policyContext);
-            if (result.failed()) {
-                monitor.debug(() -> "Policy evaluation for TP %s failed: %s".formatted(entry.getId(), result.getFailureDetail()));
-                var command = new TerminateTransferCommand(entry.getId(), result.getFailureDetail());
-                var terminationResult = transferProcessService.terminate(command);
-                if (terminationResult.succeeded()) {
-                    entry.transitionToCompleted();
-                    update(entry);
-                    return;
-                } else {
-                    monitor.severe("Cannot terminate Transfer %s because: %s".formatted(entry.getId(), terminationResult.getFailureDetail()));
-                }
-            }
+    private <T> @Nullable Map<String, T> searchByIds(Function<QuerySpec, ServiceResult<List<T>>> search, Set<String> ids,
+                                                     Function<T, String> idMapper) {
+        if (ids.isEmpty()) {
+            return emptyMap();
+        }
 
-            entry.updateStateTimestamp();
-            store.save(entry);
-        });
+        var query = QuerySpec.Builder.newInstance()
+                .filter(criterion("id", "in", ids))
+                .limit(ids.size())
+                .build();
+
+        var result = search.apply(query);
+        if (result.failed()) {
+            monitor.warning("Cannot bulk load policy monitor batch references, falling back to single lookups: %s".formatted(result.getFailureDetail()));
+            return null;
+        }
+
+        return result.getContent().stream().collect(toMap(idMapper, identity(), (first, second) -> first));
     }
 
     private void update(PolicyMonitorEntry entry) {
@@ -24,10 +24,16 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
@@ -36,9 +42,9 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
 /**
  * Implementation of the {@link PolicyMonitorManager}.
  * <p>
- * Acts as a watchdog: on a fixed schedule it queries all active policy monitor entries and
- * evaluates their policies, terminating the associated transfer process when a policy is no
- * longer satisfied.
+ * Acts as a watchdog: on a fixed schedule it queries the active policy monitor entries whose
+ * next evaluation is due and evaluates their policies, terminating the associated transfer process
+ * when a policy is no longer satisfied. Leased batches are evaluated concurrently by a pool of workers.
  */
 public class PolicyMonitorManagerImpl implements PolicyMonitorManager {
 
@@ -47,19 +53,32 @@ public class PolicyMonitorManagerImpl implements PolicyMonitorManager {
     private final ExecutorInstrumentation executorInstrumentation;
     private final PolicyMonitor policyMonitor;
     private final PolicyMonitorConfiguration configuration;
+    private final PolicyMonitorMetrics metrics;
+    private final int parallelism;
+    private final Semaphore inFlightBatches;
 
     private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
     private final Clock clock;
 
     public PolicyMonitorManagerImpl(PolicyMonitor policyMonitor, PolicyMonitorConfiguration configuration,
                                     ExecutorInstrumentation executorInstrumentation, Monitor monitor,
                                     PolicyMonitorStore store, Clock clock) {
+        this(policyMonitor, configuration, executorInstrumentation, monitor, store, clock, new PolicyMonitorMetrics());
+    }
+
+    public PolicyMonitorManagerImpl(PolicyMonitor policyMonitor, PolicyMonitorConfiguration configuration,
+                                    ExecutorInstrumentation executorInstrumentation, Monitor monitor,
+                                    PolicyMonitorStore store, Clock clock, PolicyMonitorMetrics metrics) {
         this.policyMonitor = policyMonitor;
         this.configuration = configuration;
         this.executorInstrumentation = executorInstrumentation;
         this.monitor = monitor.withPrefix(getClass().getSimpleName());
         this.store = store;
         this.clock = clock;
+        this.metrics = metrics;
+        this.parallelism = Math.max(1, configuration.workers());
+        this.inFlightBatches = new Semaphore(parallelism);
         scheduler = executorInstrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -77,40 +96,86 @@ public class PolicyMonitorManagerImpl implements PolicyMonitorManager {
                     return thread;
                 }), "policy-monitor");
 
+        var workerCount = new AtomicInteger();
+        workers = executorInstrumentation.instrument(
+                Executors.newFixedThreadPool(parallelism, r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("policy-monitor-worker-" + workerCount.getAndIncrement());
+                    return thread;
+                }), "policy-monitor-workers");
+
         scheduler.schedule(this::checkPolicies, 0, TimeUnit.SECONDS);
     }
 
     @Override
     public void stop() {
-        if (scheduler != null) {
-            scheduler.shutdown();
+        shutdown(scheduler);
+        shutdown(workers);
+    }
+
+    private void shutdown(ExecutorService executor) {
+        if (executor != null) {
+            executor.shutdown();
             try {
-                if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
                 }
             } catch (InterruptedException e) {
                 monitor.severe("PolicyMonitorManager await termination failed", e);
-                scheduler.shutdownNow();
+                executor.shutdownNow();
                 Thread.currentThread().interrupt();
             }
         }
     }
 
+    /**
+     * Leases the due entries batch by batch and hands every batch over to the worker pool. The number of leased batches
+     * that are not yet processed is bounded by the number of workers, so entries don't stay leased while waiting in the
+     * queue. The run completes when all the batches have been processed.
+     */
     private void checkPolicies() {
+        var start = clock.millis();
+        metrics.runStarted();
+
         var count = 0;
+        var batches = new ArrayList<CompletableFuture<Void>>();
         List<PolicyMonitorEntry> entries;
         do {
-            entries = store.nextNotLeased(configuration.batchSize(), hasState(STARTED.code()), notYetProcessed());
-            entries.forEach(policyMonitor::monitor);
+            inFlightBatches.acquireUninterruptibly();
+            entries = store.nextNotLeased(configuration.batchSize(), hasState(STARTED.code()), evaluationDue());
+            if (entries.isEmpty()) {
+                inFlightBatches.release();
+                break;
+            }
+
+            var batch = entries;
+            batches.add(CompletableFuture.runAsync(() -> evaluate(batch), workers)
+                    .whenComplete((result, throwable) -> inFlightBatches.release()));
             count += entries.size();
         } while (entries.size() >= configuration.batchSize());
 
-        var period = configuration.period();
-        scheduler.schedule(this::checkPolicies, period.getSeconds(), TimeUnit.SECONDS);
-        monitor.debug("watchdog completed: %d entries evaluated. Next execution in %s".formatted(count, period));
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+
+        var elapsed = Duration.ofMillis(clock.millis() - start);
+        metrics.runCompleted(count, elapsed);
+
+        var delay = configuration.pollInterval().compareTo(configuration.period()) < 0 ? configuration.pollInterval() : configuration.period();
+        scheduler.schedule(this::checkPolicies, delay.toMillis(), TimeUnit.MILLISECONDS);
+        monitor.debug("watchdog completed: %d entries evaluated in %s (max lag %d ms). Next execution in %s"
+                .formatted(count, elapsed, metrics.lastRunMaxLag(), delay));
+    }
+
+    private void evaluate(List<PolicyMonitorEntry> batch) {
+        var now = clock.millis();
+        batch.forEach(entry -> metrics.evaluationStarted(Math.max(0, now - entry.getNextEvaluation())));
+        try {
+            policyMonitor.monitorBatch(batch);
+        } catch (Throwable throwable) {
+            monitor.severe("Error evaluating policy monitor batch", throwable);
+        }
     }
 
-    private @NotNull Criterion notYetProcessed() {
-        return criterion("updatedAt", "<", clock.millis() - configuration.period().toMillis());
+    private @NotNull Criterion evaluationDue() {
+        return criterion("nextEvaluation", "<=", clock.millis());
     }
 }
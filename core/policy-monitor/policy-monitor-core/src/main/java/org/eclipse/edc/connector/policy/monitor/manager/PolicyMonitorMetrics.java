@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the policy monitor evaluation metrics.
+ * <p>
+ * The evaluation lag is the time between the moment an entry was due and the moment it got picked up by a worker,
+ * the throughput is the number of entries evaluated per second in the last watchdog run.
+ */
+public class PolicyMonitorMetrics {
+
+    private final LongAdder evaluations = new LongAdder();
+    private final AtomicLong runMaxLag = new AtomicLong();
+    private volatile long lastRunMaxLag;
+    private volatile long lastRunEvaluations;
+    private volatile double lastRunThroughput;
+
+    /**
+     * Total number of evaluated entries since startup.
+     *
+     * @return the evaluations count.
+     */
+    public long evaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * The highest evaluation lag observed in the last watchdog run.
+     *
+     * @return the lag in milliseconds.
+     */
+    public long lastRunMaxLag() {
+        return lastRunMaxLag;
+    }
+
+    /**
+     * Number of entries evaluated in the last watchdog run.
+     *
+     * @return the evaluations count.
+     */
+    public long lastRunEvaluations() {
+        return lastRunEvaluations;
+    }
+
+    /**
+     * Entries evaluated per second in the last watchdog run.
+     *
+     * @return the throughput.
+     */
+    public double lastRunThroughput() {
+        return lastRunThroughput;
+    }
+
+    void runStarted() {
+        runMaxLag.set(0);
+    }
+
+    void evaluationStarted(long lagMillis) {
+        evaluations.increment();
+        runMaxLag.accumulateAndGet(lagMillis, Math::max);
+    }
+
+    void runCompleted(long evaluated, Duration elapsed) {
+        lastRunMaxLag = runMaxLag.get();
+        lastRunEvaluations = evaluated;
+        lastRunThroughput = elapsed.isZero() ? evaluated : evaluated * 1000.0 / elapsed.toMillis();
+    }
+}
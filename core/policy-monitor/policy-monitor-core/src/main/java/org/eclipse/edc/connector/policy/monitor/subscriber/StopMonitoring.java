@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.subscriber;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
+import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitor;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
+
+/**
+ * Event subscriber that will stop monitoring a PROVIDER transfer process whenever it gets completed or terminated,
+ * without waiting for its next evaluation.
+ */
+public class StopMonitoring implements EventSubscriber {
+
+    private final PolicyMonitor policyMonitor;
+
+    public StopMonitoring(PolicyMonitor policyMonitor) {
+        this.policyMonitor = policyMonitor;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof TransferProcessEvent transferProcessEvent && isFinal(transferProcessEvent)
+                && PROVIDER.name().equals(transferProcessEvent.getType())) {
+            policyMonitor.stop(transferProcessEvent.getTransferProcessId());
+        }
+    }
+
+    private boolean isFinal(TransferProcessEvent event) {
+        return event instanceof TransferProcessCompleted || event instanceof TransferProcessTerminated;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext.POLICY_MONITOR_SCOPE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NextEvaluationCalculatorTest {
+
+    private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    private final Duration period = Duration.ofHours(1);
+    private final RuleBindingRegistry ruleBindingRegistry = mock();
+    private final NextEvaluationCalculator calculator = new NextEvaluationCalculator(Clock.fixed(now, ZoneOffset.UTC), period, ruleBindingRegistry);
+
+    @Test
+    void shouldReturnPeriod_whenNoTimeBasedConstraint() {
+        when(ruleBindingRegistry.isInScope("other", POLICY_MONITOR_SCOPE)).thenReturn(true);
+        var permission = Permission.Builder.newInstance()
+                .constraint(constraint("other", Operator.EQ, "value"))
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission));
+
+        assertThat(result).isEqualTo(now.plus(period).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnBound_whenFixedBoundIsBeforePeriod() {
+        var permission = Permission.Builder.newInstance()
+                .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.LT, "2026-01-01T00:10:00Z"))
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission));
+
+        assertThat(result).isEqualTo(Instant.parse("2026-01-01T00:10:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnBound_whenBoundIsAfterPeriod() {
+        var permission = Permission.Builder.newInstance()
+                .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.LT, "2026-02-01T00:00:00Z"))
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission));
+
+        assertThat(result).isEqualTo(Instant.parse("2026-02-01T00:00:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnPeriod_whenBoundIsAfterPeriodAndPolicyHasOtherConstraintsInScope() {
+        when(ruleBindingRegistry.isInScope("other", POLICY_MONITOR_SCOPE)).thenReturn(true);
+        var permission = Permission.Builder.newInstance()
+                .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.LT, "2026-02-01T00:00:00Z"))
+                .constraint(constraint("other", Operator.EQ, "value"))
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission));
+
+        assertThat(result).isEqualTo(now.plus(period).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnBound_whenOtherConstraintsAreNotInScope() {
+        when(ruleBindingRegistry.isInScope("other", POLICY_MONITOR_SCOPE)).thenReturn(false);
+        var permission = Permission.Builder.newInstance()
+                .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.LT, "2026-02-01T00:00:00Z"))
+                .constraint(constraint("other", Operator.EQ, "value"))
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission));
+
+        assertThat(result).isEqualTo(Instant.parse("2026-02-01T00:00:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnRightAfterBound_whenBoundIsNow() {
+        var permission = Permission.Builder.newInstance()
+                .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.LEQ, now.toString()))
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission));
+
+        assertThat(result).isEqualTo(now.toEpochMilli() + 1);
+    }
+
+    @Test
+    void shouldResolveDurationExpression_whenNestedInMultiplicityConstraint() {
+        var signingDate = now.minus(Duration.ofDays(1));
+        var permission = Permission.Builder.newInstance()
+                .constraint(AndConstraint.Builder.newInstance()
+                        .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.GEQ, "contractAgreement+0s"))
+                        .constraint(constraint(CONTRACT_EXPIRY_EVALUATION_KEY, Operator.LT, "contractAgreement+1445m"))
+                        .build())
+                .build();
+
+        var result = calculator.nextEvaluation(agreement(permission, signingDate.getEpochSecond()));
+
+        assertThat(result).isEqualTo(now.plus(Duration.ofMinutes(5)).toEpochMilli());
+    }
+
+    private AtomicConstraint constraint(String leftOperand, Operator operator, String rightOperand) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(leftOperand))
+                .operator(operator)
+                .rightExpression(new LiteralExpression(rightOperand))
+                .build();
+    }
+
+    private ContractAgreement agreement(Permission permission) {
+        return agreement(permission, now.getEpochSecond());
+    }
+
+    private ContractAgreement agreement(Permission permission, long contractSigningDate) {
+        return ContractAgreement.Builder.newInstance()
+                .providerId("providerId")
+                .consumerId("consumerId")
+                .assetId("assetId")
+                .contractSigningDate(contractSigningDate)
+                .policy(Policy.Builder.newInstance().permission(permission).build())
+                .build();
+    }
+}
@@ -23,13 +23,16 @@ import org.junit.jupiter.api.Test;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
@@ -44,8 +47,10 @@ class PolicyMonitorManagerImplTest {
     private final PolicyMonitor policyMonitor = mock();
     private final Clock clock = mock();
     private final ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private final PolicyMonitorMetrics metrics = new PolicyMonitorMetrics();
     private final PolicyMonitorManagerImpl manager = new PolicyMonitorManagerImpl(policyMonitor,
-            new PolicyMonitorConfiguration(BATCH_SIZE, Duration.ofSeconds(4)), executorInstrumentation, mock(), store, clock);
+            new PolicyMonitorConfiguration(BATCH_SIZE, Duration.ofSeconds(4), Duration.ofSeconds(2), 2),
+            executorInstrumentation, mock(), store, clock, metrics);
 
     @Test
     void shouldStopProcessing_whenNoItemsAreReturned() {
@@ -69,11 +74,51 @@ class PolicyMonitorManagerImplTest {
 
         await().pollDelay(1, SECONDS).untilAsserted(() -> {
             verify(store, times(2)).nextNotLeased(eq(BATCH_SIZE), any(), any());
-            verify(policyMonitor, times(3)).monitor(any());
+            verify(policyMonitor, times(2)).monitorBatch(any());
+            assertThat(metrics.evaluations()).isEqualTo(3);
+            assertThat(metrics.lastRunEvaluations()).isEqualTo(3);
         });
     }
 
+    @Test
+    void shouldEvaluateBatchesConcurrently() {
+        var latch = new CountDownLatch(2);
+        when(store.nextNotLeased(anyInt(), any(), any()))
+                .thenReturn(List.of(entry(), entry()))
+                .thenReturn(List.of(entry(), entry()))
+                .thenReturn(emptyList());
+        doAnswer(i -> {
+            latch.countDown();
+            latch.await(5, SECONDS);
+            return null;
+        }).when(policyMonitor).monitorBatch(any());
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(policyMonitor, times(2)).monitorBatch(any());
+            assertThat(latch.getCount()).isZero();
+            assertThat(metrics.lastRunEvaluations()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void shouldRecordEvaluationLag() {
+        when(clock.millis()).thenReturn(1000L);
+        when(store.nextNotLeased(anyInt(), any(), any()))
+                .thenReturn(List.of(entry(400), entry(900)))
+                .thenReturn(emptyList());
+
+        manager.start();
+
+        await().untilAsserted(() -> assertThat(metrics.lastRunMaxLag()).isEqualTo(600));
+    }
+
     private PolicyMonitorEntry entry() {
         return PolicyMonitorEntry.Builder.newInstance().build();
     }
+
+    private PolicyMonitorEntry entry(long nextEvaluation) {
+        return PolicyMonitorEntry.Builder.newInstance().nextEvaluation(nextEvaluation).build();
+    }
 }
@@ -66,6 +66,7 @@ class PolicyMonitorTest {
     private final ContractAgreementService contractAgreementService = mock();
     private final PolicyEngine policyEngine = mock();
     private final Monitor monitor = Mockito.mock();
+    private final NextEvaluationCalculator nextEvaluationCalculator = mock();
 
     private PolicyMonitor policyMonitor;
 
@@ -75,7 +76,8 @@ class PolicyMonitorTest {
         when(store.save(any())).thenReturn(StoreResult.success());
 
         policyMonitor = new PolicyMonitor(store, mock(), transferProcessService,
-                contractAgreementService, policyEngine, monitor, Clock.systemDefaultZone(), new NoopTransactionContext());
+                contractAgreementService, policyEngine, monitor, Clock.systemDefaultZone(), new NoopTransactionContext(),
+                nextEvaluationCalculator);
     }
 
     @Nested
@@ -91,10 +93,103 @@ class PolicyMonitorTest {
             assertThat(entry.getId()).isEqualTo("transferProcessId");
             assertThat(entry.getContractId()).isEqualTo("contractId");
             assertThat(entry.getState()).isEqualTo(STARTED.code());
+            assertThat(entry.getNextEvaluation()).isGreaterThan(0);
         }
 
     }
 
+    @Nested
+    class Stop {
+
+        @Test
+        void shouldTransitionToCompleted_whenEntryIsStarted() {
+            var entry = PolicyMonitorEntry.Builder.newInstance()
+                    .id("transferProcessId")
+                    .contractId("contractId")
+                    .state(STARTED.code())
+                    .build();
+            when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.success(entry));
+
+            policyMonitor.stop("transferProcessId");
+
+            verify(store).save(argThat(it -> it.getState() == COMPLETED.code()));
+        }
+
+        @Test
+        void shouldBreakLease_whenEntryIsNotStarted() {
+            var entry = PolicyMonitorEntry.Builder.newInstance()
+                    .id("transferProcessId")
+                    .contractId("contractId")
+                    .state(FAILED.code())
+                    .build();
+            when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.success(entry));
+
+            policyMonitor.stop("transferProcessId");
+
+            verify(store, never()).save(any());
+            verify(store).breakLease(entry);
+        }
+
+        @Test
+        void shouldDoNothing_whenEntryCannotBeLeased() {
+            when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.notFound("not found"));
+
+            policyMonitor.stop("transferProcessId");
+
+            verify(store, never()).save(any());
+        }
+    }
+
+    @Nested
+    class MonitorBatch {
+
+        @Test
+        void shouldBulkLoadReferences() {
+            var first = entry("tp1", "contract1");
+            var second = entry("tp2", "contract1");
+            var agreement = ContractAgreement.Builder.newInstance().id("contract1")
+                    .providerId("providerId").consumerId("consumerId").assetId("assetId")
+                    .policy(Policy.Builder.newInstance().build())
+                    .build();
+            when(transferProcessService.search(any())).thenReturn(ServiceResult.success(List.of(
+                    TransferProcess.Builder.newInstance().id("tp1").state(TransferProcessStates.STARTED.code()).build(),
+                    TransferProcess.Builder.newInstance().id("tp2").state(TransferProcessStates.COMPLETED.code()).build())));
+            when(contractAgreementService.search(any())).thenReturn(ServiceResult.success(List.of(agreement)));
+            when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+
+            policyMonitor.monitorBatch(List.of(first, second));
+
+            verify(transferProcessService).search(argThat(query -> query.getLimit() == 2));
+            verify(contractAgreementService).search(argThat(query -> query.getLimit() == 1));
+            verify(transferProcessService, never()).findById(any());
+            verify(contractAgreementService, never()).findById(any());
+            verify(policyEngine).evaluate(same(agreement.getPolicy()), isA(PolicyMonitorContext.class));
+            verify(store).save(argThat(it -> it.getId().equals("tp1") && it.getState() == STARTED.code()));
+            verify(store).save(argThat(it -> it.getId().equals("tp2") && it.getState() == COMPLETED.code()));
+        }
+
+        @Test
+        void shouldFallbackToSingleLookups_whenBulkLoadFails() {
+            var entry = entry("tp1", "contract1");
+            when(transferProcessService.search(any())).thenReturn(ServiceResult.badRequest("error"));
+            when(contractAgreementService.search(any())).thenReturn(ServiceResult.success(emptyList()));
+            when(transferProcessService.findById("tp1")).thenReturn(null);
+
+            policyMonitor.monitorBatch(List.of(entry));
+
+            verify(transferProcessService).findById("tp1");
+            verify(store).save(argThat(it -> it.getState() == FAILED.code()));
+        }
+
+        private PolicyMonitorEntry entry(String id, String contractId) {
+            return PolicyMonitorEntry.Builder.newInstance()
+                    .id(id)
+                    .contractId(contractId)
+                    .state(STARTED.code())
+                    .build();
+        }
+    }
+
     @Nested
     class MonitorPolicy {
 
@@ -161,11 +256,12 @@ class PolicyMonitorTest {
                     .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
             when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
             when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+            when(nextEvaluationCalculator.nextEvaluation(any())).thenReturn(12345L);
 
             policyMonitor.monitor(entry);
 
             verify(transferProcessService, never()).terminate(any());
-            verify(store).save(any());
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() && it.getNextEvaluation() == 12345L));
         }
 
         @Test
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.subscriber;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
+import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitor;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class StopMonitoringTest {
+
+    private final PolicyMonitor policyMonitor = mock();
+    private final StopMonitoring subscriber = new StopMonitoring(policyMonitor);
+
+    @Test
+    void shouldStopMonitoring_whenProviderTransferProcessIsCompleted() {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .type(PROVIDER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verify(policyMonitor).stop("transferProcessId");
+    }
+
+    @Test
+    void shouldStopMonitoring_whenProviderTransferProcessIsTerminated() {
+        var event = TransferProcessTerminated.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .type(PROVIDER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verify(policyMonitor).stop("transferProcessId");
+    }
+
+    @Test
+    void shouldNotStopMonitoring_whenTransferProcessIsConsumer() {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .type(CONSUMER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verifyNoInteractions(policyMonitor);
+    }
+
+    @Test
+    void shouldNotStopMonitoring_whenTransferProcessIsNotFinal() {
+        var event = TransferProcessStarted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .type(PROVIDER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verifyNoInteractions(policyMonitor);
+    }
+
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(Instant.now().toEpochMilli())
+                .payload(event)
+                .build();
+    }
+}
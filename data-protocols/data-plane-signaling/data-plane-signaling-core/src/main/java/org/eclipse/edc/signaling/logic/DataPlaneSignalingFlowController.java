@@ -28,13 +28,14 @@ import org.eclipse.edc.signaling.domain.DataFlowPrepareMessage;
 import org.eclipse.edc.signaling.domain.DataFlowResumeMessage;
 import org.eclipse.edc.signaling.domain.DataFlowStartMessage;
 import org.eclipse.edc.signaling.domain.DataFlowStartedNotificationMessage;
+import org.eclipse.edc.signaling.domain.DataFlowStatusMessage;
 import org.eclipse.edc.signaling.domain.DataFlowSuspendMessage;
 import org.eclipse.edc.signaling.domain.DataFlowTerminateMessage;
 import org.eclipse.edc.signaling.domain.DspDataAddress;
 import org.eclipse.edc.signaling.port.ClientFactory;
+import org.eclipse.edc.signaling.port.DataPlaneSignalingClient;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,8 +45,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static java.util.Collections.emptySet;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.queryByParticipantContextId;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -78,9 +82,44 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
 
     @Override
     public StatusResult<DataFlowResponse> prepare(TransferProcess transferProcess, Policy policy) {
+        return prepareAsync(transferProcess, policy).join();
+    }
+
+    @Override
+    public @NotNull StatusResult<DataFlowResponse> start(TransferProcess transferProcess, Policy policy) {
+        return startAsync(transferProcess, policy).join();
+    }
+
+    @Override
+    public StatusResult<Void> suspend(TransferProcess transferProcess) {
+        return suspendAsync(transferProcess).join();
+    }
+
+    @Override
+    public StatusResult<DataFlowResponse> resume(TransferProcess transferProcess) {
+        return resumeAsync(transferProcess).join();
+    }
+
+    @Override
+    public StatusResult<Void> terminate(TransferProcess transferProcess) {
+        return terminateAsync(transferProcess).join();
+    }
+
+    @Override
+    public StatusResult<Void> started(TransferProcess transferProcess) {
+        return startedAsync(transferProcess).join();
+    }
+
+    @Override
+    public StatusResult<Void> completed(TransferProcess transferProcess) {
+        return completedAsync(transferProcess).join();
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<DataFlowResponse>> prepareAsync(TransferProcess transferProcess, Policy policy) {
         var selection = selectorClient.selectFor(transferProcess);
         if (!selection.succeeded()) {
-            return StatusResult.failure(FATAL_ERROR, selection.getFailureDetail());
+            return completedFuture(StatusResult.failure(FATAL_ERROR, selection.getFailureDetail()));
         }
 
         var builder = DataFlowPrepareMessage.Builder.newInstance()
@@ -105,16 +144,14 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
         var dataPlaneInstance = selection.getContent();
         return clientFactory.createClient(dataPlaneInstance)
                 .prepare(message)
-                .compose(response -> typeTransformerRegistry.transform(response, DataFlowResponse.class)
-                        .<DataFlowResponse, Result<DataFlowResponse>>map(r -> r.toBuilder().dataPlaneId(dataPlaneInstance.getId()).build())
-                        .flatMap(this::toStatusResult));
+                .thenApply(result -> toDataFlowResponse(result, dataPlaneInstance.getId()));
     }
 
     @Override
-    public @NotNull StatusResult<DataFlowResponse> start(TransferProcess transferProcess, Policy policy) {
+    public CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
         var selection = selectorClient.selectFor(transferProcess);
         if (!selection.succeeded()) {
-            return StatusResult.failure(FATAL_ERROR, selection.getFailureDetail());
+            return completedFuture(StatusResult.failure(FATAL_ERROR, selection.getFailureDetail()));
         }
 
         var builder = DataFlowStartMessage.Builder.newInstance()
@@ -132,7 +169,7 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
         if (dataAddress != null) {
             var dspDataAddressTransformation = typeTransformerRegistry.transform(dataAddress, DspDataAddress.class);
             if (dspDataAddressTransformation.failed()) {
-                return StatusResult.failure(FATAL_ERROR, dspDataAddressTransformation.getFailureDetail());
+                return completedFuture(StatusResult.failure(FATAL_ERROR, dspDataAddressTransformation.getFailureDetail()));
             }
             builder.dataAddress(dspDataAddressTransformation.getContent());
         }
@@ -148,16 +185,14 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
         var dataPlaneInstance = selection.getContent();
         return clientFactory.createClient(dataPlaneInstance)
                 .start(message)
-                .compose(response -> typeTransformerRegistry.transform(response, DataFlowResponse.class)
-                        .<DataFlowResponse, Result<DataFlowResponse>>map(r -> r.toBuilder().dataPlaneId(dataPlaneInstance.getId()).build())
-                        .flatMap(this::toStatusResult));
+                .thenApply(result -> toDataFlowResponse(result, dataPlaneInstance.getId()));
     }
 
     @Override
-    public StatusResult<Void> suspend(TransferProcess transferProcess) {
+    public CompletableFuture<StatusResult<Void>> suspendAsync(TransferProcess transferProcess) {
         var dataPlaneId = transferProcess.getDataPlaneId();
         if (dataPlaneId == null) {
-            return StatusResult.fatalError("DataPlane id is null");
+            return completedFuture(StatusResult.fatalError("DataPlane id is null"));
         }
 
         var message = DataFlowSuspendMessage.Builder.newInstance()
@@ -165,17 +200,14 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 .reason("suspend")
                 .build();
 
-        return selectorClient.findById(transferProcess.getDataPlaneId())
-                .flatMap(this::toStatusResult)
-                .map(clientFactory::createClient)
-                .compose(client -> client.suspend(transferProcess.getId(), message));
+        return withClient(dataPlaneId, client -> client.suspend(transferProcess.getId(), message));
     }
 
     @Override
-    public StatusResult<DataFlowResponse> resume(TransferProcess transferProcess) {
+    public CompletableFuture<StatusResult<DataFlowResponse>> resumeAsync(TransferProcess transferProcess) {
         var dataPlaneId = transferProcess.getDataPlaneId();
         if (dataPlaneId == null) {
-            return StatusResult.fatalError("DataPlane id is null");
+            return completedFuture(StatusResult.fatalError("DataPlane id is null"));
         }
 
         var builder = DataFlowResumeMessage.Builder.newInstance()
@@ -187,75 +219,61 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
         if (dataAddress != null) {
             var dspDataAddressTransformation = typeTransformerRegistry.transform(dataAddress, DspDataAddress.class);
             if (dspDataAddressTransformation.failed()) {
-                return StatusResult.failure(FATAL_ERROR, dspDataAddressTransformation.getFailureDetail());
+                return completedFuture(StatusResult.failure(FATAL_ERROR, dspDataAddressTransformation.getFailureDetail()));
             }
             builder.dataAddress(dspDataAddressTransformation.getContent());
         }
 
         var message = builder.build();
 
-        return selectorClient.findById(dataPlaneId)
-                .flatMap(this::toStatusResult)
-                .map(clientFactory::createClient)
-                .compose(client -> client.resume(transferProcess.getId(), message))
-                .compose(response -> typeTransformerRegistry.transform(response, DataFlowResponse.class)
-                        .<DataFlowResponse, Result<DataFlowResponse>>map(r -> r.toBuilder().dataPlaneId(dataPlaneId).build())
-                        .flatMap(this::toStatusResult));
+        return withClient(dataPlaneId, client -> client.resume(transferProcess.getId(), message)
+                .thenApply(result -> toDataFlowResponse(result, dataPlaneId)));
     }
 
     @Override
-    public StatusResult<Void> terminate(TransferProcess transferProcess) {
+    public CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
         var dataPlaneId = transferProcess.getDataPlaneId();
         if (dataPlaneId == null) {
-            return StatusResult.success();
+            return completedFuture(StatusResult.success());
         }
 
-        return selectorClient.findById(transferProcess.getDataPlaneId())
-                .flatMap(this::toStatusResult)
-                .map(clientFactory::createClient)
-                .compose(client -> {
-                    var message = DataFlowTerminateMessage.Builder.newInstance().messageId(UUID.randomUUID().toString()).build();
-                    return client.terminate(transferProcess.getId(), message);
-                });
+        return withClient(dataPlaneId, client -> {
+            var message = DataFlowTerminateMessage.Builder.newInstance().messageId(UUID.randomUUID().toString()).build();
+            return client.terminate(transferProcess.getId(), message);
+        });
     }
 
     @Override
-    public StatusResult<Void> started(TransferProcess transferProcess) {
+    public CompletableFuture<StatusResult<Void>> startedAsync(TransferProcess transferProcess) {
         var dataPlaneId = transferProcess.getDataPlaneId();
         if (dataPlaneId == null) {
-            return StatusResult.fatalError("DataPlane id is null");
+            return completedFuture(StatusResult.fatalError("DataPlane id is null"));
         }
 
-        return selectorClient.findById(transferProcess.getDataPlaneId())
-                .flatMap(this::toStatusResult)
-                .map(clientFactory::createClient)
-                .compose(client -> {
-                    var builder = DataFlowStartedNotificationMessage.Builder.newInstance()
-                            .messageId(UUID.randomUUID().toString());
-                    var dataAddress = transferProcess.getContentDataAddress();
-                    if (dataAddress != null) {
-                        var dspDataAddressTransformation = typeTransformerRegistry.transform(dataAddress, DspDataAddress.class);
-                        if (dspDataAddressTransformation.failed()) {
-                            return StatusResult.failure(FATAL_ERROR, dspDataAddressTransformation.getFailureDetail());
-                        }
-                        builder.dataAddress(dspDataAddressTransformation.getContent());
-                    }
-
-                    return client.started(transferProcess.getId(), builder.build());
-                });
+        return withClient(dataPlaneId, client -> {
+            var builder = DataFlowStartedNotificationMessage.Builder.newInstance()
+                    .messageId(UUID.randomUUID().toString());
+            var dataAddress = transferProcess.getContentDataAddress();
+            if (dataAddress != null) {
+                var dspDataAddressTransformation = typeTransformerRegistry.transform(dataAddress, DspDataAddress.class);
+                if (dspDataAddressTransformation.failed()) {
+                    return completedFuture(StatusResult.failure(FATAL_ERROR, dspDataAddressTransformation.getFailureDetail()));
+                }
+                builder.dataAddress(dspDataAddressTransformation.getContent());
+            }
+
+            return client.started(transferProcess.getId(), builder.build());
+        });
     }
 
     @Override
-    public StatusResult<Void> completed(TransferProcess transferProcess) {
+    public CompletableFuture<StatusResult<Void>> completedAsync(TransferProcess transferProcess) {
         var dataPlaneId = transferProcess.getDataPlaneId();
         if (dataPlaneId == null) {
-            return StatusResult.fatalError("DataPlane id is null");
+            return completedFuture(StatusResult.fatalError("DataPlane id is null"));
         }
 
-        return selectorClient.findById(transferProcess.getDataPlaneId())
-                .flatMap(this::toStatusResult)
-                .map(clientFactory::createClient)
-                .compose(client -> client.completed(transferProcess.getId()));
+        return withClient(dataPlaneId, client -> client.completed(transferProcess.getId()));
     }
 
     @Override
@@ -282,12 +300,19 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 .orElse(f -> emptySet());
     }
 
-    private @NotNull StatusResult<DataPlaneInstance> toStatusResult(ServiceResult<DataPlaneInstance> r) {
-        if (r.succeeded()) {
-            return StatusResult.success(r.getContent());
-        } else {
-            return StatusResult.failure(FATAL_ERROR, r.getFailureDetail());
+    private <T> CompletableFuture<StatusResult<T>> withClient(String dataPlaneId, Function<DataPlaneSignalingClient, CompletableFuture<StatusResult<T>>> call) {
+        var dataPlane = selectorClient.findById(dataPlaneId);
+        if (dataPlane.failed()) {
+            return completedFuture(StatusResult.failure(FATAL_ERROR, dataPlane.getFailureDetail()));
         }
+
+        return call.apply(clientFactory.createClient(dataPlane.getContent()));
+    }
+
+    private @NotNull StatusResult<DataFlowResponse> toDataFlowResponse(StatusResult<DataFlowStatusMessage> result, String dataPlaneId) {
+        return result.compose(response -> typeTransformerRegistry.transform(response, DataFlowResponse.class)
+                .<DataFlowResponse, Result<DataFlowResponse>>map(r -> r.toBuilder().dataPlaneId(dataPlaneId).build())
+                .flatMap(this::toStatusResult));
     }
 
     private @NotNull StatusResult<DataFlowResponse> toStatusResult(Result<DataFlowResponse> it) {
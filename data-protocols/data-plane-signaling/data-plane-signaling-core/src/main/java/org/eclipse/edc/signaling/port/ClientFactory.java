@@ -18,22 +18,51 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.signaling.spi.authorization.SignalingAuthorizationRegistry;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.function.Supplier;
 
+/**
+ * Provides {@link DataPlaneSignalingClient} instances. Clients are cached per {@link DataPlaneInstance} id and they get
+ * re-created only when the instance url or authorization profile change.
+ * <p>
+ * Data planes can be unregistered or deleted by any control plane of the cluster, so the cache is bounded and its
+ * entries expire, instead of tracking the lifecycle of the instances.
+ */
 public class ClientFactory {
 
+    static final long CACHE_TTL_MILLIS = Duration.ofHours(1).toMillis();
+    static final int CACHE_CAPACITY = 1_000;
+
+    private final ExpiringLruCache<String, DataPlaneSignalingClient> clients;
+    private final long cacheTtlMillis;
+
     private final EdcHttpClient httpClient;
     private final Supplier<ObjectMapper> objectMapperSupplier;
     private final SignalingAuthorizationRegistry signalingAuthorizationRegistry;
 
     public ClientFactory(EdcHttpClient httpClient, Supplier<ObjectMapper> objectMapperSupplier, SignalingAuthorizationRegistry signalingAuthorizationRegistry) {
+        this(httpClient, objectMapperSupplier, signalingAuthorizationRegistry, Clock.systemUTC(), CACHE_TTL_MILLIS, CACHE_CAPACITY);
+    }
+
+    ClientFactory(EdcHttpClient httpClient, Supplier<ObjectMapper> objectMapperSupplier, SignalingAuthorizationRegistry signalingAuthorizationRegistry,
+                  Clock clock, long cacheTtlMillis, int cacheCapacity) {
         this.httpClient = httpClient;
         this.objectMapperSupplier = objectMapperSupplier;
         this.signalingAuthorizationRegistry = signalingAuthorizationRegistry;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.clients = new ExpiringLruCache<>(clock, cacheTtlMillis, cacheCapacity);
     }
 
     public DataPlaneSignalingClient createClient(DataPlaneInstance instance) {
-        return new DataPlaneSignalingClient(instance, httpClient, objectMapperSupplier, signalingAuthorizationRegistry);
+        var cached = clients.getIfPresent(instance.getId());
+        if (cached != null && cached.isBoundTo(instance)) {
+            return cached;
+        }
+
+        return clients.load(instance.getId(), id -> new DataPlaneSignalingClient(instance, httpClient, objectMapperSupplier, signalingAuthorizationRegistry),
+                client -> cacheTtlMillis);
     }
 }
@@ -21,6 +21,7 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.AuthorizationProfile;
 import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.signaling.domain.DataFlowPrepareMessage;
@@ -30,19 +31,26 @@ import org.eclipse.edc.signaling.domain.DataFlowStartedNotificationMessage;
 import org.eclipse.edc.signaling.domain.DataFlowStatusMessage;
 import org.eclipse.edc.signaling.domain.DataFlowSuspendMessage;
 import org.eclipse.edc.signaling.domain.DataFlowTerminateMessage;
+import org.eclipse.edc.signaling.spi.authorization.SignalingAuthorization;
 import org.eclipse.edc.signaling.spi.authorization.SignalingAuthorizationRegistry;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
- * Client that implements the Data Plane Signaling spec
+ * Client that implements the Data Plane Signaling spec.
+ * All the calls are executed asynchronously, so the caller thread is not blocked while waiting for the data-plane response.
+ * An instance is bound to a single {@link DataPlaneInstance}, the authorization strategy is resolved once at creation.
  */
 public class DataPlaneSignalingClient {
 
@@ -51,7 +59,8 @@ public class DataPlaneSignalingClient {
     private final DataPlaneInstance dataPlane;
     private final EdcHttpClient httpClient;
     private final Supplier<ObjectMapper> objectMapperSupplier;
-    private final SignalingAuthorizationRegistry authorizationRegistry;
+    private final String baseUrl;
+    private final Result<SignalingAuthorization> authorization;
 
     public DataPlaneSignalingClient(DataPlaneInstance dataPlane, EdcHttpClient httpClient,
                                     Supplier<ObjectMapper> objectMapperSupplier,
@@ -59,41 +68,60 @@ public class DataPlaneSignalingClient {
         this.dataPlane = dataPlane;
         this.httpClient = httpClient;
         this.objectMapperSupplier = objectMapperSupplier;
-        this.authorizationRegistry = authorizationRegistry;
+        this.baseUrl = dataPlane.getUrl().toString();
+        this.authorization = resolveAuthorization(dataPlane.getAuthorizationProfile(), authorizationRegistry);
     }
 
-    public StatusResult<DataFlowStatusMessage> prepare(DataFlowPrepareMessage request) {
+    public CompletableFuture<StatusResult<DataFlowStatusMessage>> prepare(DataFlowPrepareMessage request) {
         return send("prepare", request, this::dataFlowStatusMessage);
     }
 
-    public StatusResult<DataFlowStatusMessage> start(DataFlowStartMessage request) {
+    public CompletableFuture<StatusResult<DataFlowStatusMessage>> start(DataFlowStartMessage request) {
         return send("start", request, this::dataFlowStatusMessage);
     }
 
-    public StatusResult<Void> suspend(String flowId, DataFlowSuspendMessage message) {
+    public CompletableFuture<StatusResult<Void>> suspend(String flowId, DataFlowSuspendMessage message) {
         return send(flowId + "/suspend", message, this::discardResponseBody);
     }
 
-    public StatusResult<DataFlowStatusMessage> resume(String flowId, DataFlowResumeMessage message) {
+    public CompletableFuture<StatusResult<DataFlowStatusMessage>> resume(String flowId, DataFlowResumeMessage message) {
         return send(flowId + "/resume", message, this::dataFlowStatusMessage);
     }
 
-    public StatusResult<Void> terminate(String flowId, DataFlowTerminateMessage message) {
+    public CompletableFuture<StatusResult<Void>> terminate(String flowId, DataFlowTerminateMessage message) {
         return send(flowId + "/terminate", message, this::discardResponseBody);
     }
 
-    public StatusResult<Void> started(String flowId, DataFlowStartedNotificationMessage message) {
+    public CompletableFuture<StatusResult<Void>> started(String flowId, DataFlowStartedNotificationMessage message) {
         return send(flowId + "/started", message, this::discardResponseBody);
     }
 
-    public StatusResult<Void> completed(String flowId) {
+    public CompletableFuture<StatusResult<Void>> completed(String flowId) {
         return send(flowId + "/completed", emptyMap(), this::discardResponseBody);
     }
 
-    private <T> StatusResult<T> send(String path, Object message, Function<ResponseBody, Result<T>> extractBody) {
-        return createRequestBuilder(message, dataPlane.getUrl() + "/" + path)
-                .compose(builder -> {
-                    var response = httpClient.execute(builder.build(), r -> handleResponse(r, extractBody));
+    /**
+     * Tells if the client can be reused to communicate with the passed {@link DataPlaneInstance}, that's true if
+     * url and authorization profile are the same as the ones the client has been created with.
+     *
+     * @param instance the data plane instance.
+     * @return true if the client can be reused, false otherwise.
+     */
+    boolean isBoundTo(DataPlaneInstance instance) {
+        return baseUrl.equals(instance.getUrl().toString()) &&
+                Objects.equals(dataPlane.getAuthorizationProfile(), instance.getAuthorizationProfile());
+    }
+
+    private <T> CompletableFuture<StatusResult<T>> send(String path, Object message, Function<ResponseBody, Result<T>> extractBody) {
+        var requestBuilder = createRequestBuilder(message, baseUrl + "/" + path);
+        if (requestBuilder.failed()) {
+            return completedFuture(StatusResult.failure(FATAL_ERROR, requestBuilder.getFailureDetail()));
+        }
+
+        return httpClient.executeAsync(requestBuilder.getContent().build(), emptyList())
+                .thenApply(response -> handleResponse(response, extractBody))
+                .exceptionally(throwable -> Result.failure("Cannot reach data-plane %s: %s".formatted(baseUrl, throwable.getMessage())))
+                .thenApply(response -> {
                     if (response.succeeded()) {
                         return StatusResult.success(response.getContent());
                     } else {
@@ -149,14 +177,21 @@ public class DataPlaneSignalingClient {
         if (authorizationProfile == null) {
             return Result.success(requestBuilder);
         }
+
+        return authorization
+                .compose(it -> it.evaluate(authorizationProfile))
+                .map(header -> requestBuilder.addHeader(header.key(), header.value()));
+    }
+
+    private Result<SignalingAuthorization> resolveAuthorization(AuthorizationProfile authorizationProfile, SignalingAuthorizationRegistry authorizationRegistry) {
+        if (authorizationProfile == null) {
+            return Result.failure("No authorization profile defined");
+        }
         var authorization = authorizationRegistry.findByType(authorizationProfile.type());
         if (authorization == null) {
             return Result.failure("Authorization %s not supported".formatted(authorizationProfile.type()));
         }
-
-        return authorization
-                .evaluate(authorizationProfile)
-                .map(header -> requestBuilder.addHeader(header.key(), header.value()));
+        return Result.success(authorization);
     }
 
     private Result<String> serialize(Object message) {
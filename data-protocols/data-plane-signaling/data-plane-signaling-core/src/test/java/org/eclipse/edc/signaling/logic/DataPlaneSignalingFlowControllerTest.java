@@ -48,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -114,7 +115,7 @@ public class DataPlaneSignalingFlowControllerTest {
             var flowResponseMessage = DataFlowStatusMessage.Builder.newInstance()
                     .dataAddress(createDspDataAddress())
                     .build();
-            when(dataPlaneClient.prepare(any())).thenReturn(StatusResult.success(flowResponseMessage));
+            when(dataPlaneClient.prepare(any())).thenReturn(completedFuture(StatusResult.success(flowResponseMessage)));
             when(typeTransformerRegistry.transform(isA(DataAddress.class), any())).thenReturn(Result.success(createDspDataAddress()));
             var response = DataFlowResponse.Builder.newInstance().dataAddress(testDataAddress()).build();
             when(typeTransformerRegistry.transform(isA(DataFlowStatusMessage.class), any())).thenReturn(Result.success(response));
@@ -165,9 +166,9 @@ public class DataPlaneSignalingFlowControllerTest {
             when(typeTransformerRegistry.transform(isA(DataAddress.class), any())).thenReturn(Result.success(createDspDataAddress()));
             var response = DataFlowResponse.Builder.newInstance().dataPlaneId("dataPlaneId").dataAddress(testDataAddress()).build();
             when(typeTransformerRegistry.transform(isA(DataFlowStatusMessage.class), any())).thenReturn(Result.success(response));
-            when(dataPlaneClient.start(any())).thenReturn(StatusResult.success(DataFlowStatusMessage.Builder.newInstance()
+            when(dataPlaneClient.start(any())).thenReturn(completedFuture(StatusResult.success(DataFlowStatusMessage.Builder.newInstance()
                     .dataAddress(createDspDataAddress())
-                    .build()));
+                    .build())));
             when(dataAddressStore.resolve(any())).thenReturn(StoreResult.success(DataAddress.Builder.newInstance().type("test").build()));
 
             var result = flowController.start(transferProcess, policy);
@@ -205,7 +206,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .transferType(HTTP_DATA_PULL)
                     .build();
 
-            when(dataPlaneClient.start(any())).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR, errorMsg));
+            when(dataPlaneClient.start(any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, errorMsg)));
             var dataPlaneInstance = dataPlaneInstanceBuilder().build();
             when(selectorService.selectFor(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
@@ -232,7 +233,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .contentDataAddress(testDataAddress())
                     .dataPlaneId("dataPlaneId")
                     .build();
-            when(dataPlaneClient.terminate(any(), any())).thenReturn(StatusResult.success());
+            when(dataPlaneClient.terminate(any(), any())).thenReturn(completedFuture(StatusResult.success()));
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
 
@@ -250,7 +251,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .contentDataAddress(testDataAddress())
                     .dataPlaneId("invalid")
                     .build();
-            when(dataPlaneClient.terminate(any(), any())).thenReturn(StatusResult.success());
+            when(dataPlaneClient.terminate(any(), any())).thenReturn(completedFuture(StatusResult.success()));
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.notFound("not found"));
 
@@ -287,7 +288,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .build();
             var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
             var dspDataAddress = createDspDataAddress();
-            when(dataPlaneClient.started(any(), any())).thenReturn(StatusResult.success());
+            when(dataPlaneClient.started(any(), any())).thenReturn(completedFuture(StatusResult.success()));
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
             when(typeTransformerRegistry.transform(isA(DataAddress.class), any())).thenReturn(Result.success(dspDataAddress));
@@ -340,7 +341,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .contentDataAddress(testDataAddress())
                     .dataPlaneId("dataPlaneId")
                     .build();
-            when(dataPlaneClient.completed(any())).thenReturn(StatusResult.success());
+            when(dataPlaneClient.completed(any())).thenReturn(completedFuture(StatusResult.success()));
             var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
@@ -393,7 +394,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .contentDataAddress(testDataAddress())
                     .dataPlaneId("dataPlaneId")
                     .build();
-            when(dataPlaneClient.suspend(any(), any())).thenReturn(StatusResult.success());
+            when(dataPlaneClient.suspend(any(), any())).thenReturn(completedFuture(StatusResult.success()));
             var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
@@ -447,7 +448,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .dataPlaneId("dataPlaneId")
                     .dataAddressOwner(false)
                     .build();
-            when(dataPlaneClient.resume(any(), any())).thenReturn(StatusResult.success(DataFlowStatusMessage.Builder.newInstance().build()));
+            when(dataPlaneClient.resume(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowStatusMessage.Builder.newInstance().build())));
             var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
@@ -470,7 +471,7 @@ public class DataPlaneSignalingFlowControllerTest {
                     .dataAddressOwner(true)
                     .build();
             when(dataAddressStore.resolve(any())).thenReturn(StoreResult.success(testDataAddress()));
-            when(dataPlaneClient.resume(any(), any())).thenReturn(StatusResult.success(DataFlowStatusMessage.Builder.newInstance().build()));
+            when(dataPlaneClient.resume(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowStatusMessage.Builder.newInstance().build())));
             var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
             when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.signaling.port;
+
+import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.AuthorizationProfile;
+import org.eclipse.edc.connector.controlplane.dataplane.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClientFactoryTest {
+
+    private final ClientFactory clientFactory = new ClientFactory(mock(), () -> new JacksonTypeManager().getMapper(), mock());
+
+    @Test
+    void shouldReuseClient_whenDataPlaneInstanceDidNotChange() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("id").url("http://localhost:8080").build();
+
+        var first = clientFactory.createClient(instance);
+        var second = clientFactory.createClient(instance.toBuilder().build());
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    void shouldCreateNewClient_whenUrlChanged() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("id").url("http://localhost:8080").build();
+
+        var first = clientFactory.createClient(instance);
+        var second = clientFactory.createClient(DataPlaneInstance.Builder.newInstance().id("id").url("http://localhost:9090").build());
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldCreateNewClient_whenAuthorizationProfileChanged() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("id").url("http://localhost:8080").build();
+
+        var first = clientFactory.createClient(instance);
+        var second = clientFactory.createClient(DataPlaneInstance.Builder.newInstance().id("id").url("http://localhost:8080")
+                .authorizationProfile(new AuthorizationProfile("oauth2", Map.of())).build());
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldCreateDifferentClients_whenDifferentDataPlaneInstances() {
+        var first = clientFactory.createClient(DataPlaneInstance.Builder.newInstance().id("one").url("http://localhost:8080").build());
+        var second = clientFactory.createClient(DataPlaneInstance.Builder.newInstance().id("two").url("http://localhost:8080").build());
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedClient_whenCapacityIsReached() {
+        var clientFactory = new ClientFactory(mock(), () -> new JacksonTypeManager().getMapper(), mock(), Clock.systemUTC(), 1000, 1);
+        var one = DataPlaneInstance.Builder.newInstance().id("one").url("http://localhost:8080").build();
+
+        var first = clientFactory.createClient(one);
+        clientFactory.createClient(DataPlaneInstance.Builder.newInstance().id("two").url("http://localhost:8080").build());
+        var second = clientFactory.createClient(one);
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldCreateNewClient_whenCachedOneExpired() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        var clientFactory = new ClientFactory(mock(), () -> new JacksonTypeManager().getMapper(), mock(), clock, 1000, 10);
+        var instance = DataPlaneInstance.Builder.newInstance().id("id").url("http://localhost:8080").build();
+
+        var first = clientFactory.createClient(instance);
+        when(clock.millis()).thenReturn(1000L);
+        var second = clientFactory.createClient(instance);
+
+        assertThat(first).isNotSameAs(second);
+    }
+}
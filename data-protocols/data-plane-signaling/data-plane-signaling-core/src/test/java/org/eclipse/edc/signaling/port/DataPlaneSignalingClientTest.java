@@ -65,7 +65,7 @@ class DataPlaneSignalingClientTest {
             var client = createClient(dataPlane());
             var message = DataFlowTerminateMessage.Builder.newInstance().messageId(UUID.randomUUID().toString()).build();
 
-            var result = client.terminate("flow-id", message);
+            var result = client.terminate("flow-id", message).join();
 
             assertThat(result.succeeded()).isTrue();
             server.verify(postRequestedFor(urlPathEqualTo("/flow-id/terminate"))
@@ -81,7 +81,7 @@ class DataPlaneSignalingClientTest {
             when(authorization.evaluate(profile)).thenReturn(Result.success(new Header("Authorization", "Bearer my-token")));
             var message = DataFlowTerminateMessage.Builder.newInstance().messageId(UUID.randomUUID().toString()).build();
 
-            var result = createClient(dataPlane(profile)).terminate("flow-id", message);
+            var result = createClient(dataPlane(profile)).terminate("flow-id", message).join();
 
             assertThat(result.succeeded()).isTrue();
             server.verify(postRequestedFor(urlPathEqualTo("/flow-id/terminate"))
@@ -94,7 +94,7 @@ class DataPlaneSignalingClientTest {
             when(authorizationRegistry.findByType("unknown-type")).thenReturn(null);
             var message = DataFlowTerminateMessage.Builder.newInstance().messageId(UUID.randomUUID().toString()).build();
 
-            var result = createClient(dataPlane(profile)).terminate("flow-id", message);
+            var result = createClient(dataPlane(profile)).terminate("flow-id", message).join();
 
             assertThat(result.failed()).isTrue();
             assertThat(result.getFailureMessages()).anyMatch(msg -> msg.contains("unknown-type"));
@@ -109,7 +109,7 @@ class DataPlaneSignalingClientTest {
             when(authorization.evaluate(profile)).thenReturn(Result.failure("token endpoint unreachable"));
             var message = DataFlowTerminateMessage.Builder.newInstance().messageId(UUID.randomUUID().toString()).build();
 
-            var result = createClient(dataPlane(profile)).terminate("flow-id", message);
+            var result = createClient(dataPlane(profile)).terminate("flow-id", message).join();
 
             assertThat(result.failed()).isTrue();
             assertThat(result.getFailureMessages()).anyMatch(msg -> msg.contains("token endpoint unreachable"));
@@ -126,7 +126,7 @@ class DataPlaneSignalingClientTest {
             server.stubFor(post(anyUrl()).willReturn(serverError()));
             var client = createClient(dataPlane());
 
-            var result = client.prepare(DataFlowPrepareMessage.Builder.newInstance().build());
+            var result = client.prepare(DataFlowPrepareMessage.Builder.newInstance().build()).join();
 
             assertThat(result.failed()).isTrue();
             assertThat(result.getFailureMessages()).anyMatch(msg -> msg.contains("500"));
@@ -137,7 +137,7 @@ class DataPlaneSignalingClientTest {
             server.stubFor(post(anyUrl()).willReturn(ok().withBody("{\"state\": \"STARTED\"}")));
             var client = createClient(dataPlane());
 
-            var result = client.prepare(DataFlowPrepareMessage.Builder.newInstance().build());
+            var result = client.prepare(DataFlowPrepareMessage.Builder.newInstance().build()).join();
 
             assertThat(result.succeeded()).isTrue();
             assertThat(result.getContent().getState()).isEqualTo("STARTED");
@@ -148,7 +148,7 @@ class DataPlaneSignalingClientTest {
             server.stubFor(post(anyUrl()).willReturn(ok().withBody("not-valid-json")));
             var client = createClient(dataPlane());
 
-            var result = client.prepare(DataFlowPrepareMessage.Builder.newInstance().build());
+            var result = client.prepare(DataFlowPrepareMessage.Builder.newInstance().build()).join();
 
             assertThat(result.failed()).isTrue();
             assertThat(result.getFailureMessages()).first().asString().contains("Cannot read response body");
@@ -46,6 +46,7 @@ import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToDataAddressTrans
 import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToQuerySpecTransformer;
 import org.eclipse.edc.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.BulkRequestMessageBodyReader;
 import org.eclipse.edc.web.jersey.providers.jsonld.JsonObjectMessageBodyReader;
 import org.eclipse.edc.web.jersey.providers.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.spi.WebService;
@@ -81,6 +82,9 @@ public class ManagementApiConfigurationExtension implements ServiceExtension {
 
     @Setting(description = "Configures endpoint for reaching the Management API, in the format \"<hostname:management.port/management.path>\"", key = "edc.management.endpoint", required = false)
     private String managementApiEndpoint;
+    @Setting(description = "Maximum number of items accepted by a bulk request", key = "edc.management.bulk.max-items",
+            defaultValue = BulkRequestMessageBodyReader.DEFAULT_MAX_ITEMS + "")
+    private int bulkMaxItems;
     @Configuration
     private ManagementApiConfiguration apiConfiguration;
 
@@ -122,6 +126,7 @@ public class ManagementApiConfigurationExtension implements ServiceExtension {
 
         webService.registerResource(ApiContext.MANAGEMENT, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(ApiContext.MANAGEMENT, new JsonObjectMessageBodyReader(jsonLd, typeManager, JSON_LD, validatorRegistry));
+        webService.registerResource(ApiContext.MANAGEMENT, new BulkRequestMessageBodyReader(jsonLd, typeManager, JSON_LD, validatorRegistry, bulkMaxItems));
 
         var managementApiTransformerRegistry = transformerRegistry.forContext(MANAGEMENT_API_CONTEXT);
 
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the partitioning of the stateful entities between the runtimes that share the same database.
+ */
+@Settings
+public record PartitionOwnershipConfiguration(
+
+        @Setting(
+                description = "Number of partitions the stateful entities are split into, every runtime works only on the partitions it owns. " +
+                        "It must be the same for all the runtimes, 0 disables partitioning.",
+                key = "count",
+                defaultValue = "0"
+        )
+        int count,
+
+        @Setting(
+                description = "How long a runtime keeps the ownership of its partitions without renewing it, in ISO-8061 duration format.",
+                key = "lease-duration",
+                defaultValue = "PT30S"
+        )
+        Duration leaseDuration,
+
+        @Setting(
+                description = "Time period between the renewals of the ownership, in ISO-8061 duration format. It must be shorter than the lease duration.",
+                key = "heartbeat-period",
+                defaultValue = "PT10S"
+        )
+        Duration heartbeatPeriod,
+
+        @Setting(
+                description = "The datasource that contains the lease table.",
+                key = "datasource",
+                defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE
+        )
+        String dataSourceName
+) {
+}
@@ -14,14 +14,19 @@
 
 package org.eclipse.edc.sql.lease;
 
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilderProvider;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
@@ -39,6 +44,15 @@ public class SqlLeaseCoreExtension implements ServiceExtension {
     private QueryExecutor queryExecutor;
     @Inject
     private LeaseStatements statements;
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Configuration(context = "edc.sql.lease.partitions")
+    private PartitionOwnershipConfiguration partitionConfiguration;
+
+    private SqlPartitionOwnership partitionOwnership;
 
     @Override
     public String name() {
@@ -50,4 +64,32 @@ public class SqlLeaseCoreExtension implements ServiceExtension {
         return new SqlLeaseContextBuilderProviderImpl(transactionContext, statements, context.getRuntimeId(), clock, queryExecutor);
     }
 
+    @Provider(isDefault = true)
+    public PartitionOwnership partitionOwnership(ServiceExtensionContext context) {
+        if (partitionConfiguration.count() <= 0) {
+            return PartitionOwnership.DISABLED;
+        }
+        if (partitionConfiguration.heartbeatPeriod().compareTo(partitionConfiguration.leaseDuration()) >= 0) {
+            throw new EdcException("The partition heartbeat period must be shorter than the partition lease duration");
+        }
+        partitionOwnership = new SqlPartitionOwnership(dataSourceRegistry, partitionConfiguration.dataSourceName(), transactionContext,
+                queryExecutor, statements, context.getRuntimeId(), partitionConfiguration.count(), partitionConfiguration.leaseDuration(),
+                partitionConfiguration.heartbeatPeriod(), executorInstrumentation, context.getMonitor(), clock);
+        return partitionOwnership;
+    }
+
+    @Override
+    public void start() {
+        if (partitionOwnership != null) {
+            partitionOwnership.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (partitionOwnership != null) {
+            partitionOwnership.stop();
+        }
+    }
+
 }
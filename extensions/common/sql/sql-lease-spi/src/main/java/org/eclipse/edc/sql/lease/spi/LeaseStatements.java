@@ -16,6 +16,8 @@ package org.eclipse.edc.sql.lease.spi;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
@@ -38,10 +40,60 @@ public interface LeaseStatements extends SqlStatements {
                 .upsertInto(getLeaseTableName(), format("%s, %s", getResourceIdColumn(), getResourceKindColumn()), "%s.%s + %s.%s < ?".formatted(getLeaseTableName(), getLeasedAtColumn(), getLeaseTableName(), getLeaseDurationColumn()));
     }
 
+    /**
+     * Upsert statement that leases multiple resources at once and returns the ids of the leased ones. The parameters
+     * are the same of {@link #getUpsertLeaseTemplate()} for every resource, then the timestamp used to tell if an
+     * existing lease has expired.
+     *
+     * @param count the number of resources.
+     * @return the upsert statement.
+     */
+    default String getUpsertLeasesTemplate(int count) {
+        var values = String.join(", ", Collections.nCopies(count, "(?, ?, ?, ?, ?)"));
+        return format("INSERT INTO %1$s (%2$s, %3$s, %4$s, %5$s, %6$s) VALUES %7$s ON CONFLICT (%2$s, %4$s) DO UPDATE SET " +
+                        "%3$s = EXCLUDED.%3$s, %5$s = EXCLUDED.%5$s, %6$s = EXCLUDED.%6$s WHERE %1$s.%5$s + %1$s.%6$s < ? RETURNING %1$s.%2$s;",
+                getLeaseTableName(), getResourceIdColumn(), getLeasedByColumn(), getResourceKindColumn(), getLeasedAtColumn(),
+                getLeaseDurationColumn(), values);
+    }
+
     default String getFindLeaseByEntityTemplate() {
         return "SELECT * FROM %s WHERE %s = ? and %s = ?".formatted(getLeaseTableName(), getResourceIdColumn(), getResourceKindColumn());
     }
 
+    /**
+     * Statement that renews all the leases of a kind held by a lease holder and returns the ids of the renewed ones.
+     * The parameters are the new lease timestamp, the resource kind and the lease holder.
+     *
+     * @return the update statement.
+     */
+    default String getRenewLeasesTemplate() {
+        return "UPDATE %s SET %s = ? WHERE %s = ? AND %s = ? RETURNING %s".formatted(getLeaseTableName(), getLeasedAtColumn(),
+                getResourceKindColumn(), getLeasedByColumn(), getResourceIdColumn());
+    }
+
+    /**
+     * Query of the leases of a kind that have not expired yet. The parameters are the resource kind and the current
+     * timestamp.
+     *
+     * @return the select statement.
+     */
+    default String getFindActiveLeasesByKindTemplate() {
+        return "SELECT * FROM %s WHERE %s = ? AND %s + %s >= ?".formatted(getLeaseTableName(), getResourceKindColumn(),
+                getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Where clause that restricts a query to the entities that belong to the given partitions, see
+     * {@link PartitionOwnership}. The parameters are the partition count and then the partitions.
+     *
+     * @param idColumn   the qualified entity id column.
+     * @param partitions the number of partitions.
+     * @return the where clause.
+     */
+    default String getPartitionFilter(String idColumn, int partitions) {
+        return "(hashtext(%s) & 2147483647) %% ? IN (%s)".formatted(idColumn, String.join(", ", Collections.nCopies(partitions, "?")));
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
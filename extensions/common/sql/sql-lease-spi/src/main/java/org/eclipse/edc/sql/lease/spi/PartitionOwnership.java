@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease.spi;
+
+import java.util.Set;
+
+/**
+ * Tells which partitions of the stateful entities are owned by the current runtime.
+ * <p>
+ * Every entity belongs to the partition given by the hash of its id modulo the partition count, and the runtimes that
+ * share the same database split the partitions between them, so that a state machine only fetches the entities of the
+ * partitions it owns instead of competing with the other replicas for the same rows. The ownership does not replace
+ * the entity leases, that still guarantee that an entity is processed by one runtime at a time.
+ */
+public interface PartitionOwnership {
+
+    /**
+     * Partitioning is disabled, the runtime works on every entity.
+     */
+    PartitionOwnership DISABLED = new PartitionOwnership() {
+        @Override
+        public int partitionCount() {
+            return 0;
+        }
+
+        @Override
+        public Set<Integer> ownedPartitions() {
+            return Set.of();
+        }
+    };
+
+    /**
+     * The total number of partitions.
+     *
+     * @return the partition count, 0 if partitioning is disabled.
+     */
+    int partitionCount();
+
+    /**
+     * The partitions currently owned by the runtime, meaningful only if partitioning is enabled.
+     *
+     * @return the owned partitions, between 0 and {@link #partitionCount()} excluded.
+     */
+    Set<Integer> ownedPartitions();
+
+}
@@ -28,7 +28,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -91,6 +98,25 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public Set<String> acquireLeases(Collection<String> entityIds) {
+        var ids = new LinkedHashSet<>(entityIds);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var arguments = new ArrayList<>();
+            ids.forEach(id -> arguments.addAll(List.of(id, leaseHolder, resourceKind, now, duration)));
+            arguments.add(now);
+            var stmt = statements.getUpsertLeasesTemplate(ids.size());
+            try (var leased = queryExecutor.query(connection, false, rs -> rs.getString(statements.getResourceIdColumn()), stmt, arguments.toArray())) {
+                return leased.collect(toSet());
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * SQL-based implementation of the {@link PartitionOwnership}, the partitions are claimed through the lease table.
+ * <p>
+ * Every runtime holds a member lease and a lease for each partition it owns, and renews them on every heartbeat. On the
+ * same heartbeat it compares the partitions it owns with its fair share, that is the partition count divided by the
+ * number of live members: the surplus is released so that a joining runtime can claim it, the partitions that are
+ * free, or whose owner stopped heartbeating, are claimed up to the fair share. When the heartbeat cannot reach the
+ * database for longer than the lease duration the runtime stops considering its partitions owned, as another runtime
+ * could have claimed them meanwhile.
+ */
+public class SqlPartitionOwnership implements PartitionOwnership {
+
+    public static final String PARTITION_KIND = "edc_partition";
+    public static final String MEMBER_KIND = "edc_partition_member";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final LeaseStatements statements;
+    private final String runtimeId;
+    private final int partitionCount;
+    private final Duration leaseDuration;
+    private final Duration heartbeatPeriod;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final SqlLeaseContextBuilderImpl memberLeases;
+    private final SqlLeaseContextBuilderImpl partitionLeases;
+
+    private volatile Ownership ownership = new Ownership(Set.of(), 0);
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param runtimeId       the lease holder, it must be unique across the runtimes that share the database.
+     * @param partitionCount  the total number of partitions, it must be the same for all the runtimes.
+     * @param leaseDuration   how long an ownership lasts without being renewed.
+     * @param heartbeatPeriod the time between two heartbeats, it must be shorter than the lease duration.
+     */
+    public SqlPartitionOwnership(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                 QueryExecutor queryExecutor, LeaseStatements statements, String runtimeId, int partitionCount,
+                                 Duration leaseDuration, Duration heartbeatPeriod, ExecutorInstrumentation executorInstrumentation,
+                                 Monitor monitor, Clock clock) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.statements = statements;
+        this.runtimeId = runtimeId;
+        this.partitionCount = partitionCount;
+        this.leaseDuration = leaseDuration;
+        this.heartbeatPeriod = heartbeatPeriod;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.clock = clock;
+        this.memberLeases = SqlLeaseContextBuilderImpl.with(transactionContext, runtimeId, MEMBER_KIND, statements, clock, queryExecutor).forTime(leaseDuration);
+        this.partitionLeases = SqlLeaseContextBuilderImpl.with(transactionContext, runtimeId, PARTITION_KIND, statements, clock, queryExecutor).forTime(leaseDuration);
+    }
+
+    @Override
+    public int partitionCount() {
+        return partitionCount;
+    }
+
+    @Override
+    public Set<Integer> ownedPartitions() {
+        var current = ownership;
+        return clock.millis() < current.validUntil() ? current.partitions() : Set.of();
+    }
+
+    public void start() {
+        scheduler = executorInstrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("partition-ownership");
+                    return thread;
+                }), "partition-ownership");
+
+        scheduler.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatPeriod.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the heartbeat and release the owned partitions, so that the other runtimes can claim them right away.
+     */
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        var released = ownership.partitions();
+        ownership = new Ownership(Set.of(), 0);
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    released.forEach(partition -> queryExecutor.execute(connection, statements.getDeleteLeaseTemplate(), String.valueOf(partition), PARTITION_KIND));
+                    queryExecutor.execute(connection, statements.getDeleteLeaseTemplate(), runtimeId, MEMBER_KIND);
+                } catch (SQLException e) {
+                    throw new EdcPersistenceException(e);
+                }
+            });
+        } catch (Throwable throwable) {
+            monitor.warning("Cannot release the owned partitions", throwable);
+        }
+    }
+
+    /**
+     * Renew the member and partition leases and rebalance the owned partitions.
+     */
+    void heartbeat() {
+        try {
+            var now = clock.millis();
+            var partitions = transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    return rebalance(connection, now);
+                } catch (SQLException e) {
+                    throw new EdcPersistenceException(e);
+                }
+            });
+            if (!partitions.equals(ownership.partitions())) {
+                monitor.debug(() -> "Owning partitions %s of %d".formatted(partitions, partitionCount));
+            }
+            ownership = new Ownership(partitions, now + leaseDuration.toMillis());
+        } catch (Throwable throwable) {
+            monitor.warning("Cannot renew the partition ownership", throwable);
+        }
+    }
+
+    private Set<Integer> rebalance(Connection connection, long now) {
+        if (renew(connection, MEMBER_KIND, now).isEmpty()) {
+            memberLeases.withConnection(connection).acquireLease(runtimeId);
+        }
+
+        var owned = renew(connection, PARTITION_KIND, now).stream().map(Integer::valueOf).collect(toCollection(TreeSet::new));
+        var members = Math.max(1, activeLeases(connection, MEMBER_KIND, now).size());
+        var fairShare = (partitionCount + members - 1) / members;
+
+        while (owned.size() > fairShare) {
+            queryExecutor.execute(connection, statements.getDeleteLeaseTemplate(), String.valueOf(owned.pollLast()), PARTITION_KIND);
+        }
+
+        if (owned.size() < fairShare) {
+            var taken = activeLeases(connection, PARTITION_KIND, now);
+            var free = IntStream.range(0, partitionCount).mapToObj(String::valueOf)
+                    .filter(partition -> !taken.contains(partition))
+                    .collect(toCollection(ArrayList::new));
+            // runtimes starting together would otherwise all compete for the same partitions
+            Collections.shuffle(free);
+            var claimable = free.subList(0, Math.min(free.size(), fairShare - owned.size()));
+            partitionLeases.withConnection(connection).acquireLeases(claimable).forEach(partition -> owned.add(Integer.valueOf(partition)));
+        }
+
+        return Set.copyOf(owned);
+    }
+
+    private Set<String> renew(Connection connection, String kind, long now) {
+        try (var renewed = queryExecutor.query(connection, false, rs -> rs.getString(statements.getResourceIdColumn()),
+                statements.getRenewLeasesTemplate(), now, kind, runtimeId)) {
+            return renewed.collect(toSet());
+        }
+    }
+
+    private Set<String> activeLeases(Connection connection, String kind, long now) {
+        try (var leases = queryExecutor.query(connection, false, rs -> rs.getString(statements.getResourceIdColumn()),
+                statements.getFindActiveLeasesByKindTemplate(), kind, now)) {
+            return leases.collect(toSet());
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+
+    private record Ownership(Set<Integer> partitions, long validUntil) {
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the column values of the {@link StatefulEntity} instances that have been loaded from the database, so that on
+ * save only the changed columns need to be updated: a state transition does not need to write back the JSON columns
+ * that have not been touched.
+ * <p>
+ * A row is bound to the loaded instance, and it's consumed by the first save of it. The number of rows is bounded, an
+ * entity whose row has been evicted is saved as a whole.
+ */
+public class StatefulEntityRows {
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Map<String, Row> rows;
+
+    public StatefulEntityRows() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StatefulEntityRows(int capacity) {
+        rows = new ConcurrentLruCache<>(capacity);
+    }
+
+    /**
+     * Keep the column values of a loaded entity.
+     *
+     * @param entity  the loaded entity.
+     * @param columns the column values, keyed by column name.
+     */
+    public void loaded(StatefulEntity<?> entity, Map<String, Object> columns) {
+        rows.put(entity.getId(), new Row(new WeakReference<>(entity), columns));
+    }
+
+    /**
+     * Returns the column values that differ from the ones the entity has been loaded with, and forgets the row, as the
+     * entity is going to be saved.
+     *
+     * @param entity  the entity being saved.
+     * @param columns the current column values, keyed by column name.
+     * @return the changed column values in the same order as passed, null if the entity instance has not been loaded.
+     */
+    @Nullable
+    public Map<String, Object> changes(StatefulEntity<?> entity, Map<String, Object> columns) {
+        var row = rows.remove(entity.getId());
+        if (row == null || row.entity().get() != entity) {
+            return null;
+        }
+
+        var changes = new LinkedHashMap<String, Object>();
+        columns.forEach((column, value) -> {
+            if (!row.columns().containsKey(column) || !Objects.equals(row.columns().get(column), value)) {
+                changes.put(column, value);
+            }
+        });
+        return changes;
+    }
+
+    private record Row(WeakReference<StatefulEntity<?>> entity, Map<String, Object> columns) {
+    }
+}
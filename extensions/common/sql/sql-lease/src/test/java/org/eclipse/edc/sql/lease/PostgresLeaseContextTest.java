@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Executors;
@@ -103,6 +104,25 @@ class PostgresLeaseContextTest {
                 .isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
     }
 
+    @Test
+    void acquireLeases_shouldReturnTheLeasedIds(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id2").orElseThrow(f -> new AssertionError(f.getFailureDetail()));
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2", "id3"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id3");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id2")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_shouldReturnEmpty_whenNoIds() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
     @Test
     void acquireLease(Connection connection) {
         var id = "test-id";
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresSqlPartitionOwnershipTest {
+
+    private static final int PARTITIONS = 8;
+
+    private final BaseSqlLeaseStatements statements = new BaseSqlLeaseStatements();
+    private final Clock clock = mock();
+    private final Monitor monitor = mock();
+    private final long now = Instant.now().toEpochMilli();
+    private PostgresqlStoreSetupExtension setupExtension;
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension setupExtension) throws IOException {
+        this.setupExtension = setupExtension;
+        when(clock.millis()).thenReturn(now);
+        when(monitor.withPrefix(any())).thenReturn(monitor);
+        var schema = Files.readString(Paths.get("./src/test/resources/schema.sql"));
+        setupExtension.runQuery(schema);
+    }
+
+    @AfterEach
+    void teardown() {
+        setupExtension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+        setupExtension.runQuery("DROP TABLE edc_test_entity CASCADE");
+    }
+
+    @Test
+    void shouldOwnAllPartitions_whenAlone() {
+        var ownership = ownership("runtime-1");
+
+        ownership.heartbeat();
+
+        assertThat(ownership.ownedPartitions()).containsExactlyInAnyOrderElementsOf(allPartitions());
+    }
+
+    @Test
+    void shouldSplitPartitions_whenAnotherRuntimeJoins() {
+        var first = ownership("runtime-1");
+        var second = ownership("runtime-2");
+
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+        second.heartbeat();
+
+        assertThat(first.ownedPartitions()).hasSize(PARTITIONS / 2).doesNotContainAnyElementsOf(second.ownedPartitions());
+        assertThat(second.ownedPartitions()).hasSize(PARTITIONS / 2);
+    }
+
+    @Test
+    void shouldTakeOverPartitions_whenRuntimeStops() {
+        var first = ownership("runtime-1");
+        var second = ownership("runtime-2");
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+        second.heartbeat();
+
+        second.stop();
+        first.heartbeat();
+
+        assertThat(first.ownedPartitions()).containsExactlyInAnyOrderElementsOf(allPartitions());
+    }
+
+    @Test
+    void shouldTakeOverPartitions_whenRuntimeStopsHeartbeating() {
+        var first = ownership("runtime-1");
+        var second = ownership("runtime-2");
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+        second.heartbeat();
+
+        when(clock.millis()).thenReturn(now + Duration.ofSeconds(31).toMillis());
+        first.heartbeat();
+
+        assertThat(first.ownedPartitions()).containsExactlyInAnyOrderElementsOf(allPartitions());
+        assertThat(second.ownedPartitions()).isEmpty();
+    }
+
+    @Test
+    void shouldNotOwnPartitions_whenNeverHeartbeated() {
+        var ownership = ownership("runtime-1");
+
+        assertThat(ownership.ownedPartitions()).isEmpty();
+    }
+
+    private SqlPartitionOwnership ownership(String runtimeId) {
+        return new SqlPartitionOwnership(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), new SqlQueryExecutor(), statements, runtimeId, PARTITIONS,
+                Duration.ofSeconds(30), Duration.ofSeconds(10), ExecutorInstrumentation.noop(), monitor, clock);
+    }
+
+    private Set<Integer> allPartitions() {
+        return IntStream.range(0, PARTITIONS).boxed().collect(toSet());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.testfixtures;
+
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * {@link QueryExecutor} decorator that counts the database round-trips, to benchmark the number of statements a store
+ * operation needs and guard it from regressions, e.g. N+1 queries.
+ */
+public class RoundTripCountingQueryExecutor implements QueryExecutor {
+
+    private final QueryExecutor delegate;
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    public RoundTripCountingQueryExecutor(QueryExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int execute(Connection connection, String sql, Object... arguments) {
+        roundTrips.incrementAndGet();
+        return delegate.execute(connection, sql, arguments);
+    }
+
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        roundTrips.incrementAndGet();
+        return delegate.executeBatch(connection, sql, arguments);
+    }
+
+    @Override
+    public <T> Stream<T> query(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        roundTrips.incrementAndGet();
+        return delegate.query(connection, closeConnection, resultSetMapper, sql, arguments);
+    }
+
+    @Override
+    public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        roundTrips.incrementAndGet();
+        return delegate.single(connection, closeConnection, resultSetMapper, sql, arguments);
+    }
+
+    /**
+     * Number of round-trips since creation or the last {@link #reset()}.
+     *
+     * @return the round-trips count.
+     */
+    public int roundTrips() {
+        return roundTrips.get();
+    }
+
+    public void reset() {
+        roundTrips.set(0);
+    }
+}
@@ -26,12 +26,22 @@ import org.eclipse.edc.vault.hashicorp.spi.auth.HashicorpVaultTokenProviderFacto
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultSettings.forParticipant;
 
 /**
  * Vault implementation for Hashicorp Vault. The actual interaction with the vault is delegated to a {@link HashicorpVaultClient} via HTTP.
  * Each vault partition is mapped to its own {@link HashicorpVaultClient} instance with specific configuration / authentication settings, taken
  * from a {@link ParticipantContextConfig}. So theoretically, each participant context's vault could be a separate instance.
+ * <p>
+ * Resolved secrets can optionally be cached through a {@link HashicorpVaultSecretCache}, secrets that get stored or
+ * deleted through this instance are dropped from the cache immediately.
  */
 class HashicorpVault implements Vault {
     private final ParticipantContextConfig participantContextConfig;
@@ -40,12 +50,29 @@ class HashicorpVault implements Vault {
     private final HashicorpVaultTokenProviderFactory tokenProviderFactory;
     private final EdcHttpClient edcHttpClient;
     private final ObjectMapper mapper;
+    private final @Nullable HashicorpVaultSecretCache secretCache;
+    private final Executor executor;
 
     HashicorpVault(ParticipantContextConfig participantContextConfig,
                    Monitor monitor,
                    HashicorpVaultConfig vaultConfig, HashicorpVaultTokenProviderFactory tokenProviderFactory,
                    EdcHttpClient edcHttpClient) {
+        this(participantContextConfig, monitor, vaultConfig, tokenProviderFactory, edcHttpClient, null, Runnable::run);
+    }
+
+    /**
+     * Constructor that enables the secret cache.
+     *
+     * @param secretCache the secret cache, null disables caching.
+     * @param executor    executor used to resolve batches of secrets concurrently.
+     */
+    HashicorpVault(ParticipantContextConfig participantContextConfig,
+                   Monitor monitor,
+                   HashicorpVaultConfig vaultConfig, HashicorpVaultTokenProviderFactory tokenProviderFactory,
+                   EdcHttpClient edcHttpClient, @Nullable HashicorpVaultSecretCache secretCache, Executor executor) {
         this.participantContextConfig = participantContextConfig;
+        this.secretCache = secretCache;
+        this.executor = executor;
         this.monitor = monitor;
         this.vaultConfig = vaultConfig;
         this.tokenProviderFactory = tokenProviderFactory;
@@ -71,21 +98,54 @@ class HashicorpVault implements Vault {
 
     @Override
     public String resolveSecret(String vaultPartition, String key) {
-
-        return getVaultClient(vaultPartition)
-                .resolveSecret(key);
+        return resolveSecret(vaultPartition, key, getVaultClient(vaultPartition));
     }
 
     @Override
     public Result<Void> storeSecret(String vaultPartition, String key, String value) {
-        return getVaultClient(vaultPartition)
+        var result = getVaultClient(vaultPartition)
                 .storeSecret(key, value);
+        invalidate(vaultPartition, key);
+        return result;
     }
 
     @Override
     public Result<Void> deleteSecret(String vaultPartition, String key) {
-        return getVaultClient(vaultPartition)
+        var result = getVaultClient(vaultPartition)
                 .deleteSecret(key);
+        invalidate(vaultPartition, key);
+        return result;
+    }
+
+    @Override
+    public Map<String, String> resolveSecrets(@Nullable String vaultPartition, Collection<String> keys) {
+        var client = getVaultClient(vaultPartition);
+        var futures = new LinkedHashMap<String, CompletableFuture<String>>();
+        for (var key : keys) {
+            futures.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> resolveSecret(vaultPartition, k, client), executor));
+        }
+
+        var secrets = new HashMap<String, String>();
+        futures.forEach((key, future) -> {
+            var secret = future.join();
+            if (secret != null) {
+                secrets.put(key, secret);
+            }
+        });
+        return secrets;
+    }
+
+    private @Nullable String resolveSecret(@Nullable String vaultPartition, String key, HashicorpVaultClient client) {
+        if (secretCache == null) {
+            return client.resolveSecret(key);
+        }
+        return secretCache.resolve(vaultPartition, key, () -> client.resolveSecretEntry(key));
+    }
+
+    private void invalidate(@Nullable String vaultPartition, String key) {
+        if (secretCache != null) {
+            secretCache.invalidate(vaultPartition, key);
+        }
     }
 
     /**
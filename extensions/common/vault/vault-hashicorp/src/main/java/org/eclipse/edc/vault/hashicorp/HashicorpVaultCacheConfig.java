@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the client-side secret cache of the Hashicorp Vault.
+ */
+@Settings
+public record HashicorpVaultCacheConfig(
+
+        @Setting(
+                description = "Whether resolved secrets are cached in memory.",
+                key = "enabled",
+                defaultValue = "false"
+        )
+        boolean enabled,
+
+        @Setting(
+                description = "Time-to-live of a cached secret in ISO-8061 duration format. A secret can override it by setting " +
+                        "a 'ttl' entry (in seconds) in its custom metadata.",
+                key = "ttl",
+                defaultValue = "PT5M"
+        )
+        Duration ttl,
+
+        @Setting(
+                description = "Time-to-live of the cached absence of a secret in ISO-8061 duration format.",
+                key = "negative-ttl",
+                defaultValue = "PT30S"
+        )
+        Duration negativeTtl,
+
+        @Setting(
+                description = "Maximum number of secrets kept in memory.",
+                key = "max-entries",
+                defaultValue = "10000"
+        )
+        int maxEntries,
+
+        @Setting(
+                description = "The number of threads that refresh cached secrets in the background and resolve batches of secrets concurrently. " +
+                        "Used only when the cache is enabled, otherwise batches are resolved one secret after the other.",
+                key = "workers",
+                defaultValue = "4"
+        )
+        int workers
+) {
+}
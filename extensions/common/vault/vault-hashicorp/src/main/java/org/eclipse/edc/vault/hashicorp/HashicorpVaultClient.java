@@ -35,6 +35,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_SECRET_METADATA_PATH;
@@ -47,6 +48,7 @@ import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_TOKEN_HEADER;
 class HashicorpVaultClient {
     private static final String VAULT_SECRET_DATA_PATH = "data";
     private static final String VAULT_DATA_ENTRY_NAME = "content";
+    private static final String VAULT_SECRET_TTL_METADATA = "ttl";
 
     private final Monitor monitor;
     private final HashicorpVaultConfig vaultConfig;
@@ -67,6 +69,15 @@ class HashicorpVaultClient {
     }
 
     @Nullable String resolveSecret(String key) {
+        var entry = resolveSecretEntry(key);
+        return entry.succeeded() ? entry.getContent().value() : null;
+    }
+
+    /**
+     * Resolves the secret together with its metadata. A secret that does not exist is represented by an entry with a
+     * null value, every other error is returned as failure.
+     */
+    Result<SecretEntry> resolveSecretEntry(String key) {
 
         var requestUri = getSecretUrl(key, VAULT_SECRET_DATA_PATH);
         var request = new Request.Builder()
@@ -83,21 +94,25 @@ class HashicorpVaultClient {
                 if (responseBody != null) {
                     // using JsonNode here because it makes traversing down the tree null-safe
                     var payload = objectMapper.readValue(responseBody.string(), JsonNode.class);
-                    return payload.path("data").path("data").get(VAULT_DATA_ENTRY_NAME).asText();
+                    var data = payload.path("data");
+                    return Result.success(new SecretEntry(data.path("data").get(VAULT_DATA_ENTRY_NAME).asText(), ttl(data)));
                 }
                 monitor.debug("Secret response body is empty");
+                return Result.failure("Secret response body is empty");
 
             } else {
                 if (response.code() == 404) {
                     monitor.debug("Secret not found");
+                    return Result.success(new SecretEntry(null, null));
                 } else {
                     monitor.debug("Failed to get secret with status %d".formatted(response.code()));
+                    return Result.failure("Failed to get secret with status %d".formatted(response.code()));
                 }
             }
         } catch (IOException e) {
             monitor.warning("Failed to get secret with reason: %s".formatted(e.getMessage()));
+            return Result.failure("Failed to get secret with reason: %s".formatted(e.getMessage()));
         }
-        return null;
     }
 
     Result<Void> storeSecret(String key, String value) {
@@ -161,6 +176,22 @@ class HashicorpVaultClient {
                 .build();
     }
 
+    /**
+     * The time-to-live of a secret can be set in the {@code custom_metadata} of the KV secret, in seconds.
+     */
+    private @Nullable Duration ttl(JsonNode data) {
+        var ttl = data.path("metadata").path("custom_metadata").path(VAULT_SECRET_TTL_METADATA);
+        if (ttl.isMissingNode() || ttl.isNull()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(ttl.asText()));
+        } catch (NumberFormatException e) {
+            monitor.debug("Invalid secret ttl metadata '%s', using the default".formatted(ttl.asText()));
+            return null;
+        }
+    }
+
     private RequestBody jsonBody(Object body) {
         String jsonRepresentation;
         try {
@@ -170,4 +201,13 @@ class HashicorpVaultClient {
         }
         return RequestBody.create(jsonRepresentation, VaultConstants.MEDIA_TYPE_APPLICATION_JSON);
     }
+
+    /**
+     * A resolved secret.
+     *
+     * @param value the secret value, null if the secret does not exist.
+     * @param ttl   the time-to-live set in the secret metadata, if any.
+     */
+    record SecretEntry(@Nullable String value, @Nullable Duration ttl) {
+    }
 }
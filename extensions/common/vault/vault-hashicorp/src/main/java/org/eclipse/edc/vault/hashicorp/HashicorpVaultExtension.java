@@ -36,6 +36,11 @@ import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultTokenRenewTask;
 import org.eclipse.edc.vault.hashicorp.spi.auth.HashicorpVaultTokenProviderFactory;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -61,7 +66,19 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Configuration
     private HashicorpVaultConfig defaultVaultConfig;
 
+    @Configuration(context = "edc.vault.hashicorp.cache")
+    private HashicorpVaultCacheConfig cacheConfig;
+
+    @Configuration(context = "edc.vault.hashicorp.signing.batch")
+    private HashicorpVaultSigningBatchConfig signingBatchConfig;
+
+    @Inject
+    private Clock clock;
+
     private HashicorpVaultTokenRenewTask tokenRenewalTask;
+    private ExecutorService vaultExecutor;
+    private ScheduledExecutorService signingScheduler;
+    private HashicorpVaultSigningMetrics signingMetrics;
     private Monitor monitor;
     private HashicorpVaultHealthService healthService;
 
@@ -72,12 +89,30 @@ public class HashicorpVaultExtension implements ServiceExtension {
 
     @Provider
     public Vault hashicorpVault() {
-        return new HashicorpVault(participantContextConfig, monitor, defaultVaultConfig, tokenProviderFactory, httpClient);
+        if (!cacheConfig.enabled()) {
+            return new HashicorpVault(participantContextConfig, monitor, defaultVaultConfig, tokenProviderFactory, httpClient);
+        }
+        vaultExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(Math.max(1, cacheConfig.workers())), "hashicorp-vault");
+        var secretCache = new HashicorpVaultSecretCache(cacheConfig, clock, vaultExecutor, monitor);
+        return new HashicorpVault(participantContextConfig, monitor, defaultVaultConfig, tokenProviderFactory, httpClient, secretCache, vaultExecutor);
     }
 
     @Provider
     public SignatureService signatureService() {
-        return new HashicorpVaultSignatureService(monitor, participantContextConfig, defaultVaultConfig, httpClient, MAPPER, tokenProviderFactory);
+        if (signingBatchConfig.enabled()) {
+            signingScheduler = executorInstrumentation.instrument(
+                    Executors.newScheduledThreadPool(Math.max(1, signingBatchConfig.workers())), "hashicorp-vault-signing");
+        }
+        return new HashicorpVaultSignatureService(monitor, participantContextConfig, defaultVaultConfig, httpClient, MAPPER, tokenProviderFactory,
+                signingBatchConfig, signingScheduler, signingMetrics());
+    }
+
+    @Provider
+    public HashicorpVaultSigningMetrics signingMetrics() {
+        if (signingMetrics == null) {
+            signingMetrics = new HashicorpVaultSigningMetrics(signingBatchConfig.maxSize());
+        }
+        return signingMetrics;
     }
 
     @Override
@@ -113,5 +148,11 @@ public class HashicorpVaultExtension implements ServiceExtension {
         if (tokenRenewalTask.isRunning()) {
             tokenRenewalTask.stop();
         }
+        if (vaultExecutor != null) {
+            vaultExecutor.shutdownNow();
+        }
+        if (signingScheduler != null) {
+            signingScheduler.shutdownNow();
+        }
     }
 }
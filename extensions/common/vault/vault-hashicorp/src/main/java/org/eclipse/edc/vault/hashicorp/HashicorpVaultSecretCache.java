@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
+import org.eclipse.edc.vault.hashicorp.HashicorpVaultClient.SecretEntry;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of the secrets resolved from the Hashicorp Vault, keyed by vault partition and secret name.
+ * <p>
+ * Every secret is cached for its own time-to-live, that's taken from the secret metadata or from the configured default.
+ * When a secret is accessed in the last fifth of its time-to-live it gets refreshed in the background, so hot secrets
+ * never expire while they are being used. Secrets that don't exist are cached as well, for the negative time-to-live.
+ * Failed resolutions are never cached.
+ */
+class HashicorpVaultSecretCache {
+
+    private static final int REFRESH_AHEAD_DIVISOR = 5;
+
+    private final HashicorpVaultCacheConfig config;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Monitor monitor;
+    private final ExpiringLruCache<CacheKey, CachedSecret> cache;
+    private final Set<CacheKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    HashicorpVaultSecretCache(HashicorpVaultCacheConfig config, Clock clock, Executor refreshExecutor, Monitor monitor) {
+        this.config = config;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.monitor = monitor;
+        this.cache = new ExpiringLruCache<>(clock, config.ttl().toMillis(), config.maxEntries());
+    }
+
+    /**
+     * Returns the cached secret, or resolves it through the loader if it's not cached or expired.
+     *
+     * @param vaultPartition the vault partition, might be null.
+     * @param key            the secret name.
+     * @param loader         resolves the secret from the vault.
+     * @return the secret value, null if it does not exist or if it could not be resolved.
+     */
+    @Nullable String resolve(@Nullable String vaultPartition, String key, Supplier<Result<SecretEntry>> loader) {
+        var cacheKey = new CacheKey(vaultPartition, key);
+        var cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (cached.refreshAt() <= clock.millis()) {
+                refresh(cacheKey, loader);
+            }
+            return cached.value();
+        }
+
+        return load(cacheKey, loader);
+    }
+
+    /**
+     * Drops the cached secret, the next resolution will go to the vault.
+     *
+     * @param vaultPartition the vault partition, might be null.
+     * @param key            the secret name.
+     */
+    void invalidate(@Nullable String vaultPartition, String key) {
+        cache.invalidate(new CacheKey(vaultPartition, key));
+    }
+
+    private @Nullable String load(CacheKey cacheKey, Supplier<Result<SecretEntry>> loader) {
+        var cached = cache.load(cacheKey, k -> fetch(loader), CachedSecret::ttlMillis);
+        return cached != null ? cached.value() : null;
+    }
+
+    private @Nullable CachedSecret fetch(Supplier<Result<SecretEntry>> loader) {
+        var result = loader.get();
+        if (result.failed()) {
+            return null;
+        }
+
+        var secret = result.getContent();
+        if (secret.value() == null) {
+            var ttl = config.negativeTtl().toMillis();
+            return new CachedSecret(null, ttl, Long.MAX_VALUE);
+        }
+        var ttl = secret.ttl() != null ? secret.ttl().toMillis() : config.ttl().toMillis();
+        return new CachedSecret(secret.value(), ttl, clock.millis() + ttl - ttl / REFRESH_AHEAD_DIVISOR);
+    }
+
+    private void refresh(CacheKey cacheKey, Supplier<Result<SecretEntry>> loader) {
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(cacheKey, loader);
+                } catch (Exception e) {
+                    monitor.warning("Failed to refresh secret '%s'".formatted(cacheKey.key()), e);
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(cacheKey);
+        }
+    }
+
+    private record CacheKey(@Nullable String vaultPartition, String key) {
+    }
+
+    private record CachedSecret(@Nullable String value, long ttlMillis, long refreshAt) {
+    }
+}
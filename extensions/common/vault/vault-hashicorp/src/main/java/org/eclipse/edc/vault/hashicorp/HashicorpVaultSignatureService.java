@@ -33,8 +33,12 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultSettings.forParticipant;
@@ -46,6 +50,9 @@ import static org.eclipse.edc.vault.hashicorp.HashicorpVaultSettings.forParticip
  * {@link ParticipantContextConfig}, mirroring the behaviour of {@link HashicorpVault}. So theoretically, each
  * participant context's transit engine could live on a separate vault instance. If no configuration is found for a
  * given partition, the default (global) configuration is used, provided fallback is allowed.
+ * <p>
+ * Optionally, concurrent signing requests for the same key are coalesced by a {@link HashicorpVaultSigningBatcher}
+ * and sent as a single transit request with a {@code batch_input}.
  */
 public class HashicorpVaultSignatureService implements SignatureService {
 
@@ -55,16 +62,35 @@ public class HashicorpVaultSignatureService implements SignatureService {
     private final EdcHttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final HashicorpVaultTokenProviderFactory tokenProviderFactory;
+    private final @Nullable HashicorpVaultSigningBatcher batcher;
 
     public HashicorpVaultSignatureService(Monitor monitor, ParticipantContextConfig participantContextConfig,
                                           HashicorpVaultConfig defaultConfig, EdcHttpClient httpClient,
                                           ObjectMapper objectMapper, HashicorpVaultTokenProviderFactory tokenProviderFactory) {
+        this(monitor, participantContextConfig, defaultConfig, httpClient, objectMapper, tokenProviderFactory, null, null, null);
+    }
+
+    /**
+     * Constructor that enables the batching of signing requests, if configured.
+     *
+     * @param batchConfig the batching configuration, null disables batching.
+     * @param scheduler   the scheduler that sends the batches once their linger time has elapsed.
+     * @param metrics     the batching metrics.
+     */
+    public HashicorpVaultSignatureService(Monitor monitor, ParticipantContextConfig participantContextConfig,
+                                          HashicorpVaultConfig defaultConfig, EdcHttpClient httpClient,
+                                          ObjectMapper objectMapper, HashicorpVaultTokenProviderFactory tokenProviderFactory,
+                                          @Nullable HashicorpVaultSigningBatchConfig batchConfig, @Nullable ScheduledExecutorService scheduler,
+                                          @Nullable HashicorpVaultSigningMetrics metrics) {
         this.monitor = monitor;
         this.participantContextConfig = participantContextConfig;
         this.defaultConfig = defaultConfig;
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
         this.tokenProviderFactory = tokenProviderFactory;
+        this.batcher = batchConfig != null && batchConfig.enabled() ?
+                new HashicorpVaultSigningBatcher(batchConfig.maxSize(), batchConfig.linger(), scheduler, this::signBatch, metrics) :
+                null;
     }
 
     @Override
@@ -99,6 +125,17 @@ public class HashicorpVaultSignatureService implements SignatureService {
         Objects.requireNonNull(key, "key cannot be null");
         Objects.requireNonNull(payload, "payload cannot be null");
 
+        if (batcher != null) {
+            try {
+                return batcher.submit(vaultPartition, key, payload).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
         var resolved = resolve(vaultPartition);
         var url = resolved.config().getVaultUrl() + resolved.config().getSecretsEnginePath() + "/sign/" + key;
 
@@ -222,6 +259,58 @@ public class HashicorpVaultSignatureService implements SignatureService {
         }
     }
 
+    /**
+     * Signs several payloads with a single request, using the {@code batch_input} of the transit engine.
+     *
+     * @return one result per payload, in the same order.
+     */
+    List<Result<byte[]>> signBatch(@Nullable String vaultPartition, String key, List<byte[]> payloads) {
+        var resolved = resolve(vaultPartition);
+        var url = resolved.config().getVaultUrl() + resolved.config().getSecretsEnginePath() + "/sign/" + key;
+
+        var batchInput = payloads.stream()
+                .map(payload -> Map.of("input", Base64.getEncoder().encodeToString(payload)))
+                .toList();
+
+        var request = new Request.Builder()
+                .url(url)
+                .header(VaultConstants.VAULT_TOKEN_HEADER, resolved.tokenProvider().vaultToken())
+                .post(jsonBody(Map.of("batch_input", batchInput)))
+                .build();
+
+        try (var response = httpClient.execute(request)) {
+            if (response.isSuccessful()) {
+                if (response.body() != null) {
+                    var r = objectMapper.readValue(response.body().string(), VaultConstants.MAP_TYPE_REFERENCE);
+
+                    return ofNullable(r.get("data"))
+                            .map(o -> (Map<?, ?>) o)
+                            .map(dataObj -> dataObj.get("batch_results"))
+                            .map(o -> ((List<?>) o).stream().map(this::batchResult).toList())
+                            .orElseGet(() -> failures(payloads.size(), "JSON response did not contain batch results"));
+                }
+                return failures(payloads.size(), "Received empty body from Vault");
+            }
+            return failures(payloads.size(), "Failed to sign payloads with status %d, %s".formatted(response.code(), response.message()));
+        } catch (IOException e) {
+            monitor.warning("Error signing content: %s".formatted(e.getMessage()));
+            return failures(payloads.size(), "Error signing content: %s".formatted(e.getMessage()));
+        }
+    }
+
+    private Result<byte[]> batchResult(Object item) {
+        var result = (Map<?, ?>) item;
+        return ofNullable(result.get("signature"))
+                .map(Object::toString)
+                .map(String::getBytes)
+                .map(Result::success)
+                .orElseGet(() -> Result.failure("Failed to sign payload: %s".formatted(result.get("error"))));
+    }
+
+    private List<Result<byte[]>> failures(int count, String message) {
+        return Collections.nCopies(count, Result.failure(message));
+    }
+
     /**
      * Resolves the effective configuration / authentication token for the given vault partition.
      * If no config is found for the given partition, the default is returned, provided fallback is allowed.
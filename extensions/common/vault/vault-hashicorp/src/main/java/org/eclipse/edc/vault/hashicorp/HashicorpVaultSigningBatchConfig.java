@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the micro-batching of the signing requests sent to the Hashicorp Vault transit engine.
+ */
+@Settings
+public record HashicorpVaultSigningBatchConfig(
+
+        @Setting(
+                description = "Whether concurrent signing requests for the same key are coalesced into a single transit batch request.",
+                key = "enabled",
+                defaultValue = "false"
+        )
+        boolean enabled,
+
+        @Setting(
+                description = "Maximum number of payloads signed in a single transit batch request.",
+                key = "max-size",
+                defaultValue = "64"
+        )
+        int maxSize,
+
+        @Setting(
+                description = "Time a batch waits for more signing requests before being sent, in ISO-8061 duration format.",
+                key = "linger",
+                defaultValue = "PT0.005S"
+        )
+        Duration linger,
+
+        @Setting(
+                description = "The number of threads that send the batches to the transit engine.",
+                key = "workers",
+                defaultValue = "4"
+        )
+        int workers
+) {
+}
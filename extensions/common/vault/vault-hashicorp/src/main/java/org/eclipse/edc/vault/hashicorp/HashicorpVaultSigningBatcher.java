@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coalesces concurrent signing requests for the same key of the same vault partition into batches.
+ * <p>
+ * A batch is opened by the first request and sent when it reaches the maximum size, by the request that filled it, or
+ * when the linger time has elapsed, by the scheduler. Every request gets its own future that completes with the
+ * signature of its payload.
+ */
+class HashicorpVaultSigningBatcher {
+
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final ScheduledExecutorService scheduler;
+    private final BatchSigner signer;
+    private final HashicorpVaultSigningMetrics metrics;
+    private final Map<BatchKey, Batch> pending = new ConcurrentHashMap<>();
+
+    HashicorpVaultSigningBatcher(int maxBatchSize, Duration linger, ScheduledExecutorService scheduler,
+                                 BatchSigner signer, HashicorpVaultSigningMetrics metrics) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.linger = linger;
+        this.scheduler = scheduler;
+        this.signer = signer;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds the payload to the pending batch of the key.
+     *
+     * @param vaultPartition the vault partition, might be null.
+     * @param key            the transit key name.
+     * @param payload        the payload to be signed.
+     * @return future that completes with the signature, or exceptionally if the batch could not be sent.
+     */
+    CompletableFuture<Result<byte[]>> submit(@Nullable String vaultPartition, String key, byte[] payload) {
+        var request = new SignRequest(payload, new CompletableFuture<>());
+        var batchKey = new BatchKey(vaultPartition, key);
+        var opened = new AtomicReference<Batch>();
+        var filled = new AtomicReference<Batch>();
+
+        pending.compute(batchKey, (k, batch) -> {
+            var current = batch;
+            if (current == null) {
+                current = new Batch();
+                opened.set(current);
+            }
+            current.requests.add(request);
+            if (current.requests.size() >= maxBatchSize) {
+                filled.set(current);
+                return null;
+            }
+            return current;
+        });
+
+        if (filled.get() != null) {
+            send(batchKey, filled.get());
+        } else if (opened.get() != null) {
+            var batch = opened.get();
+            scheduler.schedule(() -> flush(batchKey, batch), linger.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return request.future();
+    }
+
+    private void flush(BatchKey batchKey, Batch batch) {
+        if (pending.remove(batchKey, batch)) {
+            send(batchKey, batch);
+        }
+    }
+
+    private void send(BatchKey batchKey, Batch batch) {
+        var requests = batch.requests;
+        try {
+            var results = signer.sign(batchKey.vaultPartition(), batchKey.key(), requests.stream().map(SignRequest::payload).toList());
+            metrics.batchSent(requests.size());
+            for (var i = 0; i < requests.size(); i++) {
+                var result = i < results.size() ? results.get(i) : Result.<byte[]>failure("Transit batch response did not contain a result for the payload");
+                requests.get(i).future().complete(result);
+            }
+        } catch (Throwable e) {
+            requests.forEach(request -> request.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Signs a batch of payloads with a single request.
+     */
+    @FunctionalInterface
+    interface BatchSigner {
+
+        /**
+         * Signs the payloads.
+         *
+         * @return one result per payload, in the same order.
+         */
+        List<Result<byte[]>> sign(@Nullable String vaultPartition, String key, List<byte[]> payloads);
+    }
+
+    private record BatchKey(@Nullable String vaultPartition, String key) {
+    }
+
+    private static final class Batch {
+        private final List<SignRequest> requests = new ArrayList<>();
+    }
+
+    private record SignRequest(byte[] payload, CompletableFuture<Result<byte[]>> future) {
+    }
+}
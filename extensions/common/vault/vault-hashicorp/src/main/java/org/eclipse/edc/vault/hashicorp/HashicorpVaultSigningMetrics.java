@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of the batched signing requests sent to the Hashicorp Vault transit engine.
+ * <p>
+ * The batch fill is the ratio between the number of payloads in a batch and the configured maximum batch size.
+ */
+public class HashicorpVaultSigningMetrics {
+
+    private final int maxBatchSize;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder signatures = new LongAdder();
+    private volatile int lastBatchSize;
+
+    public HashicorpVaultSigningMetrics(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Total number of batches sent since startup.
+     *
+     * @return the batches count.
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Total number of payloads signed in batches since startup.
+     *
+     * @return the signatures count.
+     */
+    public long signatures() {
+        return signatures.sum();
+    }
+
+    /**
+     * Number of payloads contained in the last batch.
+     *
+     * @return the batch size.
+     */
+    public int lastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * Average fill of the batches sent since startup.
+     *
+     * @return the fill ratio, between 0 and 1.
+     */
+    public double averageBatchFill() {
+        var count = batches.sum();
+        return count == 0 || maxBatchSize <= 0 ? 0 : signatures.sum() / (double) (count * maxBatchSize);
+    }
+
+    void batchSent(int size) {
+        batches.increment();
+        signatures.add(size);
+        lastBatchSize = size;
+    }
+}
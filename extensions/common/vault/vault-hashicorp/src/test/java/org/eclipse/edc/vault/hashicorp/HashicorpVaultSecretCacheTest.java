@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.vault.hashicorp.HashicorpVaultClient.SecretEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashicorpVaultSecretCacheTest {
+
+    private final Clock clock = mock();
+    private final Executor executor = mock();
+    private final Supplier<Result<SecretEntry>> loader = mock();
+    private final HashicorpVaultCacheConfig config = new HashicorpVaultCacheConfig(true, Duration.ofSeconds(10), Duration.ofSeconds(1), 100, 1);
+    private final HashicorpVaultSecretCache cache = new HashicorpVaultSecretCache(config, clock, executor, mock());
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.get()).thenReturn(Result.success(new SecretEntry("value", null)));
+    }
+
+    @Test
+    void shouldLoadOnce_whenCached() {
+        assertThat(cache.resolve("partition", "key", loader)).isEqualTo("value");
+        assertThat(cache.resolve("partition", "key", loader)).isEqualTo("value");
+
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void shouldKeyByPartition() {
+        cache.resolve("partition", "key", loader);
+        cache.resolve(null, "key", loader);
+
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void shouldLoadAgain_whenExpired() {
+        cache.resolve("partition", "key", loader);
+        when(clock.millis()).thenReturn(10_000L);
+
+        cache.resolve("partition", "key", loader);
+
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void shouldUseTtlFromMetadata() {
+        when(loader.get()).thenReturn(Result.success(new SecretEntry("value", Duration.ofSeconds(100))));
+        cache.resolve("partition", "key", loader);
+        when(clock.millis()).thenReturn(10_000L);
+
+        cache.resolve("partition", "key", loader);
+
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void shouldRefreshInBackground_whenCloseToExpiry() {
+        cache.resolve("partition", "key", loader);
+        when(clock.millis()).thenReturn(9_000L);
+
+        var secret = cache.resolve("partition", "key", loader);
+
+        assertThat(secret).isEqualTo("value");
+        verify(executor).execute(any());
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void shouldNotRefreshInBackground_whenFresh() {
+        cache.resolve("partition", "key", loader);
+        when(clock.millis()).thenReturn(1_000L);
+
+        cache.resolve("partition", "key", loader);
+
+        verify(executor, never()).execute(any());
+    }
+
+    @Test
+    void shouldCacheMissingSecret_forNegativeTtl() {
+        when(loader.get()).thenReturn(Result.success(new SecretEntry(null, null)));
+
+        assertThat(cache.resolve("partition", "key", loader)).isNull();
+        assertThat(cache.resolve("partition", "key", loader)).isNull();
+        when(clock.millis()).thenReturn(1_000L);
+        cache.resolve("partition", "key", loader);
+
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(loader.get()).thenReturn(Result.failure("error"), Result.success(new SecretEntry("value", null)));
+
+        assertThat(cache.resolve("partition", "key", loader)).isNull();
+        assertThat(cache.resolve("partition", "key", loader)).isEqualTo("value");
+    }
+
+    @Test
+    void shouldLoadAgain_whenInvalidated() {
+        cache.resolve("partition", "key", loader);
+
+        cache.invalidate("partition", "key");
+        cache.resolve("partition", "key", loader);
+
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void shouldNotCache_whenInvalidatedWhileLoading() {
+        when(loader.get()).thenAnswer(i -> {
+            cache.invalidate("partition", "key");
+            return Result.success(new SecretEntry("stale", null));
+        });
+
+        cache.resolve("partition", "key", loader);
+        cache.resolve("partition", "key", loader);
+
+        verify(loader, times(2)).get();
+    }
+}
@@ -30,14 +30,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_CONFIG;
@@ -175,6 +179,39 @@ class HashicorpVaultSignatureServiceTest {
                 .withHeader(VAULT_TOKEN_HEADER, equalTo(PARTITION_TOKEN)));
     }
 
+    @Test
+    void sign_withBatching_shouldSendBatchInput() {
+        wireMock.stubFor(post(urlPathEqualTo("/v1/transit/sign/" + KEY))
+                .willReturn(okJson("""
+                        { "data": { "batch_results": [ { "signature": "vault:v1:abc" } ] } }
+                        """)));
+        var batchConfig = new HashicorpVaultSigningBatchConfig(true, 1, Duration.ofSeconds(1), 1);
+        var metrics = new HashicorpVaultSigningMetrics(1);
+        service = new HashicorpVaultSignatureService(mock(), participantContextConfig, defaultConfig, httpClient, mapper, tokenProviderFactory,
+                batchConfig, mock(), metrics);
+
+        var result = service.sign(KEY, "payload".getBytes(), "");
+
+        assertThat(result).isSucceeded().isEqualTo("vault:v1:abc".getBytes());
+        assertThat(metrics.batches()).isEqualTo(1);
+        wireMock.verify(postRequestedFor(urlPathEqualTo("/v1/transit/sign/" + KEY))
+                .withRequestBody(matchingJsonPath("$.batch_input[0].input")));
+    }
+
+    @Test
+    void signBatch_shouldReturnResultPerPayload() {
+        wireMock.stubFor(post(urlPathEqualTo("/v1/transit/sign/" + KEY))
+                .willReturn(okJson("""
+                        { "data": { "batch_results": [ { "signature": "vault:v1:abc" }, { "error": "invalid input" } ] } }
+                        """)));
+
+        var results = service.signBatch(null, KEY, List.of("payload-1".getBytes(), "payload-2".getBytes()));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSucceeded().isEqualTo("vault:v1:abc".getBytes());
+        assertThat(results.get(1)).isFailed().detail().contains("invalid input");
+    }
+
     private String asJson(Object obj) {
         try {
             return mapper.writeValueAsString(obj);
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashicorpVaultSigningBatcherTest {
+
+    private final ScheduledExecutorService scheduler = mock();
+    private final HashicorpVaultSigningBatcher.BatchSigner signer = mock();
+    private final HashicorpVaultSigningMetrics metrics = new HashicorpVaultSigningMetrics(3);
+    private final HashicorpVaultSigningBatcher batcher = new HashicorpVaultSigningBatcher(3, Duration.ofMillis(5), scheduler, signer, metrics);
+
+    @Test
+    void shouldSendBatch_whenLingerElapsed() {
+        when(signer.sign(any(), any(), any())).thenReturn(List.of(Result.success("sig-1".getBytes()), Result.success("sig-2".getBytes())));
+
+        var first = batcher.submit("partition", "key", "payload-1".getBytes());
+        var second = batcher.submit("partition", "key", "payload-2".getBytes());
+        assertThat(first).isNotDone();
+
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).schedule(flush.capture(), eq(Duration.ofMillis(5).toNanos()), eq(TimeUnit.NANOSECONDS));
+        flush.getValue().run();
+
+        assertThat(first.join()).isSucceeded().isEqualTo("sig-1".getBytes());
+        assertThat(second.join()).isSucceeded().isEqualTo("sig-2".getBytes());
+        verify(signer).sign(eq("partition"), eq("key"), any());
+        assertThat(metrics.batches()).isEqualTo(1);
+        assertThat(metrics.lastBatchSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSendBatch_whenMaxSizeReached() {
+        when(signer.sign(any(), any(), any())).thenReturn(List.of(
+                Result.success("sig-1".getBytes()), Result.success("sig-2".getBytes()), Result.success("sig-3".getBytes())));
+
+        batcher.submit("partition", "key", "payload-1".getBytes());
+        batcher.submit("partition", "key", "payload-2".getBytes());
+        var third = batcher.submit("partition", "key", "payload-3".getBytes());
+
+        assertThat(third.join()).isSucceeded().isEqualTo("sig-3".getBytes());
+        assertThat(metrics.averageBatchFill()).isEqualTo(1.0);
+
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), anyLong(), any());
+        flush.getValue().run();
+        verify(signer, times(1)).sign(any(), any(), any());
+    }
+
+    @Test
+    void shouldBatchByPartitionAndKey() {
+        batcher.submit("partition", "key", "payload".getBytes());
+        batcher.submit("partition", "another-key", "payload".getBytes());
+        batcher.submit(null, "key", "payload".getBytes());
+
+        verify(scheduler, times(3)).schedule(any(Runnable.class), anyLong(), any());
+        verify(signer, never()).sign(any(), anyString(), any());
+    }
+
+    @Test
+    void shouldFailMissingResults() {
+        when(signer.sign(any(), any(), any())).thenReturn(List.of(Result.success("sig-1".getBytes())));
+
+        var first = batcher.submit("partition", "key", "payload-1".getBytes());
+        var second = batcher.submit("partition", "key", "payload-2".getBytes());
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), anyLong(), any());
+        flush.getValue().run();
+
+        assertThat(first.join()).isSucceeded();
+        assertThat(second.join()).isFailed();
+    }
+
+    @Test
+    void shouldCompleteExceptionally_whenSignerThrows() {
+        when(signer.sign(any(), any(), any())).thenThrow(new IllegalArgumentException("no vault config"));
+
+        var future = batcher.submit("partition", "key", "payload".getBytes());
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), anyLong(), any());
+        flush.getValue().run();
+
+        assertThat(future).isCompletedExceptionally();
+    }
+}
@@ -34,6 +34,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.delete;
 import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -46,6 +50,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_CONFIG;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -316,6 +321,82 @@ class HashicorpVaultTest {
         wireMock.verify(0, deleteRequestedFor(urlPathMatching("/v1/secret/metadata/baz/foo.*")));
     }
 
+    @Test
+    void resolveSecrets_forDefault() {
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/foo"))
+                .willReturn(okJson("""
+                        {
+                            "data": {
+                                "data": {
+                                    "content": "bar"
+                                }
+                            }
+                        }
+                        """)));
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/bizz"))
+                .willReturn(notFound()));
+
+        var secrets = vault.resolveSecrets(null, List.of("foo", "bizz"));
+
+        assertThat(secrets).containsExactly(entry("foo", "bar"));
+    }
+
+    @Test
+    void resolveSecret_withCache_shouldResolveOnce() {
+        var cache = new HashicorpVaultSecretCache(cacheConfig(), Clock.systemUTC(), Runnable::run, mock());
+        vault = new HashicorpVault(participantContextConfig, mock(), defaultVaultConfig(), tokenProviderFactory, httpClient, cache, Runnable::run);
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/foo"))
+                .willReturn(okJson("""
+                        {
+                            "data": {
+                                "data": {
+                                    "content": "bar"
+                                },
+                                "metadata": {
+                                    "custom_metadata": {
+                                        "ttl": "60"
+                                    }
+                                }
+                            }
+                        }
+                        """)));
+
+        assertThat(vault.resolveSecret("foo")).isEqualTo("bar");
+        assertThat(vault.resolveSecret("foo")).isEqualTo("bar");
+
+        wireMock.verify(1, getRequestedFor(urlPathMatching("/v1/secret/data/baz/foo")));
+    }
+
+    @Test
+    void storeSecret_withCache_shouldInvalidateCachedSecret() {
+        var cache = new HashicorpVaultSecretCache(cacheConfig(), Clock.systemUTC(), Runnable::run, mock());
+        vault = new HashicorpVault(participantContextConfig, mock(), defaultVaultConfig(), tokenProviderFactory, httpClient, cache, Runnable::run);
+        wireMock.stubFor(get(urlPathMatching("/v1/secret/data/baz/foo"))
+                .willReturn(notFound()));
+        wireMock.stubFor(post(urlPathMatching("/v1/secret/data/baz/foo.*"))
+                .willReturn(okJson("{}")));
+
+        assertThat(vault.resolveSecret("foo")).isNull();
+        vault.storeSecret("foo", "bar");
+        vault.resolveSecret("foo");
+
+        wireMock.verify(2, getRequestedFor(urlPathMatching("/v1/secret/data/baz/foo")));
+    }
+
+    private HashicorpVaultConfig defaultVaultConfig() {
+        return HashicorpVaultConfig.Builder.newInstance()
+                .vaultUrl(wireMock.baseUrl())
+                .folderPath(DEFAULT_FOLDERPATH)
+                .secretPath("v1/secret")
+                .healthCheckPath("/healthcheck")
+                .ttl(10)
+                .build();
+    }
+
+    private HashicorpVaultCacheConfig cacheConfig() {
+        return new HashicorpVaultCacheConfig(true, Duration.ofMinutes(5), Duration.ofSeconds(30), 100, 1);
+    }
+
     private String asJson(Object obj) {
         try {
             return mapper.writeValueAsString(obj);
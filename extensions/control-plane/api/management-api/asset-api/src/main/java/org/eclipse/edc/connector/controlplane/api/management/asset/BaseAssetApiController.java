@@ -16,20 +16,28 @@ package org.eclipse.edc.connector.controlplane.api.management.asset;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.api.bulk.BulkCreation;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.function.Function;
+
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.util.Optional.of;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -74,7 +82,29 @@ public abstract class BaseAssetApiController {
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
-    public JsonArray requestAssets(JsonObject querySpecJson) {
+    public JsonArray createAssets(BulkRequest request) {
+        var participantContext = participantContextSupplier.get()
+                .orElseThrow(exceptionMapper(Asset.class));
+
+        Function<JsonObject, Result<Asset>> transformer = assetJson -> {
+            var validation = validator.validate(EDC_ASSET_TYPE, assetJson);
+            if (validation.failed()) {
+                return Result.failure(validation.getFailureMessages());
+            }
+            var asset = transformerRegistry.transform(assetJson, Asset.class);
+            if (asset.failed()) {
+                return asset;
+            }
+            return Result.success(asset.getContent().toBuilder()
+                    .participantContextId(participantContext.getParticipantContextId())
+                    .build());
+        };
+
+        return new BulkCreation<>(transformer, service::createAll, Asset::getId, BulkCreation.DEFAULT_CHUNK_SIZE)
+                .create(request);
+    }
+
+    public Response requestAssets(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -84,13 +114,23 @@ public abstract class BaseAssetApiController {
             querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
                     .orElseThrow(InvalidRequestException::new);
         }
+        querySpec = querySpec.toBuilder().continuationTokenRequested(true).build();
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null)).stream()
+        var assets = service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+        var body = assets.stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        var sortField = querySpec.getSortField();
+        var next = ContinuationToken.next(assets, querySpec, asset -> sortValue(asset, sortField), Asset::getId);
+        var response = Response.ok(body);
+        if (next != null) {
+            response.header(ContinuationToken.HEADER_NAME, next.encode());
+        }
+        return response.build();
     }
 
     public JsonObject getAsset(String id) {
@@ -121,4 +161,16 @@ public abstract class BaseAssetApiController {
         service.update(assetResult)
                 .orElseThrow(exceptionMapper(Asset.class, assetResult.getId()));
     }
+
+    private Object sortValue(Asset asset, String sortField) {
+        var property = asset.getPropertyOrPrivate(sortField);
+        if (property != null) {
+            return property;
+        }
+        try {
+            return ReflectionUtil.getFieldValue(sortField, asset);
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.api.management.asset.v4;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -25,7 +26,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
+import org.eclipse.edc.api.model.ApiCoreSchema.BulkItemResultSchema;
+import org.eclipse.edc.spi.query.ContinuationToken;
 
 @OpenAPIDefinition(
         info = @Info(description = "This contains both the current and the new Asset API, which accepts JSON-LD and will " +
@@ -44,17 +49,30 @@ public interface AssetApiV4 {
     )
     JsonObject createAssetV4(JsonObject asset);
 
+    @Operation(description = "Creates a list of assets, passed either as a JSON array or as newline-delimited JSON (application/x-ndjson). " +
+            "Every item needs its own @context. Items are validated and stored independently, the outcome is reported for each of them",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every item, in the same order of the request",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))}
+    )
+    JsonArray createAssetsV4(BulkRequest assets);
+
     @Operation(description = "Request all assets according to a particular query",
             requestBody = @RequestBody(
                     content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))
             ),
             responses = {
-                    @ApiResponse(responseCode = "200", description = "The assets matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET)))),
+                    @ApiResponse(responseCode = "200", description = "The assets matching the query. When the page is full and the query " +
+                            "is sorted, the " + ContinuationToken.HEADER_NAME + " header contains the token to be passed as continuationToken to get the next page",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.ASSET))),
+                            headers = @Header(name = ContinuationToken.HEADER_NAME, description = "Continuation token of the next page")),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))
             })
-    JsonArray requestAssetsV4(JsonObject querySpecJson);
+    Response requestAssetsV4(JsonObject querySpecJson);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
@@ -24,6 +24,8 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.connector.controlplane.api.management.asset.BaseAssetApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
@@ -36,6 +38,7 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE_TERM;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_CATALOG_ASSET_TYPE_TERM;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
+import static org.eclipse.edc.web.jersey.providers.jsonld.BulkRequestMessageBodyReader.APPLICATION_NDJSON;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
@@ -53,10 +56,18 @@ public class AssetApiV4Controller extends BaseAssetApiController implements Asse
         return createAsset(asset);
     }
 
+    @POST
+    @Path("/bulk")
+    @Consumes({ APPLICATION_JSON, APPLICATION_NDJSON })
+    @Override
+    public JsonArray createAssetsV4(@SchemaType(value = {EDC_ASSET_TYPE_TERM, EDC_CATALOG_ASSET_TYPE_TERM}, version = "v4") BulkRequest assets) {
+        return createAssets(assets);
+    }
+
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestAssetsV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson) {
+    public Response requestAssetsV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson) {
         return requestAssets(querySpecJson);
     }
 
@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -37,7 +38,11 @@ import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.api.bulk.BulkCreation.BULK_ITEM_RESULT_STATUS;
+import static org.eclipse.edc.api.bulk.BulkCreation.STATUS_CREATED;
+import static org.eclipse.edc.api.bulk.BulkCreation.STATUS_FAILED;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -53,6 +58,7 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -118,6 +124,44 @@ public abstract class BaseAssetApiControllerTest extends RestControllerTestBase
         verify(transformerRegistry).transform(isA(JsonObject.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void requestAsset_shouldReturnContinuationToken_whenPageIsFull() {
+        var asset = Asset.Builder.newInstance().id("asset-id").property("name", "asset-name").build();
+        when(service.search(any())).thenReturn(ServiceResult.success(List.of(asset)));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).sortField("name").build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createObjectBuilder().add(TYPE, EDC_QUERY_SPEC_TYPE_TERM).build())
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .header(ContinuationToken.HEADER_NAME, new ContinuationToken("asset-name", "asset-id").encode())
+                .body("size()", is(1));
+    }
+
+    @Test
+    void requestAsset_shouldNotReturnContinuationToken_whenPageIsNotFull() {
+        when(service.search(any())).thenReturn(ServiceResult.success(List.of(Asset.Builder.newInstance().build())));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(10).sortField("name").build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createObjectBuilder().add(TYPE, EDC_QUERY_SPEC_TYPE_TERM).build())
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .header(ContinuationToken.HEADER_NAME, nullValue());
+    }
+
     @Test
     void requestAsset_filtersOutFailedTransforms() {
         when(service.search(any()))
@@ -258,6 +302,58 @@ public abstract class BaseAssetApiControllerTest extends RestControllerTestBase
         verifyNoMoreInteractions(service, transformerRegistry);
     }
 
+    @Test
+    void createAssets() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(transformerRegistry.transform(any(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.createAll(any())).thenReturn(List.of(ServiceResult.success(asset), ServiceResult.conflict("already exists")));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createAssetJson()).add(createAssetJson()).build())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(2))
+                .body("[0].'" + BULK_ITEM_RESULT_STATUS + "'", is(STATUS_CREATED))
+                .body("[1].'" + BULK_ITEM_RESULT_STATUS + "'", is(STATUS_FAILED));
+
+        verify(service).createAll(argThat(assets -> assets.size() == 2));
+    }
+
+    @Test
+    void createAssets_shouldAcceptNdjson() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(transformerRegistry.transform(any(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.createAll(any())).thenAnswer(i -> ((List<?>) i.getArgument(0)).stream().map(it -> ServiceResult.success(asset)).toList());
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType("application/x-ndjson")
+                .body(createAssetJson().build() + "\n" + createAssetJson().build() + "\n")
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2));
+    }
+
+    @Test
+    void createAssets_shouldReportFailure_whenItemValidationFails() {
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.failure(violation("a failure", "a path")));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createAssetJson()).build())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + BULK_ITEM_RESULT_STATUS + "'", is(STATUS_FAILED));
+
+        verifyNoInteractions(service);
+    }
+
     @Test
     public void createAsset_shouldReturnBadRequest_whenValidationFails() {
         when(validator.validate(any(), any())).thenReturn(ValidationResult.failure(violation("a failure", "a path")));
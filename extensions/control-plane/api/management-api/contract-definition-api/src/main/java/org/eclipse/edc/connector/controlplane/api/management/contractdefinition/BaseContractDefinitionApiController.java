@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.controlplane.api.management.contractdefinition
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.bulk.BulkCreation;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractdefinition.ContractDefinitionService;
@@ -31,6 +33,7 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition.CONTRACT_DEFINITION_TYPE;
@@ -104,6 +107,28 @@ public abstract class BaseContractDefinitionApiController {
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
+    public JsonArray createContractDefinitions(BulkRequest request) {
+        var participantContext = participantContextSupplier.get()
+                .orElseThrow(exceptionMapper(ContractDefinition.class));
+
+        Function<JsonObject, Result<ContractDefinition>> transformer = definitionJson -> {
+            var validation = validatorRegistry.validate(CONTRACT_DEFINITION_TYPE, definitionJson);
+            if (validation.failed()) {
+                return Result.failure(validation.getFailureMessages());
+            }
+            var definition = transformerRegistry.transform(definitionJson, ContractDefinition.class);
+            if (definition.failed()) {
+                return definition;
+            }
+            return Result.success(definition.getContent().toBuilder()
+                    .participantContextId(participantContext.getParticipantContextId())
+                    .build());
+        };
+
+        return new BulkCreation<>(transformer, service::createAll, ContractDefinition::getId, BulkCreation.DEFAULT_CHUNK_SIZE)
+                .create(request);
+    }
+
     public void deleteContractDefinition(String id) {
         service.delete(id).orElseThrow(exceptionMapper(ContractDefinition.class, id));
     }
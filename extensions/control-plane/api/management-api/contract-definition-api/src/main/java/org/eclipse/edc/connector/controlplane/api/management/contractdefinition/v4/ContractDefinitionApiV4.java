@@ -25,7 +25,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
+import org.eclipse.edc.api.model.ApiCoreSchema.BulkItemResultSchema;
 
 @OpenAPIDefinition(info = @Info(version = "v4"))
 @Tag(name = "Contract Definition v4")
@@ -66,6 +68,17 @@ public interface ContractDefinitionApiV4 {
     )
     JsonObject createContractDefinitionV4(JsonObject createObject);
 
+    @Operation(description = "Creates a list of contract definitions, passed either as a JSON array or as newline-delimited JSON (application/x-ndjson). " +
+            "Every item needs its own @context. Items are validated and stored independently, the outcome is reported for each of them",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.CONTRACT_DEFINITION)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every item, in the same order of the request",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))}
+    )
+    JsonArray createContractDefinitionsV4(BulkRequest request);
+
     @Operation(description = "Removes a contract definition with the given ID if possible. " +
             "DANGER ZONE: Note that deleting contract definitions can have unexpected results, especially for contract offers that have been sent out or ongoing or contract negotiations.",
             responses = {
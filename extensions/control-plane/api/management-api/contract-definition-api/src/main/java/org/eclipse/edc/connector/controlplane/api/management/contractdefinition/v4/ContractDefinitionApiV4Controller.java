@@ -24,6 +24,7 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.connector.controlplane.api.management.contractdefinition.BaseContractDefinitionApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.contractdefinition.ContractDefinitionService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
@@ -35,6 +36,7 @@ import org.eclipse.edc.web.spi.validation.SchemaType;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition.CONTRACT_DEFINITION_TYPE_TERM;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
+import static org.eclipse.edc.web.jersey.providers.jsonld.BulkRequestMessageBodyReader.APPLICATION_NDJSON;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
@@ -65,6 +67,14 @@ public class ContractDefinitionApiV4Controller extends BaseContractDefinitionApi
         return createContractDefinition(createObject);
     }
 
+    @POST
+    @Path("/bulk")
+    @Consumes({ APPLICATION_JSON, APPLICATION_NDJSON })
+    @Override
+    public JsonArray createContractDefinitionsV4(@SchemaType(value = CONTRACT_DEFINITION_TYPE_TERM, version = "v4") BulkRequest request) {
+        return createContractDefinitions(request);
+    }
+
     @DELETE
     @Path("{id}")
     @Override
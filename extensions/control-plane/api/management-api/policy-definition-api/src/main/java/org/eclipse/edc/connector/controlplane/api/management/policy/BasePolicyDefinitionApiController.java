@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.controlplane.api.management.policy;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.bulk.BulkCreation;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyEvaluationPlanRequest;
@@ -33,6 +35,7 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
 import java.util.ArrayList;
+import java.util.function.Function;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.lang.String.format;
@@ -112,6 +115,28 @@ public abstract class BasePolicyDefinitionApiController {
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
+    public JsonArray createPolicyDefinitions(BulkRequest request) {
+        var participantContext = participantContextSupplier.get()
+                .orElseThrow(exceptionMapper(PolicyDefinition.class));
+
+        Function<JsonObject, Result<PolicyDefinition>> transformer = policyJson -> {
+            var validation = validatorRegistry.validate(EDC_POLICY_DEFINITION_TYPE, policyJson);
+            if (validation.failed()) {
+                return Result.failure(validation.getFailureMessages());
+            }
+            var definition = transformerRegistry.transform(policyJson, PolicyDefinition.class);
+            if (definition.failed()) {
+                return definition;
+            }
+            return Result.success(definition.getContent().toBuilder()
+                    .participantContextId(participantContext.getParticipantContextId())
+                    .build());
+        };
+
+        return new BulkCreation<>(transformer, service::createAll, PolicyDefinition::getId, BulkCreation.DEFAULT_CHUNK_SIZE)
+                .create(request);
+    }
+
     public void deletePolicyDefinition(String id) {
         service.deleteById(id)
                 .onSuccess(d -> monitor.debug(format("Policy Definition deleted %s", d.getId())))
@@ -25,7 +25,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
+import org.eclipse.edc.api.model.ApiCoreSchema.BulkItemResultSchema;
 
 @OpenAPIDefinition(info = @Info(version = "v4"))
 @Tag(name = "Policy Definition v4")
@@ -65,6 +67,17 @@ public interface PolicyDefinitionApiV4 {
     )
     JsonObject createPolicyDefinitionV4(JsonObject policyDefinition);
 
+    @Operation(description = "Creates a list of policy definitions, passed either as a JSON array or as newline-delimited JSON (application/x-ndjson). " +
+            "Every item needs its own @context. Items are validated and stored independently, the outcome is reported for each of them",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.POLICY_DEFINITION)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of every item, in the same order of the request",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))}
+    )
+    JsonArray createPolicyDefinitionsV4(BulkRequest request);
+
     @Operation(description = "Removes a policy definition with the given ID if possible. Deleting a policy definition is " +
             "only possible if that policy definition is not yet referenced by a contract definition, in which case an error is returned. " +
             "DANGER ZONE: Note that deleting policy definitions can have unexpected results, do this at your own risk!",
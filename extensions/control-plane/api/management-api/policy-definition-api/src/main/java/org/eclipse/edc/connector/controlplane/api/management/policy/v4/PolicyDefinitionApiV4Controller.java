@@ -24,6 +24,7 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.api.bulk.BulkRequest;
 import org.eclipse.edc.connector.controlplane.api.management.policy.BasePolicyDefinitionApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.policydefinition.PolicyDefinitionService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
@@ -36,6 +37,7 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition.EDC_POLICY_DEFINITION_TYPE_TERM;
 import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyEvaluationPlanRequest.EDC_POLICY_EVALUATION_PLAN_REQUEST_TYPE_TERM;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
+import static org.eclipse.edc.web.jersey.providers.jsonld.BulkRequestMessageBodyReader.APPLICATION_NDJSON;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
@@ -67,6 +69,14 @@ public class PolicyDefinitionApiV4Controller extends BasePolicyDefinitionApiCont
         return createPolicyDefinition(request);
     }
 
+    @POST
+    @Path("/bulk")
+    @Consumes({ APPLICATION_JSON, APPLICATION_NDJSON })
+    @Override
+    public JsonArray createPolicyDefinitionsV4(@SchemaType(value = EDC_POLICY_DEFINITION_TYPE_TERM, version = "v4") BulkRequest request) {
+        return createPolicyDefinitions(request);
+    }
+
     @DELETE
     @Path("{id}")
     @Override
@@ -14,8 +14,8 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.SuspendTransfer;
@@ -29,9 +29,12 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.Termina
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
@@ -67,7 +70,7 @@ public abstract class BaseTransferProcessApiController {
         this.participantContextSupplier = participantContextSupplier;
     }
 
-    public JsonArray queryTransferProcesses(JsonObject querySpecJson) {
+    public Response queryTransferProcesses(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.none();
@@ -77,13 +80,23 @@ public abstract class BaseTransferProcessApiController {
             querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
                     .orElseThrow(InvalidRequestException::new);
         }
+        querySpec = querySpec.toBuilder().continuationTokenRequested(true).build();
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        var transferProcesses = service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class));
+        var body = transferProcesses.stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        var sortField = querySpec.getSortField();
+        var next = ContinuationToken.next(transferProcesses, querySpec, transferProcess -> sortValue(transferProcess, sortField), TransferProcess::getId);
+        var response = Response.ok(body);
+        if (next != null) {
+            response.header(ContinuationToken.HEADER_NAME, next.encode());
+        }
+        return response.build();
     }
 
 
@@ -161,4 +174,12 @@ public abstract class BaseTransferProcessApiController {
                 .onSuccess(tp -> monitor.debug(format("Resumption requested for TransferProcess with ID %s", id)))
                 .orElseThrow(exceptionMapper(TransferProcess.class, id));
     }
+
+    private Object sortValue(TransferProcess transferProcess, String sortField) {
+        try {
+            return ReflectionUtil.getFieldValue(sortField, transferProcess);
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v4;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.links.Link;
@@ -25,9 +26,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
+import org.eclipse.edc.spi.query.ContinuationToken;
 
 @OpenAPIDefinition(info = @Info(version = "v4"))
 @Tag(name = "Transfer Process v4")
@@ -40,12 +42,14 @@ public interface TransferProcessApiV4 {
     @Operation(description = "Returns all transfer process according to a query",
             requestBody = @RequestBody(content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))),
             responses = {
-                    @ApiResponse(responseCode = "200", description = "The transfer processes matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.TRANSFER_PROCESS)))),
+                    @ApiResponse(responseCode = "200", description = "The transfer processes matching the query. When the page is full and the query " +
+                            "is sorted, the " + ContinuationToken.HEADER_NAME + " header contains the token to be passed as continuationToken to get the next page",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.TRANSFER_PROCESS))),
+                            headers = @Header(name = ContinuationToken.HEADER_NAME, description = "Continuation token of the next page")),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(ref = ManagementApiJsonSchema.V4.API_ERROR))))}
     )
-    JsonArray queryTransferProcessesV4(JsonObject querySpecJson);
+    Response queryTransferProcessesV4(JsonObject querySpecJson);
 
     @Operation(description = "Gets an transfer process with the given ID",
             responses = {
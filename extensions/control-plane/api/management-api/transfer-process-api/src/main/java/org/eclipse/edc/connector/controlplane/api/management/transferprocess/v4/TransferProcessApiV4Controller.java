@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v4;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,6 +21,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.BaseTransferProcessApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
@@ -49,7 +49,7 @@ public class TransferProcessApiV4Controller extends BaseTransferProcessApiContro
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcessesV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson) {
+    public Response queryTransferProcessesV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson) {
         return queryTransferProcesses(querySpecJson);
     }
 
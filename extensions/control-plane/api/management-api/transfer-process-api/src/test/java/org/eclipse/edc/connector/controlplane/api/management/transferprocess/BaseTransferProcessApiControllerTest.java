@@ -184,7 +184,7 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
                     .body("[0].id", is("id"))
                     .body("[0].createdAt", is(1234));
             verify(transformerRegistry).transform(requestBody, QuerySpec.class);
-            verify(service).search(querySpec);
+            verify(service).search(querySpec.toBuilder().continuationTokenRequested(true).build());
             verify(transformerRegistry).transform(transferProcess, JsonObject.class);
         }
 
@@ -201,7 +201,7 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
                     .contentType(JSON)
                     .body("size()", is(0));
 
-            verify(service).search(querySpec);
+            verify(service).search(querySpec.toBuilder().continuationTokenRequested(true).build());
             verifyNoInteractions(validatorRegistry, transformerRegistry);
         }
 
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Delivers the events stored in the {@link CallbackOutboxStore}.
+ * <p>
+ * On a fixed schedule it claims the due deliveries, groups them by endpoint and hands them over to a pool of workers.
+ * The number of concurrent requests to the same endpoint is bounded, deliveries that exceed the bound are rescheduled
+ * to the next run. When batching is enabled the events for the same endpoint are sent in a single request as a JSON
+ * array. Failed deliveries are retried with an exponential backoff and dropped after the maximum number of attempts.
+ */
+public class CallbackDeliveryManager {
+
+    private final CallbackOutboxStore store;
+    private final CallbackClient callbackClient;
+    private final CallbackOutboxConfiguration configuration;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final CallbackDeliveryMetrics metrics;
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+
+    public CallbackDeliveryManager(CallbackOutboxStore store, CallbackClient callbackClient, CallbackOutboxConfiguration configuration,
+                                   ExecutorInstrumentation executorInstrumentation, Monitor monitor, Clock clock,
+                                   CallbackDeliveryMetrics metrics) {
+        this.store = store;
+        this.callbackClient = callbackClient;
+        this.configuration = configuration;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor.withPrefix(getClass().getSimpleName());
+        this.clock = clock;
+        this.metrics = metrics;
+    }
+
+    public void start() {
+        scheduler = executorInstrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("callback-outbox-poller");
+                    return thread;
+                }), "callback-outbox");
+
+        var workerCount = new AtomicInteger();
+        workers = executorInstrumentation.instrument(
+                Executors.newFixedThreadPool(Math.max(1, configuration.workers()), r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("callback-outbox-worker-" + workerCount.getAndIncrement());
+                    return thread;
+                }), "callback-outbox-workers");
+
+        scheduler.scheduleWithFixedDelay(this::deliverDue, 0, configuration.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        shutdown(scheduler);
+        shutdown(workers);
+    }
+
+    /**
+     * Claims the due deliveries and submits them to the workers, grouped by endpoint.
+     */
+    void deliverDue() {
+        try {
+            // only this thread acquires permits, so an idle endpoint can be forgotten safely
+            endpointPermits.values().removeIf(permits -> permits.availablePermits() == endpointConcurrency());
+
+            var now = clock.millis();
+            var deliveries = store.claimDue(configuration.batchSize(), now, now + configuration.claimTimeout().toMillis());
+
+            deliveries.stream()
+                    .collect(groupingBy(CallbackDelivery::endpoint, LinkedHashMap::new, toList()))
+                    .forEach(this::submit);
+        } catch (Throwable throwable) {
+            monitor.severe("Error delivering the callback outbox", throwable);
+        }
+    }
+
+    private void submit(String endpoint, List<CallbackDelivery> deliveries) {
+        var permits = endpointPermits.computeIfAbsent(endpoint, e -> new Semaphore(endpointConcurrency()));
+        for (var request : partition(deliveries, Math.max(1, configuration.maxEventsPerRequest()))) {
+            if (permits.tryAcquire()) {
+                workers.execute(() -> {
+                    try {
+                        deliver(request);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } else {
+                var now = clock.millis();
+                request.forEach(delivery -> store.save(delivery.reschedule(now)));
+            }
+        }
+    }
+
+    /**
+     * Sends the deliveries in a single request, a single delivery is sent as is, more deliveries as a JSON array.
+     */
+    void deliver(List<CallbackDelivery> request) {
+        var first = request.get(0);
+        var body = request.size() == 1 ? first.payload() : request.stream().map(CallbackDelivery::payload).collect(joining(",", "[", "]"));
+        try {
+            callbackClient.dispatch(first.callbackAddress(), first.eventName(), body);
+        } catch (Throwable throwable) {
+            monitor.warning(format("Failed to deliver %d event(s) to callback at URI: %s", request.size(), first.uri()), throwable);
+            var now = clock.millis();
+            request.forEach(delivery -> failed(delivery, now));
+            return;
+        }
+
+        metrics.requestSucceeded();
+        var now = clock.millis();
+        request.forEach(delivery -> {
+            store.delete(delivery.id());
+            metrics.eventDelivered(Math.max(0, now - delivery.createdAt()));
+        });
+    }
+
+    private void failed(CallbackDelivery delivery, long now) {
+        metrics.attemptFailed();
+        var attempts = delivery.attempts() + 1;
+        if (attempts >= configuration.maxAttempts()) {
+            store.delete(delivery.id());
+            metrics.deliveryDropped();
+            monitor.severe(format("Dropping event %s for callback at URI: %s after %d attempts", delivery.eventName(), delivery.uri(), attempts));
+        } else {
+            store.save(delivery.retry(now + backoff(attempts)));
+        }
+    }
+
+    /**
+     * The delay before the next attempt, doubled on every failed attempt and capped at the max retry backoff.
+     */
+    long backoff(int attempts) {
+        var base = configuration.retryBackoff().toMillis();
+        var max = configuration.maxRetryBackoff().toMillis();
+        var exponent = Math.min(attempts - 1, 30);
+        var delay = base > (max >> exponent) ? max : base << exponent;
+        return Math.min(delay, max);
+    }
+
+    private int endpointConcurrency() {
+        return Math.max(1, configuration.endpointConcurrency());
+    }
+
+    private List<List<CallbackDelivery>> partition(List<CallbackDelivery> deliveries, int size) {
+        var partitions = new ArrayList<List<CallbackDelivery>>();
+        for (var i = 0; i < deliveries.size(); i += size) {
+            partitions.add(deliveries.subList(i, Math.min(i + size, deliveries.size())));
+        }
+        return partitions;
+    }
+
+    private void shutdown(ExecutorService executor) {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                monitor.severe("CallbackDeliveryManager await termination failed", e);
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
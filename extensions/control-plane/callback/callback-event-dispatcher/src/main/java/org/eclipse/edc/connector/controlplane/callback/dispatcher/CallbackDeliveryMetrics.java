@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the callback delivery metrics.
+ * <p>
+ * The delivery lag is the time between the moment an event was stored in the outbox and the moment it got delivered,
+ * retries included.
+ */
+public class CallbackDeliveryMetrics {
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder totalLag = new LongAdder();
+    private final AtomicLong maxLag = new AtomicLong();
+
+    /**
+     * Total number of deliveries stored in the outbox since startup.
+     *
+     * @return the enqueued count.
+     */
+    public long enqueued() {
+        return enqueued.sum();
+    }
+
+    /**
+     * Total number of events delivered since startup.
+     *
+     * @return the delivered count.
+     */
+    public long delivered() {
+        return delivered.sum();
+    }
+
+    /**
+     * Total number of successful requests since startup, a request can carry more events when batching is enabled.
+     *
+     * @return the requests count.
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * Total number of failed delivery attempts since startup.
+     *
+     * @return the failed attempts count.
+     */
+    public long failedAttempts() {
+        return failedAttempts.sum();
+    }
+
+    /**
+     * Total number of deliveries dropped after reaching the maximum number of attempts since startup.
+     *
+     * @return the dropped count.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * The average delivery lag since startup.
+     *
+     * @return the lag in milliseconds.
+     */
+    public long averageLag() {
+        var count = delivered.sum();
+        return count == 0 ? 0 : totalLag.sum() / count;
+    }
+
+    /**
+     * The highest delivery lag observed since startup.
+     *
+     * @return the lag in milliseconds.
+     */
+    public long maxLag() {
+        return maxLag.get();
+    }
+
+    void deliveryEnqueued() {
+        enqueued.increment();
+    }
+
+    void requestSucceeded() {
+        requests.increment();
+    }
+
+    void eventDelivered(long lagMillis) {
+        delivered.increment();
+        totalLag.add(lagMillis);
+        maxLag.accumulateAndGet(lagMillis, Math::max);
+    }
+
+    void attemptFailed() {
+        failedAttempts.increment();
+    }
+
+    void deliveryDropped() {
+        dropped.increment();
+    }
+}
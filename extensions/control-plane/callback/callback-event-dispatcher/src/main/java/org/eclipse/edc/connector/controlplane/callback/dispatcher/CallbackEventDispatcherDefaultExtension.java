@@ -15,25 +15,36 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = CallbackEventDispatcherDefaultExtension.NAME)
 public class CallbackEventDispatcherDefaultExtension implements ServiceExtension {
 
     public static final String NAME = "Callback event dispatcher default services";
 
+    @Setting(description = "How long the callback auth codes resolved from the vault are cached, in ISO-8061 duration format. " +
+            "PT0S disables the cache.", key = "edc.callback.auth.cache.ttl", defaultValue = "PT5M")
+    Duration authCacheTimeToLive;
+
     @Inject
     EdcHttpClient edcHttpClient;
     @Inject
     TypeManager typeManager;
     @Inject
     Vault vault;
+    @Inject
+    Clock clock;
 
     @Override
     public String name() {
@@ -42,6 +53,11 @@ public class CallbackEventDispatcherDefaultExtension implements ServiceExtension
 
     @Provider(isDefault = true)
     public CallbackClient callbackClient() {
-        return new CallbackHttpClient(edcHttpClient, typeManager.getMapper(), vault);
+        return new CallbackHttpClient(edcHttpClient, typeManager.getMapper(), vault, clock, authCacheTimeToLive);
+    }
+
+    @Provider(isDefault = true)
+    public CallbackOutboxStore callbackOutboxStore() {
+        return new InMemoryCallbackOutboxStore();
     }
 }
@@ -15,20 +15,31 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
 
 @Extension(value = CallbackEventDispatcherExtension.NAME)
+@Provides(CallbackDeliveryMetrics.class)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback event dispatcher";
 
+    @Configuration(context = "edc.callback.outbox")
+    CallbackOutboxConfiguration outboxConfiguration;
+
     @Inject
     EventRouter router;
     @Inject
@@ -37,6 +48,16 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     CallbackRegistry callbackRegistry;
     @Inject
     CallbackClient callbackClient;
+    @Inject
+    CallbackOutboxStore outboxStore;
+    @Inject
+    TypeManager typeManager;
+    @Inject
+    Clock clock;
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    private CallbackDeliveryManager deliveryManager;
 
     @Override
     public String name() {
@@ -46,6 +67,29 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         router.registerSync(Event.class, new CallbackEventDispatcher(callbackClient, callbackRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(callbackClient, callbackRegistry, false, monitor));
+
+        var metrics = new CallbackDeliveryMetrics();
+        context.registerService(CallbackDeliveryMetrics.class, metrics);
+
+        if (outboxConfiguration.enabled()) {
+            router.registerSync(Event.class, new CallbackOutboxDispatcher(callbackRegistry, outboxStore, typeManager.getMapper(), clock, metrics));
+            deliveryManager = new CallbackDeliveryManager(outboxStore, callbackClient, outboxConfiguration, executorInstrumentation, monitor, clock, metrics);
+        } else {
+            router.register(Event.class, new CallbackEventDispatcher(callbackClient, callbackRegistry, false, monitor));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (deliveryManager != null) {
+            deliveryManager.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (deliveryManager != null) {
+            deliveryManager.stop();
+        }
     }
 }
@@ -28,11 +28,22 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
+/**
+ * {@link CallbackClient} that POSTs the events as JSON to the callback endpoint.
+ * <p>
+ * The auth codes resolved from the {@link Vault} are cached for the configured time to live, so the vault is not hit on
+ * every dispatch. A cached auth code is evicted when the endpoint replies with 401 or 403, so a rotated secret is picked
+ * up on the next attempt.
+ */
 public class CallbackHttpClient implements CallbackClient {
 
     private static final String APPLICATION_JSON = "application/json";
@@ -40,19 +51,45 @@ public class CallbackHttpClient implements CallbackClient {
     private final EdcHttpClient httpClient;
     private final ObjectMapper mapper;
     private final Vault vault;
+    private final Clock clock;
+    private final Duration secretTimeToLive;
+    private final Map<String, CachedSecret> secrets = new ConcurrentHashMap<>();
 
     public CallbackHttpClient(EdcHttpClient httpClient, ObjectMapper mapper, Vault vault) {
+        this(httpClient, mapper, vault, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param secretTimeToLive how long an auth code resolved from the vault is cached, zero disables the cache.
+     */
+    public CallbackHttpClient(EdcHttpClient httpClient, ObjectMapper mapper, Vault vault, Clock clock, Duration secretTimeToLive) {
         this.httpClient = httpClient;
         this.mapper = mapper;
         this.vault = vault;
+        this.clock = clock;
+        this.secretTimeToLive = secretTimeToLive;
     }
 
     @Override
     public <E extends Event> void dispatch(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope) {
-        var request = buildRequest(callbackAddress, eventEnvelope);
+        try {
+            dispatch(callbackAddress, eventEnvelope.getPayload().name(), mapper.writeValueAsString(eventEnvelope));
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @Override
+    public void dispatch(CallbackAddress callbackAddress, String eventName, String body) {
+        var request = buildRequest(callbackAddress, eventName, body);
 
         try (var response = httpClient.execute(request, Collections.emptyList())) {
             if (!response.isSuccessful()) {
+                if ((response.code() == 401 || response.code() == 403) && callbackAddress.getAuthCodeId() != null) {
+                    secrets.remove(callbackAddress.getAuthCodeId());
+                }
                 throw new EdcException(format("Received error code %s when calling the callback endpoint at uri: %s",
                         response.code(), response.request().url().url()));
             }
@@ -61,28 +98,37 @@ public class CallbackHttpClient implements CallbackClient {
         }
     }
 
-    private <E extends Event> Request buildRequest(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope) {
-        try {
-            var body = mapper.writeValueAsString(eventEnvelope);
-            var builder = new Request.Builder()
-                    .url(callbackAddress.getUri())
-                    .post(RequestBody.create(body, MediaType.get(APPLICATION_JSON)));
-
-            if (callbackAddress.getAuthKey() != null) {
-                var authCode = resolveAuthCode(eventEnvelope.getPayload().name(), callbackAddress.getAuthCodeId());
-                builder.addHeader(callbackAddress.getAuthKey(), authCode);
-            }
-            return builder.build();
-        } catch (JsonProcessingException e) {
-            throw new EdcException(e);
+    private Request buildRequest(CallbackAddress callbackAddress, String eventName, String body) {
+        var builder = new Request.Builder()
+                .url(callbackAddress.getUri())
+                .post(RequestBody.create(body, MediaType.get(APPLICATION_JSON)));
+
+        if (callbackAddress.getAuthKey() != null) {
+            var authCode = resolveAuthCode(eventName, callbackAddress.getAuthCodeId());
+            builder.addHeader(callbackAddress.getAuthKey(), authCode);
         }
+        return builder.build();
     }
 
     private String resolveAuthCode(String eventName, String authCodeId) {
         if (authCodeId == null) {
             throw new EdcException(format("Error dispatching event %s: Auth Code Id cannot be null when the Auth Key was provided", eventName));
         }
-        return Optional.ofNullable(vault.resolveSecret(authCodeId))
+
+        var now = clock.millis();
+        var cached = secrets.get(authCodeId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        var authCode = Optional.ofNullable(vault.resolveSecret(authCodeId))
                 .orElseThrow(() -> new EdcException(format("Error dispatching event %s: no secret found in vault with name %s", eventName, authCodeId)));
+        if (!secretTimeToLive.isZero()) {
+            secrets.put(authCodeId, new CachedSecret(authCode, now + secretTimeToLive.toMillis()));
+        }
+        return authCode;
+    }
+
+    private record CachedSecret(String value, long expiresAt) {
     }
 }
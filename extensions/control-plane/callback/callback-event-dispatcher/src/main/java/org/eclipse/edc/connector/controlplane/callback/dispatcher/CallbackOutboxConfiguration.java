@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the delivery of the non-transactional callbacks through the outbox.
+ */
+@Settings
+public record CallbackOutboxConfiguration(
+
+        @Setting(
+                description = "Whether the non-transactional callbacks are delivered through the outbox. If false they are " +
+                        "invoked asynchronously, without retries, and they are lost on restart. The outbox is durable only " +
+                        "with a persistent store, e.g. the one in callback-outbox-store-sql.",
+                key = "enabled",
+                defaultValue = "false"
+        )
+        boolean enabled,
+
+        @Setting(
+                description = "Time period between the runs that pick up the due deliveries, in ISO-8061 duration format.",
+                key = "poll-interval",
+                defaultValue = "PT1S"
+        )
+        Duration pollInterval,
+
+        @Setting(
+                description = "The maximum number of deliveries picked up on every run.",
+                key = "batch-size",
+                defaultValue = "100"
+        )
+        int batchSize,
+
+        @Setting(
+                description = "The maximum number of events sent to an endpoint in a single request, as a JSON array. " +
+                        "1 disables batching, so every event is sent on its own as a JSON object.",
+                key = "max-events-per-request",
+                defaultValue = "1"
+        )
+        int maxEventsPerRequest,
+
+        @Setting(
+                description = "The maximum number of concurrent requests to the same endpoint.",
+                key = "endpoint-concurrency",
+                defaultValue = "2"
+        )
+        int endpointConcurrency,
+
+        @Setting(
+                description = "The number of workers that deliver the events concurrently.",
+                key = "workers",
+                defaultValue = "4"
+        )
+        int workers,
+
+        @Setting(
+                description = "The maximum number of delivery attempts, after which the delivery is dropped.",
+                key = "max-attempts",
+                defaultValue = "10"
+        )
+        int maxAttempts,
+
+        @Setting(
+                description = "The delay before the first retry, doubled on every further attempt, in ISO-8061 duration format.",
+                key = "retry-backoff",
+                defaultValue = "PT1S"
+        )
+        Duration retryBackoff,
+
+        @Setting(
+                description = "The maximum delay between two retries, in ISO-8061 duration format.",
+                key = "max-retry-backoff",
+                defaultValue = "PT5M"
+        )
+        Duration maxRetryBackoff,
+
+        @Setting(
+                description = "How long a picked up delivery is reserved to the runtime that picked it up, in ISO-8061 duration " +
+                        "format. A delivery that is neither completed nor rescheduled in time is picked up again.",
+                key = "claim-timeout",
+                defaultValue = "PT1M"
+        )
+        Duration claimTimeout
+) {
+}
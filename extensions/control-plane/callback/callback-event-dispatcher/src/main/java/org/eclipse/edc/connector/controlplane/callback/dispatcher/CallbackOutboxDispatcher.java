@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.time.Clock;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+/**
+ * Subscriber that stores the events for the non-transactional callbacks in the {@link CallbackOutboxStore}, from
+ * which they are delivered by the {@link CallbackDeliveryManager}.
+ * <p>
+ * It is meant to be registered as a synchronous subscriber, so the deliveries are saved in the same transaction as the
+ * entity change that raised the event. A failure in saving the deliveries is propagated, so the entity change and its
+ * deliveries are either committed or rolled back together.
+ */
+public class CallbackOutboxDispatcher implements EventSubscriber {
+
+    private final CallbackResolver callbackResolver;
+    private final CallbackOutboxStore store;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+    private final CallbackDeliveryMetrics metrics;
+
+    public CallbackOutboxDispatcher(CallbackRegistry callbackRegistry, CallbackOutboxStore store, ObjectMapper mapper,
+                                    Clock clock, CallbackDeliveryMetrics metrics) {
+        this.callbackResolver = new CallbackResolver(callbackRegistry);
+        this.store = store;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
+        var callbacks = callbackResolver.resolve(eventEnvelope, false);
+        if (callbacks.isEmpty()) {
+            return;
+        }
+
+        var eventName = eventEnvelope.getPayload().name();
+        var payload = serialize(eventEnvelope, eventName);
+        var now = clock.millis();
+        for (var callback : callbacks) {
+            store.save(new CallbackDelivery(UUID.randomUUID().toString(), callback.getUri(), callback.getAuthKey(),
+                    callback.getAuthCodeId(), eventName, payload, 0, now, now));
+            metrics.deliveryEnqueued();
+        }
+    }
+
+    private String serialize(EventEnvelope<?> eventEnvelope, String eventName) {
+        try {
+            return mapper.writeValueAsString(eventEnvelope);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(format("Failed to serialize the callback payload of event %s", eventName), e);
+        }
+    }
+}
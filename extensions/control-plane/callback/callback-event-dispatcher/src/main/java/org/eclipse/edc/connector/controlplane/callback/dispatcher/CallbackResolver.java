@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.event.CallbackAddresses;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the callbacks that need to be invoked for an {@link Event}: the static ones from the {@link CallbackRegistry}
+ * and the dynamic ones carried by the event, whose {@link CallbackAddress#getEvents()} match the {@link Event#name()}.
+ */
+class CallbackResolver {
+
+    private final CallbackRegistry callbackRegistry;
+
+    CallbackResolver(CallbackRegistry callbackRegistry) {
+        this.callbackRegistry = callbackRegistry;
+    }
+
+    <E extends Event> List<CallbackAddress> resolve(EventEnvelope<E> eventEnvelope, boolean transactional) {
+        var eventName = eventEnvelope.getPayload().name();
+        var staticCallbacks = callbackRegistry.resolve(eventName).stream();
+
+        var dynamicCallbacks = eventEnvelope.getPayload() instanceof CallbackAddresses callbackAddresses ?
+                callbackAddresses.getCallbackAddresses().stream() : Stream.<CallbackAddress>empty();
+
+        return Stream.concat(staticCallbacks, dynamicCallbacks)
+                .filter(cb -> cb.isTransactional() == transactional)
+                .filter(cb -> matches(eventName, cb))
+                .toList();
+    }
+
+    private boolean matches(String eventName, CallbackAddress callbackAddress) {
+        return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
+    }
+}
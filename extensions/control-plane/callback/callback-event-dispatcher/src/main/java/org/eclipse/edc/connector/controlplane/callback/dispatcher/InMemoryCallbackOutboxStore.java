@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of the {@link CallbackOutboxStore}, deliveries don't survive a restart.
+ */
+public class InMemoryCallbackOutboxStore implements CallbackOutboxStore {
+
+    private final Map<String, CallbackDelivery> deliveries = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(CallbackDelivery delivery) {
+        deliveries.put(delivery.id(), delivery);
+    }
+
+    @Override
+    public synchronized List<CallbackDelivery> claimDue(int max, long now, long claimedUntil) {
+        var claimed = deliveries.values().stream()
+                .filter(delivery -> delivery.nextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(CallbackDelivery::nextAttemptAt))
+                .limit(max)
+                .map(delivery -> delivery.reschedule(claimedUntil))
+                .toList();
+
+        claimed.forEach(delivery -> deliveries.replace(delivery.id(), delivery));
+        return claimed;
+    }
+
+    @Override
+    public void delete(String id) {
+        deliveries.remove(id);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClient;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CallbackDeliveryManagerTest {
+
+    private final InMemoryCallbackOutboxStore store = new InMemoryCallbackOutboxStore();
+    private final CallbackClient callbackClient = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC);
+    private final CallbackDeliveryMetrics metrics = new CallbackDeliveryMetrics();
+    private CallbackDeliveryManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+    @Test
+    void shouldDeliverDueDeliveries() {
+        manager = manager(configuration(1, 3));
+        var delivery = delivery("http://first", 0);
+        store.save(delivery);
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(callbackClient).dispatch(argThat(address -> address.getUri().equals("http://first")), eq("event"), eq(delivery.payload()));
+            assertThat(store.claimDue(10, Long.MAX_VALUE, Long.MAX_VALUE)).isEmpty();
+            assertThat(metrics.delivered()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldBatchDeliveriesForTheSameEndpoint() {
+        manager = manager(configuration(10, 3));
+        var first = delivery("http://endpoint", 0);
+        var second = delivery("http://endpoint", 1);
+        store.save(first);
+        store.save(second);
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(callbackClient).dispatch(any(), eq("event"), eq("[%s,%s]".formatted(first.payload(), second.payload())));
+            assertThat(metrics.requests()).isEqualTo(1);
+            assertThat(metrics.delivered()).isEqualTo(2);
+        });
+    }
+
+    @Nested
+    class Deliver {
+
+        @Test
+        void shouldRescheduleWithBackoff_whenDeliveryFails() {
+            manager = manager(configuration(1, 3));
+            var delivery = delivery("http://endpoint", 0);
+            store.save(delivery);
+            doThrow(new EdcException("error")).when(callbackClient).dispatch(any(), anyString(), anyString());
+
+            manager.deliver(List.of(delivery));
+
+            assertThat(metrics.failedAttempts()).isEqualTo(1);
+            assertThat(store.claimDue(10, 10_999, 20_000)).isEmpty();
+            assertThat(store.claimDue(10, 11_000, 20_000)).hasSize(1).first()
+                    .satisfies(retried -> assertThat(retried.attempts()).isEqualTo(1));
+        }
+
+        @Test
+        void shouldDropDelivery_whenMaxAttemptsIsReached() {
+            manager = manager(configuration(1, 2));
+            var delivery = delivery("http://endpoint", 0).retry(0);
+            store.save(delivery);
+            doThrow(new EdcException("error")).when(callbackClient).dispatch(any(), anyString(), anyString());
+
+            manager.deliver(List.of(delivery));
+
+            assertThat(store.claimDue(10, Long.MAX_VALUE, Long.MAX_VALUE)).isEmpty();
+            assertThat(metrics.dropped()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void backoff_shouldDoubleOnEveryAttemptUpToTheMax() {
+        manager = manager(configuration(1, 3));
+
+        assertThat(manager.backoff(1)).isEqualTo(1000);
+        assertThat(manager.backoff(2)).isEqualTo(2000);
+        assertThat(manager.backoff(3)).isEqualTo(4000);
+        assertThat(manager.backoff(10)).isEqualTo(60_000);
+        assertThat(manager.backoff(100)).isEqualTo(60_000);
+    }
+
+    private CallbackDeliveryManager manager(CallbackOutboxConfiguration configuration) {
+        return new CallbackDeliveryManager(store, callbackClient, configuration, ExecutorInstrumentation.noop(),
+                mock(Monitor.class), clock, metrics);
+    }
+
+    private CallbackOutboxConfiguration configuration(int maxEventsPerRequest, int maxAttempts) {
+        return new CallbackOutboxConfiguration(true, Duration.ofMillis(50), 100, maxEventsPerRequest, 2, 2,
+                maxAttempts, Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    private CallbackDelivery delivery(String uri, long createdAt) {
+        return new CallbackDelivery(UUID.randomUUID().toString(), uri, null, null, "event",
+                "{\"id\":\"%s\"}".formatted(UUID.randomUUID()), 0, createdAt, createdAt);
+    }
+}
@@ -19,41 +19,60 @@ import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackClie
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
 
     EventRouter router = mock(EventRouter.class);
 
-    private CallbackEventDispatcherExtension extension;
-
     @BeforeEach
-    void setUp(ServiceExtensionContext context, ObjectFactory factory) {
+    void setUp(ServiceExtensionContext context) {
         context.registerService(EventRouter.class, router);
         context.registerService(CallbackClient.class, mock(CallbackClient.class));
+    }
+
+    @Test
+    void initialize_shouldRegisterTransactionalListenerAndOutbox_whenOutboxIsEnabled(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.callback.outbox.enabled", "true")));
+        var extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
 
-        extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
+        extension.initialize(context);
+
+        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router).registerSync(eq(Event.class), isA(CallbackOutboxDispatcher.class));
+        verify(router, never()).register(any(), any());
     }
 
     @Test
-    void initialize_shouldRegisterBothListeners(ServiceExtensionContext context) {
+    void initialize_shouldRegisterBothListeners_whenOutboxIsNotEnabled(ServiceExtensionContext context, ObjectFactory factory) {
+        var extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
+
         extension.initialize(context);
 
         verify(router).register(eq(Event.class), argThat(callbackEventDispatcherMatcher(false)));
         verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router, never()).registerSync(eq(Event.class), isA(CallbackOutboxDispatcher.class));
     }
 
-    private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
-        return dispatcher -> dispatcher.isTransactional() == transactional;
+    private ArgumentMatcher<EventSubscriber> callbackEventDispatcherMatcher(boolean transactional) {
+        return subscriber -> subscriber instanceof CallbackEventDispatcher dispatcher && dispatcher.isTransactional() == transactional;
     }
 }
@@ -28,6 +28,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -42,6 +44,8 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ComponentTest
@@ -109,6 +113,50 @@ public class CallbackHttpClientTest {
                 .withHeader(authKey, equalTo(authCodeIdValue)));
     }
 
+    @Test
+    public void dispatch_shouldCacheTheAuthCode() {
+        var authKey = "authHeader";
+        var authCodeId = "authCodeId";
+        when(vault.resolveSecret(authCodeId)).thenReturn("authCodeIdValue");
+        var cachingClient = new CallbackHttpClient(httpClient, typeManager.getMapper(), vault, Clock.systemUTC(), Duration.ofMinutes(5));
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .events(Set.of("test"))
+                .uri(callbackUrl())
+                .authKey(authKey)
+                .authCodeId(authCodeId)
+                .build();
+
+        server.stubFor(post("/" + CALLBACK_PATH).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        cachingClient.dispatch(callback, "test", "{}");
+        cachingClient.dispatch(callback, "test", "{}");
+
+        verify(vault, times(1)).resolveSecret(authCodeId);
+        server.verify(2, postRequestedFor(urlEqualTo("/" + CALLBACK_PATH)).withHeader(authKey, equalTo("authCodeIdValue")));
+    }
+
+    @Test
+    public void dispatch_shouldEvictTheAuthCode_whenUnauthorized() {
+        var authCodeId = "authCodeId";
+        when(vault.resolveSecret(authCodeId)).thenReturn("authCodeIdValue");
+        var cachingClient = new CallbackHttpClient(httpClient, typeManager.getMapper(), vault, Clock.systemUTC(), Duration.ofMinutes(5));
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .events(Set.of("test"))
+                .uri(callbackUrl())
+                .authKey("authHeader")
+                .authCodeId(authCodeId)
+                .build();
+
+        server.stubFor(post("/" + CALLBACK_PATH).willReturn(aResponse().withStatus(401)));
+
+        assertThatThrownBy(() -> cachingClient.dispatch(callback, "test", "{}")).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> cachingClient.dispatch(callback, "test", "{}")).isInstanceOf(EdcException.class);
+
+        verify(vault, times(2)).resolveSecret(authCodeId);
+    }
+
     @Test
     public void dispatch_shouldThrowExceptionWhenTheCallbackFails() {
         var callback = CallbackAddress.Builder.newInstance()
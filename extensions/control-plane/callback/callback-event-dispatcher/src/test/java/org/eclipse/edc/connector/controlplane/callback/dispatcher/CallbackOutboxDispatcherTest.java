@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CallbackOutboxDispatcherTest {
+
+    private final CallbackRegistry callbackRegistry = mock();
+    private final CallbackOutboxStore store = mock();
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+    private final CallbackDeliveryMetrics metrics = new CallbackDeliveryMetrics();
+    private final CallbackOutboxDispatcher dispatcher = new CallbackOutboxDispatcher(callbackRegistry, store,
+            typeManager.getMapper(), clock, metrics);
+
+    @Test
+    void shouldStoreDelivery_whenNonTransactionalCallbackMatches() {
+        var callback = callback(false);
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").callbackAddresses(List.of(callback)).build();
+        var envelope = envelope(event);
+
+        dispatcher.on(envelope);
+
+        var captor = ArgumentCaptor.forClass(CallbackDelivery.class);
+        verify(store).save(captor.capture());
+        assertThat(captor.getValue()).satisfies(delivery -> {
+            assertThat(delivery.uri()).isEqualTo("http://test");
+            assertThat(delivery.authKey()).isEqualTo("authKey");
+            assertThat(delivery.authCodeId()).isEqualTo("authCodeId");
+            assertThat(delivery.eventName()).isEqualTo(event.name());
+            assertThat(delivery.payload()).isEqualTo(typeManager.writeValueAsString(envelope));
+            assertThat(delivery.attempts()).isZero();
+            assertThat(delivery.nextAttemptAt()).isEqualTo(1000);
+        });
+        assertThat(metrics.enqueued()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotStoreDelivery_whenCallbackIsTransactional() {
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").callbackAddresses(List.of(callback(true))).build();
+
+        dispatcher.on(envelope(event));
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void shouldPropagateFailure_whenStoreFails() {
+        doThrow(new RuntimeException("error")).when(store).save(any());
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").callbackAddresses(List.of(callback(false))).build();
+
+        assertThatThrownBy(() -> dispatcher.on(envelope(event))).isInstanceOf(RuntimeException.class).hasMessage("error");
+    }
+
+    private CallbackAddress callback(boolean transactional) {
+        return CallbackAddress.Builder.newInstance()
+                .uri("http://test")
+                .events(Set.of("transfer.process"))
+                .transactional(transactional)
+                .authKey("authKey")
+                .authCodeId("authCodeId")
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Event> EventEnvelope<T> envelope(T event) {
+        return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
+    }
+}
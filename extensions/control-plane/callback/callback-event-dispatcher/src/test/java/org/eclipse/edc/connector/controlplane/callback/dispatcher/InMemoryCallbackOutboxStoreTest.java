@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback.CallbackOutboxStoreTestBase;
+
+class InMemoryCallbackOutboxStoreTest extends CallbackOutboxStoreTestBase {
+
+    private final InMemoryCallbackOutboxStore store = new InMemoryCallbackOutboxStore();
+
+    @Override
+    protected CallbackOutboxStore getStore() {
+        return store;
+    }
+}
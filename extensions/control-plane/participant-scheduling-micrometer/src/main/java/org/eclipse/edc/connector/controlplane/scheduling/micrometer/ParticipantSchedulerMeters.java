@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.scheduling.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.statemachine.ParticipantScheduler;
+import org.eclipse.edc.statemachine.ParticipantScheduler.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exports the {@link ParticipantScheduler} metrics to Micrometer, tagged by participant context id.
+ * <p>
+ * The wait time of every admitted entity is recorded as a timer, so its distribution is available. The other meters
+ * read a snapshot of the scheduler metrics, that gets refreshed at most once per {@code snapshotValidityMillis} because
+ * counting the backlog queries the stores.
+ */
+public class ParticipantSchedulerMeters implements ParticipantScheduler.Listener {
+
+    static final String WAIT = "edc.participant.scheduler.wait";
+    static final String BACKLOG = "edc.participant.scheduler.backlog";
+    static final String IN_FLIGHT = "edc.participant.scheduler.in-flight";
+    static final String PROCESSED = "edc.participant.scheduler.processed";
+    static final String DEFERRED = "edc.participant.scheduler.deferred";
+    static final String PARTICIPANT_CONTEXT_ID_TAG = "participantContextId";
+
+    private static final Metrics NO_METRICS = new Metrics(0, 0, 0, 0);
+
+    private final ParticipantScheduler scheduler;
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final long snapshotValidityMillis;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    public ParticipantSchedulerMeters(ParticipantScheduler scheduler, MeterRegistry registry, Clock clock, long snapshotValidityMillis) {
+        this.scheduler = scheduler;
+        this.registry = registry;
+        this.clock = clock;
+        this.snapshotValidityMillis = snapshotValidityMillis;
+    }
+
+    @Override
+    public void admitted(String participantContextId, long waitMillis) {
+        waitTimers.computeIfAbsent(participantContextId, this::registerMeters)
+                .record(waitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private Timer registerMeters(String participantContextId) {
+        gauge(BACKLOG, participantContextId, Metrics::backlog);
+        gauge(IN_FLIGHT, participantContextId, Metrics::inFlight);
+        counter(PROCESSED, participantContextId, Metrics::processed);
+        counter(DEFERRED, participantContextId, Metrics::deferred);
+        return Timer.builder(WAIT)
+                .description("Time an entity waited in its state before being admitted to be processed")
+                .tag(PARTICIPANT_CONTEXT_ID_TAG, participantContextId)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private void gauge(String name, String participantContextId, ToDoubleFunction<Metrics> value) {
+        Gauge.builder(name, this, meters -> value.applyAsDouble(meters.metrics(participantContextId)))
+                .tag(PARTICIPANT_CONTEXT_ID_TAG, participantContextId)
+                .register(registry);
+    }
+
+    private void counter(String name, String participantContextId, ToDoubleFunction<Metrics> value) {
+        FunctionCounter.builder(name, this, meters -> value.applyAsDouble(meters.metrics(participantContextId)))
+                .tag(PARTICIPANT_CONTEXT_ID_TAG, participantContextId)
+                .register(registry);
+    }
+
+    private Metrics metrics(String participantContextId) {
+        var current = snapshot;
+        var now = clock.millis();
+        if (isStale(current, now)) {
+            synchronized (this) {
+                current = snapshot;
+                if (isStale(current, now)) {
+                    current = new Snapshot(scheduler.metrics(), now);
+                    snapshot = current;
+                    // participant contexts that have a backlog but have not been admitted yet
+                    current.metrics().keySet().forEach(participant -> waitTimers.computeIfAbsent(participant, this::registerMeters));
+                }
+            }
+        }
+        return current.metrics().getOrDefault(participantContextId, NO_METRICS);
+    }
+
+    private boolean isStale(Snapshot snapshot, long now) {
+        return snapshot == null || now - snapshot.takenAt() >= snapshotValidityMillis;
+    }
+
+    private record Snapshot(Map<String, Metrics> metrics, long takenAt) {
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.scheduling.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.statemachine.ParticipantScheduler;
+
+import java.time.Clock;
+
+/**
+ * An extension that exports the {@link ParticipantScheduler} metrics to Micrometer: the backlog, in-flight, processed
+ * and deferred entities and the wait time distribution, by participant context.
+ */
+@Extension(value = ParticipantSchedulingMicrometerExtension.NAME)
+public class ParticipantSchedulingMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_PARTICIPANT_SCHEDULING_METRICS = "edc.metrics.participant-scheduling.enabled";
+    public static final String NAME = "Participant Scheduling Micrometer Metrics";
+    private static final long DEFAULT_SNAPSHOT_VALIDITY = 10_000;
+
+    @Setting(
+            description = "Time (in ms) the participant scheduling metrics are kept before the backlog gets counted again",
+            defaultValue = DEFAULT_SNAPSHOT_VALIDITY + "",
+            key = "edc.metrics.participant-scheduling.snapshot-validity"
+    )
+    private long snapshotValidity;
+
+    @Inject
+    private ParticipantScheduler participantScheduler;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableSchedulingMetrics = context.getSetting(ENABLE_PARTICIPANT_SCHEDULING_METRICS, true);
+
+        if (enableMetrics && enableSchedulingMetrics) {
+            participantScheduler.registerListener(new ParticipantSchedulerMeters(participantScheduler, meterRegistry, clock, snapshotValidity));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.scheduling.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.statemachine.ParticipantScheduler;
+import org.eclipse.edc.statemachine.ParticipantScheduler.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.scheduling.micrometer.ParticipantSchedulerMeters.BACKLOG;
+import static org.eclipse.edc.connector.controlplane.scheduling.micrometer.ParticipantSchedulerMeters.PARTICIPANT_CONTEXT_ID_TAG;
+import static org.eclipse.edc.connector.controlplane.scheduling.micrometer.ParticipantSchedulerMeters.PROCESSED;
+import static org.eclipse.edc.connector.controlplane.scheduling.micrometer.ParticipantSchedulerMeters.WAIT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantSchedulerMetersTest {
+
+    private final ParticipantScheduler scheduler = mock();
+    private final Clock clock = mock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ParticipantSchedulerMeters meters = new ParticipantSchedulerMeters(scheduler, registry, clock, 1000);
+
+    @Test
+    void admitted_shouldRecordWaitTimeByParticipantContext() {
+        meters.admitted("tenant", 100);
+        meters.admitted("tenant", 300);
+
+        var timer = registry.get(WAIT).tag(PARTICIPANT_CONTEXT_ID_TAG, "tenant").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.max(TimeUnit.MILLISECONDS)).isEqualTo(300);
+    }
+
+    @Test
+    void shouldReadSchedulerMetricsFromSnapshot() {
+        when(scheduler.metrics()).thenReturn(Map.of("tenant", new Metrics(5, 1, 10, 2)));
+        when(clock.millis()).thenReturn(0L, 500L);
+        meters.admitted("tenant", 100);
+
+        var backlog = registry.get(BACKLOG).tag(PARTICIPANT_CONTEXT_ID_TAG, "tenant").gauge().value();
+        var processed = registry.get(PROCESSED).tag(PARTICIPANT_CONTEXT_ID_TAG, "tenant").functionCounter().count();
+
+        assertThat(backlog).isEqualTo(5);
+        assertThat(processed).isEqualTo(10);
+        verify(scheduler, times(1)).metrics();
+    }
+
+    @Test
+    void shouldRegisterMeters_whenParticipantContextHasBacklogOnly() {
+        when(scheduler.metrics()).thenReturn(Map.of("tenant", new Metrics(1, 0, 0, 0), "waiting", new Metrics(3, 0, 0, 0)));
+        meters.admitted("tenant", 100);
+
+        registry.get(BACKLOG).tag(PARTICIPANT_CONTEXT_ID_TAG, "tenant").gauge().value();
+
+        assertThat(registry.get(BACKLOG).tag(PARTICIPANT_CONTEXT_ID_TAG, "waiting").gauge().value()).isEqualTo(3);
+    }
+}
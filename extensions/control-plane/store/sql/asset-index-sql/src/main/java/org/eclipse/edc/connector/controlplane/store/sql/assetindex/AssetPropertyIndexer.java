@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
+
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.AssetMapping;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.CONTAINS;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.EQUAL;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.IN;
+
+/**
+ * Creates the indexes that serve the asset property filters.
+ * <p>
+ * Property filters are translated to JSON expressions, e.g. {@code properties ->> 'key' = ?}, and Postgres can only use
+ * an index that has been built on the very same expression. For this reason the index expression is derived from the
+ * where clause produced by the {@link AssetMapping}: a B-tree index serves {@code =} and {@code in}, a GIN index serves
+ * {@code contains}.
+ * <p>
+ * Indexes get created for the configured properties on startup and, when learning is enabled, for the property filters
+ * that have been observed a given number of times. Learned filters can come from any query, also from the catalog
+ * requests of counter-parties, so only property paths made of plain IRI characters are indexed.
+ * <p>
+ * Indexes are built with {@code CREATE INDEX CONCURRENTLY}, that doesn't block the writes on the asset table but cannot
+ * run in a transaction block: every index is built on the executor, with a dedicated connection that is not enlisted in
+ * any transaction and that is switched to auto-commit for the time of the statement.
+ */
+class AssetPropertyIndexer {
+
+    private static final int MAX_OBSERVED_FILTERS = 1_000;
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+    private static final int MIN_HASH_LENGTH = 32;
+    private static final int MAX_PROPERTY_PATH_LENGTH = 256;
+    private static final Pattern PROPERTY_PATH = Pattern.compile("[\\w.:/#@'~%+-]+");
+    private static final Set<String> BTREE_OPERATORS = Set.of(EQUAL, IN);
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final QueryExecutor queryExecutor;
+    private final AssetStatements statements;
+    private final Monitor monitor;
+    private final int learnThreshold;
+    private final int maxLearnedIndexes;
+    private final Executor executor;
+    private final TranslationMapping mapping;
+    private final SqlOperatorTranslator operatorTranslator = new PostgresqlOperatorTranslator();
+    private final Map<PropertyIndex, AtomicInteger> observations = new ConcurrentHashMap<>();
+    private final Set<PropertyIndex> indexes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger learnedIndexes = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param learnThreshold    number of times a property filter needs to be observed before its index gets created, 0 disables learning.
+     * @param maxLearnedIndexes maximum number of indexes that can be created by learning.
+     * @param executor          executor on which the indexes are created.
+     */
+    AssetPropertyIndexer(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                         QueryExecutor queryExecutor, AssetStatements statements, Monitor monitor,
+                         int learnThreshold, int maxLearnedIndexes, Executor executor) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.queryExecutor = queryExecutor;
+        this.statements = statements;
+        this.monitor = monitor;
+        this.learnThreshold = learnThreshold;
+        this.maxLearnedIndexes = maxLearnedIndexes;
+        this.executor = executor;
+        this.mapping = new AssetMapping(statements);
+    }
+
+    /**
+     * Create the indexes that serve the equality filters on the given properties on the executor.
+     *
+     * @param properties the property paths, in the same form used in the query criteria.
+     */
+    void createIndexes(Collection<String> properties) {
+        properties.stream()
+                .map(property -> indexFor(criterion(property, EQUAL, "")))
+                .filter(Objects::nonNull)
+                .forEach(index -> executor.execute(() -> createIndex(index)));
+    }
+
+    /**
+     * Record the usage of the criteria, creating the index of the ones that reached the learning threshold.
+     *
+     * @param criteria the criteria of a query.
+     */
+    void observe(List<Criterion> criteria) {
+        if (learnThreshold <= 0) {
+            return;
+        }
+        for (var criterion : criteria) {
+            var index = indexFor(criterion);
+            if (index == null || indexes.contains(index)) {
+                continue;
+            }
+            if (!observations.containsKey(index) && observations.size() >= MAX_OBSERVED_FILTERS) {
+                continue;
+            }
+            var count = observations.computeIfAbsent(index, i -> new AtomicInteger()).incrementAndGet();
+            if (count == learnThreshold && learnedIndexes.incrementAndGet() <= maxLearnedIndexes) {
+                executor.execute(() -> createIndex(index));
+            }
+        }
+    }
+
+    /**
+     * Returns the index that serves the criterion, null if the criterion cannot be served by a property index.
+     */
+    @Nullable
+    PropertyIndex indexFor(Criterion criterion) {
+        var operatorName = criterion.getOperator().toLowerCase();
+        var gin = CONTAINS.equals(operatorName);
+        if (!gin && !BTREE_OPERATORS.contains(operatorName)) {
+            return null;
+        }
+        if (!isValidPropertyPath(criterion.getOperandLeft())) {
+            return null;
+        }
+
+        var operator = operatorTranslator.translate(operatorName);
+        try {
+            var whereClause = mapping.getWhereClause(criterion, operator);
+            if (whereClause == null) {
+                return null;
+            }
+            var sql = whereClause.sql();
+            var operatorPosition = sql.lastIndexOf(" %s ".formatted(operator.representation()));
+            if (operatorPosition < 0) {
+                return null;
+            }
+            var expression = sql.substring(0, operatorPosition);
+            // plain columns are either indexed by the schema or not worth it
+            return expression.contains("->") ? new PropertyIndex(statements.getAssetTable(), expression, gin) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean isValidPropertyPath(Object operandLeft) {
+        return operandLeft instanceof String path && path.length() <= MAX_PROPERTY_PATH_LENGTH && PROPERTY_PATH.matcher(path).matches();
+    }
+
+    private void createIndex(PropertyIndex index) {
+        try (var connection = dataSourceRegistry.resolve(dataSourceName).getConnection()) {
+            var autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try {
+                queryExecutor.execute(connection, index.createStatement());
+            } catch (RuntimeException e) {
+                // a failed concurrent build leaves an invalid index behind, that IF NOT EXISTS would then skip
+                queryExecutor.execute(connection, index.dropStatement());
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            indexes.add(index);
+            monitor.debug(() -> "Created asset property index %s on %s".formatted(index.name(), index.expression()));
+        } catch (Exception e) {
+            monitor.warning(format("Cannot create asset property index on %s", index.expression()), e);
+        }
+    }
+
+    /**
+     * An index on an asset property expression.
+     *
+     * @param table      the asset table.
+     * @param expression the indexed expression.
+     * @param gin        true for a GIN index, false for a B-tree index.
+     */
+    record PropertyIndex(String table, String expression, boolean gin) {
+
+        /**
+         * The name is derived from the SHA-256 of the expression, so that different expressions never share the same
+         * name, truncated to fit into the 63 characters of a Postgres identifier.
+         */
+        String name() {
+            var prefix = "%s_%s_".formatted(table, gin ? "gin" : "btree");
+            var hash = sha256(expression);
+            return prefix + hash.substring(0, Math.min(hash.length(), Math.max(MIN_HASH_LENGTH, MAX_IDENTIFIER_LENGTH - prefix.length())));
+        }
+
+        String createStatement() {
+            return "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s %s((%s))".formatted(name(), table, gin ? "USING GIN " : "", expression);
+        }
+
+        String dropStatement() {
+            return "DROP INDEX CONCURRENTLY IF EXISTS %s".formatted(name());
+        }
+
+        private static String sha256(String value) {
+            try {
+                var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
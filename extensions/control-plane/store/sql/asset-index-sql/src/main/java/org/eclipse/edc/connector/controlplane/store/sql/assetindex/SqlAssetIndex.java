@@ -35,10 +35,15 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -46,17 +51,29 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
+    // keeps the statement parameters well below the limit of the JDBC protocol
+    private static final int MAX_INSERTED_ROWS = 1000;
+
     private final AssetStatements assetStatements;
+    private final @Nullable AssetPropertyIndexer propertyIndexer;
 
     public SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                          ObjectMapper objectMapper, AssetStatements assetStatements, QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, assetStatements, queryExecutor, null);
+    }
+
+    SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                  ObjectMapper objectMapper, AssetStatements assetStatements, QueryExecutor queryExecutor,
+                  @Nullable AssetPropertyIndexer propertyIndexer) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.assetStatements = Objects.requireNonNull(assetStatements);
+        this.propertyIndexer = propertyIndexer;
     }
 
     @Override
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         Objects.requireNonNull(querySpec);
+        observe(querySpec.getFilterExpression());
 
         return transactionContext.execute(() -> {
             try {
@@ -94,15 +111,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                     return StoreResult.alreadyExists(msg);
                 }
 
-                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(),
-                        assetId,
-                        asset.getCreatedAt(),
-                        toJson(asset.getProperties()),
-                        toJson(asset.getPrivateProperties()),
-                        toJson(Optional.ofNullable(asset.getDataAddress()).map(DataAddress::getProperties).orElse(null)),
-                        asset.getParticipantContextId(),
-                        toJson(asset.getDataplaneMetadata())
-                );
+                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(), insertArguments(asset));
 
                 return StoreResult.success();
             } catch (Exception e) {
@@ -111,6 +120,36 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public List<StoreResult<Void>> createAll(List<Asset> assets) {
+        Objects.requireNonNull(assets);
+        if (assets.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                // the first occurrence of an id wins, the following ones are reported as already existing
+                var distinct = new ArrayList<>(assets.stream().collect(Collectors.toMap(Asset::getId, it -> it, (first, second) -> first, LinkedHashMap::new)).values());
+
+                var inserted = new HashSet<String>();
+                for (var from = 0; from < distinct.size(); from += MAX_INSERTED_ROWS) {
+                    var chunk = distinct.subList(from, Math.min(from + MAX_INSERTED_ROWS, distinct.size()));
+                    var arguments = chunk.stream().flatMap(asset -> Arrays.stream(insertArguments(asset))).toArray();
+                    try (var ids = queryExecutor.query(connection, false, r -> r.getString(1), assetStatements.getInsertAssetsIfAbsentTemplate(chunk.size()), arguments)) {
+                        ids.forEach(inserted::add);
+                    }
+                }
+
+                return assets.stream()
+                        .map(asset -> inserted.remove(asset.getId()) ? StoreResult.<Void>success() : StoreResult.<Void>alreadyExists(format(ASSET_EXISTS_TEMPLATE, asset.getId())))
+                        .toList();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<Asset> deleteById(String assetId) {
         Objects.requireNonNull(assetId);
@@ -133,6 +172,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
     @Override
     public long countAssets(List<Criterion> criteria) {
+        observe(criteria);
         try (var connection = getConnection()) {
             var statement = assetStatements.createQuery(criteria);
 
@@ -174,6 +214,24 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return Optional.ofNullable(findById(assetId)).map(Asset::getDataAddress).orElse(null);
     }
 
+    private void observe(List<Criterion> criteria) {
+        if (propertyIndexer != null) {
+            propertyIndexer.observe(criteria);
+        }
+    }
+
+    private Object[] insertArguments(Asset asset) {
+        return new Object[]{
+            asset.getId(),
+            asset.getCreatedAt(),
+            toJson(asset.getProperties()),
+            toJson(asset.getPrivateProperties()),
+            toJson(Optional.ofNullable(asset.getDataAddress()).map(DataAddress::getProperties).orElse(null)),
+            asset.getParticipantContextId(),
+            toJson(asset.getDataplaneMetadata())
+        };
+    }
+
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
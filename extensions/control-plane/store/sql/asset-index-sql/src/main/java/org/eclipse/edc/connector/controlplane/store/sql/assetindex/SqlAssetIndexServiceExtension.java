@@ -23,6 +23,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -31,13 +32,35 @@ import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Provides({ AssetIndex.class, DataAddressResolver.class })
 @Extension(value = "SQL asset index")
 public class SqlAssetIndexServiceExtension implements ServiceExtension {
 
+    public static final int DEFAULT_PROPERTY_INDEX_LEARN_THRESHOLD = 0;
+    public static final int DEFAULT_PROPERTY_INDEX_LEARN_MAX = 20;
+
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.asset.datasource")
     private String dataSourceName;
 
+    @Setting(description = "Comma-separated list of asset property paths that will be indexed to speed up the equality filters on them, " +
+            "e.g. 'https://w3id.org/edc/v0.0.1/ns/type'. Postgres only.",
+            key = "edc.sql.store.asset.index.properties", required = false)
+    private String indexedProperties;
+
+    @Setting(description = "Number of times a property filter needs to be used before an index gets created for it. 0 disables the learning. Postgres only.",
+            key = "edc.sql.store.asset.index.learn.threshold", defaultValue = DEFAULT_PROPERTY_INDEX_LEARN_THRESHOLD + "")
+    private int learnThreshold;
+
+    @Setting(description = "Maximum number of property indexes that can be created by learning",
+            key = "edc.sql.store.asset.index.learn.max", defaultValue = DEFAULT_PROPERTY_INDEX_LEARN_MAX + "")
+    private int maxLearnedIndexes;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -56,9 +79,25 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Inject
     private SqlSchemaBootstrapper sqlSchemaBootstrapper;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private AssetPropertyIndexer propertyIndexer;
+    private ExecutorService indexerExecutor;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        var statements = getDialect();
+        Executor executor = Runnable::run;
+        if (learnThreshold > 0 || !configuredIndexedProperties().isEmpty()) {
+            indexerExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "asset-property-indexer");
+            executor = indexerExecutor;
+        }
+        propertyIndexer = new AssetPropertyIndexer(dataSourceRegistry, dataSourceName, queryExecutor, statements,
+                context.getMonitor().withPrefix("SqlAssetIndex"), learnThreshold, maxLearnedIndexes, executor);
+
+        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), statements,
+                queryExecutor, propertyIndexer);
 
         context.registerService(AssetIndex.class, sqlAssetLoader);
         context.registerService(DataAddressResolver.class, sqlAssetLoader);
@@ -66,6 +105,28 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "asset-index-schema.sql");
     }
 
+    @Override
+    public void start() {
+        var properties = configuredIndexedProperties();
+        if (!properties.isEmpty()) {
+            propertyIndexer.createIndexes(properties);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (indexerExecutor != null) {
+            indexerExecutor.shutdownNow();
+        }
+    }
+
+    private List<String> configuredIndexedProperties() {
+        if (indexedProperties == null) {
+            return List.of();
+        }
+        return Arrays.stream(indexedProperties.split(",")).map(String::trim).filter(it -> !it.isEmpty()).toList();
+    }
+
     private AssetStatements getDialect() {
         return dialect != null ? dialect : new PostgresDialectStatements();
     }
@@ -72,6 +72,14 @@ public interface AssetStatements extends SqlStatements {
      */
     String getInsertAssetTemplate();
 
+    /**
+     * INSERT clause for multiple assets, that skips the ones whose id already exists and returns the ids of the inserted
+     * ones. The parameters are the ones of {@link #getInsertAssetTemplate()} for every asset.
+     *
+     * @param count the number of assets.
+     */
+    String getInsertAssetsIfAbsentTemplate(int count);
+
     /**
      * UPDATE clause for assets.
      */
@@ -47,6 +47,19 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .insertInto(getAssetTable());
     }
 
+    @Override
+    public String getInsertAssetsIfAbsentTemplate(int count) {
+        return executeStatement()
+                .column(getAssetIdColumn())
+                .column(getCreatedAtColumn())
+                .jsonColumn(getPropertiesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
+                .jsonColumn(getDataAddressColumn())
+                .column(getParticipantContextIdColumn())
+                .jsonColumn(getDataplaneMetadataColumn())
+                .insertIntoIgnoreConflictReturningId(getAssetTable(), getAssetIdColumn(), count);
+    }
+
     @Override
     public String getUpdateAssetTemplate() {
         return executeStatement()
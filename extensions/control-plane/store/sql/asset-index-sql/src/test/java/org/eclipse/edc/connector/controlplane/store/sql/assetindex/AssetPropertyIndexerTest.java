@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
+
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AssetPropertyIndexerTest {
+
+    private final DataSourceRegistry dataSourceRegistry = mock();
+    private final QueryExecutor queryExecutor = mock();
+    private final Connection connection = mock();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSourceRegistry.resolve("datasource")).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Nested
+    class IndexFor {
+
+        private final AssetPropertyIndexer indexer = indexer(0);
+
+        @Test
+        void shouldReturnBtreeIndex_whenEqualityOnProperty() {
+            var index = indexer.indexFor(criterion("key", "=", "value"));
+
+            assertThat(index).isNotNull();
+            assertThat(index.expression()).isEqualTo("properties ->> 'key'");
+            assertThat(index.gin()).isFalse();
+            assertThat(index.createStatement()).isEqualTo("CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON edc_asset ((properties ->> 'key'))".formatted(index.name()));
+        }
+
+        @Test
+        void shouldMatchTheCastOfTheQuery_whenOperandIsNotString() {
+            var index = indexer.indexFor(criterion("key", "=", 3));
+
+            assertThat(index).isNotNull();
+            assertThat(index.expression()).isEqualTo("(properties ->> 'key')::integer");
+        }
+
+        @Test
+        void shouldReturnBtreeIndex_whenInOnProperty() {
+            var index = indexer.indexFor(criterion("key", "in", List.of("one", "two")));
+
+            assertThat(index).isNotNull();
+            assertThat(index.expression()).isEqualTo("properties ->> 'key'");
+        }
+
+        @Test
+        void shouldReturnGinIndex_whenContainsOnProperty() {
+            var index = indexer.indexFor(criterion("key", "contains", "value"));
+
+            assertThat(index).isNotNull();
+            assertThat(index.expression()).isEqualTo("(properties -> 'key')::jsonb");
+            assertThat(index.gin()).isTrue();
+            assertThat(index.createStatement()).contains("USING GIN");
+        }
+
+        @Test
+        void shouldReturnNull_whenOperatorIsNotSupported() {
+            assertThat(indexer.indexFor(criterion("key", "like", "value%"))).isNull();
+        }
+
+        @Test
+        void shouldReturnNull_whenFieldIsAColumn() {
+            assertThat(indexer.indexFor(criterion("id", "=", "value"))).isNull();
+        }
+
+        @Test
+        void shouldReturnNull_whenPropertyPathHasInvalidCharacters() {
+            assertThat(indexer.indexFor(criterion("key\"); DROP TABLE edc_asset; --", "=", "value"))).isNull();
+        }
+
+        @Test
+        void shouldAcceptIriPropertyPaths() {
+            assertThat(indexer.indexFor(criterion("'https://w3id.org/edc/v0.0.1/ns/name'", "=", "value"))).isNotNull();
+        }
+
+        @Test
+        void shouldGiveDistinctNames_whenExpressionsDiffer() {
+            var index = indexer.indexFor(criterion("key", "=", "value"));
+            var other = indexer.indexFor(criterion("key", "=", 3));
+
+            assertThat(index.name()).isNotEqualTo(other.name()).hasSizeLessThanOrEqualTo(63).startsWith("edc_asset_btree_");
+        }
+    }
+
+    @Test
+    void createIndexes_shouldCreateEqualityIndexes() {
+        var indexer = indexer(0);
+
+        indexer.createIndexes(List.of("key", "id"));
+
+        verify(queryExecutor).execute(eq(connection), eq(indexer.indexFor(criterion("key", "=", "")).createStatement()));
+    }
+
+    @Test
+    void createIndexes_shouldBuildIndexesOnTheExecutor() {
+        var tasks = new ArrayList<Runnable>();
+        var indexer = indexer(0, tasks::add);
+
+        indexer.createIndexes(List.of("key"));
+
+        verifyNoInteractions(queryExecutor);
+        assertThat(tasks).hasSize(1);
+        tasks.forEach(Runnable::run);
+        verify(queryExecutor).execute(eq(connection), eq(indexer.indexFor(criterion("key", "=", "")).createStatement()));
+    }
+
+    @Test
+    void createIndexes_shouldBuildIndexOutsideTransactionBlock() throws SQLException {
+        var indexer = indexer(0);
+
+        indexer.createIndexes(List.of("key"));
+
+        var inOrder = inOrder(connection, queryExecutor);
+        inOrder.verify(connection).setAutoCommit(true);
+        inOrder.verify(queryExecutor).execute(eq(connection), any());
+        inOrder.verify(connection).setAutoCommit(false);
+    }
+
+    @Test
+    void createIndexes_shouldDropInvalidIndex_whenBuildFails() {
+        var indexer = indexer(0);
+        var index = indexer.indexFor(criterion("key", "=", ""));
+        when(queryExecutor.execute(connection, index.createStatement())).thenThrow(new EdcPersistenceException("error"));
+
+        indexer.createIndexes(List.of("key"));
+
+        verify(queryExecutor).execute(connection, index.dropStatement());
+    }
+
+    @Test
+    void observe_shouldCreateIndex_whenThresholdIsReached() {
+        var indexer = indexer(2);
+        var criteria = List.of(criterion("key", "=", "value"));
+
+        indexer.observe(criteria);
+        verifyNoInteractions(queryExecutor);
+
+        indexer.observe(criteria);
+        indexer.observe(criteria);
+        verify(queryExecutor, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void observe_shouldNotCreateIndex_whenLearningIsDisabled() {
+        var indexer = indexer(0);
+
+        indexer.observe(List.of(criterion("key", "=", "value")));
+
+        verifyNoInteractions(queryExecutor);
+    }
+
+    private AssetPropertyIndexer indexer(int learnThreshold) {
+        return indexer(learnThreshold, Runnable::run);
+    }
+
+    private AssetPropertyIndexer indexer(int learnThreshold, Executor executor) {
+        return new AssetPropertyIndexer(dataSourceRegistry, "datasource", queryExecutor,
+                new PostgresDialectStatements(), mock(Monitor.class), learnThreshold, 10, executor);
+    }
+}
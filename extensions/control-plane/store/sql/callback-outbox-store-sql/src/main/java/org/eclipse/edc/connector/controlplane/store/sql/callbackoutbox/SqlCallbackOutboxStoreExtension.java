@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.SqlCallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.CallbackOutboxStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+@Provides(CallbackOutboxStore.class)
+@Extension("SQL callback outbox store")
+public class SqlCallbackOutboxStoreExtension implements ServiceExtension {
+
+    @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.callbackoutbox.datasource")
+    private String dataSourceName;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject(required = false)
+    private CallbackOutboxStatements statements;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private QueryExecutor queryExecutor;
+    @Inject
+    private SqlSchemaBootstrapper sqlSchemaBootstrapper;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var store = new SqlCallbackOutboxStore(dataSourceRegistry, dataSourceName, transactionContext,
+                typeManager.getMapper(), getStatementImpl(), queryExecutor);
+
+        context.registerService(CallbackOutboxStore.class, store);
+
+        sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "callback-outbox-schema.sql");
+    }
+
+    private CallbackOutboxStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.CallbackOutboxStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SQL implementation of the {@link CallbackOutboxStore}. Due deliveries are selected with {@code FOR UPDATE SKIP LOCKED},
+ * so concurrent runtimes sharing the same database claim disjoint sets of deliveries.
+ */
+public class SqlCallbackOutboxStore extends AbstractSqlStore implements CallbackOutboxStore {
+
+    private final CallbackOutboxStatements statements;
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = Objects.requireNonNull(statements);
+    }
+
+    @Override
+    public void save(CallbackDelivery delivery) {
+        Objects.requireNonNull(delivery);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getUpsertTemplate(),
+                        delivery.id(),
+                        delivery.uri(),
+                        delivery.authKey(),
+                        delivery.authCodeId(),
+                        delivery.eventName(),
+                        delivery.payload(),
+                        delivery.attempts(),
+                        delivery.nextAttemptAt(),
+                        delivery.createdAt());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackDelivery> claimDue(int max, long now, long claimedUntil) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var due = queryExecutor.query(connection, false, this::mapResultSet, statements.getSelectDueTemplate(), now, max)
+                        .map(delivery -> delivery.reschedule(claimedUntil))
+                        .toList();
+                if (!due.isEmpty()) {
+                    var arguments = due.stream().map(delivery -> new Object[]{ claimedUntil, delivery.id() }).toList();
+                    queryExecutor.executeBatch(connection, statements.getClaimTemplate(), arguments);
+                }
+                return due;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        Objects.requireNonNull(id);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private CallbackDelivery mapResultSet(ResultSet resultSet) throws SQLException {
+        return new CallbackDelivery(
+                resultSet.getString(statements.getIdColumn()),
+                resultSet.getString(statements.getUriColumn()),
+                resultSet.getString(statements.getAuthKeyColumn()),
+                resultSet.getString(statements.getAuthCodeIdColumn()),
+                resultSet.getString(statements.getEventNameColumn()),
+                resultSet.getString(statements.getPayloadColumn()),
+                resultSet.getInt(statements.getAttemptsColumn()),
+                resultSet.getLong(statements.getNextAttemptAtColumn()),
+                resultSet.getLong(statements.getCreatedAtColumn()));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema;
+
+import java.util.List;
+
+public class BaseSqlDialectStatements implements CallbackOutboxStatements {
+
+    @Override
+    public String getUpsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getUriColumn())
+                .column(getAuthKeyColumn())
+                .column(getAuthCodeIdColumn())
+                .column(getEventNameColumn())
+                .jsonColumn(getPayloadColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getCreatedAtColumn())
+                .upsertInto(getTable(), getIdColumn(), List.of(getCreatedAtColumn()));
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement().delete(getTable(), getIdColumn());
+    }
+
+    @Override
+    public String getSelectDueTemplate() {
+        return "SELECT * FROM %s WHERE %s <= ? ORDER BY %s LIMIT ? FOR UPDATE SKIP LOCKED"
+                .formatted(getTable(), getNextAttemptAtColumn(), getNextAttemptAtColumn());
+    }
+
+    @Override
+    public String getClaimTemplate() {
+        return executeStatement()
+                .column(getNextAttemptAtColumn())
+                .update(getTable(), getIdColumn());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Statement templates and table/column names for the callback outbox store.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStatements extends SqlStatements {
+
+    /**
+     * Inserts a delivery, or updates it when it already exists. The parameters are the delivery fields in the order of
+     * the table columns.
+     */
+    String getUpsertTemplate();
+
+    String getDeleteTemplate();
+
+    /**
+     * Selects and locks the due deliveries, the parameters are the current timestamp and the limit.
+     */
+    String getSelectDueTemplate();
+
+    /**
+     * Updates the next attempt of a claimed delivery, the parameters are the next attempt and the id.
+     */
+    String getClaimTemplate();
+
+    default String getTable() {
+        return "edc_callback_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getUriColumn() {
+        return "uri";
+    }
+
+    default String getAuthKeyColumn() {
+        return "auth_key";
+    }
+
+    default String getAuthCodeIdColumn() {
+        return "auth_code_id";
+    }
+
+    default String getEventNameColumn() {
+        return "event_name";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+}
@@ -0,0 +1,34 @@
+--
+--  Copyright (c) 2026 Think-it GmbH
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Think-it GmbH - initial SQL schema
+--
+
+-- table: edc_callback_outbox
+CREATE TABLE IF NOT EXISTS edc_callback_outbox
+(
+    id              VARCHAR NOT NULL,
+    uri             VARCHAR NOT NULL,
+    auth_key        VARCHAR,
+    auth_code_id    VARCHAR,
+    event_name      VARCHAR NOT NULL,
+    payload         JSON    NOT NULL,
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at BIGINT  NOT NULL,
+    created_at      BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+COMMENT ON COLUMN edc_callback_outbox.payload IS 'The event envelope, serialized as JSON';
+
+COMMENT ON COLUMN edc_callback_outbox.next_attempt_at IS 'Timestamp of the next delivery attempt, pushed forward while the delivery is claimed';
+
+CREATE INDEX IF NOT EXISTS edc_callback_outbox_next_attempt_at_index
+    ON edc_callback_outbox (next_attempt_at);
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback.CallbackOutboxStoreTestBase;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.SqlCallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresCallbackOutboxStoreTest extends CallbackOutboxStoreTestBase {
+
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private SqlCallbackOutboxStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var typeManager = new JacksonTypeManager();
+        store = new SqlCallbackOutboxStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, queryExecutor);
+
+        var schema = TestUtils.getResourceFileContentAsString("callback-outbox-schema.sql");
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getTable() + " CASCADE");
+    }
+
+    @Override
+    protected CallbackOutboxStore getStore() {
+        return store;
+    }
+}
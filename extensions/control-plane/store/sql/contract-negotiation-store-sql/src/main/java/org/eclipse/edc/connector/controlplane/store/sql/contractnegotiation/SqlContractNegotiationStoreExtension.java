@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
 import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilderProvider;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -66,13 +67,15 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     private SqlLeaseContextBuilderProvider leaseContextBuilderProvider;
     @Inject
     private LeaseStatements leaseStatements;
+    @Inject
+    private PartitionOwnership partitionOwnership;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
 
         var leaseContextBuilder = leaseContextBuilderProvider.createContextBuilder(getStatementImpl().getContractNegotiationTable());
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, dataSourceName, trxContext,
-                typeManager.getMapper(), getStatementImpl(), leaseContextBuilder, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), leaseContextBuilder, queryExecutor, partitionOwnership);
         context.registerService(ContractNegotiationStore.class, sqlStore);
 
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "contract-negotiation-schema.sql");
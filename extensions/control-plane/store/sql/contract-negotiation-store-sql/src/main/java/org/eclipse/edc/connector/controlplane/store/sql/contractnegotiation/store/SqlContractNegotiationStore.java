@@ -29,6 +29,8 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.lease.StatefulEntityRows;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -39,12 +41,18 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
@@ -53,21 +61,31 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
+    private final StatefulEntityRows loadedRows = new StatefulEntityRows();
+    private final PartitionOwnership partitionOwnership;
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, SqlLeaseContextBuilder leaseContext,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, leaseContext, queryExecutor, PartitionOwnership.DISABLED);
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, SqlLeaseContextBuilder leaseContext,
+                                       QueryExecutor queryExecutor, PartitionOwnership partitionOwnership) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseContext = leaseContext;
+        this.partitionOwnership = partitionOwnership;
     }
 
     @Override
     public @Nullable ContractNegotiation findById(String negotiationId) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findInternal(connection, negotiationId);
+                return findInternal(connection, negotiationId, this::mapContractNegotiation);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -76,31 +94,37 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     @Override
     public @NotNull List<ContractNegotiation> nextNotLeased(int max, Criterion... criteria) {
+        var partitionCount = partitionOwnership.partitionCount();
+        var partitions = partitionOwnership.ownedPartitions();
+        if (partitionCount > 0 && partitions.isEmpty()) {
+            return List.of();
+        }
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
-            var statement = statements.createNegotiationNextNotLeaseQuery(querySpec);
+            var statement = partitionCount > 0
+                    ? statements.createNegotiationNextNotLeaseQuery(querySpec, partitionCount, partitions)
+                    : statements.createNegotiationNextNotLeaseQuery(querySpec);
 
-            try (
-                    var connection = getConnection();
-                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
-            ) {
-                return stream.filter(n -> lease(connection, n)).collect(toList());
+            try (var connection = getConnection()) {
+                List<ContractNegotiation> negotiations;
+                try (var stream = queryExecutor.query(connection, false, loaded(this::mapContractNegotiation), statement.getQueryAsString(), statement.getParameters())) {
+                    negotiations = stream.toList();
+                }
+
+                var leased = leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
+                return negotiations.stream().filter(n -> leased.contains(n.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private boolean lease(Connection connection, ContractNegotiation entry) {
-        return leaseContext.withConnection(connection).acquireLease(entry.getId()).succeeded();
-    }
-
     @Override
     public StoreResult<ContractNegotiation> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var entity = findInternal(connection, id);
+                var entity = findInternal(connection, id, loaded(this::mapContractNegotiation));
                 if (entity == null) {
                     return StoreResult.notFound(format("ContractNegotiation %s not found", id));
                 }
@@ -115,9 +139,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     public StoreResult<Void> save(ContractNegotiation negotiation) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-
+                var row = row(negotiation, (column, value) -> toJson(value));
+                var changes = loadedRows.changes(negotiation, row);
                 var contractAgreement = negotiation.getContractAgreement();
-                if (contractAgreement != null) {
+                // the agreement is immutable, it needs to be written only when it gets linked to the negotiation
+                if (contractAgreement != null && (changes == null || changes.containsKey(statements.getContractAgreementIdFkColumn()))) {
                     var sql = statements.getUpsertAgreementTemplate();
 
                     queryExecutor.execute(connection, sql,
@@ -133,28 +159,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     );
                 }
 
-                var stmt = statements.getUpsertNegotiationTemplate();
-
-                queryExecutor.execute(connection, stmt,
-                        negotiation.getId(),
-                        negotiation.getCorrelationId(),
-                        negotiation.getCounterPartyId(),
-                        negotiation.getCounterPartyAddress(),
-                        negotiation.getType().name(),
-                        negotiation.getProtocol(),
-                        negotiation.getState(),
-                        negotiation.getStateCount(),
-                        negotiation.getStateTimestamp(),
-                        negotiation.getErrorDetail(),
-                        contractAgreement == null ? null : contractAgreement.getId(),
-                        toJson(negotiation.getContractOffers()),
-                        toJson(negotiation.getCallbackAddresses()),
-                        toJson(negotiation.getTraceContext()),
-                        negotiation.getCreatedAt(),
-                        negotiation.getUpdatedAt(),
-                        negotiation.isPending(),
-                        toJson(negotiation.getProtocolMessages()),
-                        negotiation.getParticipantContextId());
+                if (changes == null || !update(connection, negotiation.getId(), changes)) {
+                    queryExecutor.execute(connection, statements.getUpsertNegotiationTemplate(), row.values().toArray());
+                    // an archived negotiation that gets saved is back in the working set
+                    queryExecutor.execute(connection, statements.getRemoveFromArchiveTemplate(), negotiation.getId());
+                }
 
                 return leaseContext.withConnection(connection).breakLease(negotiation.getId());
             } catch (SQLException e) {
@@ -205,6 +214,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
                 var stmt = statements.getDeleteTemplate();
                 queryExecutor.execute(connection, stmt, negotiationId);
+                queryExecutor.execute(connection, statements.getDeleteArchivedTemplate(), negotiationId);
 
                 //necessary to delete the row in edc_lease
                 return leaseContext.withConnection(connection).breakLease(negotiationId);
@@ -214,6 +224,17 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public int archive(long updatedBefore, int max) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.execute(connection, statements.getArchiveTemplate(), updatedBefore, max);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
@@ -237,9 +258,70 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public Map<String, Long> countByParticipantContextId(Criterion... criteria) {
+        return transactionContext.execute(() -> {
+            var querySpec = QuerySpec.Builder.newInstance().filter(Arrays.asList(criteria)).limit(Integer.MAX_VALUE).build();
+            var statement = statements.createNegotiationCountQuery(statements.getParticipantContextIdColumn(), querySpec);
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapCount, statement.getQueryAsString(), statement.getParameters())
+            ) {
+                return stream.filter(count -> count.getKey() != null)
+                        .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec, Connection connection) {
         var statement = statements.createNegotiationsQuery(querySpec);
-        return queryExecutor.query(connection, true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters());
+        return queryExecutor.query(connection, true, this::mapContractNegotiation, statement.getQueryAsString(), statement.getParameters());
+    }
+
+    /**
+     * Update only the changed columns of an existing negotiation row.
+     *
+     * @return false if the row does not exist anymore.
+     */
+    private boolean update(Connection connection, String id, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return true;
+        }
+        var args = new ArrayList<>(changes.values());
+        args.add(id);
+        return queryExecutor.execute(connection, statements.getUpdateNegotiationTemplate(changes.keySet()), args.toArray()) > 0;
+    }
+
+    /**
+     * Returns the negotiation column values, in the order of the upsert statement.
+     *
+     * @param json provides the JSON value of a column, given the column name and the object to be serialized.
+     */
+    private Map<String, Object> row(ContractNegotiation negotiation, BiFunction<String, Object, String> json) {
+        var contractAgreement = negotiation.getContractAgreement();
+        var row = new LinkedHashMap<String, Object>();
+        row.put(statements.getIdColumn(), negotiation.getId());
+        row.put(statements.getCorrelationIdColumn(), negotiation.getCorrelationId());
+        row.put(statements.getCounterPartyIdColumn(), negotiation.getCounterPartyId());
+        row.put(statements.getCounterPartyAddressColumn(), negotiation.getCounterPartyAddress());
+        row.put(statements.getTypeColumn(), negotiation.getType().name());
+        row.put(statements.getProtocolColumn(), negotiation.getProtocol());
+        row.put(statements.getStateColumn(), negotiation.getState());
+        row.put(statements.getStateCountColumn(), negotiation.getStateCount());
+        row.put(statements.getStateTimestampColumn(), negotiation.getStateTimestamp());
+        row.put(statements.getErrorDetailColumn(), negotiation.getErrorDetail());
+        row.put(statements.getContractAgreementIdFkColumn(), contractAgreement == null ? null : contractAgreement.getId());
+        row.put(statements.getContractOffersColumn(), json.apply(statements.getContractOffersColumn(), negotiation.getContractOffers()));
+        row.put(statements.getCallbackAddressesColumn(), json.apply(statements.getCallbackAddressesColumn(), negotiation.getCallbackAddresses()));
+        row.put(statements.getTraceContextColumn(), json.apply(statements.getTraceContextColumn(), negotiation.getTraceContext()));
+        row.put(statements.getCreatedAtColumn(), negotiation.getCreatedAt());
+        row.put(statements.getUpdatedAtColumn(), negotiation.getUpdatedAt());
+        row.put(statements.getPendingColumn(), negotiation.isPending());
+        row.put(statements.getProtocolMessagesColumn(), json.apply(statements.getProtocolMessagesColumn(), negotiation.getProtocolMessages()));
+        row.put(statements.getParticipantContextIdColumn(), negotiation.getParticipantContextId());
+        return row;
     }
 
     private ContractAgreement findContractAgreementInternal(Connection connection, String contractId) {
@@ -247,9 +329,13 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return queryExecutor.single(connection, false, this::mapContractAgreement, stmt, contractId);
     }
 
-    private @Nullable ContractNegotiation findInternal(Connection connection, String id) {
+    private @Nullable ContractNegotiation findInternal(Connection connection, String id, ResultSetMapper<ContractNegotiation> mapper) {
         var sql = statements.getFindTemplate();
-        return queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
+        return queryExecutor.single(connection, false, mapper, sql, id);
+    }
+
+    private Map.Entry<String, Long> mapCount(ResultSet resultSet) throws SQLException {
+        return new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(1), resultSet.getLong(2));
     }
 
     private ContractAgreement mapContractAgreement(ResultSet resultSet) throws SQLException {
@@ -259,55 +345,63 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .consumerId(resultSet.getString(statements.getConsumerAgentColumn()))
                 .assetId(resultSet.getString(statements.getAssetIdColumn()))
                 .contractSigningDate(resultSet.getLong(statements.getSigningDateColumn()))
-                .policy(fromJson(resultSet.getString(statements.getPolicyColumn()), Policy.class))
+                .policy(fromJson(resultSet, statements.getPolicyColumn(), Policy.class))
                 .participantContextId(resultSet.getString(statements.getAgreementParticipantContextIdColumn()))
                 .agreementId(resultSet.getString(statements.getContractAgreementContractIdColumn()))
-                .claims(fromJson(resultSet.getString(statements.getClaimsColumn()), getTypeRef()))
+                .claims(fromJson(resultSet, statements.getClaimsColumn(), getTypeRef()))
                 .build();
     }
 
-    private ResultSetMapper<ContractNegotiation> contractNegotiationMapper() {
-        return resultSet -> mapContractNegotiation(resultSet, this::extractContractAgreement);
-    }
-
-    private ResultSetMapper<ContractNegotiation> contractNegotiationWithAgreementMapper(Connection connection) {
-        return resultSet -> mapContractNegotiation(resultSet, rs -> {
-            var agreementId = rs.getString(statements.getContractAgreementIdFkColumn());
-            if (agreementId == null) {
-                return null;
-            } else {
-                return findContractAgreementInternal(connection, agreementId);
-            }
-        });
-    }
-
-    private ContractNegotiation mapContractNegotiation(ResultSet resultSet, ResultSetMapper<ContractAgreement> agreementMapper) throws Exception {
+    /**
+     * Maps a negotiation row, the queries join the agreement table so the agreement gets mapped from the same row.
+     */
+    private ContractNegotiation mapContractNegotiation(ResultSet resultSet) throws Exception {
         return ContractNegotiation.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .counterPartyId(resultSet.getString(statements.getCounterPartyIdColumn()))
                 .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
                 .protocol(resultSet.getString(statements.getProtocolColumn()))
                 .correlationId(resultSet.getString(statements.getCorrelationIdColumn()))
-                .contractAgreement(agreementMapper.mapResultSet(resultSet))
+                .contractAgreement(extractContractAgreement(resultSet))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
-                .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
+                .contractOffers(fromJson(resultSet, statements.getContractOffersColumn(), new TypeReference<>() {
                 }))
-                .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
+                .callbackAddresses(fromJson(resultSet, statements.getCallbackAddressesColumn(), new TypeReference<>() {
                 }))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
-                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), new TypeReference<>() {
+                .traceContext(fromJson(resultSet, statements.getTraceContextColumn(), new TypeReference<>() {
                 }))
                 .type(ContractNegotiation.Type.valueOf(resultSet.getString(statements.getTypeColumn())))
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
-                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .protocolMessages(fromJson(resultSet, statements.getProtocolMessagesColumn(), ProtocolMessages.class))
                 .participantContextId(resultSet.getString(statements.getParticipantContextIdColumn()))
                 .build();
     }
 
+    /**
+     * Wraps a mapper of negotiations that are going to be leased, keeping their rows so that the next save updates only
+     * the changed columns.
+     */
+    private ResultSetMapper<ContractNegotiation> loaded(ResultSetMapper<ContractNegotiation> mapper) {
+        return resultSet -> {
+            var negotiation = mapper.mapResultSet(resultSet);
+            loadedRows.loaded(negotiation, row(negotiation, (column, value) -> readString(resultSet, column)));
+            return negotiation;
+        };
+    }
+
+    private String readString(ResultSet resultSet, String column) {
+        try {
+            return resultSet.getString(column);
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
     private ContractAgreement extractContractAgreement(ResultSet resultSet) throws SQLException {
         return resultSet.getString(statements.getContractAgreementIdFkColumn()) == null ? null : mapContractAgreement(resultSet);
     }
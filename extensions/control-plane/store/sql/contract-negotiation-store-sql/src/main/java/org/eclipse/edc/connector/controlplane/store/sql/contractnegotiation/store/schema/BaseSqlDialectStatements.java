@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates;
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.ContractAgreementMapping;
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.ContractNegotiationMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -22,8 +23,13 @@ import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.equalTo;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
 
@@ -45,7 +51,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getFindTemplate() {
-        return format("SELECT * FROM %s LEFT OUTER JOIN %s ON %s.%s = %s.%s WHERE %s.%s = ?;", getContractNegotiationTable(), getContractAgreementTable(),
+        return format("SELECT * FROM %s LEFT OUTER JOIN %s ON %s.%s = %s.%s WHERE %s.%s = ?;", getNegotiationsIncludingArchive(), getContractAgreementTable(),
                 getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementTable(), getContractAgreementIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
@@ -60,6 +66,28 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .delete(getContractNegotiationTable(), equalTo(getIdColumn()), isNull(getContractAgreementIdFkColumn()));
     }
 
+    @Override
+    public String getDeleteArchivedTemplate() {
+        return executeStatement()
+                .delete(getContractNegotiationArchiveTable(), equalTo(getIdColumn()), isNull(getContractAgreementIdFkColumn()));
+    }
+
+    @Override
+    public String getRemoveFromArchiveTemplate() {
+        return executeStatement().delete(getContractNegotiationArchiveTable(), getIdColumn());
+    }
+
+    @Override
+    public String getArchiveTemplate() {
+        var finalStates = Arrays.stream(ContractNegotiationStates.values())
+                .map(ContractNegotiationStates::code)
+                .filter(ContractNegotiationStates::isFinal)
+                .map(String::valueOf)
+                .collect(joining(", "));
+        return format("WITH archived AS (DELETE FROM %1$s WHERE %2$s IN (SELECT %2$s FROM %1$s WHERE %3$s IN (%4$s) AND %5$s < ? ORDER BY %5$s LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING %7$s) INSERT INTO %6$s (%7$s) SELECT %7$s FROM archived;",
+                getContractNegotiationTable(), getIdColumn(), getStateColumn(), finalStates, getUpdatedAtColumn(), getContractNegotiationArchiveTable(), getNegotiationColumnList());
+    }
+
     @Override
     public String getUpsertNegotiationTemplate() {
         return executeStatement()
@@ -85,6 +113,20 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .upsertInto(getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpdateNegotiationTemplate(Collection<String> columns) {
+        var jsonColumns = Set.of(getContractOffersColumn(), getCallbackAddressesColumn(), getTraceContextColumn(), getProtocolMessagesColumn());
+        var statement = executeStatement();
+        for (var column : columns) {
+            if (jsonColumns.contains(column)) {
+                statement.jsonColumn(column);
+            } else {
+                statement.column(column);
+            }
+        }
+        return statement.update(getContractNegotiationTable(), getIdColumn());
+    }
+
     @Override
     public String getSelectFromAgreementsTemplate() {
         return format("SELECT * FROM %s", getContractAgreementTable());
@@ -112,7 +154,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
-        var selectStmt = getSelectNegotiationsTemplate();
+        var selectStmt = format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getNegotiationsIncludingArchive(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
         return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), operatorTranslator);
     }
 
@@ -123,6 +165,44 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .addWhereClause(getNotLeasedFilter(), clock.millis(), getContractNegotiationTable());
     }
 
+    @Override
+    public SqlQueryStatement createNegotiationCountQuery(String groupByColumn, QuerySpec querySpec) {
+        var selectStmt = format("SELECT %s, COUNT(*) FROM %s", groupByColumn, getContractNegotiationTable());
+        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), operatorTranslator)
+                .groupBy(groupByColumn);
+    }
+
+    @Override
+    public SqlQueryStatement createNegotiationNextNotLeaseQuery(QuerySpec querySpec, int partitionCount, Collection<Integer> partitions) {
+        var idColumn = "%s.%s".formatted(getContractNegotiationTable(), getIdColumn());
+        var parameters = new ArrayList<>();
+        parameters.add(partitionCount);
+        parameters.addAll(partitions);
+        return createNegotiationNextNotLeaseQuery(querySpec)
+                .addWhereClause(leaseStatements.getPartitionFilter(idColumn, partitions.size()), parameters.toArray());
+    }
+
+    /**
+     * Selects from both the working set and the archive, the union is aliased with the negotiation table name so that
+     * the join and where clauses apply to it unchanged.
+     */
+    protected String getNegotiationsIncludingArchive() {
+        return "(SELECT %3$s FROM %1$s UNION ALL SELECT %3$s FROM %2$s) AS %1$s"
+                .formatted(getContractNegotiationTable(), getContractNegotiationArchiveTable(), getNegotiationColumnList());
+    }
+
+    /**
+     * The columns of the negotiation table, listed explicitly where rows are copied between the working set and the
+     * archive, so that the statements do not depend on the column order of the two tables.
+     */
+    protected String getNegotiationColumnList() {
+        return String.join(", ", getIdColumn(), getCorrelationIdColumn(), getCounterPartyIdColumn(),
+                getCounterPartyAddressColumn(), getTypeColumn(), getProtocolColumn(), getStateColumn(), getStateCountColumn(),
+                getStateTimestampColumn(), getErrorDetailColumn(), getContractAgreementIdFkColumn(), getContractOffersColumn(),
+                getCallbackAddressesColumn(), getTraceContextColumn(), getCreatedAtColumn(), getUpdatedAtColumn(),
+                getPendingColumn(), getProtocolMessagesColumn(), getParticipantContextIdColumn());
+    }
+
     protected String getNotLeasedFilter() {
         return format("(l.%s IS NULL OR (? > (%s + %s) AND ? = l.%s))",
                 leaseStatements.getResourceIdColumn(), leaseStatements.getLeasedAtColumn(), leaseStatements.getLeaseDurationColumn(), leaseStatements.getResourceKindColumn());
@@ -19,6 +19,8 @@ import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.statement.SqlStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collection;
+
 /**
  * Provides database-related constants, such as column names, table names and statement templates. Methods to compose
  * statements must be overridden by implementors.
@@ -30,8 +32,34 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getDeleteTemplate();
 
+    String getDeleteArchivedTemplate();
+
+    /**
+     * Statement that removes a negotiation from the archive table, whatever its agreement. The parameter is the
+     * negotiation id.
+     *
+     * @return the delete statement.
+     */
+    String getRemoveFromArchiveTemplate();
+
+    /**
+     * Statement that moves the negotiations in a final state from the negotiation table to the archive table. The
+     * parameters are the updated-at upper bound and the maximum number of moved rows.
+     *
+     * @return the archive statement.
+     */
+    String getArchiveTemplate();
+
     String getUpsertNegotiationTemplate();
 
+    /**
+     * Update statement that sets only the given negotiation columns, the negotiation id is the last parameter.
+     *
+     * @param columns the columns to be updated.
+     * @return the update statement.
+     */
+    String getUpdateNegotiationTemplate(Collection<String> columns);
+
     String getSelectFromAgreementsTemplate();
 
     String getSelectNegotiationsTemplate();
@@ -42,6 +70,10 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "edc_contract_negotiation";
     }
 
+    default String getContractNegotiationArchiveTable() {
+        return "edc_contract_negotiation_archive";
+    }
+
     default String getContractAgreementTable() {
         return "edc_contract_agreement";
     }
@@ -138,5 +170,26 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     SqlQueryStatement createNegotiationNextNotLeaseQuery(QuerySpec querySpec);
 
+    /**
+     * Query that counts the negotiations in the working set that satisfy the query spec, grouped by the given column.
+     * The column value is the first column of the result, the count is the second one.
+     *
+     * @param groupByColumn the column the negotiations are grouped by.
+     * @param querySpec     the query spec.
+     * @return the query statement.
+     */
+    SqlQueryStatement createNegotiationCountQuery(String groupByColumn, QuerySpec querySpec);
+
+    /**
+     * Same as {@link #createNegotiationNextNotLeaseQuery(QuerySpec)}, restricted to the negotiations that belong to the
+     * given partitions.
+     *
+     * @param querySpec      the query spec.
+     * @param partitionCount the total number of partitions.
+     * @param partitions     the partitions.
+     * @return the query statement.
+     */
+    SqlQueryStatement createNegotiationNextNotLeaseQuery(QuerySpec querySpec, int partitionCount, Collection<Integer> partitions);
+
     SqlQueryStatement createAgreementsQuery(QuerySpec querySpec);
 }
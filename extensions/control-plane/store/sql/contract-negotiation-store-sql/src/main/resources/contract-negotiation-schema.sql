@@ -75,4 +75,10 @@ CREATE INDEX IF NOT EXISTS contract_negotiation_agreement_id_index
     ON edc_contract_negotiation (agreement_id);
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
+
+-- Negotiations in a final state are moved here once the retention expired, so they do not weigh on the state machine
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_archive
+(
+    LIKE edc_contract_negotiation INCLUDING ALL
+);
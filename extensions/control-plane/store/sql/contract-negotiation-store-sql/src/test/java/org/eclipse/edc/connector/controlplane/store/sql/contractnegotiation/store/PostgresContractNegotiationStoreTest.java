@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.ContractNegotiationStoreTestBase;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
@@ -26,13 +27,21 @@ import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
 import org.eclipse.edc.sql.lease.spi.LeaseStatements;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.sql.testfixtures.RoundTripCountingQueryExecutor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Map;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createAgreementBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
 
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
@@ -68,10 +77,46 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
         extension.runQuery("DROP TABLE " + statements.getContractNegotiationTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getContractNegotiationArchiveTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getContractAgreementTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + leaseStatements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void save_shouldUpdateOnlyChangedColumns_whenNegotiationHasBeenLeased(PostgresqlStoreSetupExtension extension) {
+        store.save(createNegotiation("id", createAgreementBuilder("agreementId").agreementId("agreementId").build()));
+        var loaded = store.findByIdAndLease("id").getContent();
+        extension.runQuery("UPDATE %s SET %s = '[]' WHERE %s = 'id'".formatted(statements.getContractNegotiationTable(),
+                statements.getCallbackAddressesColumn(), statements.getIdColumn()));
+        extension.runQuery("UPDATE %s SET %s = '{\"key\":\"value\"}' WHERE %s = 'agreementId'".formatted(statements.getContractAgreementTable(),
+                statements.getClaimsColumn(), statements.getContractAgreementIdColumn()));
+
+        loaded.setPending(true);
+        store.save(loaded);
+
+        var saved = store.findById("id");
+        assertThat(saved.isPending()).isTrue();
+        assertThat(saved.getCallbackAddresses()).isEmpty();
+        assertThat(saved.getContractAgreement()).extracting(ContractAgreement::getClaims).isEqualTo(Map.of("key", "value"));
+    }
+
+    @Test
+    void nextNotLeased_shouldLoadAgreementsAndLeasesInConstantRoundTrips(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var typeManager = new JacksonTypeManager();
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+        var roundTrips = new RoundTripCountingQueryExecutor(queryExecutor);
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(extension.getTransactionContext(), CONNECTOR_NAME, statements.getContractNegotiationTable(), leaseStatements, clock, roundTrips);
+        var countingStore = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, leaseContextBuilder, roundTrips);
+        range(0, 100).mapToObj(i -> createNegotiation("id" + i, createAgreementBuilder("agreement" + i).build())).forEach(countingStore::save);
+        roundTrips.reset();
+
+        var leased = countingStore.nextNotLeased(100);
+
+        assertThat(leased).hasSize(100).allSatisfy(negotiation -> assertThat(negotiation.getContractAgreement()).isNotNull());
+        assertThat(roundTrips.roundTrips()).isEqualTo(2);
+    }
+
     @Override
     protected SqlContractNegotiationStore getContractNegotiationStore() {
         return store;
@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
 import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilderProvider;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -64,6 +65,8 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     private SqlLeaseContextBuilderProvider leaseContextBuilderProvider;
     @Inject
     private LeaseStatements leaseStatements;
+    @Inject
+    private PartitionOwnership partitionOwnership;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -71,7 +74,7 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
 
         var leaseContextBuilder = leaseContextBuilderProvider.createContextBuilder(getStatementImpl().getTransferProcessTableName());
         var store = new SqlTransferProcessStore(dataSourceRegistry, dataSourceName, trxContext,
-                typeManager.getMapper(), getStatementImpl(), leaseContextBuilder, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), leaseContextBuilder, queryExecutor, partitionOwnership);
         context.registerService(TransferProcessStore.class, store);
 
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "transfer-process-schema.sql");
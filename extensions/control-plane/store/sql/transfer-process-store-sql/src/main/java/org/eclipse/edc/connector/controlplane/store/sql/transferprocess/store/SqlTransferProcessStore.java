@@ -28,6 +28,9 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.lease.StatefulEntityRows;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
 import org.eclipse.edc.sql.lease.spi.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -38,9 +41,14 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,21 +62,31 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
 public class SqlTransferProcessStore extends AbstractSqlStore implements TransferProcessStore {
     private final TransferProcessStoreStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
+    private final StatefulEntityRows loadedRows = new StatefulEntityRows();
+    private final PartitionOwnership partitionOwnership;
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, SqlLeaseContextBuilder leaseContext,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseContext, queryExecutor, PartitionOwnership.DISABLED);
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, SqlLeaseContextBuilder leaseContext,
+                                   QueryExecutor queryExecutor, PartitionOwnership partitionOwnership) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseContext = leaseContext;
+        this.partitionOwnership = partitionOwnership;
     }
 
     @Override
     public @Nullable TransferProcess findById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findByIdInternal(connection, id);
+                return findByIdInternal(connection, id, this::mapTransferProcess);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -77,13 +95,20 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
     @Override
     public @NotNull List<TransferProcess> nextNotLeased(int max, Criterion... criteria) {
+        var partitionCount = partitionOwnership.partitionCount();
+        var partitions = partitionOwnership.ownedPartitions();
+        if (partitionCount > 0 && partitions.isEmpty()) {
+            return List.of();
+        }
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
-            var statement = statements.createNextNotLeaseQuery(querySpec);
+            var statement = partitionCount > 0
+                    ? statements.createNextNotLeaseQuery(querySpec, partitionCount, partitions)
+                    : statements.createNextNotLeaseQuery(querySpec);
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, this::mapLoadedTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 return stream.filter(tp -> lease(connection, tp)).collect(Collectors.toList());
             } catch (SQLException e) {
@@ -100,7 +125,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public StoreResult<TransferProcess> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var entity = findByIdInternal(connection, id);
+                var entity = findByIdInternal(connection, id, this::mapLoadedTransferProcess);
                 if (entity == null) {
                     return StoreResult.notFound(format("TransferProcess %s not found", id));
                 }
@@ -117,34 +142,13 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!");
         return transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var sql = statements.getUpsertStatement();
-                queryExecutor.execute(conn, sql, entity.getId(),
-                        entity.getState(),
-                        entity.getStateCount(),
-                        entity.getStateTimestamp(),
-                        entity.getCreatedAt(),
-                        entity.getUpdatedAt(),
-                        toJson(entity.getTraceContext()),
-                        entity.getErrorDetail(),
-                        toJson(entity.getContentDataAddress()),
-                        entity.getType().toString(),
-                        toJson(entity.getPrivateProperties()),
-                        toJson(entity.getCallbackAddresses()),
-                        entity.isPending(),
-                        entity.getTransferType(),
-                        toJson(entity.getProtocolMessages()),
-                        entity.getDataPlaneId(),
-                        entity.getCorrelationId(),
-                        entity.getCounterPartyAddress(),
-                        entity.getProtocol(),
-                        entity.getAssetId(),
-                        entity.getContractId(),
-                        toJson(entity.getDataDestination()),
-                        entity.getParticipantContextId(),
-                        toJson(entity.getDataplaneMetadata()),
-                        entity.getDataAddressAlias(),
-                        toJson(entity.getClaims()),
-                        entity.isDataAddressOwner());
+                var row = row(entity, (column, value) -> toJson(value));
+                var changes = loadedRows.changes(entity, row);
+                if (changes == null || !update(conn, entity.getId(), changes)) {
+                    queryExecutor.execute(conn, statements.getUpsertStatement(), row.values().toArray());
+                    // an archived transfer process that gets saved is back in the working set, whatever its state
+                    queryExecutor.execute(conn, statements.getDeleteArchivedTransferProcessTemplate(), entity.getId());
+                }
 
                 return leaseContext.withConnection(conn).breakLease(entity.getId());
             } catch (SQLException e) {
@@ -188,6 +192,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
                     var stmt = statements.getDeleteTransferProcessTemplate();
                     queryExecutor.execute(conn, stmt, processId);
+                    queryExecutor.execute(conn, statements.getDeleteArchivedTransferProcessTemplate(), processId);
 
                     //necessary to delete the row in edc_lease
                     return leaseContext.withConnection(conn).breakLease(processId);
@@ -199,6 +204,17 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public int archive(long updatedBefore, int max) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.execute(connection, statements.getArchiveStatement(), updatedBefore, max);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public Stream<TransferProcess> findAll(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
@@ -210,21 +226,106 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public Map<String, Long> countByDataPlaneId(Criterion... criteria) {
+        return countBy(statements.getDataPlaneIdColumn(), criteria);
+    }
+
+    @Override
+    public Map<String, Long> countByParticipantContextId(Criterion... criteria) {
+        return countBy(statements.getParticipantContextIdColumn(), criteria);
+    }
+
+    private Map<String, Long> countBy(String column, Criterion... criteria) {
+        return transactionContext.execute(() -> {
+            var querySpec = QuerySpec.Builder.newInstance().filter(Arrays.asList(criteria)).limit(Integer.MAX_VALUE).build();
+            var statement = statements.createCountQuery(column, querySpec);
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapCount, statement.getQueryAsString(), statement.getParameters())
+            ) {
+                return stream.filter(count -> count.getKey() != null)
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private Map.Entry<String, Long> mapCount(ResultSet resultSet) throws SQLException {
+        return new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(1), resultSet.getLong(2));
+    }
+
+    /**
+     * Update only the changed columns of an existing row.
+     *
+     * @return false if the row does not exist anymore.
+     */
+    private boolean update(Connection connection, String id, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return true;
+        }
+        var args = new ArrayList<>(changes.values());
+        args.add(id);
+        return queryExecutor.execute(connection, statements.getUpdateStatement(changes.keySet()), args.toArray()) > 0;
+    }
+
+    /**
+     * Returns the column values of the entity, in the order of the upsert statement.
+     *
+     * @param json provides the JSON value of a column, given the column name and the object to be serialized.
+     */
+    private Map<String, Object> row(TransferProcess entity, BiFunction<String, Object, String> json) {
+        var row = new LinkedHashMap<String, Object>();
+        row.put(statements.getIdColumn(), entity.getId());
+        row.put(statements.getStateColumn(), entity.getState());
+        row.put(statements.getStateCountColumn(), entity.getStateCount());
+        row.put(statements.getStateTimestampColumn(), entity.getStateTimestamp());
+        row.put(statements.getCreatedAtColumn(), entity.getCreatedAt());
+        row.put(statements.getUpdatedAtColumn(), entity.getUpdatedAt());
+        row.put(statements.getTraceContextColumn(), json.apply(statements.getTraceContextColumn(), entity.getTraceContext()));
+        row.put(statements.getErrorDetailColumn(), entity.getErrorDetail());
+        row.put(statements.getContentDataAddressColumn(), json.apply(statements.getContentDataAddressColumn(), entity.getContentDataAddress()));
+        row.put(statements.getTypeColumn(), entity.getType().toString());
+        row.put(statements.getPrivatePropertiesColumn(), json.apply(statements.getPrivatePropertiesColumn(), entity.getPrivateProperties()));
+        row.put(statements.getCallbackAddressesColumn(), json.apply(statements.getCallbackAddressesColumn(), entity.getCallbackAddresses()));
+        row.put(statements.getPendingColumn(), entity.isPending());
+        row.put(statements.getTransferTypeColumn(), entity.getTransferType());
+        row.put(statements.getProtocolMessagesColumn(), json.apply(statements.getProtocolMessagesColumn(), entity.getProtocolMessages()));
+        row.put(statements.getDataPlaneIdColumn(), entity.getDataPlaneId());
+        row.put(statements.getCorrelationIdColumn(), entity.getCorrelationId());
+        row.put(statements.getCounterPartyAddressColumn(), entity.getCounterPartyAddress());
+        row.put(statements.getProtocolColumn(), entity.getProtocol());
+        row.put(statements.getAssetIdColumn(), entity.getAssetId());
+        row.put(statements.getContractIdColumn(), entity.getContractId());
+        row.put(statements.getDataDestinationColumn(), json.apply(statements.getDataDestinationColumn(), entity.getDataDestination()));
+        row.put(statements.getParticipantContextIdColumn(), entity.getParticipantContextId());
+        row.put(statements.getDataplaneMetadataColumn(), json.apply(statements.getDataplaneMetadataColumn(), entity.getDataplaneMetadata()));
+        row.put(statements.getDataAddressAliasColumn(), entity.getDataAddressAlias());
+        row.put(statements.getClaimsColumn(), json.apply(statements.getClaimsColumn(), entity.getClaims()));
+        row.put(statements.getDataAddressOwnerColumn(), entity.isDataAddressOwner());
+        return row;
+    }
+
     private QuerySpec correlationIdQuerySpec(String correlationId) {
         var criterion = criterion("correlationId", "=", correlationId);
         return QuerySpec.Builder.newInstance().filter(criterion).build();
     }
 
-    private @Nullable TransferProcess findByIdInternal(Connection conn, String id) {
+    private @Nullable TransferProcess findByIdInternal(Connection conn, String id, ResultSetMapper<TransferProcess> mapper) {
         return transactionContext.execute(() -> {
             var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
-            return single(executeQuery(conn, querySpec).collect(toList()));
+            return single(executeQuery(conn, querySpec, mapper).collect(toList()));
         });
     }
 
     private Stream<TransferProcess> executeQuery(Connection connection, QuerySpec querySpec) {
+        return executeQuery(connection, querySpec, this::mapTransferProcess);
+    }
+
+    private Stream<TransferProcess> executeQuery(Connection connection, QuerySpec querySpec, ResultSetMapper<TransferProcess> mapper) {
         var statement = statements.createQuery(querySpec);
-        return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
+        return queryExecutor.query(connection, true, mapper, statement.getQueryAsString(), statement.getParameters());
     }
 
     /**
@@ -248,28 +349,46 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
-                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
+                .traceContext(fromJson(resultSet, statements.getTraceContextColumn(), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .correlationId(resultSet.getString(statements.getCorrelationIdColumn()))
                 .assetId(resultSet.getString(statements.getAssetIdColumn()))
                 .protocol(resultSet.getString(statements.getProtocolColumn()))
-                .dataDestination(fromJson(resultSet.getString(statements.getDataDestinationColumn()), DataAddress.class))
+                .dataDestination(fromJson(resultSet, statements.getDataDestinationColumn(), DataAddress.class))
                 .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
-                .contentDataAddress(fromJson(resultSet.getString(statements.getContentDataAddressColumn()), DataAddress.class))
-                .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
+                .contentDataAddress(fromJson(resultSet, statements.getContentDataAddressColumn(), DataAddress.class))
+                .callbackAddresses(fromJson(resultSet, statements.getCallbackAddressesColumn(), new TypeReference<>() {
                 }))
-                .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
+                .privateProperties(fromJson(resultSet, statements.getPrivatePropertiesColumn(), getTypeRef()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
-                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .protocolMessages(fromJson(resultSet, statements.getProtocolMessagesColumn(), ProtocolMessages.class))
                 .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
                 .participantContextId(resultSet.getString(statements.getParticipantContextIdColumn()))
-                .dataplaneMetadata(fromJson(resultSet.getString(statements.getDataplaneMetadataColumn()), DataplaneMetadata.class))
+                .dataplaneMetadata(fromJson(resultSet, statements.getDataplaneMetadataColumn(), DataplaneMetadata.class))
                 .dataAddressAlias(resultSet.getString(statements.getDataAddressAliasColumn()))
-                .claims(fromJson(resultSet.getString(statements.getClaimsColumn()), getTypeRef()))
+                .claims(fromJson(resultSet, statements.getClaimsColumn(), getTypeRef()))
                 .dataAddressOwner(resultSet.getBoolean(statements.getDataAddressOwnerColumn()))
                 .build();
     }
 
+    /**
+     * Maps a transfer process that is going to be leased, keeping its row so that the next save updates only the
+     * changed columns.
+     */
+    private TransferProcess mapLoadedTransferProcess(ResultSet resultSet) throws SQLException {
+        var entity = mapTransferProcess(resultSet);
+        loadedRows.loaded(entity, row(entity, (column, value) -> readString(resultSet, column)));
+        return entity;
+    }
+
+    private String readString(ResultSet resultSet, String column) {
+        try {
+            return resultSet.getString(column);
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
 }
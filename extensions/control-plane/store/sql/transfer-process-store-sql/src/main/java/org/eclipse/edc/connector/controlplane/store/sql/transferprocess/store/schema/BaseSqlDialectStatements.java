@@ -16,14 +16,20 @@
 package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema;
 
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.lease.spi.LeaseStatements;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Sql generic variants and implementations of the statements required for the TransferProcessStore
@@ -73,11 +79,43 @@ public class BaseSqlDialectStatements implements TransferProcessStoreStatements
                 .upsertInto(getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getUpdateStatement(Collection<String> columns) {
+        var jsonColumns = Set.of(getTraceContextColumn(), getContentDataAddressColumn(), getPrivatePropertiesColumn(),
+                getCallbackAddressesColumn(), getProtocolMessagesColumn(), getDataDestinationColumn(),
+                getDataplaneMetadataColumn(), getClaimsColumn());
+        var statement = executeStatement();
+        for (var column : columns) {
+            if (jsonColumns.contains(column)) {
+                statement.jsonColumn(column);
+            } else {
+                statement.column(column);
+            }
+        }
+        return statement.update(getTransferProcessTableName(), getIdColumn());
+    }
+
     @Override
     public String getDeleteTransferProcessTemplate() {
         return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteArchivedTransferProcessTemplate() {
+        return executeStatement().delete(getTransferProcessArchiveTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getArchiveStatement() {
+        var finalStates = Arrays.stream(TransferProcessStates.values())
+                .map(TransferProcessStates::code)
+                .filter(TransferProcessStates::isFinal)
+                .map(String::valueOf)
+                .collect(joining(", "));
+        return format("WITH archived AS (DELETE FROM %1$s WHERE %2$s IN (SELECT %2$s FROM %1$s WHERE %3$s IN (%4$s) AND %5$s < ? ORDER BY %5$s LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING %7$s) INSERT INTO %6$s (%7$s) SELECT %7$s FROM archived;",
+                getTransferProcessTableName(), getIdColumn(), getStateColumn(), finalStates, getUpdatedAtColumn(), getTransferProcessArchiveTableName(), getColumnList());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getTransferProcessTableName());
@@ -85,7 +123,7 @@ public class BaseSqlDialectStatements implements TransferProcessStoreStatements
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
+        return new SqlQueryStatement(getSelectIncludingArchiveTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
     }
 
     @Override
@@ -95,6 +133,46 @@ public class BaseSqlDialectStatements implements TransferProcessStoreStatements
                 .addWhereClause(getNotLeasedFilter(), clock.millis(), getTransferProcessTableName());
     }
 
+    @Override
+    public SqlQueryStatement createCountQuery(String groupByColumn, QuerySpec querySpec) {
+        var selectTemplate = "SELECT %s, COUNT(*) FROM %s".formatted(groupByColumn, getTransferProcessTableName());
+        return new SqlQueryStatement(selectTemplate, querySpec, new TransferProcessMapping(this), operatorTranslator)
+                .groupBy(groupByColumn);
+    }
+
+    @Override
+    public SqlQueryStatement createNextNotLeaseQuery(QuerySpec querySpec, int partitionCount, Collection<Integer> partitions) {
+        var idColumn = "%s.%s".formatted(getTransferProcessTableName(), getIdColumn());
+        var parameters = new ArrayList<>();
+        parameters.add(partitionCount);
+        parameters.addAll(partitions);
+        return createNextNotLeaseQuery(querySpec)
+                .addWhereClause(leaseStatements.getPartitionFilter(idColumn, partitions.size()), parameters.toArray());
+    }
+
+    /**
+     * Selects from both the working set and the archive, the union is aliased with the transfer process table name so
+     * that the where clauses apply to it unchanged.
+     */
+    protected String getSelectIncludingArchiveTemplate() {
+        return "SELECT * FROM (SELECT %3$s FROM %1$s UNION ALL SELECT %3$s FROM %2$s) AS %1$s"
+                .formatted(getTransferProcessTableName(), getTransferProcessArchiveTableName(), getColumnList());
+    }
+
+    /**
+     * The columns of the transfer process table, listed explicitly where rows are copied between the working set and
+     * the archive, so that the statements do not depend on the column order of the two tables.
+     */
+    protected String getColumnList() {
+        return String.join(", ", getIdColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
+                getCreatedAtColumn(), getUpdatedAtColumn(), getTraceContextColumn(), getErrorDetailColumn(),
+                getContentDataAddressColumn(), getTypeColumn(), getPrivatePropertiesColumn(), getCallbackAddressesColumn(),
+                getPendingColumn(), getTransferTypeColumn(), getProtocolMessagesColumn(), getDataPlaneIdColumn(),
+                getCorrelationIdColumn(), getCounterPartyAddressColumn(), getProtocolColumn(), getAssetIdColumn(),
+                getContractIdColumn(), getDataDestinationColumn(), getParticipantContextIdColumn(),
+                getDataplaneMetadataColumn(), getDataAddressAliasColumn(), getClaimsColumn(), getDataAddressOwnerColumn());
+    }
+
     private String getNotLeasedFilter() {
         return format("(l.%s IS NULL OR (? > (%s + %s) AND ? = l.%s))",
                 leaseStatements.getResourceIdColumn(), leaseStatements.getLeasedAtColumn(), leaseStatements.getLeaseDurationColumn(), leaseStatements.getResourceKindColumn());
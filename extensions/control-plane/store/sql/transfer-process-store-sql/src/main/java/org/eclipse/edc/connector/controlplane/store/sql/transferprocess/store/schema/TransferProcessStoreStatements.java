@@ -21,6 +21,8 @@ import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.statement.SqlStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collection;
+
 /**
  * Statement templates and SQL table+column names required for the TransferProcessStore
  */
@@ -29,14 +31,36 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
 
     String getUpsertStatement();
 
+    /**
+     * Update statement that sets only the given columns, the transfer process id is the last parameter.
+     *
+     * @param columns the columns to be updated.
+     * @return the update statement.
+     */
+    String getUpdateStatement(Collection<String> columns);
+
     String getDeleteTransferProcessTemplate();
 
+    String getDeleteArchivedTransferProcessTemplate();
+
+    /**
+     * Statement that moves the transfer processes in a final state from the transfer process table to the archive
+     * table. The parameters are the updated-at upper bound and the maximum number of moved rows.
+     *
+     * @return the archive statement.
+     */
+    String getArchiveStatement();
+
     String getSelectTemplate();
 
     default String getTransferProcessTableName() {
         return "edc_transfer_process";
     }
 
+    default String getTransferProcessArchiveTableName() {
+        return "edc_transfer_process_archive";
+    }
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -120,4 +144,25 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
     SqlQueryStatement createQuery(QuerySpec querySpec);
 
     SqlQueryStatement createNextNotLeaseQuery(QuerySpec querySpec);
+
+    /**
+     * Query that counts the transfer processes in the working set that satisfy the query spec, grouped by the given
+     * column. The column value is the first column of the result, the count is the second one.
+     *
+     * @param groupByColumn the column the transfer processes are grouped by.
+     * @param querySpec     the query spec.
+     * @return the query statement.
+     */
+    SqlQueryStatement createCountQuery(String groupByColumn, QuerySpec querySpec);
+
+    /**
+     * Same as {@link #createNextNotLeaseQuery(QuerySpec)}, restricted to the transfer processes that belong to the given
+     * partitions.
+     *
+     * @param querySpec      the query spec.
+     * @param partitionCount the total number of partitions.
+     * @param partitions     the partitions.
+     * @return the query statement.
+     */
+    SqlQueryStatement createNextNotLeaseQuery(QuerySpec querySpec, int partitionCount, Collection<Integer> partitions);
 }
@@ -51,3 +51,9 @@ COMMENT ON COLUMN edc_transfer_process.dataplane_metadata IS 'Dataplane Metadata
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
 CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
+
+-- Transfer processes in a final state are moved here once the retention expired, so they do not weigh on the state machine
+CREATE TABLE IF NOT EXISTS edc_transfer_process_archive
+(
+    LIKE edc_transfer_process INCLUDING ALL
+);
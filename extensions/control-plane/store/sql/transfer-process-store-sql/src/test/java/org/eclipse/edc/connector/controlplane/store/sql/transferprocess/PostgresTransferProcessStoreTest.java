@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
@@ -25,14 +26,23 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
 import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.lease.spi.PartitionOwnership;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.REQUESTING;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -40,20 +50,16 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final LeaseStatements leaseStatements = new BaseSqlLeaseStatements();
     private final PostgresDialectStatements statements = new PostgresDialectStatements(leaseStatements, Clock.systemUTC());
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
-        var typeManager = new JacksonTypeManager();
         typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
 
         leaseUtil = new LeaseUtil(extension.getTransactionContext(), extension::getConnection, statements.getTransferProcessTableName(), leaseStatements, clock);
-        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(extension.getTransactionContext(), CONNECTOR_NAME, statements.getTransferProcessTableName(), leaseStatements, clock, queryExecutor);
-
-        store = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
-                extension.getTransactionContext(), typeManager.getMapper(), statements, leaseContextBuilder,
-                queryExecutor);
+        store = createStore(extension, queryExecutor, PartitionOwnership.DISABLED);
 
         var schema = TestUtils.getResourceFileContentAsString("transfer-process-schema.sql");
         extension.runQuery(schema);
@@ -62,9 +68,71 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
         extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getTransferProcessArchiveTableName() + " CASCADE");
         extension.runQuery("DROP TABLE " + leaseStatements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void save_shouldUpdateOnlyChangedColumns_whenEntityHasBeenLeased(PostgresqlStoreSetupExtension extension) {
+        store.save(createTransferProcess("id"));
+        var loaded = store.findByIdAndLease("id").getContent();
+        updatePrivateProperties(extension, "id", "{\"key\":\"value\"}");
+
+        loaded.transitionRequesting();
+        store.save(loaded);
+
+        var saved = store.findById("id");
+        assertThat(saved.getState()).isEqualTo(REQUESTING.code());
+        assertThat(saved.getPrivateProperties()).containsEntry("key", "value");
+    }
+
+    @Test
+    void save_shouldUpdateWholeRow_whenEntityHasNotBeenLeased(PostgresqlStoreSetupExtension extension) {
+        var process = createTransferProcess("id");
+        store.save(process);
+        updatePrivateProperties(extension, "id", "{\"key\":\"value\"}");
+
+        process.transitionRequesting();
+        store.save(process);
+
+        var saved = store.findById("id");
+        assertThat(saved.getState()).isEqualTo(REQUESTING.code());
+        assertThat(saved.getPrivateProperties()).isEmpty();
+    }
+
+    @Test
+    void save_shouldInsert_whenLeasedEntityHasBeenDeleted(PostgresqlStoreSetupExtension extension) {
+        store.save(createTransferProcess("id"));
+        var loaded = store.findByIdAndLease("id").getContent();
+        extension.runQuery("DELETE FROM %s WHERE %s = 'id'".formatted(statements.getTransferProcessTableName(), statements.getIdColumn()));
+
+        loaded.transitionRequesting();
+        store.save(loaded);
+
+        assertThat(store.findById("id")).isNotNull().extracting(TransferProcess::getState).isEqualTo(REQUESTING.code());
+    }
+
+    @Test
+    void nextNotLeased_shouldReturnOnlyOwnedPartitions(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        range(0, 10).forEach(i -> store.save(createTransferProcess("id" + i)));
+        var firstHalf = createStore(extension, queryExecutor, partitions(2, 0));
+        var secondHalf = createStore(extension, queryExecutor, partitions(2, 1));
+
+        var first = firstHalf.nextNotLeased(10).stream().map(TransferProcess::getId).toList();
+        var second = secondHalf.nextNotLeased(10).stream().map(TransferProcess::getId).toList();
+
+        assertThat(first).doesNotContainAnyElementsOf(second);
+        assertThat(Stream.concat(first.stream(), second.stream())).hasSize(10);
+    }
+
+    @Test
+    void nextNotLeased_shouldReturnEmpty_whenNoPartitionIsOwned(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        store.save(createTransferProcess("id"));
+        var partitionedStore = createStore(extension, queryExecutor, partitions(2));
+
+        assertThat(partitionedStore.nextNotLeased(10)).isEmpty();
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
@@ -80,4 +148,30 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         return leaseUtil.isLeased(negotiationId, owner);
     }
 
+    private SqlTransferProcessStore createStore(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor, PartitionOwnership partitionOwnership) {
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(extension.getTransactionContext(), CONNECTOR_NAME, statements.getTransferProcessTableName(), leaseStatements, clock, queryExecutor);
+        return new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, leaseContextBuilder,
+                queryExecutor, partitionOwnership);
+    }
+
+    private PartitionOwnership partitions(int count, Integer... owned) {
+        return new PartitionOwnership() {
+            @Override
+            public int partitionCount() {
+                return count;
+            }
+
+            @Override
+            public Set<Integer> ownedPartitions() {
+                return Set.of(owned);
+            }
+        };
+    }
+
+    private void updatePrivateProperties(PostgresqlStoreSetupExtension extension, String id, String privateProperties) {
+        extension.runQuery("UPDATE %s SET %s = '%s' WHERE %s = '%s'".formatted(statements.getTransferProcessTableName(),
+                statements.getPrivatePropertiesColumn(), privateProperties, statements.getIdColumn(), id));
+    }
+
 }
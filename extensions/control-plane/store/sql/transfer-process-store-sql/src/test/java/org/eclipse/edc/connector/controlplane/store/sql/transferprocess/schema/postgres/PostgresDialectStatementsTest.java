@@ -22,6 +22,7 @@ import org.eclipse.edc.sql.lease.spi.LeaseStatements;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -43,6 +44,40 @@ class PostgresDialectStatementsTest {
         assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::json");
     }
 
+    @Test
+    void getUpdateStatement_shouldSetOnlyTheGivenColumns() {
+        var statement = statements.getUpdateStatement(List.of(statements.getStateColumn(), statements.getPrivatePropertiesColumn()));
+
+        assertThat(statement).isEqualTo("UPDATE edc_transfer_process SET state = ?, private_properties = ?::json WHERE transferprocess_id = ?;");
+    }
+
+    @Test
+    void getArchiveStatement_shouldMoveOnlyFinalStates() {
+        assertThat(statements.getArchiveStatement())
+                .contains("DELETE FROM edc_transfer_process WHERE")
+                .contains("state IN (800, 850, 1000)")
+                .contains("INSERT INTO edc_transfer_process_archive (transferprocess_id, state, ")
+                .doesNotContain("*");
+    }
+
+    @Test
+    void createQuery_shouldSelectTheSameColumnsFromWorkingSetAndArchive() {
+        var q = query(criterion("id", "=", "foobar"));
+
+        assertThat(statements.createQuery(q).getQueryAsString())
+                .contains("(SELECT transferprocess_id, state, ")
+                .contains("UNION ALL SELECT transferprocess_id, state, ")
+                .doesNotContain("SELECT * FROM edc_transfer_process");
+    }
+
+    @Test
+    void createQuery_shouldIncludeArchive_whileNextNotLeasedShouldNot() {
+        var q = query(criterion("id", "=", "foobar"));
+
+        assertThat(statements.createQuery(q).getQueryAsString()).contains("edc_transfer_process_archive");
+        assertThat(statements.createNextNotLeaseQuery(q).getQueryAsString()).doesNotContain("edc_transfer_process_archive");
+    }
+
     private QuerySpec query(Criterion criterion) {
         return QuerySpec.Builder.newInstance()
                 .filter(criterion)
@@ -17,14 +17,22 @@ package org.eclipse.edc.catalog.api.query;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.catalog.spi.QueryService;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -39,12 +47,7 @@ public abstract class BaseCatalogsApiController {
     }
 
     public JsonArray requestCatalogs(JsonObject querySpecJson, boolean flatten) {
-        var querySpec = querySpecJson == null
-                ? QuerySpec.none()
-                : transformerRegistry.transform(querySpecJson, QuerySpec.class)
-                        .orElseThrow(InvalidRequestException::new);
-
-        return queryService.getCatalog(querySpec)
+        return queryService.getCatalog(toQuerySpec(querySpecJson))
                 .orElseThrow(exceptionMapper(Catalog.class))
                 .stream()
                 .map(catalog -> flatten ? FederatedCatalogUtil.flatten(catalog) : catalog)
@@ -53,4 +56,49 @@ public abstract class BaseCatalogsApiController {
                 .map(AbstractResult::getContent)
                 .collect(toJsonArray());
     }
+
+    /**
+     * Queries the datasets of the cached catalogs, every returned catalog holds only the matching datasets.
+     */
+    public JsonArray requestDatasets(JsonObject querySpecJson) {
+        return queryService.getDatasets(toQuerySpec(querySpecJson))
+                .orElseThrow(exceptionMapper(Catalog.class))
+                .stream()
+                .map(catalog -> transformerRegistry.transform(catalog, JsonObject.class))
+                .filter(Result::succeeded)
+                .map(AbstractResult::getContent)
+                .collect(toJsonArray());
+    }
+
+    /**
+     * Searches the datasets by keywords, see {@link QueryService#search(CatalogSearchQuery)}.
+     *
+     * @param text    the keywords.
+     * @param filters the facet filters, in the {@code facet:value} form.
+     * @param offset  the number of hits to skip.
+     * @param limit   the maximum number of hits to return.
+     */
+    public JsonObject searchDatasets(String text, List<String> filters, int offset, int limit) {
+        var facetFilters = new HashMap<String, Set<String>>();
+        for (var filter : filters) {
+            var separator = filter.indexOf(':');
+            if (separator <= 0 || separator == filter.length() - 1) {
+                throw new InvalidRequestException("Invalid filter '%s', expected the 'facet:value' form".formatted(filter));
+            }
+            facetFilters.computeIfAbsent(filter.substring(0, separator), k -> new HashSet<>()).add(filter.substring(separator + 1));
+        }
+
+        var result = queryService.search(new CatalogSearchQuery(text, facetFilters, offset, limit))
+                .orElseThrow(exceptionMapper(CatalogSearchResult.class));
+
+        return transformerRegistry.transform(result, JsonObject.class)
+                .orElseThrow(failure -> new EdcException(failure.getFailureDetail()));
+    }
+
+    private QuerySpec toQuerySpec(JsonObject querySpecJson) {
+        return querySpecJson == null
+                ? QuerySpec.none()
+                : transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                        .orElseThrow(InvalidRequestException::new);
+    }
 }
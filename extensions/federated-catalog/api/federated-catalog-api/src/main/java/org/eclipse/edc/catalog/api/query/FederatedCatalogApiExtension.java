@@ -15,6 +15,7 @@
 package org.eclipse.edc.catalog.api.query;
 
 import jakarta.json.Json;
+import org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer;
 import org.eclipse.edc.catalog.api.query.v4.CatalogsApiV4Controller;
 import org.eclipse.edc.catalog.spi.QueryService;
 import org.eclipse.edc.jsonld.spi.JsonLd;
@@ -77,6 +78,7 @@ public class FederatedCatalogApiExtension implements ServiceExtension {
         managementApiTransformerRegistry.register(new JsonObjectFromDatasetTransformer(jsonFactory, typeManager, JSON_LD));
         managementApiTransformerRegistry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
         managementApiTransformerRegistry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+        managementApiTransformerRegistry.register(new JsonObjectFromCatalogSearchResultTransformer(jsonFactory));
 
         jsonLd.registerContext(DSPACE_CONTEXT_2025_1, FEDERATED_CATALOG_SCOPE_V4);
         jsonLd.registerContext(EDC_DSPACE_CONTEXT, FEDERATED_CATALOG_SCOPE_V4);
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.api.query.transform;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Converts from a {@link CatalogSearchResult} to a {@link JsonObject} in JSON-LD expanded form.
+ */
+public class JsonObjectFromCatalogSearchResultTransformer extends AbstractJsonLdTransformer<CatalogSearchResult, JsonObject> {
+
+    public static final String CATALOG_SEARCH_RESULT_TYPE = EDC_NAMESPACE + "CatalogSearchResult";
+    public static final String CATALOG_SEARCH_HIT_TYPE = EDC_NAMESPACE + "CatalogSearchHit";
+    public static final String CATALOG_SEARCH_RESULT_TOTAL = EDC_NAMESPACE + "total";
+    public static final String CATALOG_SEARCH_RESULT_HITS = EDC_NAMESPACE + "hits";
+    public static final String CATALOG_SEARCH_RESULT_FACETS = EDC_NAMESPACE + "facets";
+    public static final String CATALOG_SEARCH_HIT_CATALOG_ID = EDC_NAMESPACE + "catalogId";
+    public static final String CATALOG_SEARCH_HIT_PARTICIPANT_ID = EDC_NAMESPACE + "participantId";
+    public static final String CATALOG_SEARCH_HIT_SCORE = EDC_NAMESPACE + "score";
+    public static final String CATALOG_SEARCH_HIT_DATASET_ID = EDC_NAMESPACE + "datasetId";
+    public static final String CATALOG_SEARCH_HIT_DATASET = EDC_NAMESPACE + "dataset";
+    public static final String FACET_NAME = EDC_NAMESPACE + "name";
+    public static final String FACET_VALUES = EDC_NAMESPACE + "values";
+    public static final String FACET_VALUE = EDC_NAMESPACE + "value";
+    public static final String FACET_COUNT = EDC_NAMESPACE + "count";
+
+    private final JsonBuilderFactory jsonFactory;
+
+    public JsonObjectFromCatalogSearchResultTransformer(JsonBuilderFactory jsonFactory) {
+        super(CatalogSearchResult.class, JsonObject.class);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public @Nullable JsonObject transform(@NotNull CatalogSearchResult result, @NotNull TransformerContext context) {
+        var hits = result.hits().stream()
+                .map(hit -> transformHit(hit, context))
+                .collect(jsonFactory::createArrayBuilder, JsonArrayBuilder::add, JsonArrayBuilder::add);
+
+        var facets = jsonFactory.createArrayBuilder();
+        result.facets().forEach((name, counts) -> facets.add(jsonFactory.createObjectBuilder()
+                .add(FACET_NAME, name)
+                .add(FACET_VALUES, transformCounts(counts))));
+
+        return jsonFactory.createObjectBuilder()
+                .add(TYPE, CATALOG_SEARCH_RESULT_TYPE)
+                .add(CATALOG_SEARCH_RESULT_TOTAL, result.total())
+                .add(CATALOG_SEARCH_RESULT_HITS, hits)
+                .add(CATALOG_SEARCH_RESULT_FACETS, facets)
+                .build();
+    }
+
+    private JsonObject transformHit(CatalogSearchHit hit, TransformerContext context) {
+        var builder = jsonFactory.createObjectBuilder()
+                .add(TYPE, CATALOG_SEARCH_HIT_TYPE)
+                .add(CATALOG_SEARCH_HIT_CATALOG_ID, hit.catalogId())
+                .add(CATALOG_SEARCH_HIT_SCORE, hit.score());
+        if (hit.participantId() != null) {
+            builder.add(CATALOG_SEARCH_HIT_PARTICIPANT_ID, hit.participantId());
+        }
+        if (hit.datasetId() != null) {
+            builder.add(CATALOG_SEARCH_HIT_DATASET_ID, hit.datasetId());
+        }
+        if (hit.dataset() != null) {
+            var dataset = context.transform(hit.dataset(), JsonObject.class);
+            if (dataset != null) {
+                builder.add(CATALOG_SEARCH_HIT_DATASET, dataset);
+            }
+        }
+        return builder.build();
+    }
+
+    private JsonArrayBuilder transformCounts(Map<String, Long> counts) {
+        var values = jsonFactory.createArrayBuilder();
+        counts.forEach((value, count) -> values.add(jsonFactory.createObjectBuilder()
+                .add(FACET_VALUE, value)
+                .add(FACET_COUNT, count)));
+        return values;
+    }
+}
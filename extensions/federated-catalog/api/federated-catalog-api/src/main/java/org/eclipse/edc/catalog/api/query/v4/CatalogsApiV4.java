@@ -28,6 +28,8 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.api.management.schema.ManagementApiJsonSchema;
 
+import java.util.List;
+
 @OpenAPIDefinition(
         info = @Info(description = "This represents the Catalogs API. It serves the cached catalogs fetched from data providers.",
                 title = "Catalogs API", version = "v4"))
@@ -44,4 +46,35 @@ public interface CatalogsApiV4 {
 
     )
     JsonArray requestCatalogsV4(JsonObject querySpec, boolean flatten);
+
+    @Operation(description = "Obtains the datasets of the catalogs currently held by this cache instance. Filter, sorting and paging " +
+            "apply to the datasets, the criteria refer to the dataset fields (e.g. 'id', 'properties.key') and to the 'participantId' of the catalog. " +
+            "The datasets of nested catalogs are attributed to the root catalog.",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(ref = ManagementApiJsonSchema.V4.QUERY_SPEC))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "A list of catalogs holding only the matching datasets is returned, potentially empty",
+                            content = @Content(array = @ArraySchema(schema = @Schema(ref = "https://w3id.org/dspace/2025/1/catalog/catalog-schema.json")))),
+                    @ApiResponse(responseCode = "500", description = "A query could not be completed due to an internal error")
+            }
+
+    )
+    JsonArray requestDatasetsV4(JsonObject querySpec);
+
+    @Operation(description = "Searches the datasets of the catalogs currently held by this cache instance by keywords, matched against " +
+            "title, description and keywords of the datasets. Results are ranked by relevance and come with the counts of the " +
+            "'publisher', 'format' and 'policyType' facets",
+            parameters = {
+                    @Parameter(name = "q", description = "The keywords, when missing every dataset matches"),
+                    @Parameter(name = "filter", description = "A facet filter in the 'facet:value' form, e.g. 'format:csv'. " +
+                            "Values of the same facet are in OR, different facets are in AND"),
+                    @Parameter(name = "offset", description = "The number of results to skip"),
+                    @Parameter(name = "limit", description = "The maximum number of results to return")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The page of matching datasets and the facet counts"),
+                    @ApiResponse(responseCode = "400", description = "The search parameters are not valid"),
+                    @ApiResponse(responseCode = "500", description = "A search could not be completed due to an internal error")
+            }
+    )
+    JsonObject searchDatasetsV4(String text, List<String> filters, int offset, int limit);
 }
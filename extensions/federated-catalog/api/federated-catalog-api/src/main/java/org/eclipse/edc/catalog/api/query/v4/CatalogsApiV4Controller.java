@@ -18,6 +18,7 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -27,6 +28,8 @@ import org.eclipse.edc.catalog.spi.QueryService;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.validation.SchemaType;
 
+import java.util.List;
+
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE_TERM;
 
@@ -45,4 +48,20 @@ public class CatalogsApiV4Controller extends BaseCatalogsApiController implement
     public JsonArray requestCatalogsV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson, @DefaultValue("false") @QueryParam("flatten") boolean flatten) {
         return requestCatalogs(querySpecJson, flatten);
     }
+
+    @Override
+    @POST
+    @Path("/datasets/request")
+    public JsonArray requestDatasetsV4(@SchemaType(value = EDC_QUERY_SPEC_TYPE_TERM, version = "v4") JsonObject querySpecJson) {
+        return requestDatasets(querySpecJson);
+    }
+
+    @Override
+    @GET
+    @Path("/search")
+    public JsonObject searchDatasetsV4(@QueryParam("q") String text, @QueryParam("filter") List<String> filters,
+                                       @DefaultValue("0") @QueryParam("offset") int offset,
+                                       @DefaultValue("50") @QueryParam("limit") int limit) {
+        return searchDatasets(text, filters, offset, limit);
+    }
 }
@@ -16,8 +16,12 @@ package org.eclipse.edc.catalog.api.query;
 
 import io.restassured.specification.RequestSpecification;
 import jakarta.json.Json;
+import org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer;
 import org.eclipse.edc.catalog.api.query.v4.CatalogsApiV4Controller;
 import org.eclipse.edc.catalog.spi.QueryService;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ApiTest;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
@@ -42,6 +47,9 @@ import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.catalog.api.query.TestUtil.buildCatalog;
 import static org.eclipse.edc.catalog.api.query.TestUtil.createCatalog;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_FACETS;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_HITS;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_TOTAL;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.DSP_NAMESPACE_V_2025_1;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
@@ -50,12 +58,15 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ApiTest
 class FederatedCatalogApiControllerTest extends RestControllerTestBase {
 
     private static final String PATH = "/v4/catalogs/request";
+    private static final String DATASETS_PATH = "/v4/catalogs/datasets/request";
+    private static final String SEARCH_PATH = "/v4/catalogs/search";
     private final QueryService queryService = mock();
 
     @Test
@@ -149,6 +160,81 @@ class FederatedCatalogApiControllerTest extends RestControllerTestBase {
         verify(queryService).getCatalog(QuerySpec.none());
     }
 
+    @Test
+    void queryDatasetsApi_shouldReturnCatalogsWithMatchingDatasets() {
+        when(queryService.getDatasets(any())).thenReturn(ServiceResult.success(List.of(createCatalog("catalog"))));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().add(TYPE, "QuerySpec").build())
+                .post(DATASETS_PATH)
+                .then()
+                .log().ifValidationFails()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(1))
+                .body("[0].'http://www.w3.org/ns/dcat#dataset'", hasSize(1));
+
+        verify(queryService).getDatasets(any());
+    }
+
+    @Test
+    void queryDatasetsApi_whenQueryUnsuccessful() {
+        when(queryService.getDatasets(any())).thenThrow(new RuntimeException("test exception"));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().add(TYPE, "QuerySpec").build())
+                .post(DATASETS_PATH)
+                .then()
+                .statusCode(500);
+    }
+
+    @Test
+    void searchApi_shouldReturnHitsAndFacets() {
+        var hit = new CatalogSearchHit("catalog", "participant", "dataset", Dataset.Builder.newInstance().id("dataset").build(), 1.5);
+        var result = new CatalogSearchResult(1, List.of(hit), Map.of("format", Map.of("test-format", 1L)));
+        when(queryService.search(any())).thenReturn(ServiceResult.success(result));
+
+        baseRequest()
+                .queryParam("q", "weather")
+                .queryParam("filter", "format:test-format", "publisher:did:web:participant")
+                .queryParam("limit", 10)
+                .get(SEARCH_PATH)
+                .then()
+                .log().ifValidationFails()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("'%s'".formatted(CATALOG_SEARCH_RESULT_TOTAL), is(1))
+                .body("'%s'".formatted(CATALOG_SEARCH_RESULT_HITS), hasSize(1))
+                .body("'%s'".formatted(CATALOG_SEARCH_RESULT_FACETS), hasSize(1));
+
+        verify(queryService).search(new CatalogSearchQuery("weather",
+                Map.of("format", Set.of("test-format"), "publisher", Set.of("did:web:participant")), 0, 10));
+    }
+
+    @Test
+    void searchApi_shouldReturnBadRequest_whenFilterIsNotValid() {
+        baseRequest()
+                .queryParam("filter", "format")
+                .get(SEARCH_PATH)
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void searchApi_shouldReturnBadRequest_whenServiceRejectsTheQuery() {
+        when(queryService.search(any())).thenReturn(ServiceResult.badRequest("invalid limit"));
+
+        baseRequest()
+                .queryParam("limit", 0)
+                .get(SEARCH_PATH)
+                .then()
+                .statusCode(400);
+    }
+
     @Override
     protected Object controller() {
         var typeTransformerRegistry = new TypeTransformerRegistryImpl(mock());
@@ -160,6 +246,7 @@ class FederatedCatalogApiControllerTest extends RestControllerTestBase {
         typeTransformerRegistry.register(new JsonObjectFromDistributionTransformer(factory));
         typeTransformerRegistry.register(new JsonObjectFromDataServiceTransformer(factory));
         typeTransformerRegistry.register(new JsonObjectToQuerySpecTransformer());
+        typeTransformerRegistry.register(new JsonObjectFromCatalogSearchResultTransformer(factory));
         return new CatalogsApiV4Controller(queryService, typeTransformerRegistry);
     }
 
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.api.query.transform;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchHit;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_HIT_CATALOG_ID;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_HIT_DATASET;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_HIT_DATASET_ID;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_HIT_PARTICIPANT_ID;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_HIT_SCORE;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_FACETS;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_HITS;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_TOTAL;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.CATALOG_SEARCH_RESULT_TYPE;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.FACET_COUNT;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.FACET_NAME;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.FACET_VALUE;
+import static org.eclipse.edc.catalog.api.query.transform.JsonObjectFromCatalogSearchResultTransformer.FACET_VALUES;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JsonObjectFromCatalogSearchResultTransformerTest {
+
+    private final JsonObjectFromCatalogSearchResultTransformer transformer = new JsonObjectFromCatalogSearchResultTransformer(Json.createBuilderFactory(Map.of()));
+    private final TransformerContext context = mock();
+
+    @Test
+    void transform() {
+        var datasetJson = Json.createObjectBuilder().add("key", "value").build();
+        when(context.transform(any(Dataset.class), eq(JsonObject.class))).thenReturn(datasetJson);
+        var hit = new CatalogSearchHit("catalog", "participant", "dataset", Dataset.Builder.newInstance().id("dataset").build(), 2.5);
+        var result = new CatalogSearchResult(3, List.of(hit), Map.of("format", Map.of("csv", 3L)));
+
+        var json = transformer.transform(result, context);
+
+        assertThat(json).isNotNull();
+        assertThat(json.getString(TYPE)).isEqualTo(CATALOG_SEARCH_RESULT_TYPE);
+        assertThat(json.getJsonNumber(CATALOG_SEARCH_RESULT_TOTAL).longValue()).isEqualTo(3);
+        assertThat(json.getJsonArray(CATALOG_SEARCH_RESULT_HITS)).singleElement().satisfies(value -> {
+            var hitJson = value.asJsonObject();
+            assertThat(hitJson.getString(CATALOG_SEARCH_HIT_CATALOG_ID)).isEqualTo("catalog");
+            assertThat(hitJson.getString(CATALOG_SEARCH_HIT_PARTICIPANT_ID)).isEqualTo("participant");
+            assertThat(hitJson.getJsonNumber(CATALOG_SEARCH_HIT_SCORE).doubleValue()).isEqualTo(2.5);
+            assertThat(hitJson.getString(CATALOG_SEARCH_HIT_DATASET_ID)).isEqualTo("dataset");
+            assertThat(hitJson.getJsonObject(CATALOG_SEARCH_HIT_DATASET)).isEqualTo(datasetJson);
+        });
+        assertThat(json.getJsonArray(CATALOG_SEARCH_RESULT_FACETS)).singleElement().satisfies(value -> {
+            var facet = value.asJsonObject();
+            assertThat(facet.getString(FACET_NAME)).isEqualTo("format");
+            var count = facet.getJsonArray(FACET_VALUES).getJsonObject(0);
+            assertThat(count.getString(FACET_VALUE)).isEqualTo("csv");
+            assertThat(count.getJsonNumber(FACET_COUNT).longValue()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void transform_shouldSkipDataset_whenNotResolved() {
+        var hit = new CatalogSearchHit("catalog", null, "dataset", null, 1.0);
+        var result = new CatalogSearchResult(1, List.of(hit), Map.of());
+
+        var json = transformer.transform(result, context);
+
+        assertThat(json).isNotNull();
+        assertThat(json.getJsonArray(CATALOG_SEARCH_RESULT_HITS)).singleElement().satisfies(value -> {
+            var hitJson = value.asJsonObject();
+            assertThat(hitJson.getString(CATALOG_SEARCH_HIT_DATASET_ID)).isEqualTo("dataset");
+            assertThat(hitJson).doesNotContainKeys(CATALOG_SEARCH_HIT_DATASET, CATALOG_SEARCH_HIT_PARTICIPANT_ID);
+        });
+        verifyNoInteractions(context);
+    }
+}
@@ -19,6 +19,7 @@ plugins {
 dependencies {
     api(project(":spi:control-plane-spi"))
     implementation(project(":core:common:lib:core-lib"))
+    implementation(project(":core:control-plane:lib:control-plane-lib"))
     implementation(project(":extensions:common:sql:sql-bootstrapper"))
     implementation(project(":spi:core-spi"))
 
@@ -15,11 +15,13 @@
 package org.eclipse.edc.catalog.cache.sql;
 
 import org.eclipse.edc.catalog.cache.sql.schema.postgres.FederatedCatalogMapping;
+import org.eclipse.edc.catalog.cache.sql.schema.postgres.FederatedDatasetMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheStatements {
 
@@ -62,6 +64,71 @@ public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheS
                 .update(getFederatedCatalogTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .jsonColumn(getCatalogColumn())
+                .jsonColumn(getCatalogEnvelopeColumn())
+                .column(getParticipantIdColumn())
+                .column(getContentHashColumn())
+                .column(getMarkedColumn())
+                .upsertInto(getFederatedCatalogTable(), getIdColumn());
+    }
+
+    @Override
+    public String getFindCatalogHashTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ?", getContentHashColumn(), getFederatedCatalogTable(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateAsUnmarkedTemplate() {
+        return executeStatement()
+                .column(getMarkedColumn())
+                .update(getFederatedCatalogTable(), getIdColumn());
+    }
+
+    @Override
+    public String getFindDatasetHashesTemplate() {
+        return format("SELECT %s, %s FROM %s WHERE %s = ?", getDatasetIdColumn(), getContentHashColumn(),
+                getDatasetTable(), getDatasetCatalogIdColumn());
+    }
+
+    @Override
+    public String getInsertDatasetTemplate() {
+        return executeStatement()
+                .column(getDatasetCatalogIdColumn())
+                .column(getDatasetIdColumn())
+                .jsonColumn(getDatasetColumn())
+                .column(getContentHashColumn())
+                .insertInto(getDatasetTable());
+    }
+
+    @Override
+    public String getUpdateDatasetTemplate() {
+        return format("UPDATE %s SET %s = ?%s, %s = ? WHERE %s = ? AND %s = ?", getDatasetTable(),
+                getDatasetColumn(), getFormatAsJsonOperator(), getContentHashColumn(),
+                getDatasetCatalogIdColumn(), getDatasetIdColumn());
+    }
+
+    @Override
+    public String getDeleteDatasetTemplate() {
+        return executeStatement()
+                .delete(getDatasetTable(), criterion(getDatasetCatalogIdColumn(), "=", "?"), criterion(getDatasetIdColumn(), "=", "?"));
+    }
+
+    @Override
+    public SqlQueryStatement createDatasetQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectDatasetStatement(), querySpec, new FederatedDatasetMapping(this), operatorTranslator);
+    }
+
+    @Override
+    public String getSelectDatasetStatement() {
+        return format("SELECT d.%s, d.%s, c.%s FROM %s d JOIN %s c ON c.%s = d.%s",
+                getDatasetCatalogIdColumn(), getDatasetColumn(), getCatalogEnvelopeColumn(),
+                getDatasetTable(), getFederatedCatalogTable(), getIdColumn(), getDatasetCatalogIdColumn());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         var select = getSelectStatement();
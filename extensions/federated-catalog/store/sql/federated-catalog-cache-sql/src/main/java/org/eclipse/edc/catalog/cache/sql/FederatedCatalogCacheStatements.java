@@ -36,6 +36,34 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
         return "marked";
     }
 
+    default String getDatasetTable() {
+        return "edc_federated_catalog_dataset";
+    }
+
+    default String getDatasetCatalogIdColumn() {
+        return "catalog_id";
+    }
+
+    default String getDatasetIdColumn() {
+        return "dataset_id";
+    }
+
+    default String getDatasetColumn() {
+        return "dataset";
+    }
+
+    default String getContentHashColumn() {
+        return "content_hash";
+    }
+
+    default String getCatalogEnvelopeColumn() {
+        return "catalog_envelope";
+    }
+
+    default String getParticipantIdColumn() {
+        return "participant_id";
+    }
+
     String getFindByIdTemplate();
 
     String getUpdateAsMarkedTemplate();
@@ -47,7 +75,31 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
 
     String getUpdateTemplate();
 
+    String getUpsertTemplate();
+
+    String getFindCatalogHashTemplate();
+
+    String getUpdateAsUnmarkedTemplate();
+
     SqlQueryStatement createQuery(QuerySpec query);
 
     String getSelectStatement();
+
+    String getFindDatasetHashesTemplate();
+
+    String getInsertDatasetTemplate();
+
+    String getUpdateDatasetTemplate();
+
+    String getDeleteDatasetTemplate();
+
+    /**
+     * Creates the query on the dataset rows, every row carries the catalog id, the dataset and the catalog envelope.
+     *
+     * @param query the query on the datasets.
+     * @return the query statement.
+     */
+    SqlQueryStatement createDatasetQuery(QuerySpec query);
+
+    String getSelectDatasetStatement();
 }
@@ -14,10 +14,14 @@
 
 package org.eclipse.edc.catalog.cache.sql;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
@@ -25,21 +29,45 @@ import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static java.util.Optional.ofNullable;
-
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
+import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.copy;
+import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.flatten;
+
+/**
+ * SQL implementation of the {@link FederatedCatalogCache}.
+ * <p>
+ * Next to the catalog, every (flattened) dataset is stored in its own row, so that the datasets can be filtered, sorted
+ * and paged by the database. The catalog envelope, i.e. the catalog without datasets, and the participant id are stored
+ * in their own columns, so that the dataset rows can be joined to them without parsing the whole catalog. Changes are detected through a hash of the canonical JSON representation: on save, a
+ * catalog that has not changed since the last crawl only gets unmarked, otherwise the catalog and the datasets that
+ * have been added, changed or removed get written.
+ */
 public class SqlFederatedCatalogCache extends AbstractSqlStore implements FederatedCatalogCache {
 
     private final FederatedCatalogCacheStatements statements;
+    private final ObjectWriter canonicalWriter;
 
     public SqlFederatedCatalogCache(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                                     ObjectMapper objectMapper, QueryExecutor queryExecutor, FederatedCatalogCacheStatements statements) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
     }
 
     @Override
@@ -51,12 +79,16 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
                         .map(Object::toString)
                         .orElse(catalog.getId());
 
-                if (findByIdInternal(connection, id) == null) {
-                    insertInternal(connection, id, catalog);
-                } else {
-                    updateInternal(connection, id, catalog);
+                var json = toCanonicalJson(catalog);
+                var hash = hash(json);
+                if (hash.equals(findCatalogHash(connection, id))) {
+                    queryExecutor.execute(connection, statements.getUpdateAsUnmarkedTemplate(), false, id);
+                    return;
                 }
 
+                var envelope = toCanonicalJson(copy(catalog, List.of()).build());
+                queryExecutor.execute(connection, statements.getUpsertTemplate(), id, json, envelope, catalog.getParticipantId(), hash, false);
+                saveDatasets(connection, id, catalog);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -75,6 +107,29 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
         });
     }
 
+    @Override
+    public Collection<Catalog> queryDatasets(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var query = statements.createDatasetQuery(querySpec);
+                var rows = queryExecutor.query(connection, true, this::mapDatasetRow, query.getQueryAsString(), query.getParameters()).toList();
+
+                var envelopes = new LinkedHashMap<String, String>();
+                var datasets = new LinkedHashMap<String, List<Dataset>>();
+                for (var row : rows) {
+                    envelopes.putIfAbsent(row.catalogId(), row.catalogEnvelope());
+                    datasets.computeIfAbsent(row.catalogId(), k -> new ArrayList<>()).add(row.dataset());
+                }
+
+                return datasets.entrySet().stream()
+                        .map(entry -> copy(fromJson(envelopes.get(entry.getKey()), Catalog.class), entry.getValue()).build())
+                        .toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void deleteExpired() {
         transactionContext.execute(() -> {
@@ -100,23 +155,88 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
 
     }
 
-    private Catalog findByIdInternal(Connection connection, String id) {
-        var stmt = statements.getFindByIdTemplate();
-        return queryExecutor.single(connection, false, this::mapResultSet, stmt, id);
+    private String findCatalogHash(Connection connection, String catalogId) {
+        return queryExecutor.single(connection, false, resultSet -> resultSet.getString(statements.getContentHashColumn()),
+                statements.getFindCatalogHashTemplate(), catalogId);
     }
 
-    private void insertInternal(Connection connection, String id, Catalog catalog) {
-        var stmt = statements.getInsertTemplate();
-        queryExecutor.execute(connection, stmt, id, toJson(catalog), false);
+    /**
+     * Writes the dataset rows that differ from the stored ones. Datasets with a duplicated id are stored once, datasets
+     * without an id are keyed by their content hash.
+     */
+    private void saveDatasets(Connection connection, String catalogId, Catalog catalog) {
+        Map<String, String> storedHashes;
+        try (var stream = queryExecutor.query(connection, false, this::mapDatasetHash, statements.getFindDatasetHashesTemplate(), catalogId)) {
+            storedHashes = stream.collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+
+        var datasetIds = new HashSet<String>();
+        var inserts = new ArrayList<Object[]>();
+        var updates = new ArrayList<Object[]>();
+        var datasets = ofNullable(flatten(catalog)).map(Catalog::getDatasets).orElseGet(List::of);
+        for (var dataset : datasets) {
+            var json = toCanonicalJson(dataset);
+            var hash = hash(json);
+            var datasetId = dataset.getId() != null ? dataset.getId() : hash;
+            if (!datasetIds.add(datasetId)) {
+                continue;
+            }
+            var storedHash = storedHashes.get(datasetId);
+            if (storedHash == null) {
+                inserts.add(new Object[]{ catalogId, datasetId, json, hash });
+            } else if (!storedHash.equals(hash)) {
+                updates.add(new Object[]{ json, hash, catalogId, datasetId });
+            }
+        }
+        var deletes = storedHashes.keySet().stream()
+                .filter(not(datasetIds::contains))
+                .map(datasetId -> new Object[]{ catalogId, datasetId })
+                .toList();
+
+        executeBatch(connection, statements.getInsertDatasetTemplate(), inserts);
+        executeBatch(connection, statements.getUpdateDatasetTemplate(), updates);
+        executeBatch(connection, statements.getDeleteDatasetTemplate(), deletes);
+    }
+
+    private void executeBatch(Connection connection, String statement, List<Object[]> arguments) {
+        if (!arguments.isEmpty()) {
+            queryExecutor.executeBatch(connection, statement, arguments);
+        }
+    }
+
+    private String toCanonicalJson(Object object) {
+        try {
+            return canonicalWriter.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
     }
 
-    private void updateInternal(Connection connection, String id, Catalog catalog) {
-        var stmt = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, stmt, toJson(catalog), false, id);
+    private String hash(String json) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private Map.Entry<String, String> mapDatasetHash(ResultSet resultSet) throws SQLException {
+        return Map.entry(resultSet.getString(statements.getDatasetIdColumn()), resultSet.getString(statements.getContentHashColumn()));
+    }
+
+    private DatasetRow mapDatasetRow(ResultSet resultSet) throws Exception {
+        return new DatasetRow(
+                resultSet.getString(statements.getDatasetCatalogIdColumn()),
+                resultSet.getString(statements.getCatalogEnvelopeColumn()),
+                fromJson(resultSet.getString(statements.getDatasetColumn()), Dataset.class));
     }
 
     private Catalog mapResultSet(ResultSet resultSet) throws Exception {
         var json = resultSet.getString(statements.getCatalogColumn());
         return fromJson(json, Catalog.class);
     }
+
+    private record DatasetRow(String catalogId, String catalogEnvelope, Dataset dataset) {
+    }
 }
@@ -22,7 +22,7 @@ public class FederatedCatalogMapping extends TranslationMapping {
 
     public FederatedCatalogMapping(FederatedCatalogCacheStatements statements) {
         add("id", statements.getIdColumn());
-        add("participantId", new JsonFieldTranslator(statements.getCatalogColumn()));
+        add("participantId", statements.getParticipantIdColumn());
         add("properties", new PrefixedJsonFieldTranslator(statements.getCatalogColumn(), "properties"));
         add("datasets", new JsonFieldTranslator("datasets"));
         add("dataServices", new JsonFieldTranslator("dataServices"));
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.sql.schema.postgres;
+
+import org.eclipse.edc.catalog.cache.sql.FederatedCatalogCacheStatements;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+/**
+ * Maps the dataset fields onto the dataset rows, and the {@code participantId} onto the catalog the dataset belongs to.
+ */
+public class FederatedDatasetMapping extends TranslationMapping {
+
+    public FederatedDatasetMapping(FederatedCatalogCacheStatements statements) {
+        var datasetColumn = "d." + statements.getDatasetColumn();
+        add("id", "d." + statements.getDatasetIdColumn());
+        add("participantId", "c." + statements.getParticipantIdColumn());
+        add("properties", new PrefixedJsonFieldTranslator(datasetColumn, "properties"));
+        add("offers", new PrefixedJsonFieldTranslator(datasetColumn, "offers"));
+        add("distributions", new PrefixedJsonFieldTranslator(datasetColumn, "distributions"));
+    }
+}
@@ -17,5 +17,30 @@ CREATE TABLE IF NOT EXISTS edc_federated_catalog
 (
     id                    VARCHAR PRIMARY KEY NOT NULL,
     catalog               JSON,
-    marked                BOOLEAN DEFAULT FALSE
+    catalog_envelope      JSON,
+    participant_id        VARCHAR,
+    marked                BOOLEAN DEFAULT FALSE,
+    content_hash          VARCHAR
 );
+
+ALTER TABLE edc_federated_catalog ADD COLUMN IF NOT EXISTS content_hash VARCHAR;
+ALTER TABLE edc_federated_catalog ADD COLUMN IF NOT EXISTS catalog_envelope JSON;
+ALTER TABLE edc_federated_catalog ADD COLUMN IF NOT EXISTS participant_id VARCHAR;
+
+UPDATE edc_federated_catalog
+SET catalog_envelope = (catalog::jsonb - 'datasets')::json,
+    participant_id   = catalog ->> 'participantId'
+WHERE catalog_envelope IS NULL;
+
+CREATE INDEX IF NOT EXISTS federated_catalog_participant_id_index ON edc_federated_catalog (participant_id);
+
+CREATE TABLE IF NOT EXISTS edc_federated_catalog_dataset
+(
+    catalog_id            VARCHAR NOT NULL REFERENCES edc_federated_catalog (id) ON DELETE CASCADE,
+    dataset_id            VARCHAR NOT NULL,
+    dataset               JSON    NOT NULL,
+    content_hash          VARCHAR NOT NULL,
+    PRIMARY KEY (catalog_id, dataset_id)
+);
+
+CREATE INDEX IF NOT EXISTS federated_catalog_dataset_id_index ON edc_federated_catalog_dataset (dataset_id);
@@ -51,6 +51,7 @@ public class SqlFederatedCatalogCacheTest extends FederatedCatalogCacheTestBase
 
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getDatasetTable());
         extension.runQuery("DROP TABLE " + statements.getFederatedCatalogTable());
     }
 
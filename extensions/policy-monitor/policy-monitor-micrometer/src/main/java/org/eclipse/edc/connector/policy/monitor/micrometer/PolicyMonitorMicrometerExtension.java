@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorMetrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that exports the {@link PolicyMonitorMetrics} to Micrometer.
+ */
+@Extension(value = PolicyMonitorMicrometerExtension.NAME)
+public class PolicyMonitorMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_POLICY_MONITOR_METRICS = "edc.metrics.policy-monitor.enabled";
+    public static final String NAME = "Policy Monitor Micrometer Metrics";
+
+    @Inject
+    private PolicyMonitorMetrics policyMonitorMetrics;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enablePolicyMonitorMetrics = context.getSetting(ENABLE_POLICY_MONITOR_METRICS, true);
+
+        if (enableMetrics && enablePolicyMonitorMetrics) {
+            bindPolicyMonitorMetrics();
+        }
+    }
+
+    private void bindPolicyMonitorMetrics() {
+        FunctionCounter.builder("edc.policy.monitor.evaluations", policyMonitorMetrics, PolicyMonitorMetrics::evaluations)
+                .description("Entries evaluated by the policy monitor since startup")
+                .register(meterRegistry);
+        Gauge.builder("edc.policy.monitor.run.evaluations", policyMonitorMetrics, PolicyMonitorMetrics::lastRunEvaluations)
+                .description("Entries evaluated in the last watchdog run")
+                .register(meterRegistry);
+        Gauge.builder("edc.policy.monitor.run.max.lag", policyMonitorMetrics, PolicyMonitorMetrics::lastRunMaxLag)
+                .description("Highest time an entry waited past its due time in the last watchdog run")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("edc.policy.monitor.run.throughput", policyMonitorMetrics, PolicyMonitorMetrics::lastRunThroughput)
+                .description("Entries evaluated per second in the last watchdog run")
+                .register(meterRegistry);
+    }
+}
@@ -119,7 +119,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                         entity.getStateTimestamp(),
                         toJson(entity.getTraceContext()),
                         entity.getErrorDetail(),
-                        entity.getContractId()
+                        entity.getContractId(),
+                        entity.getNextEvaluation()
                 );
 
                 return leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
@@ -160,6 +161,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
+                .nextEvaluation(resultSet.getLong(statements.getNextEvaluationColumn()))
                 .build();
     }
 }
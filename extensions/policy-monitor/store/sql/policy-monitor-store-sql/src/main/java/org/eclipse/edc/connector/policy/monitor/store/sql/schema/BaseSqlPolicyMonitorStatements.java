@@ -47,6 +47,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextEvaluationColumn())
                 .upsertInto(getPolicyMonitorTable(), getIdColumn());
     }
 
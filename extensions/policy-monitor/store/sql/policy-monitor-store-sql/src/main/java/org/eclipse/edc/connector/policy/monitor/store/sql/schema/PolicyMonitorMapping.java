@@ -26,6 +26,7 @@ public class PolicyMonitorMapping extends StatefulEntityMapping {
     public PolicyMonitorMapping(PolicyMonitorStatements statements) {
         super(statements, state -> PolicyMonitorEntryStates.valueOf(state).code());
         add("contractId", statements.getContractIdColumn());
+        add("nextEvaluation", statements.getNextEvaluationColumn());
     }
 
 }
@@ -33,6 +33,10 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, SqlSt
         return "contract_id";
     }
 
+    default String getNextEvaluationColumn() {
+        return "next_evaluation";
+    }
+
     String getUpsertTemplate();
 
     String getSelectTemplate();
@@ -24,8 +24,18 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
     trace_context        JSON,
     error_detail         VARCHAR,
     properties           JSON,
-    contract_id          VARCHAR
+    contract_id          VARCHAR,
+    next_evaluation      BIGINT DEFAULT 0 NOT NULL
 );
 
+-- migration for deployments that created the table before the next_evaluation column was introduced
+ALTER TABLE edc_policy_monitor
+    ADD COLUMN IF NOT EXISTS next_evaluation BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_policy_monitor.next_evaluation IS 'posix timestamp of the next policy evaluation';
+
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
+
+-- This will help to pick up the entries whose evaluation is due without a table scan
+CREATE INDEX IF NOT EXISTS policy_monitor_next_evaluation ON edc_policy_monitor (state,next_evaluation);
@@ -208,6 +208,7 @@ include(":extensions:control-plane:api:management-api-v5:discovery-api-v5")
 include(":extensions:control-plane:api:management-api-v5:dcp-scope-api-v5")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:callback-outbox-store-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -219,6 +220,7 @@ include(":extensions:control-plane:store:sql:participantcontext-config-store-sql
 include(":extensions:control-plane:store:sql:transfer-process-store-sql")
 include(":extensions:control-plane:callback:callback-event-dispatcher")
 include(":extensions:control-plane:callback:callback-static-endpoint")
+include(":extensions:control-plane:participant-scheduling-micrometer")
 include(":extensions:control-plane:tasks:nats:publisher:negotiation-tasks-publisher-nats")
 include(":extensions:control-plane:tasks:nats:publisher:transfer-tasks-publisher-nats")
 include(":extensions:control-plane:tasks:nats:subscriber:negotiation-tasks-subscriber-nats")
@@ -226,6 +228,7 @@ include(":extensions:control-plane:tasks:nats:subscriber:transfer-tasks-subscrib
 
 
 include(":extensions:policy-monitor:store:sql:policy-monitor-store-sql")
+include(":extensions:policy-monitor:policy-monitor-micrometer")
 
 // extension points for a connector ----------------------------------------------------------------
 include(":spi:core-spi")
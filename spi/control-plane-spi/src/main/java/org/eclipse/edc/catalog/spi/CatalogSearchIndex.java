@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.spi;
+
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Full-text search index over the datasets of the crawled catalogs. It is kept up to date by the crawler, catalog by
+ * catalog, following the same expiration cycle of the {@link FederatedCatalogCache}.
+ */
+@ExtensionPoint
+public interface CatalogSearchIndex {
+
+    String FACET_PUBLISHER = "publisher";
+    String FACET_FORMAT = "format";
+    String FACET_POLICY_TYPE = "policyType";
+
+    /**
+     * Indexes the datasets of the catalog, replacing the ones previously indexed for the same catalog. Datasets of
+     * nested catalogs are attributed to the root catalog.
+     *
+     * @param catalog the catalog.
+     */
+    void index(Catalog catalog);
+
+    /**
+     * Searches the indexed datasets. The index is not required to hold the datasets, so the hits can carry only the
+     * dataset id, the dataset itself can then be resolved from the {@link FederatedCatalogCache}.
+     *
+     * @param query the search query.
+     * @return the ranked page of datasets, with the facet counts.
+     */
+    CatalogSearchResult search(CatalogSearchQuery query);
+
+    /**
+     * Removes the datasets of all the catalogs marked as "expired"
+     */
+    void deleteExpired();
+
+    /**
+     * Marks all catalogs as "expired", i.e. marks them for deletion unless they get indexed again
+     */
+    void expireAll();
+}
@@ -39,6 +39,16 @@ public interface FederatedCatalogCache {
      */
     Collection<Catalog> query(QuerySpec query);
 
+    /**
+     * Queries the store for the datasets of the cached catalogs. Filter, sorting and paging apply to the datasets: the
+     * criteria refer to the dataset fields, e.g. {@code id} or {@code properties.key}, and to the {@code participantId}
+     * of the catalog. The datasets of nested catalogs are attributed to the root catalog.
+     *
+     * @param query the query on the datasets.
+     * @return the catalogs that hold the matching datasets, every catalog holding only those datasets.
+     */
+    Collection<Catalog> queryDatasets(QuerySpec query);
+
     /**
      * Deletes all entries from the cache that are marked as "expired"
      */
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.catalog.spi;
 
+import org.eclipse.edc.catalog.spi.model.CatalogSearchQuery;
+import org.eclipse.edc.catalog.spi.model.CatalogSearchResult;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -24,8 +26,23 @@ import java.util.Collection;
 /**
  * Accepts a {@link QuerySpec} and fetches a collection of {@link Asset} that conform to that query.
  */
-@FunctionalInterface
 public interface QueryService {
 
     ServiceResult<Collection<Catalog>> getCatalog(QuerySpec query);
+
+    /**
+     * Fetches the datasets that conform to the query, see {@link FederatedCatalogCache#queryDatasets(QuerySpec)}.
+     *
+     * @param query the query on the datasets.
+     * @return the catalogs that hold the matching datasets, every catalog holding only those datasets.
+     */
+    ServiceResult<Collection<Catalog>> getDatasets(QuerySpec query);
+
+    /**
+     * Searches the datasets through the {@link CatalogSearchIndex}.
+     *
+     * @param query the search query.
+     * @return the ranked page of datasets with the facet counts, bad request if the query is not valid.
+     */
+    ServiceResult<CatalogSearchResult> search(CatalogSearchQuery query);
 }
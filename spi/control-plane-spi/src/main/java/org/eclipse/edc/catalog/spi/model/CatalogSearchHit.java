@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.spi.model;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A dataset matching a search.
+ *
+ * @param catalogId     the id of the catalog the dataset belongs to.
+ * @param participantId the participant that published the catalog.
+ * @param datasetId     the id of the dataset.
+ * @param dataset       the dataset, null if it has not been resolved from the cache.
+ * @param score         the relevance of the dataset, higher is better.
+ */
+public record CatalogSearchHit(String catalogId, String participantId, String datasetId, @Nullable Dataset dataset, double score) {
+
+    /**
+     * Returns a copy of the hit holding the dataset.
+     *
+     * @param dataset the dataset.
+     * @return the hit.
+     */
+    public CatalogSearchHit withDataset(@Nullable Dataset dataset) {
+        return new CatalogSearchHit(catalogId, participantId, datasetId, dataset, score);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.spi.model;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Full-text search on the catalog datasets.
+ *
+ * @param text    the keywords, matched against dataset title, description and keywords. Blank matches every dataset.
+ * @param filters the facet filters, by facet name. A dataset matches when it has at least one of the values of every facet.
+ * @param offset  the number of hits to skip.
+ * @param limit   the maximum number of hits to return.
+ */
+public record CatalogSearchQuery(String text, Map<String, Set<String>> filters, int offset, int limit) {
+
+    public CatalogSearchQuery {
+        filters = filters == null ? Map.of() : Map.copyOf(filters);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.spi.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of a search on the catalog datasets.
+ *
+ * @param total  the number of matching datasets.
+ * @param hits   the requested page of matching datasets, ordered by relevance.
+ * @param facets the number of matching datasets by facet name and value.
+ */
+public record CatalogSearchResult(long total, List<CatalogSearchHit> hits, Map<String, Map<String, Long>> facets) {
+}
@@ -70,6 +70,17 @@ public interface AssetIndex extends DataAddressResolver {
      */
     StoreResult<Void> create(Asset asset);
 
+    /**
+     * Stores a list of {@link Asset} in the asset index, skipping the ones whose ID already exists.
+     * Implementors are encouraged to override this method to store the assets in a single round-trip.
+     *
+     * @param assets The list of {@link Asset} to store
+     * @return a {@link StoreResult} for every asset, in the same order of the input list.
+     */
+    default List<StoreResult<Void>> createAll(List<Asset> assets) {
+        return assets.stream().map(this::create).toList();
+    }
+
     /**
      * Deletes an asset if it exists.
      *
@@ -19,11 +19,13 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.Contr
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -71,4 +73,13 @@ public interface ContractNegotiationStore extends StateEntityStore<ContractNegot
     @NotNull
     Stream<ContractAgreement> queryAgreements(QuerySpec querySpec);
 
+    /**
+     * Counts the contract negotiations in the working set that satisfy the criteria, grouped by the participant context
+     * they belong to. Archived contract negotiations are not counted.
+     *
+     * @param criteria the selection criteria.
+     * @return the number of contract negotiations by participant context id.
+     */
+    Map<String, Long> countByParticipantContextId(Criterion... criteria);
+
 }
@@ -46,6 +46,16 @@ public interface AssetService {
      */
     ServiceResult<Asset> create(Asset asset);
 
+    /**
+     * Create a list of assets.
+     *
+     * @param assets the assets
+     * @return a result for every asset, in the same order of the input list
+     */
+    default List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        return assets.stream().map(this::create).toList();
+    }
+
     /**
      * Delete an asset
      *
@@ -25,4 +25,14 @@ public interface CallbackClient {
 
     <E extends Event> void dispatch(CallbackAddress callbackAddress, EventEnvelope<E> eventEnvelope);
 
+    /**
+     * Dispatch an already serialized body to the callback endpoint, used to deliver the events that have been stored in
+     * the {@link CallbackOutboxStore}.
+     *
+     * @param callbackAddress the callback address.
+     * @param eventName       the name of the event, or of the first event when the body contains a batch.
+     * @param body            the serialized {@link EventEnvelope}, or a JSON array of them.
+     */
+    void dispatch(CallbackAddress callbackAddress, String eventName, String body);
+
 }
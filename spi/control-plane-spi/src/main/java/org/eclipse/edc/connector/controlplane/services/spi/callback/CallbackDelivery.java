@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * An event that is waiting to be delivered to a callback endpoint, stored in the {@link CallbackOutboxStore}.
+ *
+ * @param id            the delivery id.
+ * @param uri           the callback endpoint.
+ * @param authKey       the name of the header that carries the auth code, if any.
+ * @param authCodeId    the vault alias of the auth code, if any.
+ * @param eventName     the name of the event.
+ * @param payload       the serialized event envelope.
+ * @param attempts      the number of failed delivery attempts.
+ * @param nextAttemptAt the timestamp of the next delivery attempt, in Epoch millis.
+ * @param createdAt     the creation timestamp, in Epoch millis.
+ */
+public record CallbackDelivery(String id, String uri, @Nullable String authKey, @Nullable String authCodeId,
+                               String eventName, String payload, int attempts, long nextAttemptAt, long createdAt) {
+
+    /**
+     * Returns a copy of the delivery that records a failed attempt.
+     *
+     * @param nextAttemptAt the timestamp of the next delivery attempt, in Epoch millis.
+     * @return the delivery to be retried.
+     */
+    public CallbackDelivery retry(long nextAttemptAt) {
+        return new CallbackDelivery(id, uri, authKey, authCodeId, eventName, payload, attempts + 1, nextAttemptAt, createdAt);
+    }
+
+    /**
+     * Returns a copy of the delivery that will be attempted again at the given timestamp, without counting a failure.
+     *
+     * @param nextAttemptAt the timestamp of the next delivery attempt, in Epoch millis.
+     * @return the delivery to be rescheduled.
+     */
+    public CallbackDelivery reschedule(long nextAttemptAt) {
+        return new CallbackDelivery(id, uri, authKey, authCodeId, eventName, payload, attempts, nextAttemptAt, createdAt);
+    }
+
+    /**
+     * The key of the endpoint, deliveries with the same key can be sent in the same request.
+     *
+     * @return the endpoint key.
+     */
+    public String endpoint() {
+        return uri + "|" + authKey + "|" + authCodeId;
+    }
+
+    /**
+     * The callback address the delivery is sent to.
+     *
+     * @return the callback address.
+     */
+    public CallbackAddress callbackAddress() {
+        return CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of(eventName))
+                .authKey(authKey)
+                .authCodeId(authCodeId)
+                .build();
+    }
+}
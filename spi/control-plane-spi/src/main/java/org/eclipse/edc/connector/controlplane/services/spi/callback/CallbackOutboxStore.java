@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Stores the events that need to be delivered to the non-transactional callbacks. Events are saved in the same
+ * transaction as the entity change that raised them, so they survive a restart and they are never delivered for a
+ * change that has been rolled back.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStore {
+
+    /**
+     * Save a delivery, replacing the existing one with the same id.
+     *
+     * @param delivery the delivery.
+     */
+    void save(CallbackDelivery delivery);
+
+    /**
+     * Claim the deliveries that are due, ordered by their next attempt. Claimed deliveries get their next attempt
+     * pushed to the given timestamp, so they are not claimed again while they are being delivered, and they become due
+     * again if the runtime that claimed them dies.
+     *
+     * @param max          the maximum number of deliveries.
+     * @param now          the current timestamp, in Epoch millis.
+     * @param claimedUntil the timestamp until which the deliveries are claimed, in Epoch millis.
+     * @return the claimed deliveries.
+     */
+    List<CallbackDelivery> claimDue(int max, long now, long claimedUntil);
+
+    /**
+     * Delete a delivery, does nothing if it does not exist.
+     *
+     * @param id the delivery id.
+     */
+    void delete(String id);
+}
@@ -50,6 +50,16 @@ public interface ContractDefinitionService {
      */
     ServiceResult<ContractDefinition> create(ContractDefinition contractDefinition);
 
+    /**
+     * Create a list of contract definitions.
+     *
+     * @param contractDefinitions the contract definitions
+     * @return a result for every contract definition, in the same order of the input list
+     */
+    default List<ServiceResult<ContractDefinition>> createAll(List<ContractDefinition> contractDefinitions) {
+        return contractDefinitions.stream().map(this::create).toList();
+    }
+
     /**
      * Update a contract definition. If a definition with the input id doesn't exist, returns
      * NOT_FOUND failure.
@@ -66,6 +66,16 @@ public interface PolicyDefinitionService {
     @NotNull
     ServiceResult<PolicyDefinition> create(PolicyDefinition policy);
 
+    /**
+     * Create a list of policies
+     *
+     * @param policies the policies
+     * @return a result for every policy, in the same order of the input list
+     */
+    default List<ServiceResult<PolicyDefinition>> createAll(List<PolicyDefinition> policies) {
+        return policies.stream().map(this::create).toList();
+    }
+
     /**
      * Updates a policy. If the policy does not yet exist, {@link ServiceResult#notFound(String)} will be returned.
      *
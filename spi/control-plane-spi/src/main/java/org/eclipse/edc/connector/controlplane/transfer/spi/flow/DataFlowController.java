@@ -23,6 +23,9 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
  * Handles a data flow.
@@ -98,6 +101,78 @@ public interface DataFlowController {
      */
     StatusResult<Void> completed(TransferProcess transferProcess);
 
+    /**
+     * Prepare a DataFlow asynchronously. By default, it delegates to {@link #prepare(TransferProcess, Policy)}.
+     *
+     * @param transferProcess the transfer process.
+     * @param policy the contract agreement policy.
+     * @return future completed with success if the preparation initialize/completes correctly, failure otherwise.
+     */
+    default CompletableFuture<StatusResult<DataFlowResponse>> prepareAsync(TransferProcess transferProcess, Policy policy) {
+        return completedFuture(prepare(transferProcess, policy));
+    }
+
+    /**
+     * Initiate a data flow asynchronously. By default, it delegates to {@link #start(TransferProcess, Policy)}.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return future completed with success if the flow is started correctly, failure otherwise.
+     */
+    default CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        return completedFuture(start(transferProcess, policy));
+    }
+
+    /**
+     * Suspend a data flow asynchronously. By default, it delegates to {@link #suspend(TransferProcess)}.
+     *
+     * @param transferProcess the transfer process.
+     * @return future completed with success if the flow is suspended correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<Void>> suspendAsync(TransferProcess transferProcess) {
+        return completedFuture(suspend(transferProcess));
+    }
+
+    /**
+     * Resume a data flow asynchronously. By default, it delegates to {@link #resume(TransferProcess)}.
+     *
+     * @param transferProcess the transfer process.
+     * @return future completed with success if the flow is resumed correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<DataFlowResponse>> resumeAsync(TransferProcess transferProcess) {
+        return completedFuture(resume(transferProcess));
+    }
+
+    /**
+     * Terminate a data flow asynchronously. By default, it delegates to {@link #terminate(TransferProcess)}.
+     *
+     * @param transferProcess the transfer process.
+     * @return future completed with success if the flow is terminated correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return completedFuture(terminate(transferProcess));
+    }
+
+    /**
+     * Notify data flow startup asynchronously. By default, it delegates to {@link #started(TransferProcess)}.
+     *
+     * @param transferProcess the transfer process.
+     * @return future completed with success if the notification has been delivered correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<Void>> startedAsync(TransferProcess transferProcess) {
+        return completedFuture(started(transferProcess));
+    }
+
+    /**
+     * Notify data flow completion asynchronously. By default, it delegates to {@link #completed(TransferProcess)}.
+     *
+     * @param transferProcess the transfer process.
+     * @return future completed with success if the notification has been delivered correctly, failure otherwise;
+     */
+    default CompletableFuture<StatusResult<Void>> completedAsync(TransferProcess transferProcess) {
+        return completedFuture(completed(transferProcess));
+    }
+
     /**
      * Returns transfer types that the controller can handle for the specified Asset.
      *
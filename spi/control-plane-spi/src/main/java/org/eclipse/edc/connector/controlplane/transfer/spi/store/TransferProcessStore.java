@@ -17,10 +17,12 @@ package org.eclipse.edc.connector.controlplane.transfer.spi.store;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -48,4 +50,22 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
      */
     Stream<TransferProcess> findAll(QuerySpec querySpec);
 
+    /**
+     * Counts the transfer processes in the working set that satisfy the criteria, grouped by the data plane they have
+     * been assigned to. Transfer processes that have no data plane assigned are not counted, archived ones neither.
+     *
+     * @param criteria the selection criteria.
+     * @return the number of transfer processes by data plane id.
+     */
+    Map<String, Long> countByDataPlaneId(Criterion... criteria);
+
+    /**
+     * Counts the transfer processes in the working set that satisfy the criteria, grouped by the participant context
+     * they belong to. Archived transfer processes are not counted.
+     *
+     * @param criteria the selection criteria.
+     * @return the number of transfer processes by participant context id.
+     */
+    Map<String, Long> countByParticipantContextId(Criterion... criteria);
+
 }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.participantcontext.spi.config.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.spi.event.Event;
+
+import java.util.Objects;
+
+/**
+ * Describe a participant context configuration update, after this has emitted, every cached view of the configuration
+ * of that participant context must be considered stale.
+ */
+@JsonDeserialize(builder = ParticipantContextConfigUpdated.Builder.class)
+public class ParticipantContextConfigUpdated extends Event {
+
+    private String participantContextId;
+
+    private ParticipantContextConfigUpdated() {
+    }
+
+    public String getParticipantContextId() {
+        return participantContextId;
+    }
+
+    @Override
+    public String name() {
+        return "participant.context.config.updated";
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class Builder {
+
+        private final ParticipantContextConfigUpdated event;
+
+        private Builder() {
+            event = new ParticipantContextConfigUpdated();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder participantContextId(String participantContextId) {
+            event.participantContextId = participantContextId;
+            return this;
+        }
+
+        public ParticipantContextConfigUpdated build() {
+            Objects.requireNonNull(event.participantContextId);
+            return event;
+        }
+    }
+}
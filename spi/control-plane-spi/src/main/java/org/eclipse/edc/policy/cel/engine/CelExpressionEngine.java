@@ -72,4 +72,11 @@ public interface CelExpressionEngine {
      * @return a service result containing the boolean result of the evaluation or an error
      */
     ServiceResult<Boolean> evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params);
+
+    /**
+     * Discards any compiled expression kept by the engine. Must be called whenever expressions get created, updated
+     * or deleted in the store.
+     */
+    default void invalidateCache() {
+    }
 }
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -213,6 +214,114 @@ public abstract class FederatedCatalogCacheTestBase {
         }
     }
 
+    @Nested
+    class QueryDatasets {
+
+        @Test
+        void shouldReturnCatalogWithMatchingDatasetOnly() {
+            var catalogId = UUID.randomUUID().toString();
+            var assetId = UUID.randomUUID().toString();
+            var otherAssetId = UUID.randomUUID().toString();
+            var dataset = Dataset.Builder.newInstance().id(otherAssetId).build();
+            var catalog = createCatalogBuilder(catalogId, createAsset(assetId)).dataset(dataset).build();
+            getStore().save(catalog);
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString())));
+
+            var query = QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", otherAssetId)).build();
+            var result = getStore().queryDatasets(query);
+
+            assertThat(result).hasSize(1).first().satisfies(co -> {
+                assertThat(co.getId()).isEqualTo(catalogId);
+                assertThat(co.getDatasets()).hasSize(1).first().extracting(Dataset::getId).isEqualTo(otherAssetId);
+            });
+        }
+
+        @Test
+        void shouldQueryByDatasetProperty() {
+            var assetId1 = UUID.randomUUID().toString();
+            var assetId2 = UUID.randomUUID().toString();
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAssetBuilder(assetId1).property("name", "value").build()));
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(assetId2)));
+
+            var query = QuerySpec.Builder.newInstance().filter(Criterion.criterion("properties.name", "=", "value")).build();
+            var result = getStore().queryDatasets(query);
+
+            assertThat(result).flatMap(Catalog::getDatasets).extracting(Dataset::getId).containsExactly(assetId1);
+        }
+
+        @Test
+        void shouldQueryByParticipantId() {
+            var assetId1 = UUID.randomUUID().toString();
+            var assetId2 = UUID.randomUUID().toString();
+            getStore().save(createCatalogBuilder(UUID.randomUUID().toString(), createAsset(assetId1)).participantId("participant1").build());
+            getStore().save(createCatalogBuilder(UUID.randomUUID().toString(), createAsset(assetId2)).participantId("participant2").build());
+
+            var query = QuerySpec.Builder.newInstance().filter(Criterion.criterion("participantId", "=", "participant2")).build();
+            var result = getStore().queryDatasets(query);
+
+            assertThat(result).hasSize(1).allSatisfy(co -> assertThat(co.getParticipantId()).isEqualTo("participant2"))
+                    .flatMap(Catalog::getDatasets).extracting(Dataset::getId).containsExactly(assetId2);
+        }
+
+        @Test
+        void shouldPageOverDatasets() {
+            var datasets = IntStream.range(0, 5).mapToObj(i -> Dataset.Builder.newInstance().id("dataset-" + i).build()).toList();
+            var catalog = createCatalogBuilder(UUID.randomUUID().toString(), createAsset("asset")).datasets(datasets).build();
+            getStore().save(catalog);
+
+            var query = QuerySpec.Builder.newInstance().sortField("id").offset(1).limit(2).build();
+            var result = getStore().queryDatasets(query);
+
+            assertThat(result).hasSize(1).flatMap(Catalog::getDatasets).extracting(Dataset::getId)
+                    .containsExactly("dataset-0", "dataset-1");
+        }
+
+        @Test
+        void shouldReflectLastSave_whenDatasetsChange() {
+            var catalogId = UUID.randomUUID().toString();
+            var removedAssetId = UUID.randomUUID().toString();
+            var keptAssetId = UUID.randomUUID().toString();
+            getStore().save(createCatalogBuilder(catalogId, createAsset(removedAssetId))
+                    .dataset(Dataset.Builder.newInstance().id(keptAssetId).property("version", "1").build()).build());
+
+            getStore().save(createCatalogBuilder(catalogId, createAsset(UUID.randomUUID().toString()))
+                    .dataset(Dataset.Builder.newInstance().id(keptAssetId).property("version", "2").build()).build());
+
+            var removed = getStore().queryDatasets(QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", removedAssetId)).build());
+            assertThat(removed).isEmpty();
+            var kept = getStore().queryDatasets(QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", keptAssetId)).build());
+            assertThat(kept).flatMap(Catalog::getDatasets).singleElement()
+                    .satisfies(dataset -> assertThat(dataset.getProperties()).containsEntry("version", "2"));
+        }
+
+        @Test
+        void shouldKeepCatalog_whenSavedUnchangedAfterExpiry() {
+            var assetId = UUID.randomUUID().toString();
+            var catalog = createCatalog(UUID.randomUUID().toString(), createAsset(assetId));
+            getStore().save(catalog);
+
+            getStore().expireAll();
+            getStore().save(catalog);
+            getStore().deleteExpired();
+
+            assertThat(getStore().query(QuerySpec.none())).usingRecursiveFieldByFieldElementComparator().containsExactly(catalog);
+            var result = getStore().queryDatasets(QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", assetId)).build());
+            assertThat(result).flatMap(Catalog::getDatasets).extracting(Dataset::getId).containsExactly(assetId);
+        }
+
+        @Test
+        void shouldNotReturnDeletedCatalogDatasets() {
+            var assetId = UUID.randomUUID().toString();
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(assetId)));
+
+            getStore().expireAll();
+            getStore().deleteExpired();
+
+            var result = getStore().queryDatasets(QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", assetId)).build());
+            assertThat(result).isEmpty();
+        }
+    }
+
     @Nested
     class Delete {
 
@@ -20,6 +20,7 @@ import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.DataplaneMetadata;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -134,6 +135,49 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class CreateAll {
+        @Test
+        void shouldStoreAssets() {
+            var assets = List.of(createAsset("id1"), createAsset("id2"));
+
+            var results = getAssetIndex().createAll(assets);
+
+            assertThat(results).hasSize(2).allMatch(StoreResult::succeeded);
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(assets);
+        }
+
+        @Test
+        void shouldReportFailure_whenAssetAlreadyExists() {
+            var existing = createAsset("existing");
+            getAssetIndex().create(existing);
+
+            var results = getAssetIndex().createAll(List.of(createAsset("new"), createAsset("existing")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getAssetIndex().findById("new")).isNotNull();
+        }
+
+        @Test
+        void shouldReportFailure_whenAssetIsDuplicatedInTheList() {
+            var results = getAssetIndex().createAll(List.of(createAsset("id"), createAsset("id")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none())).hasSize(1);
+        }
+
+        @Test
+        void shouldReturnEmptyList_whenNoAssets() {
+            assertThat(getAssetIndex().createAll(List.of())).isEmpty();
+        }
+    }
+
     @Nested
     class DeleteById {
 
@@ -530,6 +574,69 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class QueryAssetsWithContinuationToken {
+
+        @Test
+        void shouldReturnNextPage_whenSortValueIsNumeric() {
+            range(1, 5).mapToObj(i -> createAssetBuilder("id" + i).property("score", i).build()).forEach(getAssetIndex()::create);
+
+            var result = getAssetIndex().queryAssets(page("score", SortOrder.ASC, new ContinuationToken(2, "id2")));
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id3", "id4");
+        }
+
+        @Test
+        void shouldReturnNextPage_whenSortValueIsBoolean() {
+            getAssetIndex().create(createAssetBuilder("id1").property("flag", false).build());
+            getAssetIndex().create(createAssetBuilder("id2").property("flag", true).build());
+            getAssetIndex().create(createAssetBuilder("id3").property("flag", false).build());
+            getAssetIndex().create(createAssetBuilder("id4").property("flag", true).build());
+
+            var result = getAssetIndex().queryAssets(page("flag", SortOrder.ASC, new ContinuationToken(false, "id3")));
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id2", "id4");
+        }
+
+        @Test
+        void shouldReturnNullsLast_whenAscending() {
+            createAssetsWithNullScores();
+
+            var result = getAssetIndex().queryAssets(page("score", SortOrder.ASC, new ContinuationToken(2, "id2")));
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id3", "id4", "id5");
+        }
+
+        @Test
+        void shouldReturnRemainingNulls_whenSortValueIsNullAndAscending() {
+            createAssetsWithNullScores();
+
+            var result = getAssetIndex().queryAssets(page("score", SortOrder.ASC, new ContinuationToken(null, "id3")));
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id4", "id5");
+        }
+
+        @Test
+        void shouldReturnNonNulls_whenSortValueIsNullAndDescending() {
+            createAssetsWithNullScores();
+
+            var result = getAssetIndex().queryAssets(page("score", SortOrder.DESC, new ContinuationToken(null, "id4")));
+
+            assertThat(result).extracting(Asset::getId).containsExactly("id3", "id2", "id1");
+        }
+
+        private void createAssetsWithNullScores() {
+            getAssetIndex().create(createAssetBuilder("id1").property("score", 1).build());
+            getAssetIndex().create(createAssetBuilder("id2").property("score", 2).build());
+            range(3, 6).mapToObj(i -> createAsset("id" + i)).forEach(getAssetIndex()::create);
+        }
+
+        private QuerySpec page(String sortField, SortOrder sortOrder, ContinuationToken token) {
+            return QuerySpec.Builder.newInstance().sortField(sortField).sortOrder(sortOrder).limit(10)
+                    .continuationToken(token.encode()).build();
+        }
+    }
+
     @Nested
     class FindById {
         @Test
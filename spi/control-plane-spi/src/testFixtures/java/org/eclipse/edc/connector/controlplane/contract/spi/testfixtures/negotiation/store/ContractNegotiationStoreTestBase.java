@@ -49,13 +49,16 @@ import java.util.stream.Collectors;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createAgreement;
 import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createAgreementBuilder;
 import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
 import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.participantcontext.spi.types.ParticipantResource.filterByParticipantContextId;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
@@ -942,4 +945,110 @@ public abstract class ContractNegotiationStoreTestBase {
         }
     }
 
+    @Nested
+    class CountByParticipantContextId {
+        @Test
+        void shouldCountByParticipantContextId() {
+            getContractNegotiationStore().save(createNegotiationBuilder("id1").state(REQUESTED.code()).participantContextId("participant1").build());
+            getContractNegotiationStore().save(createNegotiationBuilder("id2").state(REQUESTED.code()).participantContextId("participant1").build());
+            getContractNegotiationStore().save(createNegotiationBuilder("id3").state(REQUESTED.code()).participantContextId("participant2").build());
+
+            var counts = getContractNegotiationStore().countByParticipantContextId();
+
+            assertThat(counts).containsOnly(entry("participant1", 2L), entry("participant2", 1L));
+        }
+
+        @Test
+        void shouldCountOnlyNegotiationsThatSatisfyTheCriteria() {
+            getContractNegotiationStore().save(createNegotiationBuilder("id1").state(REQUESTED.code()).participantContextId("participant").build());
+            getContractNegotiationStore().save(createNegotiationBuilder("id2").state(TERMINATED.code()).participantContextId("participant").build());
+
+            var counts = getContractNegotiationStore().countByParticipantContextId(hasState(REQUESTED.code()));
+
+            assertThat(counts).containsOnly(entry("participant", 1L));
+        }
+    }
+
+    @Nested
+    class Archive {
+        @Test
+        void shouldMoveFinalEntitiesOutOfTheWorkingSet() {
+            getContractNegotiationStore().save(createNegotiationBuilder("finalized").state(FINALIZED.code()).build());
+            getContractNegotiationStore().save(createNegotiationBuilder("terminated").state(TERMINATED.code()).build());
+            getContractNegotiationStore().save(createNegotiation("requested"));
+
+            var archived = getContractNegotiationStore().archive(clock.millis() + 1000, 10);
+
+            assertThat(archived).isEqualTo(2);
+            assertThat(getContractNegotiationStore().nextNotLeased(10)).extracting(ContractNegotiation::getId).containsExactly("requested");
+        }
+
+        @Test
+        void shouldNotArchiveEntitiesUpdatedAfterTheTimestamp() {
+            var now = clock.millis();
+            getContractNegotiationStore().save(createNegotiationBuilder("old").state(TERMINATED.code()).updatedAt(now - 1000).build());
+            getContractNegotiationStore().save(createNegotiationBuilder("recent").state(TERMINATED.code()).updatedAt(now + 1000).build());
+
+            var archived = getContractNegotiationStore().archive(now, 10);
+
+            assertThat(archived).isEqualTo(1);
+            assertThat(getContractNegotiationStore().nextNotLeased(10)).extracting(ContractNegotiation::getId).containsExactly("recent");
+        }
+
+        @Test
+        void archivedEntity_shouldBeFoundAndQueried() {
+            var agreement = createAgreement(ContractOfferId.create("definition", "asset"));
+            var negotiation = createNegotiationBuilder("id").state(FINALIZED.code()).contractAgreement(agreement).build();
+            getContractNegotiationStore().save(negotiation);
+
+            getContractNegotiationStore().archive(clock.millis() + 1000, 10);
+
+            assertThat(getContractNegotiationStore().findById("id")).usingRecursiveComparison().isEqualTo(negotiation);
+            var query = QuerySpec.Builder.newInstance().filter(hasState(FINALIZED.code())).build();
+            assertThat(getContractNegotiationStore().queryNegotiations(query)).extracting(ContractNegotiation::getId).containsExactly("id");
+            assertThat(getContractNegotiationStore().findContractAgreement(agreement.getId())).isNotNull();
+            assertThat(getContractNegotiationStore().queryAgreements(QuerySpec.none())).hasSize(1);
+        }
+
+        @Test
+        void save_shouldBringArchivedEntityBackToTheWorkingSet() {
+            getContractNegotiationStore().save(createNegotiationBuilder("id").state(TERMINATED.code()).build());
+            getContractNegotiationStore().archive(clock.millis() + 1000, 10);
+            var archived = getContractNegotiationStore().findByIdAndLease("id").getContent();
+
+            archived.setErrorDetail("updated");
+            getContractNegotiationStore().save(archived);
+
+            assertThat(getContractNegotiationStore().queryNegotiations(QuerySpec.none())).hasSize(1).first()
+                    .extracting(ContractNegotiation::getErrorDetail).isEqualTo("updated");
+            assertThat(getContractNegotiationStore().nextNotLeased(10)).extracting(ContractNegotiation::getId).containsExactly("id");
+        }
+
+        @Test
+        void save_shouldBringArchivedEntityWithAgreementBackToTheWorkingSet() {
+            var agreement = createAgreement(ContractOfferId.create("definition", "asset"));
+            getContractNegotiationStore().save(createNegotiationBuilder("id").state(FINALIZED.code()).contractAgreement(agreement).build());
+            getContractNegotiationStore().archive(clock.millis() + 1000, 10);
+            var archived = getContractNegotiationStore().findByIdAndLease("id").getContent();
+
+            archived.setErrorDetail("updated");
+            getContractNegotiationStore().save(archived);
+
+            assertThat(getContractNegotiationStore().findById("id")).isNotNull()
+                    .extracting(ContractNegotiation::getErrorDetail).isEqualTo("updated");
+            assertThat(getContractNegotiationStore().queryNegotiations(QuerySpec.none())).hasSize(1);
+            assertThat(getContractNegotiationStore().nextNotLeased(10)).extracting(ContractNegotiation::getId).containsExactly("id");
+        }
+
+        @Test
+        void deleteById_shouldDeleteArchivedEntity() {
+            getContractNegotiationStore().save(createNegotiationBuilder("id").state(TERMINATED.code()).build());
+            getContractNegotiationStore().archive(clock.millis() + 1000, 10);
+
+            assertThat(getContractNegotiationStore().deleteById("id")).isSucceeded();
+
+            assertThat(getContractNegotiationStore().findById("id")).isNull();
+        }
+    }
+
 }
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackDelivery;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class CallbackOutboxStoreTestBase {
+
+    protected abstract CallbackOutboxStore getStore();
+
+    private CallbackDelivery createDelivery(long nextAttemptAt) {
+        return new CallbackDelivery(UUID.randomUUID().toString(), "http://callback/hook", "authKey", "authCodeId",
+                "transfer.process.started", "{\"id\":\"event\"}", 0, nextAttemptAt, 1L);
+    }
+
+    @Nested
+    class Save {
+
+        @Test
+        void shouldStoreDelivery() {
+            var delivery = createDelivery(10);
+
+            getStore().save(delivery);
+
+            var claimed = getStore().claimDue(10, 10, 100);
+            assertThat(claimed).hasSize(1).first().usingRecursiveComparison().isEqualTo(delivery.reschedule(100));
+        }
+
+        @Test
+        void shouldReplaceDelivery_whenItAlreadyExists() {
+            var delivery = createDelivery(10);
+            getStore().save(delivery);
+
+            getStore().save(delivery.retry(20));
+
+            var claimed = getStore().claimDue(10, 20, 100);
+            assertThat(claimed).hasSize(1).first().satisfies(it -> assertThat(it.attempts()).isEqualTo(1));
+        }
+
+        @Test
+        void shouldStoreDelivery_whenAuthIsNotSet() {
+            var delivery = new CallbackDelivery(UUID.randomUUID().toString(), "http://callback/hook", null, null,
+                    "transfer.process.started", "{}", 0, 10, 1L);
+
+            getStore().save(delivery);
+
+            assertThat(getStore().claimDue(10, 10, 100)).hasSize(1).first()
+                    .satisfies(it -> assertThat(it.authKey()).isNull());
+        }
+    }
+
+    @Nested
+    class ClaimDue {
+
+        @Test
+        void shouldReturnOnlyDueDeliveries() {
+            var due = createDelivery(10);
+            var notDue = createDelivery(50);
+            getStore().save(due);
+            getStore().save(notDue);
+
+            var claimed = getStore().claimDue(10, 20, 100);
+
+            assertThat(claimed).extracting(CallbackDelivery::id).containsExactly(due.id());
+        }
+
+        @Test
+        void shouldLimitAndOrderByNextAttempt() {
+            var second = createDelivery(5);
+            var first = createDelivery(1);
+            var third = createDelivery(8);
+            getStore().save(second);
+            getStore().save(first);
+            getStore().save(third);
+
+            var claimed = getStore().claimDue(2, 10, 100);
+
+            assertThat(claimed).extracting(CallbackDelivery::id).containsExactly(first.id(), second.id());
+        }
+
+        @Test
+        void shouldNotReturnClaimedDeliveries_untilClaimExpires() {
+            var delivery = createDelivery(10);
+            getStore().save(delivery);
+
+            assertThat(getStore().claimDue(10, 10, 100)).hasSize(1);
+            assertThat(getStore().claimDue(10, 50, 150)).isEmpty();
+            assertThat(getStore().claimDue(10, 100, 200)).hasSize(1);
+        }
+    }
+
+    @Nested
+    class Delete {
+
+        @Test
+        void shouldDeleteDelivery() {
+            var delivery = createDelivery(10);
+            getStore().save(delivery);
+
+            getStore().delete(delivery.id());
+
+            assertThat(getStore().claimDue(10, 10, 100)).isEmpty();
+        }
+
+        @Test
+        void shouldDoNothing_whenDeliveryDoesNotExist() {
+            getStore().delete(UUID.randomUUID().toString());
+
+            assertThat(getStore().claimDue(10, 10, 100)).isEmpty();
+        }
+    }
+}
@@ -750,4 +750,136 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class CountByDataPlaneId {
+        @Test
+        void shouldCountByDataPlaneId() {
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id1").state(STARTED.code()).dataPlaneId("dataPlane1").build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id2").state(STARTED.code()).dataPlaneId("dataPlane1").build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id3").state(STARTED.code()).dataPlaneId("dataPlane2").build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id4").state(STARTED.code()).build());
+
+            var counts = getTransferProcessStore().countByDataPlaneId();
+
+            assertThat(counts).containsOnly(entry("dataPlane1", 2L), entry("dataPlane2", 1L));
+        }
+
+        @Test
+        void shouldCountOnlyTransferProcessesThatSatisfyTheCriteria() {
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id1").state(STARTED.code()).dataPlaneId("dataPlane").build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id2").state(TERMINATED.code()).dataPlaneId("dataPlane").build());
+
+            var counts = getTransferProcessStore().countByDataPlaneId(criterion("state", "in", List.of(STARTED.code())));
+
+            assertThat(counts).containsOnly(entry("dataPlane", 1L));
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNoTransferProcess() {
+            assertThat(getTransferProcessStore().countByDataPlaneId()).isEmpty();
+        }
+    }
+
+    @Nested
+    class CountByParticipantContextId {
+        @Test
+        void shouldCountByParticipantContextId() {
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id1").state(STARTED.code()).participantContextId("participant1").build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id2").state(STARTED.code()).participantContextId("participant1").build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("id3").state(TERMINATED.code()).participantContextId("participant2").build());
+
+            var counts = getTransferProcessStore().countByParticipantContextId(hasState(STARTED.code()));
+
+            assertThat(counts).containsOnly(entry("participant1", 2L));
+        }
+    }
+
+    @Nested
+    class Archive {
+        @Test
+        void shouldMoveFinalEntitiesOutOfTheWorkingSet() {
+            getTransferProcessStore().save(createTransferProcess("completed", COMPLETED));
+            getTransferProcessStore().save(createTransferProcess("terminated", TERMINATED));
+            getTransferProcessStore().save(createTransferProcess("started", STARTED));
+
+            var archived = getTransferProcessStore().archive(clock.millis() + 1000, 10);
+
+            assertThat(archived).isEqualTo(2);
+            assertThat(getTransferProcessStore().nextNotLeased(10)).extracting(TransferProcess::getId).containsExactly("started");
+        }
+
+        @Test
+        void shouldNotArchiveEntitiesUpdatedAfterTheTimestamp() {
+            var now = clock.millis();
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("old").state(COMPLETED.code()).updatedAt(now - 1000).build());
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("recent").state(COMPLETED.code()).updatedAt(now + 1000).build());
+
+            var archived = getTransferProcessStore().archive(now, 10);
+
+            assertThat(archived).isEqualTo(1);
+            assertThat(getTransferProcessStore().nextNotLeased(10)).extracting(TransferProcess::getId).containsExactly("recent");
+        }
+
+        @Test
+        void shouldArchiveAtMostMaxEntities() {
+            range(0, 5).mapToObj(i -> createTransferProcess("id" + i, COMPLETED)).forEach(getTransferProcessStore()::save);
+
+            var archived = getTransferProcessStore().archive(clock.millis() + 1000, 3);
+
+            assertThat(archived).isEqualTo(3);
+            assertThat(getTransferProcessStore().nextNotLeased(10)).hasSize(2);
+        }
+
+        @Test
+        void archivedEntity_shouldBeFoundAndQueried() {
+            var transferProcess = TestFunctions.createTransferProcessBuilder("id").state(TERMINATED.code()).correlationId("correlation-id").build();
+            getTransferProcessStore().save(transferProcess);
+
+            getTransferProcessStore().archive(clock.millis() + 1000, 10);
+
+            assertThat(getTransferProcessStore().findById("id")).usingRecursiveComparison().isEqualTo(transferProcess);
+            assertThat(getTransferProcessStore().findForCorrelationId("correlation-id")).isNotNull();
+            var query = QuerySpec.Builder.newInstance().filter(hasState(TERMINATED.code())).build();
+            assertThat(getTransferProcessStore().findAll(query)).extracting(TransferProcess::getId).containsExactly("id");
+        }
+
+        @Test
+        void save_shouldBringArchivedEntityBackToTheWorkingSet() {
+            getTransferProcessStore().save(createTransferProcess("id", TERMINATED));
+            getTransferProcessStore().archive(clock.millis() + 1000, 10);
+            var archived = getTransferProcessStore().findByIdAndLease("id").getContent();
+
+            archived.setErrorDetail("updated");
+            getTransferProcessStore().save(archived);
+
+            assertThat(getTransferProcessStore().findAll(QuerySpec.none())).hasSize(1).first()
+                    .extracting(TransferProcess::getErrorDetail).isEqualTo("updated");
+            assertThat(getTransferProcessStore().nextNotLeased(10)).extracting(TransferProcess::getId).containsExactly("id");
+        }
+
+        @Test
+        void save_shouldBringArchivedEntityBackToTheWorkingSet_whenNotFinalAnymore() {
+            getTransferProcessStore().save(createTransferProcess("id", COMPLETED));
+            getTransferProcessStore().archive(clock.millis() + 1000, 10);
+            var archived = getTransferProcessStore().findByIdAndLease("id").getContent();
+
+            getTransferProcessStore().save(archived.toBuilder().state(STARTED.code()).build());
+
+            assertThat(getTransferProcessStore().findById("id")).isNotNull()
+                    .extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+            assertThat(getTransferProcessStore().findAll(QuerySpec.none())).hasSize(1);
+            assertThat(getTransferProcessStore().nextNotLeased(10)).extracting(TransferProcess::getId).containsExactly("id");
+        }
+
+        @Test
+        void delete_shouldDeleteArchivedEntity() {
+            getTransferProcessStore().save(createTransferProcess("id", COMPLETED));
+            getTransferProcessStore().archive(clock.millis() + 1000, 10);
+
+            assertThat(getTransferProcessStore().delete("id")).isSucceeded();
+
+            assertThat(getTransferProcessStore().findById("id")).isNull();
+        }
+    }
+
 }
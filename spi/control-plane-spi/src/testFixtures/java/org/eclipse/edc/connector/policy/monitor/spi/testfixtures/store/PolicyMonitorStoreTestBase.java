@@ -34,6 +34,7 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
 import static org.hamcrest.Matchers.hasSize;
@@ -172,6 +173,23 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(thirdLeased).hasSize(1);
         }
 
+        @Test
+        void shouldReturnOnlyEntriesWhoseEvaluationIsDue() {
+            var due = createPolicyMonitorEntry("due", STARTED);
+            due.scheduleNextEvaluation(1000);
+            getStore().save(due);
+            var notDue = createPolicyMonitorEntry("not-due", STARTED);
+            notDue.scheduleNextEvaluation(3000);
+            getStore().save(notDue);
+
+            var leased = getStore().nextNotLeased(10, hasState(STARTED.code()), criterion("nextEvaluation", "<=", 2000L));
+
+            assertThat(leased).hasSize(1).first().satisfies(entry -> {
+                assertThat(entry.getId()).isEqualTo("due");
+                assertThat(entry.getNextEvaluation()).isEqualTo(1000);
+            });
+        }
+
         @Test
         void shouldLeaseOrderByStateTimestamp() {
 
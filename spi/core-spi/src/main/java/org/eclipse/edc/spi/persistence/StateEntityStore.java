@@ -95,4 +95,17 @@ public interface StateEntityStore<T> {
      * @return success if lease broken successfully, failure otherwise
      */
     StoreResult<Void> breakLease(T entity);
+
+    /**
+     * Moves the entities in a final state that have not been updated since the given timestamp out of the working set,
+     * so that {@link #nextNotLeased(int, Criterion...)} does not need to go through them anymore. Archived entities can
+     * still be found by id and queried, saving an archived entity brings it back into the working set.
+     *
+     * @param updatedBefore Epoch millis, only entities updated before it are archived.
+     * @param max           the maximum number of entities to be archived.
+     * @return the number of archived entities.
+     */
+    default int archive(long updatedBefore, int max) {
+        return 0;
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Position of the last element of a page, used for keyset pagination: the next page contains the elements that come
+ * after the tuple ({@code sortValue}, {@code id}) in the order given by the {@link QuerySpec}.
+ * <p>
+ * The token is exchanged with clients in its encoded form, which has to be considered opaque.
+ *
+ * @param sortValue the value of the sort field of the last element, null if the query is not sorted.
+ * @param id        the id of the last element.
+ */
+public record ContinuationToken(@Nullable Object sortValue, String id) {
+
+    /**
+     * HTTP header used by the APIs to return the token of the next page.
+     */
+    public static final String HEADER_NAME = "Edc-Continuation-Token";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SORT_VALUE = "v";
+    private static final String ID = "id";
+
+    public ContinuationToken {
+        Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Creates the token that points to the last element of the page, if the page is full and sorted, so that more
+     * elements could follow. The query must have requested a token, otherwise its order is not total and the next page
+     * could skip or repeat elements.
+     *
+     * @param page      the elements of the current page.
+     * @param querySpec the query that returned the page.
+     * @param sortValue extracts the value of the sort field from an element.
+     * @param id        extracts the id from an element.
+     * @return the token of the next page, null if there is no next page.
+     */
+    public static <T> @Nullable ContinuationToken next(List<T> page, QuerySpec querySpec, Function<T, Object> sortValue, Function<T, String> id) {
+        if (page.isEmpty() || page.size() < querySpec.getLimit() || querySpec.getSortField() == null || !querySpec.isContinuationTokenRequested()) {
+            return null;
+        }
+        var last = page.get(page.size() - 1);
+        return new ContinuationToken(sortValue.apply(last), id.apply(last));
+    }
+
+    /**
+     * Decodes a token.
+     *
+     * @param token the encoded token.
+     * @return the token.
+     * @throws IllegalArgumentException if the token is not valid.
+     */
+    public static ContinuationToken decode(String token) {
+        try {
+            var json = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Map.class);
+            if (!(json.get(ID) instanceof String id)) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+            return new ContinuationToken(json.get(SORT_VALUE), id);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token", e);
+        }
+    }
+
+    /**
+     * Encodes the token. Sort values that are not numbers, strings or booleans are encoded by their string representation.
+     *
+     * @return the encoded token.
+     */
+    public String encode() {
+        var json = new HashMap<String, Object>();
+        json.put(ID, id);
+        if (sortValue != null) {
+            json.put(SORT_VALUE, sortValue instanceof Number || sortValue instanceof String || sortValue instanceof Boolean ?
+                    sortValue : sortValue.toString());
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsString(json).getBytes(UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
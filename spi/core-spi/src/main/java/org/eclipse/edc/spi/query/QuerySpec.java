@@ -36,11 +36,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
     private final List<Criterion> filterExpression = new ArrayList<>();
     private int offset = 0;
     private int limit = 50;
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String continuationToken;
+    private boolean continuationTokenRequested;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,6 +60,23 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The encoded {@link ContinuationToken} of the page to be returned. When set, the query returns the elements that
+     * come after the token position (keyset pagination) instead of skipping the first {@code offset} ones.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Whether the caller pages through the results with {@link ContinuationToken}s, either because it passes one or
+     * because one is going to be issued for the returned page. Such queries need a total order, so the id gets added as
+     * tiebreaker to the sort field.
+     */
+    public boolean isContinuationTokenRequested() {
+        return continuationTokenRequested || continuationToken != null;
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -91,12 +111,14 @@ public class QuerySpec {
                 .limit(limit)
                 .filter(filterExpression)
                 .sortOrder(sortOrder)
-                .sortField(sortField);
+                .sortField(sortField)
+                .continuationToken(continuationToken)
+                .continuationTokenRequested(continuationTokenRequested);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, continuationToken, continuationTokenRequested);
     }
 
     @Override
@@ -108,7 +130,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(continuationToken, querySpec.continuationToken) && continuationTokenRequested == querySpec.continuationTokenRequested;
     }
 
     @Override
@@ -119,6 +141,8 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", continuationToken=" + continuationToken +
+                ", continuationTokenRequested=" + continuationTokenRequested +
                 '}';
     }
 
@@ -164,6 +188,16 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder continuationToken(String continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
+        public Builder continuationTokenRequested(boolean continuationTokenRequested) {
+            querySpec.continuationTokenRequested = continuationTokenRequested;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -183,6 +217,9 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.continuationToken != null && querySpec.offset > 0) {
+                throw new IllegalArgumentException("offset cannot be used together with continuationToken");
+            }
             return querySpec;
         }
 
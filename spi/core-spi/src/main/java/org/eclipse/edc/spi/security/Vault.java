@@ -18,6 +18,10 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Provides secrets such as certificates and keys to the runtime.
  */
@@ -91,4 +95,26 @@ public interface Vault {
     default Result<Void> deleteSecret(@Nullable String vaultPartition, String key) {
         return deleteSecret(key);
     }
+
+    /**
+     * Get several secrets from the given vault partition in one go. Implementations may resolve them concurrently or
+     * from a cache, the default implementation resolves them one by one.
+     * <p>
+     * If vault partitioning is not set up, the implementation must fall back to the default vault partition.
+     *
+     * @param vaultPartition The vault partition to use, for example, a participant context ID. This might be null, which
+     *                       indicates that the secrets are supposed to be stored in a "default partition".
+     * @param keys           The names of the secrets.
+     * @return The (serialized) secret values by their name. Secrets that were not found are not contained in the map.
+     */
+    default Map<String, String> resolveSecrets(@Nullable String vaultPartition, Collection<String> keys) {
+        var secrets = new HashMap<String, String>();
+        for (var key : keys) {
+            var secret = resolveSecret(vaultPartition, key);
+            if (secret != null) {
+                secrets.put(key, secret);
+            }
+        }
+        return secrets;
+    }
 }
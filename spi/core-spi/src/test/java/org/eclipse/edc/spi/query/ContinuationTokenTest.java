@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContinuationTokenTest {
+
+    @Test
+    void encodeAndDecode() {
+        var token = new ContinuationToken("value", "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+    }
+
+    @Test
+    void encodeAndDecode_withoutSortValue() {
+        var token = new ContinuationToken(null, "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+    }
+
+    @Test
+    void decode_shouldThrow_whenTokenIsInvalid() {
+        assertThatThrownBy(() -> ContinuationToken.decode("invalid")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void next_shouldReturnLastElement_whenPageIsFull() {
+        var query = QuerySpec.Builder.newInstance().limit(2).sortField("value").continuationTokenRequested(true).build();
+
+        var next = ContinuationToken.next(List.of("a", "b"), query, it -> it, it -> it);
+
+        assertThat(next).isEqualTo(new ContinuationToken("b", "b"));
+    }
+
+    @Test
+    void next_shouldReturnNull_whenPageIsNotFull() {
+        var query = QuerySpec.Builder.newInstance().limit(3).sortField("value").continuationTokenRequested(true).build();
+
+        var next = ContinuationToken.next(List.of("a", "b"), query, it -> it, it -> it);
+
+        assertThat(next).isNull();
+    }
+
+    @Test
+    void next_shouldReturnNull_whenQueryIsNotSorted() {
+        var query = QuerySpec.Builder.newInstance().limit(2).continuationTokenRequested(true).build();
+
+        var next = ContinuationToken.next(List.of("a", "b"), query, it -> it, it -> it);
+
+        assertThat(next).isNull();
+    }
+
+    @Test
+    void next_shouldReturnNull_whenTokenIsNotRequested() {
+        var query = QuerySpec.Builder.newInstance().limit(2).sortField("value").build();
+
+        var next = ContinuationToken.next(List.of("a", "b"), query, it -> it, it -> it);
+
+        assertThat(next).isNull();
+    }
+}
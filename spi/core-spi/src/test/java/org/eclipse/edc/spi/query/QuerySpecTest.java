@@ -29,6 +29,7 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(-10).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(0).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(10).continuationToken("token").build()).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test